@@ -0,0 +1,149 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class {@code ChecksummedStreamsBenchmark} measures the overhead of
+ * {@link ChecksummedOutputStream} and {@link ChecksummedInputStream} over the
+ * raw streams they wrap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChecksummedStreamsBenchmark {
+
+    /** The number of bytes in each write. */
+    @Param({ "8192" })
+    public int chunk;
+
+    /** The data written, 16 MiB. */
+    private byte[] _data;
+    /** The framed data. */
+    private byte[] _framed;
+    /** The buffer to read into. */
+    private byte[] _buffer;
+
+
+    /**
+     * Fills the arrays.
+     * @throws   IOException   never.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        _data = new byte[16 * 1024 * 1024];
+        new Random(0xcafebabeL).nextBytes(_data);
+        _buffer = new byte[chunk];
+
+        var baos = new ByteArrayOutputStream();
+        try (var cos = new ChecksummedOutputStream(baos)) {
+            cos.write(_data);
+        }
+        _framed = baos.toByteArray();
+    }
+
+    /**
+     * Writes the data in chunks to a sink.
+     * @param   os   the stream to write to.
+     * @throws   IOException   never.
+     */
+    private void write(OutputStream os) throws IOException {
+        for (int off = 0; off < _data.length; off += chunk) {
+            os.write(_data, off, chunk);
+        }
+        os.close();
+    }
+
+    /**
+     * Reads the stream in chunks.
+     * @param   is   the stream to read from.
+     * @return   the number of bytes read.
+     * @throws   IOException   never.
+     */
+    private long read(InputStream is) throws IOException {
+        long total = 0L;
+        for (int read = is.read(_buffer); -1 != read; read = is.read(_buffer)) {
+            total += read;
+        }
+        return total;
+    }
+
+    /**
+     * Writes to the sink directly.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public void writeRaw() throws IOException {
+        write(new NullOutputStream());
+    }
+
+    /**
+     * Writes to the sink through a {@link ChecksummedOutputStream}.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public void writeChecksummed() throws IOException {
+        write(new ChecksummedOutputStream(new NullOutputStream()));
+    }
+
+    /**
+     * Reads the data directly.
+     * @return   the number of bytes read.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public long readRaw() throws IOException {
+        long total = read(new ByteArrayInputStream(_data));
+        return total;
+    }
+
+    /**
+     * Reads and verifies the data through a {@link ChecksummedInputStream}.
+     * @return   the number of bytes read.
+     * @throws   IOException   if the data is corrupted.
+     */
+    @Benchmark
+    public long readChecksummed() throws IOException {
+        long total = read(new ChecksummedInputStream(new ByteArrayInputStream(_framed)));
+        return total;
+    }
+
+}
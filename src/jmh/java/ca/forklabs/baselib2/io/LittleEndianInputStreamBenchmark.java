@@ -0,0 +1,130 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class {@code LittleEndianInputStreamBenchmark} measures the decoding of
+ * {@code int}s by {@link LittleEndianInputStream} from memory, one at a time
+ * unbuffered and buffered, and in bulk. Divide four times the count by the
+ * time to get the throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LittleEndianInputStreamBenchmark {
+
+    /** The number of {@code int}s. */
+    @Param({ "4194304" })
+    public int count;
+
+    /** The encoded {@code int}s. */
+    private byte[] _data;
+    /** The decoded {@code int}s. */
+    private int[] _ints;
+
+
+    /**
+     * Fills the arrays.
+     */
+    @Setup
+    public void setUp() {
+        _data = new byte[count * 4];
+        new Random(0xcafebabeL).nextBytes(_data);
+        _ints = new int[count];
+    }
+
+    /**
+     * Reads the {@code int}s one at a time, unbuffered.
+     * @return   the sum of the {@code int}s.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public int readInt() throws IOException {
+        int sum = 0;
+        try (var leis = new LittleEndianInputStream(new ByteArrayInputStream(_data))) {
+            for (int i = 0; i < count; i++) {
+                sum += leis.readInt();
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Reads the {@code int}s one at a time, buffered.
+     * @return   the sum of the {@code int}s.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public int bufferedReadInt() throws IOException {
+        int sum = 0;
+        try (var leis = new LittleEndianInputStream(new ByteArrayInputStream(_data), LittleEndianInputStream.DEFAULT_BUFFER_SIZE)) {
+            for (int i = 0; i < count; i++) {
+                sum += leis.readInt();
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Reads the {@code int}s in bulk, unbuffered.
+     * @return   the {@code int}s.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public int[] readInts() throws IOException {
+        try (var leis = new LittleEndianInputStream(new ByteArrayInputStream(_data))) {
+            leis.readInts(_ints, 0, count);
+        }
+        return _ints;
+    }
+
+    /**
+     * Reads the {@code int}s in bulk, buffered.
+     * @return   the {@code int}s.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public int[] bufferedReadInts() throws IOException {
+        try (var leis = new LittleEndianInputStream(new ByteArrayInputStream(_data), LittleEndianInputStream.DEFAULT_BUFFER_SIZE)) {
+            leis.readInts(_ints, 0, count);
+        }
+        return _ints;
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class {@code LittleEndianOutputStreamBenchmark} measures the encoding of
+ * {@code int}s by {@link LittleEndianOutputStream} to a null stream, one at a time
+ * unbuffered and buffered, and in bulk. Divide four times the count by the
+ * time to get the throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LittleEndianOutputStreamBenchmark {
+
+    /** The number of {@code int}s. */
+    @Param({ "4194304" })
+    public int count;
+
+    /** The {@code int}s to encode. */
+    private int[] _ints;
+
+
+    /**
+     * Fills the array.
+     */
+    @Setup
+    public void setUp() {
+        _ints = new Random(0xcafebabeL).ints(count).toArray();
+    }
+
+    /**
+     * Writes the {@code int}s one at a time, unbuffered.
+     * @return   the number of bytes written.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public long writeInt() throws IOException {
+        try (var leos = new LittleEndianOutputStream(new NullOutputStream())) {
+            for (int i = 0; i < count; i++) {
+                leos.writeInt(_ints[i]);
+            }
+            return leos.size();
+        }
+    }
+
+    /**
+     * Writes the {@code int}s one at a time, buffered.
+     * @return   the number of bytes written.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public long bufferedWriteInt() throws IOException {
+        try (var leos = new LittleEndianOutputStream(new NullOutputStream(), LittleEndianOutputStream.DEFAULT_BUFFER_SIZE)) {
+            for (int i = 0; i < count; i++) {
+                leos.writeInt(_ints[i]);
+            }
+            return leos.size();
+        }
+    }
+
+    /**
+     * Writes the {@code int}s in bulk, unbuffered.
+     * @return   the number of bytes written.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public long writeInts() throws IOException {
+        try (var leos = new LittleEndianOutputStream(new NullOutputStream())) {
+            leos.writeInts(_ints, 0, count);
+            return leos.size();
+        }
+    }
+
+    /**
+     * Writes the {@code int}s in bulk, buffered.
+     * @return   the number of bytes written.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public long bufferedWriteInts() throws IOException {
+        try (var leos = new LittleEndianOutputStream(new NullOutputStream(), LittleEndianOutputStream.DEFAULT_BUFFER_SIZE)) {
+            leos.writeInts(_ints, 0, count);
+            return leos.size();
+        }
+    }
+
+}
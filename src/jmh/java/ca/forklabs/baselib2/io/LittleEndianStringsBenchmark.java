@@ -0,0 +1,134 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Class {@code LittleEndianStringsBenchmark} measures the decoding of short
+ * repeated keys by a buffered {@link LittleEndianInputStream}, as modified
+ * UTF-8 and as length-prefixed UTF-8 with and without a string cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LittleEndianStringsBenchmark {
+
+    /** The number of strings. */
+    @Param({ "1048576" })
+    public int count;
+
+    /** The strings written by {@code writeUTF()}. */
+    private byte[] _utf;
+    /** The strings written by {@code writeString()}. */
+    private byte[] _strings;
+    /** The cache of strings. */
+    private StringCache _cache;
+
+
+    /**
+     * Writes the strings, drawn from 64 keys.
+     * @throws   IOException   never.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        var keys = new String[64];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "record.field." + i;
+        }
+        var random = new Random(0xcafebabeL);
+        var utf = new ByteArrayOutputStream();
+        var strings = new ByteArrayOutputStream();
+        try (var utfs = new LittleEndianOutputStream(utf, LittleEndianOutputStream.DEFAULT_BUFFER_SIZE);
+             var leos = new LittleEndianOutputStream(strings, LittleEndianOutputStream.DEFAULT_BUFFER_SIZE)) {
+            for (int i = 0; i < count; i++) {
+                var key = keys[random.nextInt(keys.length)];
+                utfs.writeUTF(key);
+                leos.writeString(key);
+            }
+        }
+        _utf = utf.toByteArray();
+        _strings = strings.toByteArray();
+        _cache = new StringCache();
+    }
+
+    /**
+     * Reads the strings with {@code readUTF()}.
+     * @param   blackhole   the sink of the strings.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public void readUTF(Blackhole blackhole) throws IOException {
+        try (var leis = new LittleEndianInputStream(new ByteArrayInputStream(_utf), LittleEndianInputStream.DEFAULT_BUFFER_SIZE)) {
+            for (int i = 0; i < count; i++) {
+                blackhole.consume(leis.readUTF());
+            }
+        }
+    }
+
+    /**
+     * Reads the strings with {@code readString()}.
+     * @param   blackhole   the sink of the strings.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public void readString(Blackhole blackhole) throws IOException {
+        try (var leis = new LittleEndianInputStream(new ByteArrayInputStream(_strings), LittleEndianInputStream.DEFAULT_BUFFER_SIZE)) {
+            for (int i = 0; i < count; i++) {
+                blackhole.consume(leis.readString());
+            }
+        }
+    }
+
+    /**
+     * Reads the strings with {@code readString()} through a string cache.
+     * @param   blackhole   the sink of the strings.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public void readCachedString(Blackhole blackhole) throws IOException {
+        try (var leis = new LittleEndianInputStream(new ByteArrayInputStream(_strings), LittleEndianInputStream.DEFAULT_BUFFER_SIZE)) {
+            leis.setStringCache(_cache);
+            for (int i = 0; i < count; i++) {
+                blackhole.consume(leis.readString());
+            }
+        }
+    }
+
+}
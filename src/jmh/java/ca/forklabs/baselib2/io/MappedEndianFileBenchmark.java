@@ -0,0 +1,126 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class {@code MappedEndianFileBenchmark} measures random {@code long} probes
+ * in a file, through {@link MappedEndianFile} and through positional reads of
+ * a {@link FileChannel}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappedEndianFileBenchmark {
+
+    /** The size of the file, in bytes. */
+    @Param({ "67108864" })
+    public int size;
+
+    /** The file. */
+    private Path _path;
+    /** The mapped file. */
+    private MappedEndianFile _mapped;
+    /** The channel on the file. */
+    private FileChannel _channel;
+    /** The buffer of the positional reads. */
+    private ByteBuffer _buffer;
+    /** The positions to probe. */
+    private SplittableRandom _random;
+
+
+    /**
+     * Writes and opens the file.
+     * @throws   IOException   if the file cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        byte[] data = new byte[size];
+        new Random(0xcafebabeL).nextBytes(data);
+        _path = Files.createTempFile("mapped", ".bin");
+        Files.write(_path, data);
+        _mapped = new MappedEndianFile(_path);
+        _mapped.load();
+        _channel = FileChannel.open(_path);
+        _buffer = ByteBuffer.allocateDirect(8).order(ByteOrder.LITTLE_ENDIAN);
+        _random = new SplittableRandom(17L);
+    }
+
+    /**
+     * Closes and deletes the file.
+     * @throws   IOException   if the file cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        _mapped.close();
+        _channel.close();
+        Files.delete(_path);
+    }
+
+    /**
+     * Probes through the mapping.
+     * @return   the value.
+     */
+    @Benchmark
+    public long mapped() {
+        long pos = _random.nextInt(size - 7);
+        return _mapped.getLong(pos);
+    }
+
+    /**
+     * Probes through a positional read.
+     * @return   the value.
+     * @throws   IOException   never.
+     */
+    @Benchmark
+    public long channel() throws IOException {
+        long pos = _random.nextInt(size - 7);
+        _buffer.clear();
+        while (_buffer.hasRemaining()) {
+            _channel.read(_buffer, pos + _buffer.position());
+        }
+        return _buffer.getLong(0);
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class {@code RandomInputStreamBenchmark} measures how fast
+ * {@link RandomInputStream} fills an array, on a {@link Random} and
+ * splittable. Divide the size by the time to get the throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomInputStreamBenchmark {
+
+    /** The size of the array. */
+    @Param({ "1048576" })
+    public int size;
+
+    /** The array. */
+    private byte[] _bytes;
+    /** The stream on a {@link Random}. */
+    private RandomInputStream _random;
+    /** The splittable stream. */
+    private RandomInputStream _splittable;
+
+
+    /**
+     * Creates the array and the streams.
+     */
+    @Setup
+    public void setUp() {
+        _bytes = new byte[size];
+        _random = new RandomInputStream(new Random(0xcafebabeL));
+        _splittable = RandomInputStream.splittable(0xcafebabeL);
+    }
+
+    /**
+     * Fills the array from the stream on a {@link Random}.
+     * @return   the array.
+     */
+    @Benchmark
+    public byte[] random() {
+        _random.read(_bytes, 0, size);
+        return _bytes;
+    }
+
+    /**
+     * Fills the array from the splittable stream.
+     * @return   the array.
+     */
+    @Benchmark
+    public byte[] splittable() {
+        _splittable.read(_bytes, 0, size);
+        return _bytes;
+    }
+
+}
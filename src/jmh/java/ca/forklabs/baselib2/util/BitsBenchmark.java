@@ -0,0 +1,137 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class {@code BitsBenchmark} compares the bulk conversions of class
+ * {@link Bits} with the per-element break and make methods.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitsBenchmark {
+
+    /** The number of {@code int}s to convert. */
+    @Param({ "1024", "1048576" })
+    public int size;
+
+    /** The values to encode. */
+    private int[] _ints;
+    /** The encoded values. */
+    private byte[] _bytes;
+
+
+    /**
+     * Fills the arrays with random values.
+     */
+    @Setup
+    public void setUp() {
+        var random = new Random(0xcafebabeL);
+        _ints = random.ints(size).toArray();
+        _bytes = new byte[size * Bits.NUM_OCTETS_IN_INT];
+        Bits.encode(_ints, 0, _bytes, 0, size, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Encodes with one allocating {@link Bits#breakIntLE(int)} per element.
+     * @return   the encoded bytes.
+     */
+    @Benchmark
+    public byte[] encodeBreakIntLE() {
+        for (int i = 0; i < size; i++) {
+            var bytes = Bits.breakIntLE(_ints[i]);
+            System.arraycopy(bytes, 0, _bytes, i * Bits.NUM_OCTETS_IN_INT, Bits.NUM_OCTETS_IN_INT);
+        }
+        return _bytes;
+    }
+
+    /**
+     * Encodes with {@link Bits#breakIntLE(int, byte[], int)} per element.
+     * @return   the encoded bytes.
+     */
+    @Benchmark
+    public byte[] encodeBreakIntLEInPlace() {
+        for (int i = 0; i < size; i++) {
+            Bits.breakIntLE(_ints[i], _bytes, i * Bits.NUM_OCTETS_IN_INT);
+        }
+        return _bytes;
+    }
+
+    /**
+     * Encodes with {@link Bits#putInt(byte[], int, int, ByteOrder)} per element.
+     * @return   the encoded bytes.
+     */
+    @Benchmark
+    public byte[] encodePutInt() {
+        for (int i = 0; i < size; i++) {
+            Bits.putInt(_bytes, i * Bits.NUM_OCTETS_IN_INT, _ints[i], ByteOrder.LITTLE_ENDIAN);
+        }
+        return _bytes;
+    }
+
+    /**
+     * Encodes with {@link Bits#encode(int[], int, byte[], int, int, ByteOrder)}.
+     * @return   the encoded bytes.
+     */
+    @Benchmark
+    public byte[] encodeBulk() {
+        return Bits.encode(_ints, 0, _bytes, 0, size, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Decodes with {@link Bits#makeInt(byte, byte, byte, byte)} per element.
+     * @return   the decoded values.
+     */
+    @Benchmark
+    public int[] decodeMakeInt() {
+        for (int i = 0, off = 0; i < size; i++, off += Bits.NUM_OCTETS_IN_INT) {
+            _ints[i] = Bits.makeInt(_bytes[off + 3], _bytes[off + 2], _bytes[off + 1], _bytes[off]);
+        }
+        return _ints;
+    }
+
+    /**
+     * Decodes with {@link Bits#decode(byte[], int, int[], int, int, ByteOrder)}.
+     * @return   the decoded values.
+     */
+    @Benchmark
+    public int[] decodeBulk() {
+        return Bits.decode(_bytes, 0, _ints, 0, size, ByteOrder.LITTLE_ENDIAN);
+    }
+
+}
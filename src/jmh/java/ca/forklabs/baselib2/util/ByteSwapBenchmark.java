@@ -0,0 +1,103 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class {@code ByteSwapBenchmark} compares the in-place byte swaps of class
+ * {@link Bits} with swapping through {@link Bits#makeInt(byte, byte, byte, byte)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ByteSwapBenchmark {
+
+    /** The number of {@code int}s to swap. */
+    @Param({ "1024", "1048576" })
+    public int size;
+
+    /** The values to swap. */
+    private int[] _ints;
+    /** The raw bytes to swap. */
+    private byte[] _bytes;
+
+
+    /**
+     * Fills the arrays with random values.
+     */
+    @Setup
+    public void setUp() {
+        var random = new Random(0xcafebabeL);
+        _ints = random.ints(size).toArray();
+        _bytes = new byte[size * Bits.NUM_OCTETS_IN_INT];
+        random.nextBytes(_bytes);
+    }
+
+    /**
+     * Swaps each {@code int} of the raw bytes with
+     * {@link Bits#makeInt(byte, byte, byte, byte)}.
+     * @return   the swapped bytes.
+     */
+    @Benchmark
+    public byte[] swapMakeInt() {
+        for (int i = 0; i < _bytes.length; i += Bits.NUM_OCTETS_IN_INT) {
+            int value = Bits.makeInt(_bytes[i + 3], _bytes[i + 2], _bytes[i + 1], _bytes[i]);
+            Bits.breakInt(value, _bytes, i);
+        }
+        return _bytes;
+    }
+
+    /**
+     * Swaps the raw bytes with {@link Bits#swap(byte[], int, int, int)}.
+     * @return   the swapped bytes.
+     */
+    @Benchmark
+    public byte[] swap() {
+        byte[] bytes = Bits.swap(_bytes, 0, _bytes.length, Bits.NUM_OCTETS_IN_INT);
+        return bytes;
+    }
+
+    /**
+     * Swaps the {@code int}s with {@link Bits#reverseBytes(int[], int, int)}.
+     * @return   the swapped values.
+     */
+    @Benchmark
+    public int[] reverseBytes() {
+        int[] ints = Bits.reverseBytes(_ints, 0, size);
+        return ints;
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class {@code CompareBenchmark} measures the range comparisons of
+ * {@link Arrays} on equal {@code byte[]}s, the worst case where every byte is
+ * read, against a plain loop and against copying the same number of bytes
+ * with {@link System#arraycopy(Object, int, Object, int, int)}, which runs at
+ * memory bandwidth. Divide the size by the time to get the throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompareBenchmark {
+
+    /** The number of bytes. */
+    @Param({ "4096", "1048576", "67108864" })
+    public int size;
+
+    /** The first array. */
+    private byte[] _a;
+    /** The second array, equal to the first. */
+    private byte[] _b;
+    /** The destination of the copy. */
+    private byte[] _c;
+
+
+    /**
+     * Fills the arrays.
+     */
+    @Setup
+    public void setUp() {
+        _a = new byte[size];
+        new java.util.Random(42L).nextBytes(_a);
+        _b = _a.clone();
+        _c = new byte[size];
+    }
+
+    /**
+     * Compares with {@link Arrays#mismatch(byte[], int, byte[], int, int)}.
+     * @return   the index of the first difference.
+     */
+    @Benchmark
+    public int mismatch() {
+        int index = Arrays.mismatch(_a, 0, _b, 0, size);
+        return index;
+    }
+
+    /**
+     * Compares with {@link Arrays#compareUnsigned(byte[], int, int, byte[], int, int)}.
+     * @return   the comparison.
+     */
+    @Benchmark
+    public int compareUnsigned() {
+        int comparison = Arrays.compareUnsigned(_a, 0, size, _b, 0, size);
+        return comparison;
+    }
+
+    /**
+     * Compares with a loop over the bytes.
+     * @return   the index of the first difference.
+     */
+    @Benchmark
+    public int loop() {
+        var a = _a;
+        var b = _b;
+        for (int i = 0; i < size; i++) {
+            if (a[i] != b[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Hashes with {@link Arrays#hash(byte[], int, int)}.
+     * @return   the hash.
+     */
+    @Benchmark
+    public int hash() {
+        int hash = Arrays.hash(_a, 0, size);
+        return hash;
+    }
+
+    /**
+     * Hashes with {@link java.util.Arrays#hashCode(byte[])}.
+     * @return   the hash.
+     */
+    @Benchmark
+    public int hashCodeJdk() {
+        int hash = java.util.Arrays.hashCode(_a);
+        return hash;
+    }
+
+    /**
+     * Copies the bytes, for the memory bandwidth.
+     * @return   the destination.
+     */
+    @Benchmark
+    public byte[] copy() {
+        System.arraycopy(_a, 0, _c, 0, size);
+        return _c;
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class {@code HashBenchmark} compares the throughput of {@link XxHash64} and
+ * {@link Murmur3Hash128} with the checksums of the JDK.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashBenchmark {
+
+    /** The number of bytes to hash. */
+    @Param({ "16", "1024", "1048576" })
+    public int size;
+
+    /** The bytes to hash. */
+    private byte[] _bytes;
+    /** The result of the 128-bit hash. */
+    private long[] _result;
+
+
+    /**
+     * Fills the array with random bytes.
+     */
+    @Setup
+    public void setUp() {
+        _bytes = new byte[size];
+        new Random(0xcafebabeL).nextBytes(_bytes);
+        _result = new long[2];
+    }
+
+    /**
+     * Hashes with {@link XxHash64#hash(byte[], int, int, long)}.
+     * @return   the hash.
+     */
+    @Benchmark
+    public long xxHash64() {
+        long hash = XxHash64.hash(_bytes, 0, size, 0L);
+        return hash;
+    }
+
+    /**
+     * Hashes with a streaming {@link XxHash64}.
+     * @return   the hash.
+     */
+    @Benchmark
+    public long xxHash64Streaming() {
+        var xxhash = new XxHash64();
+        xxhash.update(_bytes, 0, size);
+        long hash = xxhash.getValue();
+        return hash;
+    }
+
+    /**
+     * Hashes with {@link Murmur3Hash128#hash128(byte[], int, int, int, long[])}.
+     * @return   the hash.
+     */
+    @Benchmark
+    public long[] murmur3() {
+        long[] hash = Murmur3Hash128.hash128(_bytes, 0, size, 0, _result);
+        return hash;
+    }
+
+    /**
+     * Checksums with {@link CRC32}.
+     * @return   the checksum.
+     */
+    @Benchmark
+    public long crc32() {
+        var crc = new CRC32();
+        crc.update(_bytes, 0, size);
+        long value = crc.getValue();
+        return value;
+    }
+
+    /**
+     * Checksums with {@link CRC32C}.
+     * @return   the checksum.
+     */
+    @Benchmark
+    public long crc32c() {
+        var crc = new CRC32C();
+        crc.update(_bytes, 0, size);
+        long value = crc.getValue();
+        return value;
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class {@code MemsetBenchmark} compares the strategies to fill an array: the
+ * doubling {@link System#arraycopy(Object, int, Object, int, int)} loop,
+ * {@link java.util.Arrays#fill(int[], int)}, and the
+ * {@link Arrays#memset(int[], int)} and
+ * {@link Arrays#parallelMemset(int[], int)} built on them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemsetBenchmark {
+
+    /** The number of elements to fill. */
+    @Param({ "16", "1024", "1048576", "67108864" })
+    public int size;
+
+    /** The {@code byte}s to fill. */
+    private byte[] _bytes;
+    /** The {@code int}s to fill. */
+    private int[] _ints;
+    /** The {@code long}s to fill. */
+    private long[] _longs;
+    /** The objects to fill. */
+    private Object[] _objects;
+
+
+    /**
+     * Allocates the arrays.
+     */
+    @Setup
+    public void setUp() {
+        _bytes = new byte[size];
+        _ints = new int[size];
+        _longs = new long[size];
+        _objects = new Object[size];
+    }
+
+    /**
+     * Fills the array by doubling the filled prefix with
+     * {@link System#arraycopy(Object, int, Object, int, int)}.
+     * @param   array   the array.
+     * @param   len   the number of elements.
+     */
+    private static void doublingCopy(Object array, int len) {
+        for (int i = 1; i < len; i += i) {
+            System.arraycopy(array, 0, array, i, ((len - i) < i) ? (len - i) : i);
+        }
+    }
+
+    /**
+     * Fills the {@code byte}s with the doubling copy.
+     * @return   the array.
+     */
+    @Benchmark
+    public byte[] bytesDoublingCopy() {
+        _bytes[0] = 42;
+        doublingCopy(_bytes, size);
+        return _bytes;
+    }
+
+    /**
+     * Fills the {@code byte}s with {@link java.util.Arrays#fill(byte[], byte)}.
+     * @return   the array.
+     */
+    @Benchmark
+    public byte[] bytesFill() {
+        java.util.Arrays.fill(_bytes, (byte) 42);
+        return _bytes;
+    }
+
+    /**
+     * Fills the {@code byte}s with {@link Arrays#parallelMemset(byte[], byte)}.
+     * @return   the array.
+     */
+    @Benchmark
+    public byte[] bytesParallelMemset() {
+        Arrays.parallelMemset(_bytes, (byte) 42);
+        return _bytes;
+    }
+
+    /**
+     * Fills the {@code int}s with the doubling copy.
+     * @return   the array.
+     */
+    @Benchmark
+    public int[] intsDoublingCopy() {
+        _ints[0] = 42;
+        doublingCopy(_ints, size);
+        return _ints;
+    }
+
+    /**
+     * Fills the {@code int}s with {@link java.util.Arrays#fill(int[], int)}.
+     * @return   the array.
+     */
+    @Benchmark
+    public int[] intsFill() {
+        java.util.Arrays.fill(_ints, 42);
+        return _ints;
+    }
+
+    /**
+     * Fills the {@code int}s with {@link Arrays#parallelMemset(int[], int)}.
+     * @return   the array.
+     */
+    @Benchmark
+    public int[] intsParallelMemset() {
+        Arrays.parallelMemset(_ints, 42);
+        return _ints;
+    }
+
+    /**
+     * Fills the {@code long}s with the doubling copy.
+     * @return   the array.
+     */
+    @Benchmark
+    public long[] longsDoublingCopy() {
+        _longs[0] = 42L;
+        doublingCopy(_longs, size);
+        return _longs;
+    }
+
+    /**
+     * Fills the {@code long}s with {@link java.util.Arrays#fill(long[], long)}.
+     * @return   the array.
+     */
+    @Benchmark
+    public long[] longsFill() {
+        java.util.Arrays.fill(_longs, 42L);
+        return _longs;
+    }
+
+    /**
+     * Fills the {@code long}s with {@link Arrays#parallelMemset(long[], long)}.
+     * @return   the array.
+     */
+    @Benchmark
+    public long[] longsParallelMemset() {
+        Arrays.parallelMemset(_longs, 42L);
+        return _longs;
+    }
+
+    /**
+     * Fills the objects with the doubling copy.
+     * @return   the array.
+     */
+    @Benchmark
+    public Object[] objectsDoublingCopy() {
+        _objects[0] = this;
+        doublingCopy(_objects, size);
+        return _objects;
+    }
+
+    /**
+     * Fills the objects with {@link java.util.Arrays#fill(Object[], Object)}.
+     * @return   the array.
+     */
+    @Benchmark
+    public Object[] objectsFill() {
+        java.util.Arrays.fill(_objects, this);
+        return _objects;
+    }
+
+    /**
+     * Fills the objects with {@link Arrays#parallelMemset(Object[], Object)}.
+     * @return   the array.
+     */
+    @Benchmark
+    public Object[] objectsParallelMemset() {
+        Arrays.parallelMemset(_objects, this);
+        return _objects;
+    }
+
+}
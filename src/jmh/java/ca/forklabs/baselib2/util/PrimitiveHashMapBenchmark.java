@@ -0,0 +1,158 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class {@code PrimitiveHashMapBenchmark} compares {@link LongLongHashMap}
+ * with a {@link HashMap} of boxed {@link Long}s for random lookups and
+ * insertions. The largest size needs a heap of several gigabytes for the
+ * boxed map, for example with {@code -jvmArgs -Xmx24g}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveHashMapBenchmark {
+
+    /** The number of entries. */
+    @Param({ "1000", "1000000", "100000000" })
+    public int size;
+
+    /** The keys present in the maps. */
+    private long[] _keys;
+    /** The primitive map. */
+    private LongLongHashMap _primitive;
+    /** The boxed map. */
+    private HashMap<Long, Long> _boxed;
+    /** The generator of the keys to look up. */
+    private SplittableRandom _random;
+
+
+    /**
+     * Fills the maps with random keys.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _random = new SplittableRandom(42L);
+        _keys = new long[size];
+        _primitive = new LongLongHashMap(size);
+        _boxed = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            long key = _random.nextLong();
+            _keys[i] = key;
+            _primitive.put(key, i);
+            _boxed.put(key, (long) i);
+        }
+    }
+
+    /**
+     * Picks a present key.
+     * @return   the key.
+     */
+    private long nextKey() {
+        long key = _keys[_random.nextInt(size)];
+        return key;
+    }
+
+    /**
+     * Looks up a key in the primitive map.
+     * @return   the value.
+     */
+    @Benchmark
+    public long primitiveGet() {
+        long value = _primitive.get(nextKey());
+        return value;
+    }
+
+    /**
+     * Looks up a key in the boxed map.
+     * @return   the value.
+     */
+    @Benchmark
+    public Long boxedGet() {
+        Long value = _boxed.get(nextKey());
+        return value;
+    }
+
+    /**
+     * Replaces the value of a key in the primitive map.
+     * @return   the old value.
+     */
+    @Benchmark
+    public long primitivePut() {
+        long value = _primitive.put(nextKey(), 42L);
+        return value;
+    }
+
+    /**
+     * Replaces the value of a key in the boxed map.
+     * @return   the old value.
+     */
+    @Benchmark
+    public Long boxedPut() {
+        Long value = _boxed.put(nextKey(), 42L);
+        return value;
+    }
+
+    /**
+     * Builds a primitive map of a thousand entries from scratch.
+     * @return   the map.
+     */
+    @Benchmark
+    public LongLongHashMap primitiveBuild() {
+        var map = new LongLongHashMap();
+        for (int i = 0; i < 1000; i++) {
+            map.put(_keys[i % size], i);
+        }
+        return map;
+    }
+
+    /**
+     * Builds a boxed map of a thousand entries from scratch.
+     * @return   the map.
+     */
+    @Benchmark
+    public HashMap<Long, Long> boxedBuild() {
+        var map = new HashMap<Long, Long>();
+        for (int i = 0; i < 1000; i++) {
+            map.put(_keys[i % size], (long) i);
+        }
+        return map;
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class {@code RadixSortBenchmark} compares {@link RadixSort} with
+ * {@link java.util.Arrays#sort(long[])} and
+ * {@link java.util.Arrays#parallelSort(long[])} on random {@code long}s, with
+ * and without an {@code int} payload. The largest size needs a heap of a few
+ * gigabytes, for example with {@code -jvmArgs -Xmx8g}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RadixSortBenchmark {
+
+    /** The number of keys. */
+    @Param({ "1000000", "100000000" })
+    public int size;
+
+    /** The keys to sort. */
+    private long[] _source;
+    /** The copy of the keys sorted by each invocation. */
+    private long[] _keys;
+    /** The payload. */
+    private int[] _payload;
+
+
+    /**
+     * Generates the keys.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        _source = new SplittableRandom(42L).longs(size).toArray();
+        _keys = new long[size];
+        _payload = new int[size];
+    }
+
+    /**
+     * Restores the unsorted keys before each sort.
+     */
+    @Setup(Level.Invocation)
+    public void restore() {
+        System.arraycopy(_source, 0, _keys, 0, size);
+    }
+
+    /**
+     * Sorts with {@link java.util.Arrays#sort(long[])}.
+     * @return   the keys.
+     */
+    @Benchmark
+    public long[] arraysSort() {
+        java.util.Arrays.sort(_keys);
+        return _keys;
+    }
+
+    /**
+     * Sorts with {@link java.util.Arrays#parallelSort(long[])}.
+     * @return   the keys.
+     */
+    @Benchmark
+    public long[] arraysParallelSort() {
+        java.util.Arrays.parallelSort(_keys);
+        return _keys;
+    }
+
+    /**
+     * Sorts with {@link RadixSort#sort(long[])}.
+     * @return   the keys.
+     */
+    @Benchmark
+    public long[] radixSort() {
+        RadixSort.sort(_keys);
+        return _keys;
+    }
+
+    /**
+     * Sorts with {@link RadixSort#parallelSort(long[])}.
+     * @return   the keys.
+     */
+    @Benchmark
+    public long[] radixParallelSort() {
+        RadixSort.parallelSort(_keys);
+        return _keys;
+    }
+
+    /**
+     * Sorts with {@link RadixSort#parallelSort(long[], int, int, Object...)},
+     * permuting an {@code int} payload.
+     * @return   the keys.
+     */
+    @Benchmark
+    public long[] radixParallelSortWithPayload() {
+        RadixSort.parallelSort(_keys, 0, size, _payload);
+        return _keys;
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class {@code ReductionsBenchmark} compares the sums and dot products of
+ * {@link Reductions}, fast and compensated, with the plain loop of a single
+ * sum on random {@code double}s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReductionsBenchmark {
+
+    /** The number of elements. */
+    @Param({ "1024", "1048576", "16777216" })
+    public int size;
+
+    /** The first array. */
+    private double[] _a;
+    /** The second array. */
+    private double[] _b;
+
+
+    /**
+     * Fills the arrays.
+     */
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42L);
+        _a = random.doubles(size).toArray();
+        _b = random.doubles(size).toArray();
+    }
+
+    /**
+     * Sums with a plain loop.
+     * @return   the sum.
+     */
+    @Benchmark
+    public double loopSum() {
+        var a = _a;
+        double sum = 0.0;
+        for (int i = 0; i < size; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Sums with {@link Reductions#sum(double[], int, int, boolean)}.
+     * @return   the sum.
+     */
+    @Benchmark
+    public double fastSum() {
+        double sum = Reductions.sum(_a, 0, size, false);
+        return sum;
+    }
+
+    /**
+     * Sums with {@link Reductions#sum(double[], int, int, boolean)},
+     * compensated.
+     * @return   the sum.
+     */
+    @Benchmark
+    public double compensatedSum() {
+        double sum = Reductions.sum(_a, 0, size, true);
+        return sum;
+    }
+
+    /**
+     * Sums with {@link Reductions#parallelSum(double[], int, int, boolean)}.
+     * @return   the sum.
+     */
+    @Benchmark
+    public double parallelSum() {
+        double sum = Reductions.parallelSum(_a, 0, size, false);
+        return sum;
+    }
+
+    /**
+     * Computes the dot product with a plain loop.
+     * @return   the dot product.
+     */
+    @Benchmark
+    public double loopDot() {
+        var a = _a;
+        var b = _b;
+        double dot = 0.0;
+        for (int i = 0; i < size; i++) {
+            dot += a[i] * b[i];
+        }
+        return dot;
+    }
+
+    /**
+     * Computes the dot product with
+     * {@link Reductions#dot(double[], int, double[], int, int, boolean)}.
+     * @return   the dot product.
+     */
+    @Benchmark
+    public double fastDot() {
+        double dot = Reductions.dot(_a, 0, _b, 0, size, false);
+        return dot;
+    }
+
+    /**
+     * Computes the dot product with
+     * {@link Reductions#dot(double[], int, double[], int, int, boolean)},
+     * compensated.
+     * @return   the dot product.
+     */
+    @Benchmark
+    public double compensatedDot() {
+        double dot = Reductions.dot(_a, 0, _b, 0, size, true);
+        return dot;
+    }
+
+}
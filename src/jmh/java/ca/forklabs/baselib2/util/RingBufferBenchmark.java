@@ -0,0 +1,178 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Control;
+
+/**
+ * Class {@code RingBufferBenchmark} hands values from a producer thread to a
+ * consumer thread through the ring buffers and through an
+ * {@link ArrayBlockingQueue}. Each operation is one value offered or polled
+ * successfully; the threads yield while the queue is full or empty. The
+ * throughput mode gives the values handed off per microsecond, the sample time
+ * mode gives the percentiles of the time to offer or to poll one value. The
+ * multi-producer queues can be run with more producers with, for example,
+ * {@code -tg 3,1}.
+ */
+@State(Scope.Group)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingBufferBenchmark {
+
+    /**
+     * Interface {@code Channel} adapts the queues to the benchmark.
+     */
+    private interface Channel {
+
+        /**
+         * Tries to add a value.
+         * @return   {@code true} if the value was added.
+         */
+        boolean offer();
+
+        /**
+         * Tries to remove a value.
+         * @return   {@code true} if a value was removed.
+         */
+        boolean poll();
+
+    }
+
+    /** The value handed off by the object queues, boxed once. */
+    private static final Long VALUE = 42L;
+
+    /** The queue. */
+    @Param({ "ArrayBlockingQueue", "SpscRingBuffer", "MpscRingBuffer", "SpscLongRingBuffer", "MpscLongRingBuffer" })
+    public String queue;
+
+    /** The capacity of the queue. */
+    @Param({ "1024" })
+    public int capacity;
+
+    /** The adapted queue. */
+    private Channel _channel;
+
+
+    /**
+     * Creates the queue.
+     */
+    @Setup
+    public void setUp() {
+        switch (queue) {
+            case "ArrayBlockingQueue": {
+                var abq = new ArrayBlockingQueue<Long>(capacity);
+                _channel = channel(() -> abq.offer(VALUE), () -> null != abq.poll());
+                break;
+            }
+            case "SpscRingBuffer": {
+                var spsc = new SpscRingBuffer<Long>(capacity);
+                _channel = channel(() -> spsc.offer(VALUE), () -> null != spsc.poll());
+                break;
+            }
+            case "MpscRingBuffer": {
+                var mpsc = new MpscRingBuffer<Long>(capacity);
+                _channel = channel(() -> mpsc.offer(VALUE), () -> null != mpsc.poll());
+                break;
+            }
+            case "SpscLongRingBuffer": {
+                var spsc = new SpscLongRingBuffer(capacity);
+                _channel = channel(() -> spsc.offer(42L), () -> -1L != spsc.poll(-1L));
+                break;
+            }
+            case "MpscLongRingBuffer": {
+                var mpsc = new MpscLongRingBuffer(capacity);
+                _channel = channel(() -> mpsc.offer(42L), () -> -1L != mpsc.poll(-1L));
+                break;
+            }
+            default:
+                throw new IllegalArgumentException(queue);
+        }
+    }
+
+    /**
+     * Offers one value.
+     * @param   control   the benchmark control, to stop waiting once the
+     *                    consumer is gone.
+     */
+    @Benchmark
+    @Group("handoff")
+    @GroupThreads(1)
+    public void offer(Control control) {
+        var channel = _channel;
+        while ((false == channel.offer()) && (false == control.stopMeasurement)) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Polls one value.
+     * @param   control   the benchmark control, to stop waiting once the
+     *                    producers are gone.
+     */
+    @Benchmark
+    @Group("handoff")
+    @GroupThreads(1)
+    public void poll(Control control) {
+        var channel = _channel;
+        while ((false == channel.poll()) && (false == control.stopMeasurement)) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Builds a channel.
+     * @param   offer   how to add.
+     * @param   poll   how to remove.
+     * @return   the channel.
+     */
+    private static Channel channel(BooleanSupplier offer, BooleanSupplier poll) {
+        var channel = new Channel() {
+            @Override
+            public boolean offer() {
+                return offer.getAsBoolean();
+            }
+            @Override
+            public boolean poll() {
+                return poll.getAsBoolean();
+            }
+        };
+        return channel;
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class {@code SortedIndexBenchmark} compares {@link SortedLongIndex} with
+ * {@link java.util.Arrays#binarySearch(long[], long)} on tables that fit in
+ * the L1 cache (2K elements, 16 KiB), in the L3 cache (512K elements, 4 MiB)
+ * and only in main memory (64M elements, 512 MiB). Each invocation searches
+ * the next of a batch of random keys.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedIndexBenchmark {
+
+    /** The number of keys searched, a power of two. */
+    private static final int QUERIES = 1 << 16;
+
+    /** The number of elements. */
+    @Param({ "2048", "524288", "67108864" })
+    public int size;
+
+    /** The sorted table. */
+    private long[] _sorted;
+    /** The index of the table. */
+    private SortedLongIndex _index;
+    /** The keys to search. */
+    private long[] _queries;
+    /** The position of the next key to search. */
+    private int _next = 0;
+
+
+    /**
+     * Builds the table, its index and the keys to search.
+     */
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42L);
+        _sorted = random.longs(size).sorted().toArray();
+        _index = new SortedLongIndex(_sorted);
+        _queries = random.longs(QUERIES).toArray();
+    }
+
+    /**
+     * Gets the next key to search.
+     * @return   the key.
+     */
+    private long nextKey() {
+        long key = _queries[_next];
+        _next = (_next + 1) & (QUERIES - 1);
+        return key;
+    }
+
+    /**
+     * Searches with {@link java.util.Arrays#binarySearch(long[], long)}.
+     * @return   the result of the search.
+     */
+    @Benchmark
+    public int binarySearch() {
+        int position = java.util.Arrays.binarySearch(_sorted, nextKey());
+        return position;
+    }
+
+    /**
+     * Searches with {@link SortedLongIndex#lowerBound(long)}.
+     * @return   the result of the search.
+     */
+    @Benchmark
+    public int lowerBound() {
+        int position = _index.lowerBound(nextKey());
+        return position;
+    }
+
+    /**
+     * Searches with {@link SortedLongIndex#contains(long)}.
+     * @return   the result of the search.
+     */
+    @Benchmark
+    public boolean contains() {
+        boolean contains = _index.contains(nextKey());
+        return contains;
+    }
+
+}
@@ -0,0 +1,674 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import ca.forklabs.baselib2.util.DirectBuffers;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Class {@code BufferPool} recycles the scratch buffers of the I/O code, so
+ * that opening and closing many streams does not churn through the garbage
+ * collector.
+ * <p>
+ * The buffers come in power-of-two size classes, from
+ * {@link #MIN_BUFFER_SIZE} to {@link #MAX_BUFFER_SIZE} bytes; larger requests
+ * are allocated and dropped without pooling. Each thread keeps a few buffers
+ * of each class for itself, and the others go to a shared tier of lock-free
+ * slots where any thread can pick them up. The buffers are handed out with
+ * the content they had when released.
+ * <p>
+ * The pool hands out {@code byte[]}s, and {@link ByteBuffer}s that are either
+ * wrappers of pooled arrays or, in off-heap mode, pooled direct buffers. With
+ * leak detection on, the pool remembers where each borrowed buffer was
+ * acquired, refuses the buffers it did not hand out, and reports the
+ * buffers that were never released.
+ * <p>
+ * The library's streams take their buffers from the {@link #getDefault()
+ * default pool} when one is configured.
+ */
+@Getter
+@Accessors(prefix = {"_"})
+public class BufferPool {
+
+//---------------------------
+// Inner class
+//---------------------------
+
+    /**
+     * Class {@code Tier} is the pooled buffers of one kind, in the caches of
+     * the threads and in the shared slots.
+     */
+    private static class Tier {
+
+        /** The buffers cached by each thread, by size class. */
+        private final ThreadLocal<Object[][]> _local;
+
+        /** The shared buffers, by size class. */
+        private final AtomicReferenceArray<?>[] _shared;
+
+        /**
+         * Constructor.
+         * @param threadCacheDepth the number of buffers of each class cached
+         *                         by each thread.
+         * @param sharedSlots      the number of shared buffers of each class.
+         */
+        Tier(int threadCacheDepth, int sharedSlots) {
+            _local = ThreadLocal.withInitial(() -> new Object[SIZE_CLASSES][threadCacheDepth]);
+            _shared = new AtomicReferenceArray<?>[SIZE_CLASSES];
+            for (int i = 0; i < SIZE_CLASSES; i++) {
+                _shared[i] = new AtomicReferenceArray<>(sharedSlots);
+            }
+        }
+
+        /**
+         * Takes a buffer, first from the cache of the calling thread, then
+         * from the shared slots.
+         * @param sizeClass the size class.
+         * @return the buffer, or {@code null} if there is none.
+         */
+        Object poll(int sizeClass) {
+            var cache = _local.get()[sizeClass];
+            for (int i = cache.length - 1; i >= 0; i--) {
+                var buffer = cache[i];
+                if (null != buffer) {
+                    cache[i] = null;
+                    return buffer;
+                }
+            }
+
+            var slots = _shared[sizeClass];
+            int len = slots.length();
+            int start = stripe(len);
+            for (int i = 0; i < len; i++) {
+                int slot = (start + i) % len;
+                if (null != slots.get(slot)) {
+                    var buffer = slots.getAndSet(slot, null);
+                    if (null != buffer) {
+                        return buffer;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Gives back a buffer, first to the cache of the calling thread, then
+         * to the shared slots.
+         * @param sizeClass the size class.
+         * @param buffer    the buffer.
+         * @return {@code true} if the buffer is pooled, {@code false} if there
+         *         is no room for it.
+         */
+        @SuppressWarnings("unchecked")
+        boolean offer(int sizeClass, Object buffer) {
+            var cache = _local.get()[sizeClass];
+            for (int i = 0; i < cache.length; i++) {
+                if (null == cache[i]) {
+                    cache[i] = buffer;
+                    return true;
+                }
+            }
+
+            var slots = (AtomicReferenceArray<Object>) _shared[sizeClass];
+            int len = slots.length();
+            int start = stripe(len);
+            for (int i = 0; i < len; i++) {
+                int slot = (start + i) % len;
+                if (null == slots.get(slot) && slots.compareAndSet(slot, null, buffer)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Drops the shared buffers and the ones cached by the calling thread.
+         * @param bytes the count of pooled bytes to update.
+         */
+        void clear(LongAdder bytes) {
+            var caches = _local.get();
+            for (int c = 0; c < SIZE_CLASSES; c++) {
+                for (int i = 0; i < caches[c].length; i++) {
+                    if (null != caches[c][i]) {
+                        caches[c][i] = null;
+                        bytes.add(-(MIN_BUFFER_SIZE << c));
+                    }
+                }
+                var slots = _shared[c];
+                for (int i = 0; i < slots.length(); i++) {
+                    if (null != slots.getAndSet(i, null)) {
+                        bytes.add(-(MIN_BUFFER_SIZE << c));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Picks the first slot to probe, so that threads spread over the slots.
+         * @param len the number of slots, possibly zero.
+         * @return the first slot.
+         */
+        private static int stripe(int len) {
+            int hash = (int) Thread.currentThread().getId() * 0x9e3779b9;
+            int stripe = (0 == len) ? 0 : (hash >>> 1) % len;
+            return stripe;
+        }
+
+    }
+
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The size of the smallest buffers. */
+    public static final int MIN_BUFFER_SIZE = 1 << 6;
+
+    /** The size of the largest pooled buffers. */
+    public static final int MAX_BUFFER_SIZE = 1 << 20;
+
+    /** The default number of buffers of each size class cached by each thread. */
+    public static final int DEFAULT_THREAD_CACHE_DEPTH = 4;
+
+    /** The default number of shared buffers of each size class. */
+    public static final int DEFAULT_SHARED_SLOTS = 16;
+
+    /** The number of size classes. */
+    private static final int SIZE_CLASSES = Integer.numberOfTrailingZeros(MAX_BUFFER_SIZE / MIN_BUFFER_SIZE) + 1;
+
+    /** The pool used by the streams of the library, if any. */
+    private static volatile BufferPool defaultPool = null;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** Whether the {@link ByteBuffer}s are direct. */
+    private final boolean _direct;
+
+    /** Whether the borrowed buffers are tracked. */
+    private final boolean _leakDetection;
+
+    /** The pooled arrays. */
+    @Getter(AccessLevel.NONE)
+    private final Tier _arrays;
+
+    /** The pooled direct buffers, {@code null} if not in off-heap mode. */
+    @Getter(AccessLevel.NONE)
+    private final Tier _buffers;
+
+    /** Where the borrowed buffers were acquired, with leak detection on. */
+    @Getter(AccessLevel.NONE)
+    private final Map<Object, Throwable> _borrowed;
+
+    /** The number of requests served from the pool. */
+    @Getter(AccessLevel.NONE)
+    private final LongAdder _hits = new LongAdder();
+
+    /** The number of requests that allocated a buffer. */
+    @Getter(AccessLevel.NONE)
+    private final LongAdder _misses = new LongAdder();
+
+    /** The number of released buffers that were not pooled. */
+    @Getter(AccessLevel.NONE)
+    private final LongAdder _discards = new LongAdder();
+
+    /** The number of bytes in the pool. */
+    @Getter(AccessLevel.NONE)
+    private final LongAdder _pooledBytes = new LongAdder();
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs a pool of heap buffers without leak detection.
+     */
+    public BufferPool() {
+        this(false, false);
+    }
+
+    /**
+     * Constructs a pool with the default capacities.
+     *
+     * @param direct        whether the {@link ByteBuffer}s are direct.
+     * @param leakDetection whether the borrowed buffers are tracked.
+     */
+    public BufferPool(boolean direct, boolean leakDetection) {
+        this(direct, leakDetection, DEFAULT_THREAD_CACHE_DEPTH, DEFAULT_SHARED_SLOTS);
+    }
+
+    /**
+     * Constructs a pool.
+     *
+     * @param direct           whether the {@link ByteBuffer}s are direct.
+     * @param leakDetection    whether the borrowed buffers are tracked.
+     * @param threadCacheDepth the number of buffers of each size class cached
+     *                         by each thread.
+     * @param sharedSlots      the number of shared buffers of each size
+     *                         class.
+     * @exception IllegalArgumentException if a capacity is negative.
+     */
+    public BufferPool(boolean direct, boolean leakDetection, int threadCacheDepth, int sharedSlots) {
+        if (0 > threadCacheDepth || 0 > sharedSlots) {
+            String message = getBadCapacityErrorMessage(Math.min(threadCacheDepth, sharedSlots));
+            throw new IllegalArgumentException(message);
+        }
+        _direct = direct;
+        _leakDetection = leakDetection;
+        _arrays = new Tier(threadCacheDepth, sharedSlots);
+        _buffers = direct ? new Tier(threadCacheDepth, sharedSlots) : null;
+        _borrowed = leakDetection ? Collections.synchronizedMap(new IdentityHashMap<>()) : null;
+    }
+
+
+//---------------------------
+// Accessors
+//---------------------------
+
+    /**
+     * Gets the number of requests served from the pool.
+     *
+     * @return the number of hits.
+     */
+    public long getHits() {
+        long hits = _hits.sum();
+        return hits;
+    }
+
+    /**
+     * Gets the number of requests that allocated a buffer.
+     *
+     * @return the number of misses.
+     */
+    public long getMisses() {
+        long misses = _misses.sum();
+        return misses;
+    }
+
+    /**
+     * Gets the number of released buffers that were dropped, because they are
+     * not of a size class or because the pool is full.
+     *
+     * @return the number of discarded buffers.
+     */
+    public long getDiscards() {
+        long discards = _discards.sum();
+        return discards;
+    }
+
+    /**
+     * Gets the number of bytes held by the pool, in the caches of all the
+     * threads and in the shared slots. The caches of the threads that ended
+     * are still counted.
+     *
+     * @return the number of pooled bytes.
+     */
+    public long getPooledBytes() {
+        long bytes = _pooledBytes.sum();
+        return bytes;
+    }
+
+    /**
+     * Gets the number of buffers acquired and not released yet, with leak
+     * detection on.
+     *
+     * @return the number of borrowed buffers, always {@code 0} without leak
+     *         detection.
+     */
+    public int getBorrowedCount() {
+        int count = _leakDetection ? _borrowed.size() : 0;
+        return count;
+    }
+
+    /**
+     * Gets where the buffers acquired and not released yet were acquired,
+     * with leak detection on. Anything left at the end of a unit of work is a
+     * leak.
+     *
+     * @return the stack traces of the acquisitions, empty without leak
+     *         detection.
+     */
+    public List<Throwable> getLeaks() {
+        var leaks = new ArrayList<Throwable>();
+        if (_leakDetection) {
+            synchronized (_borrowed) {
+                leaks.addAll(_borrowed.values());
+            }
+        }
+        return leaks;
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Acquires an array of at least {@code size} bytes. Its length is the size
+     * class of {@code size} and its content is unspecified.
+     *
+     * @param size the minimum number of bytes.
+     * @return the array.
+     * @exception IllegalArgumentException if {@code size} is negative.
+     */
+    public byte[] acquire(int size) {
+        int sizeClass = sizeClass(size);
+        byte[] array = (byte[]) take(_arrays, sizeClass);
+        if (null == array) {
+            array = new byte[(SIZE_CLASSES > sizeClass) ? (MIN_BUFFER_SIZE << sizeClass) : size];
+        }
+        borrow(array);
+        return array;
+    }
+
+    /**
+     * Releases an array acquired from this pool. Arrays whose length is not a
+     * size class are dropped.
+     *
+     * @param array the array.
+     * @exception IllegalArgumentException if leak detection is on and the array
+     *                                     is not borrowed from this pool.
+     */
+    public void release(byte[] array) {
+        giveBack(array);
+        put(_arrays, array, array.length);
+    }
+
+    /**
+     * Acquires a buffer of at least {@code size} bytes, direct in off-heap
+     * mode. Its capacity is the size class of {@code size}, it is cleared, in
+     * the native byte order, and its content is unspecified.
+     *
+     * @param size the minimum number of bytes.
+     * @return the buffer.
+     * @exception IllegalArgumentException if {@code size} is negative.
+     */
+    public ByteBuffer acquireBuffer(int size) {
+        ByteBuffer buffer;
+        if (_direct) {
+            int sizeClass = sizeClass(size);
+            buffer = (ByteBuffer) take(_buffers, sizeClass);
+            if (null == buffer) {
+                buffer = DirectBuffers.allocate((SIZE_CLASSES > sizeClass) ? (MIN_BUFFER_SIZE << sizeClass) : size);
+            }
+            borrow(buffer);
+        }
+        else {
+            buffer = ByteBuffer.wrap(acquire(size));
+        }
+        buffer.clear();
+        buffer.order(ByteOrder.nativeOrder());
+        return buffer;
+    }
+
+    /**
+     * Releases a buffer acquired from this pool, the buffer itself and not a
+     * view of it.
+     *
+     * @param buffer the buffer.
+     * @exception IllegalArgumentException if leak detection is on and the
+     *                                     buffer is not borrowed from this pool.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer.isDirect()) {
+            giveBack(buffer);
+            if (_direct) {
+                put(_buffers, buffer, buffer.capacity());
+            }
+            else {
+                _discards.increment();
+            }
+        }
+        else {
+            release(buffer.array());
+        }
+    }
+
+    /**
+     * Drops the pooled buffers shared by all the threads and the ones cached
+     * by the calling thread. The direct buffers are left to the garbage
+     * collector.
+     */
+    public void clear() {
+        _arrays.clear(_pooledBytes);
+        if (_direct) {
+            _buffers.clear(_pooledBytes);
+        }
+    }
+
+    /**
+     * Takes a buffer from the pool and counts the hit or the miss.
+     *
+     * @param tier      the tier.
+     * @param sizeClass the size class.
+     * @return the buffer, or {@code null} if there is none or if the size
+     *         class is too large to be pooled.
+     */
+    private Object take(Tier tier, int sizeClass) {
+        var buffer = (SIZE_CLASSES > sizeClass) ? tier.poll(sizeClass) : null;
+        if (null == buffer) {
+            _misses.increment();
+        }
+        else {
+            _hits.increment();
+            _pooledBytes.add(-(MIN_BUFFER_SIZE << sizeClass));
+        }
+        return buffer;
+    }
+
+    /**
+     * Puts a buffer in the pool if there is room for it.
+     *
+     * @param tier   the tier.
+     * @param buffer the buffer.
+     * @param size   the size of the buffer.
+     */
+    private void put(Tier tier, Object buffer, int size) {
+        int sizeClass = sizeClass(size);
+        boolean pooled = (SIZE_CLASSES > sizeClass)
+                      && ((MIN_BUFFER_SIZE << sizeClass) == size)
+                      && tier.offer(sizeClass, buffer);
+        if (pooled) {
+            _pooledBytes.add(size);
+        }
+        else {
+            _discards.increment();
+        }
+    }
+
+    /**
+     * Remembers where a buffer is acquired, with leak detection on.
+     *
+     * @param buffer the buffer.
+     */
+    private void borrow(Object buffer) {
+        if (_leakDetection) {
+            _borrowed.put(buffer, new Throwable("buffer of " + size(buffer) + " bytes acquired here"));
+        }
+    }
+
+    /**
+     * Forgets a buffer being released, with leak detection on.
+     *
+     * @param buffer the buffer.
+     * @exception IllegalArgumentException if the buffer is not borrowed.
+     */
+    private void giveBack(Object buffer) {
+        if (_leakDetection && null == _borrowed.remove(buffer)) {
+            String message = getNotBorrowedErrorMessage(size(buffer));
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+
+//---------------------------
+// Class methods
+//---------------------------
+
+    /**
+     * Gets the pool used by the streams of the library.
+     *
+     * @return the pool, or {@code null} if none is configured.
+     */
+    public static BufferPool getDefault() {
+        return defaultPool;
+    }
+
+    /**
+     * Sets the pool used by the streams of the library. The streams already
+     * open keep the pool they started with.
+     *
+     * @param pool the pool, or {@code null} to allocate the buffers.
+     */
+    public static void setDefault(BufferPool pool) {
+        defaultPool = pool;
+    }
+
+    /**
+     * Acquires an array from the default pool, or allocates it.
+     *
+     * @param pool the pool, or {@code null}.
+     * @param size the minimum number of bytes.
+     * @return the array, at least {@code size} bytes long.
+     */
+    static byte[] acquire(BufferPool pool, int size) {
+        byte[] array = (null == pool) ? new byte[size] : pool.acquire(size);
+        return array;
+    }
+
+    /**
+     * Releases an array to a pool, if any.
+     *
+     * @param pool  the pool, or {@code null}.
+     * @param array the array.
+     */
+    static void release(BufferPool pool, byte[] array) {
+        if (null != pool) {
+            pool.release(array);
+        }
+    }
+
+    /**
+     * Acquires a direct buffer from a pool in off-heap mode, or allocates it.
+     *
+     * @param pool the pool, or {@code null}.
+     * @param size the minimum number of bytes.
+     * @return the direct buffer, cleared and in the native byte order.
+     */
+    static ByteBuffer acquireDirect(BufferPool pool, int size) {
+        ByteBuffer buffer = ((null != pool) && pool.isDirect()) ? pool.acquireBuffer(size) : DirectBuffers.allocate(size);
+        return buffer;
+    }
+
+    /**
+     * Releases a direct buffer to a pool in off-heap mode, or frees it.
+     *
+     * @param pool   the pool, or {@code null}.
+     * @param buffer the direct buffer.
+     */
+    static void releaseDirect(BufferPool pool, ByteBuffer buffer) {
+        if ((null != pool) && pool.isDirect()) {
+            pool.release(buffer);
+        }
+        else {
+            DirectBuffers.free(buffer);
+        }
+    }
+
+    /**
+     * Gets the size class of a buffer size.
+     *
+     * @param size the size.
+     * @return the size class, {@link #SIZE_CLASSES} or more if it is too large
+     *         to be pooled.
+     * @exception IllegalArgumentException if {@code size} is negative.
+     */
+    private static int sizeClass(int size) {
+        if (0 > size) {
+            String message = getNegativeSizeErrorMessage(size);
+            throw new IllegalArgumentException(message);
+        }
+        int sizeClass = (MIN_BUFFER_SIZE >= size) ? 0 : (32 - Integer.numberOfLeadingZeros(size - 1)) - Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+        return sizeClass;
+    }
+
+    /**
+     * Gets the size of an array or a buffer.
+     *
+     * @param buffer the array or the buffer.
+     * @return the size.
+     */
+    private static int size(Object buffer) {
+        int size = (buffer instanceof byte[]) ? ((byte[]) buffer).length : ((ByteBuffer) buffer).capacity();
+        return size;
+    }
+
+    /**
+     * Gets the formatted error message telling that a capacity is negative.
+     *
+     * @param capacity the bad capacity.
+     * @return the formatted error message.
+     */
+    protected static String getBadCapacityErrorMessage(int capacity) {
+        var key = Resources.BUFFER_POOL_BAD_CAPACITY;
+        var message = Resources.getLocalizedString(key, String.valueOf(capacity));
+        return message;
+    }
+
+    /**
+     * Gets the formatted error message telling that a buffer size is negative.
+     *
+     * @param size the bad size.
+     * @return the formatted error message.
+     */
+    protected static String getNegativeSizeErrorMessage(int size) {
+        var key = Resources.BUFFER_POOL_NEGATIVE_SIZE;
+        var message = Resources.getLocalizedString(key, String.valueOf(size));
+        return message;
+    }
+
+    /**
+     * Gets the formatted error message telling that a released buffer is not
+     * borrowed from the pool.
+     *
+     * @param size the size of the buffer.
+     * @return the formatted error message.
+     */
+    protected static String getNotBorrowedErrorMessage(int size) {
+        var key = Resources.BUFFER_POOL_NOT_BORROWED;
+        var message = Resources.getLocalizedString(key, String.valueOf(size));
+        return message;
+    }
+
+}
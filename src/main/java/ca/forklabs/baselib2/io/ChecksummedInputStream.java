@@ -0,0 +1,382 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+import ca.forklabs.baselib2.util.Bits;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * Class {@code ChecksummedInputStream} reads back the frames written by
+ * {@link ChecksummedOutputStream} and verifies the CRC32C trailer of each
+ * frame before handing out its bytes, so that corruption is detected as soon
+ * as the damaged frame is reached rather than after a separate pass over the
+ * whole file.
+ * <p>
+ * Both streams must agree on the frame size. A frame that does not match its
+ * trailer raises an {@link IOException}, a stream that ends before its last,
+ * short, frame raises an {@link EOFException}. It does not support marking nor
+ * resetting. The frame buffer comes from the {@link BufferPool#getDefault()
+ * default pool} when one is configured.
+ *
+ * @see ca.forklabs.baselib2.io.ChecksummedOutputStream
+ */
+@Getter
+@Accessors(prefix = {"_"})
+public class ChecksummedInputStream extends FilterInputStream {
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The number of data bytes in each frame. */
+    private final int _frameSize;
+
+    /** The checksum of the current frame. */
+    @Getter(AccessLevel.NONE)
+    private final CRC32C _crc = new CRC32C();
+
+    /** The pool of the frame buffer, {@code null} if it is allocated. */
+    @Getter(AccessLevel.NONE)
+    private final BufferPool _pool;
+
+    /** The current frame, followed by its trailer, {@code null} once closed. */
+    @Getter(AccessLevel.NONE)
+    private byte[] _frame;
+
+    /** The position of the next byte to hand out in the current frame. */
+    @Getter(AccessLevel.NONE)
+    private int _position = 0;
+
+    /** The number of verified data bytes in the current frame. */
+    @Getter(AccessLevel.NONE)
+    private int _limit = 0;
+
+    /** The number of frames verified. */
+    private long _frameCount = 0L;
+
+    /** Whether the last frame has been read. */
+    private boolean _finished = false;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs a {@code ChecksummedInputStream} with frames of
+     * {@link ChecksummedOutputStream#DEFAULT_FRAME_SIZE} bytes.
+     *
+     * @param in the input stream to read from.
+     */
+    public ChecksummedInputStream(InputStream in) {
+        this(in, ChecksummedOutputStream.DEFAULT_FRAME_SIZE);
+    }
+
+    /**
+     * Constructs a {@code ChecksummedInputStream}.
+     *
+     * @param in        the input stream to read from.
+     * @param frameSize the number of data bytes in each frame.
+     * @exception IllegalArgumentException if {@code frameSize} is not
+     *                                     positive.
+     */
+    public ChecksummedInputStream(@NonNull InputStream in, int frameSize) {
+        super(in);
+        if (0 >= frameSize) {
+            String message = getBadFrameSizeErrorMessage(frameSize);
+            throw new IllegalArgumentException(message);
+        }
+        _frameSize = frameSize;
+        _pool = BufferPool.getDefault();
+        _frame = BufferPool.acquire(_pool, frameSize + ChecksummedOutputStream.TRAILER_SIZE);
+    }
+
+
+//---------------------------
+// Overridden methods from java.io.FilterInputStream
+//---------------------------
+
+    /**
+     * Reads a verified byte.
+     *
+     * @return the byte read or {@code -1} at the end of the stream.
+     * @exception IOException if the frame is corrupted or truncated or if
+     *                        anything goes wrong with I/O.
+     */
+    @Override
+    public int read() throws IOException {
+        int b = -1;
+        if (ensureAvailable()) {
+            b = _frame[_position++] & 0xff;
+        }
+        return b;
+    }
+
+    /**
+     * Reads verified bytes, at most up to the end of the current frame.
+     *
+     * @param b   the destination array.
+     * @param off the offset in the array.
+     * @param len the maximum number of bytes to read.
+     * @return the number of bytes read or {@code -1} at the end of the stream.
+     * @exception IOException if the frame is corrupted or truncated or if
+     *                        anything goes wrong with I/O.
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (0 == len) {
+            return 0;
+        }
+
+        int read = -1;
+        if (ensureAvailable()) {
+            read = Math.min(len, _limit - _position);
+            System.arraycopy(_frame, _position, b, off, read);
+            _position += read;
+        }
+        return read;
+    }
+
+    /**
+     * Skips verified bytes. The skipped frames are still read and verified.
+     *
+     * @param n the number of bytes to skip.
+     * @return the number of bytes skipped.
+     * @exception IOException if the frame is corrupted or truncated or if
+     *                        anything goes wrong with I/O.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0L;
+        while (skipped < n && ensureAvailable()) {
+            int count = (int) Math.min(n - skipped, _limit - _position);
+            _position += count;
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    /**
+     * Gets the number of verified bytes that can be read without blocking.
+     *
+     * @return the number of bytes left in the current frame.
+     */
+    @Override
+    public int available() {
+        int available = _limit - _position;
+        return available;
+    }
+
+    /**
+     * Tells that marking is not supported.
+     *
+     * @return always {@code false}.
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Does nothing, marking is not supported.
+     *
+     * @param readlimit ignored.
+     */
+    @Override
+    public void mark(int readlimit) {
+        // nothing
+    }
+
+    /**
+     * Always fails, resetting is not supported.
+     *
+     * @exception IOException always.
+     */
+    @Override
+    public void reset() throws IOException {
+        String message = getNoMarkErrorMessage();
+        throw new IOException(message);
+    }
+
+    /**
+     * Closes the underlying stream and gives the frame buffer back to its
+     * pool.
+     *
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        }
+        finally {
+            if (null != _frame) {
+                BufferPool.release(_pool, _frame);
+                _frame = null;
+                _position = 0;
+                _limit = 0;
+            }
+        }
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Makes sure there are verified bytes to hand out, reading the next frame
+     * if needed.
+     *
+     * @return {@code true} if there are bytes, {@code false} at the end of the
+     *         stream.
+     * @exception IOException if the frame is corrupted or truncated, if the
+     *                        stream is closed or if anything goes wrong with
+     *                        I/O.
+     */
+    protected boolean ensureAvailable() throws IOException {
+        if (null == _frame) {
+            String message = getClosedErrorMessage();
+            throw new IOException(message);
+        }
+        while (_position == _limit) {
+            if (_finished) {
+                return false;
+            }
+            readFrame();
+        }
+        return true;
+    }
+
+    /**
+     * Reads and verifies the next frame. A frame shorter than the frame size is
+     * the last one.
+     *
+     * @exception IOException if the frame is corrupted or truncated or if
+     *                        anything goes wrong with I/O.
+     */
+    protected void readFrame() throws IOException {
+        int len = _frameSize + ChecksummedOutputStream.TRAILER_SIZE;
+        int read = 0;
+        while (read < len) {
+            int count = this.in.read(_frame, read, len - read);
+            if (-1 == count) {
+                break;
+            }
+            read += count;
+        }
+
+        if (ChecksummedOutputStream.TRAILER_SIZE > read) {
+            String message = getTruncatedErrorMessage(_frameCount);
+            throw new EOFException(message);
+        }
+
+        int size = read - ChecksummedOutputStream.TRAILER_SIZE;
+        _crc.reset();
+        _crc.update(_frame, 0, size);
+        int computed = (int) _crc.getValue();
+        int expected = Bits.getInt(_frame, size, ByteOrder.LITTLE_ENDIAN);
+        if (expected != computed) {
+            String message = getCorruptedErrorMessage(_frameCount, expected, computed);
+            throw new IOException(message);
+        }
+
+        _position = 0;
+        _limit = size;
+        _frameCount++;
+        _finished = (_frameSize > size);
+    }
+
+    /**
+     * Gets the formatted error message telling that the frame size is not
+     * positive.
+     *
+     * @param frameSize the bad frame size.
+     * @return the formatted error message.
+     */
+    protected String getBadFrameSizeErrorMessage(int frameSize) {
+        var key = Resources.CHECKSUMMED_STREAM_BAD_FRAME_SIZE;
+        var message = Resources.getLocalizedString(key, String.valueOf(frameSize));
+        return message;
+    }
+
+    /**
+     * Gets the formatted error message telling that a frame does not match its
+     * trailer.
+     *
+     * @param frame    the index of the frame.
+     * @param expected the checksum in the trailer.
+     * @param computed the checksum of the frame.
+     * @return the formatted error message.
+     */
+    protected String getCorruptedErrorMessage(long frame, int expected, int computed) {
+        var key = Resources.CHECKSUMMED_STREAM_CORRUPTED;
+        var message = Resources.getLocalizedString(key, String.valueOf(frame), Integer.toHexString(expected), Integer.toHexString(computed));
+        return message;
+    }
+
+    /**
+     * Gets the formatted error message telling that the stream ends before its
+     * last frame.
+     *
+     * @param frame the index of the frame.
+     * @return the formatted error message.
+     */
+    protected String getTruncatedErrorMessage(long frame) {
+        var key = Resources.CHECKSUMMED_STREAM_TRUNCATED;
+        var message = Resources.getLocalizedString(key, String.valueOf(frame));
+        return message;
+    }
+
+    /**
+     * Gets the formatted error message telling that marking and resetting are
+     * not supported.
+     *
+     * @return the formatted error message.
+     */
+    protected String getNoMarkErrorMessage() {
+        var key = Resources.INPUT_STREAM_NO_MARK;
+        var message = Resources.getLocalizedString(key);
+        return message;
+    }
+
+    /**
+     * Gets the formatted error message telling that the stream is closed.
+     *
+     * @return the formatted error message.
+     */
+    protected String getClosedErrorMessage() {
+        var key = Resources.INPUT_STREAM_IS_CLOSED;
+        var message = Resources.getLocalizedString(key);
+        return message;
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32C;
+
+import ca.forklabs.baselib2.util.Arrays;
+import ca.forklabs.baselib2.util.Bits;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * Class {@code ChecksummedOutputStream} cuts the bytes written to its
+ * underlying stream into frames of fixed size and follows each frame with a
+ * trailer holding the little-endian CRC32C of the frame, so that corruption can
+ * be detected incrementally by {@link ChecksummedInputStream} while the data is
+ * read back.
+ * <p>
+ * The bytes are passed through as they come, only the trailers are added. The
+ * stream always ends with a frame shorter than the frame size, possibly empty,
+ * so that a stream truncated on a frame boundary is detected too. That last
+ * frame is written by {@link #finish()}, which is called by {@link #close()}.
+ *
+ * @see ca.forklabs.baselib2.io.ChecksummedInputStream
+ */
+@Getter
+@Accessors(prefix = {"_"})
+public class ChecksummedOutputStream extends FilterOutputStream {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The default size of the frames, 64 kiB. */
+    public static final int DEFAULT_FRAME_SIZE = 64 * 1024;
+
+    /** The size of the trailer. */
+    public static final int TRAILER_SIZE = Bits.NUM_OCTETS_IN_INT;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The number of data bytes in each frame. */
+    private final int _frameSize;
+
+    /** The checksum of the current frame. */
+    @Getter(AccessLevel.NONE)
+    private final CRC32C _crc = new CRC32C();
+
+    /** The scratch array for the trailer. */
+    @Getter(AccessLevel.NONE)
+    private final byte[] _trailer = new byte[TRAILER_SIZE];
+
+    /** The number of bytes in the current frame. */
+    @Getter(AccessLevel.NONE)
+    private int _position = 0;
+
+    /** The number of complete frames written. */
+    private long _frameCount = 0L;
+
+    /** Whether the last frame has been written. */
+    private boolean _finished = false;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs a {@code ChecksummedOutputStream} with frames of
+     * {@link #DEFAULT_FRAME_SIZE} bytes.
+     *
+     * @param out the output stream to write to.
+     */
+    public ChecksummedOutputStream(OutputStream out) {
+        this(out, DEFAULT_FRAME_SIZE);
+    }
+
+    /**
+     * Constructs a {@code ChecksummedOutputStream}.
+     *
+     * @param out       the output stream to write to.
+     * @param frameSize the number of data bytes in each frame.
+     * @exception IllegalArgumentException if {@code frameSize} is not
+     *                                     positive.
+     */
+    public ChecksummedOutputStream(@NonNull OutputStream out, int frameSize) {
+        super(out);
+        if (0 >= frameSize) {
+            String message = getBadFrameSizeErrorMessage(frameSize);
+            throw new IllegalArgumentException(message);
+        }
+        _frameSize = frameSize;
+    }
+
+
+//---------------------------
+// Overridden methods from java.io.FilterOutputStream
+//---------------------------
+
+    /**
+     * Writes a byte, ending the frame if it becomes full.
+     *
+     * @param b the byte, only the lowest 8 bits are used.
+     * @throws IOException if an I/O error occurs or if the stream is finished.
+     */
+    @Override
+    public void write(int b) throws IOException {
+        ensureNotFinished();
+        this.out.write(b);
+        _crc.update(b);
+        _position++;
+        if (_frameSize == _position) {
+            writeTrailer();
+        }
+    }
+
+    /**
+     * Writes the bytes, cutting them in as many calls to the underlying stream
+     * as there are frame boundaries in between.
+     *
+     * @param b   the array.
+     * @param off the offset in the array.
+     * @param len the number of bytes.
+     * @throws IOException if an I/O error occurs or if the stream is finished.
+     */
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureNotFinished();
+        Arrays.checkArray(b, off, len);
+        while (0 < len) {
+            int count = Math.min(len, _frameSize - _position);
+            this.out.write(b, off, count);
+            _crc.update(b, off, count);
+            _position += count;
+            if (_frameSize == _position) {
+                writeTrailer();
+            }
+            off += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * Writes the last frame then closes the underlying stream.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        }
+        finally {
+            this.out.close();
+        }
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Writes the last frame, shorter than the frame size, and its trailer
+     * without closing the underlying stream. Nothing can be written afterwards.
+     * Calling it more than once has no effect.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    public void finish() throws IOException {
+        if (false == _finished) {
+            writeTrailer();
+            _finished = true;
+            this.out.flush();
+        }
+    }
+
+    /**
+     * Writes the trailer of the current frame and starts a new frame.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    protected void writeTrailer() throws IOException {
+        int value = (int) _crc.getValue();
+        Bits.putInt(_trailer, 0, value, ByteOrder.LITTLE_ENDIAN);
+        this.out.write(_trailer, 0, TRAILER_SIZE);
+        _crc.reset();
+        _position = 0;
+        _frameCount++;
+    }
+
+    /**
+     * Makes sure the last frame has not been written yet.
+     *
+     * @throws IOException if the stream is finished.
+     */
+    protected void ensureNotFinished() throws IOException {
+        if (_finished) {
+            String message = getFinishedErrorMessage();
+            throw new IOException(message);
+        }
+    }
+
+    /**
+     * Gets the formatted error message telling that the frame size is not
+     * positive.
+     *
+     * @param frameSize the bad frame size.
+     * @return the formatted error message.
+     */
+    protected String getBadFrameSizeErrorMessage(int frameSize) {
+        var key = Resources.CHECKSUMMED_STREAM_BAD_FRAME_SIZE;
+        var message = Resources.getLocalizedString(key, String.valueOf(frameSize));
+        return message;
+    }
+
+    /**
+     * Gets the formatted error message telling that the stream is finished.
+     *
+     * @return the formatted error message.
+     */
+    protected String getFinishedErrorMessage() {
+        var key = Resources.OUTPUT_STREAM_IS_CLOSED;
+        var message = Resources.getLocalizedString(key);
+        return message;
+    }
+
+}
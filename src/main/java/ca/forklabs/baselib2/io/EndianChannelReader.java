@@ -0,0 +1,729 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import static ca.forklabs.baselib2.io.Streams.asDataInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Objects;
+
+import ca.forklabs.baselib2.util.Arrays;
+import ca.forklabs.baselib2.util.Bits;
+import lombok.NonNull;
+
+/**
+ * Class {@code EndianChannelReader} reads primitive values in either byte
+ * order from a {@link ReadableByteChannel}, through a direct buffer that it
+ * fills in as few channel reads as possible. The values are decoded by the
+ * buffer itself and the bulk reads, such as
+ * {@link #readInts(int[], int, int)}, go through its typed views. The buffer
+ * comes from the {@link BufferPool#getDefault() default pool} when it is
+ * off-heap, otherwise it is allocated and freed on {@link #close()}.
+ * <p>
+ * The channel must be in blocking mode and must only be read through this
+ * reader. When the channel is a {@link SeekableByteChannel}, the reader knows
+ * its {@link #position()} and can {@link #seek(long)}. The reader is not
+ * thread-safe.
+ *
+ * @see ca.forklabs.baselib2.io.EndianChannelWriter
+ */
+public class EndianChannelReader implements DataInput, Closeable {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The default size of the buffer, in bytes. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The channel to read from. */
+    private final ReadableByteChannel _channel;
+
+    /** The pool of the buffer, {@code null} if it is allocated. */
+    private final BufferPool _pool;
+
+    /** The buffer, its remaining bytes are the ones read but not consumed, {@code null} once closed. */
+    private ByteBuffer _buffer;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs a big-endian {@code EndianChannelReader} with a buffer of
+     * {@link #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param channel the channel to read from.
+     */
+    public EndianChannelReader(ReadableByteChannel channel) {
+        this(channel, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Constructs an {@code EndianChannelReader} with a buffer of
+     * {@link #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param channel the channel to read from.
+     * @param order   the byte order of the values.
+     */
+    public EndianChannelReader(ReadableByteChannel channel, ByteOrder order) {
+        this(channel, order, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs an {@code EndianChannelReader}.
+     *
+     * @param channel    the channel to read from.
+     * @param order      the byte order of the values.
+     * @param bufferSize the minimum size of the buffer, in bytes.
+     * @exception IllegalArgumentException if the buffer cannot hold a
+     *                                     {@code long}.
+     */
+    public EndianChannelReader(@NonNull ReadableByteChannel channel, @NonNull ByteOrder order, int bufferSize) {
+        if (Bits.NUM_OCTETS_IN_LONG > bufferSize) {
+            String message = getBadBufferSizeErrorMessage(bufferSize);
+            throw new IllegalArgumentException(message);
+        }
+        _channel = channel;
+        _pool = BufferPool.getDefault();
+        _buffer = BufferPool.acquireDirect(_pool, bufferSize);
+        _buffer.order(order);
+        _buffer.limit(0);
+    }
+
+
+//---------------------------
+// Accessors and mutators
+//---------------------------
+
+    /**
+     * Gets the channel to read from.
+     *
+     * @return the channel.
+     */
+    public ReadableByteChannel getChannel() {
+        return _channel;
+    }
+
+    /**
+     * Gets the byte order of the values.
+     *
+     * @return the byte order.
+     * @exception IOException if the reader is closed.
+     */
+    public ByteOrder getOrder() throws IOException {
+        ByteOrder order = buffer().order();
+        return order;
+    }
+
+    /**
+     * Changes the byte order of the values read from now on.
+     *
+     * @param order the byte order.
+     * @exception IOException if the reader is closed.
+     */
+    public void setOrder(@NonNull ByteOrder order) throws IOException {
+        buffer().order(order);
+    }
+
+    /**
+     * Determines if the channel can tell its position and seek.
+     *
+     * @return {@code true} if the channel is seekable, {@code false} otherwise.
+     */
+    public boolean isSeekable() {
+        boolean seekable = (_channel instanceof SeekableByteChannel);
+        return seekable;
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Gets the position in the channel of the next byte to read.
+     *
+     * @return the position.
+     * @exception UnsupportedOperationException if the channel is not seekable.
+     * @exception IOException if the reader is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    public long position() throws IOException {
+        var buffer = buffer();
+        long position = seekable().position() - buffer.remaining();
+        return position;
+    }
+
+    /**
+     * Moves to a position in the channel. Positions within the bytes still in
+     * the buffer are reached without I/O.
+     *
+     * @param position the new position.
+     * @exception UnsupportedOperationException if the channel is not seekable.
+     * @exception IllegalArgumentException if the position is negative.
+     * @exception IOException if the reader is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    public void seek(long position) throws IOException {
+        var buffer = buffer();
+        var channel = seekable();
+        long end = channel.position();
+        long start = end - buffer.limit();
+        if ((start <= position) && (position <= end)) {
+            buffer.position((int) (position - start));
+        }
+        else {
+            channel.position(position);
+            buffer.limit(0);
+        }
+    }
+
+    /**
+     * Reads a byte.
+     *
+     * @return the byte read or {@code -1} at the end of the channel.
+     * @exception IOException if the reader is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    public int read() throws IOException {
+        int b = -1;
+        if (0 < fill()) {
+            b = _buffer.get() & 0xff;
+        }
+        return b;
+    }
+
+    /**
+     * Reads bytes, at most up to the end of the buffer. Requests for more than
+     * the buffer size bypass an empty buffer.
+     *
+     * @param b   the destination array.
+     * @param off the offset in the array.
+     * @param len the maximum number of bytes to read.
+     * @return the number of bytes read or {@code -1} at the end of the channel.
+     * @exception IOException if the reader is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        var buffer = buffer();
+        if (0 == len) {
+            return 0;
+        }
+        if ((false == buffer.hasRemaining()) && (len >= buffer.capacity())) {
+            // the buffer no longer mirrors the bytes before the channel position
+            buffer.limit(0);
+            return _channel.read(ByteBuffer.wrap(b, off, len));
+        }
+
+        int read = -1;
+        if (0 < fill()) {
+            read = Math.min(len, buffer.remaining());
+            buffer.get(b, off, read);
+        }
+        return read;
+    }
+
+    /**
+     * Closes the channel and gives the buffer back to its pool.
+     *
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            _channel.close();
+        }
+        finally {
+            if (null != _buffer) {
+                BufferPool.releaseDirect(_pool, _buffer);
+                _buffer = null;
+            }
+        }
+    }
+
+    /**
+     * Gets the buffer.
+     *
+     * @return the buffer.
+     * @exception ClosedChannelException if the reader is closed.
+     */
+    protected ByteBuffer buffer() throws ClosedChannelException {
+        if (null == _buffer) {
+            throw new ClosedChannelException();
+        }
+        return _buffer;
+    }
+
+    /**
+     * Gets the channel as a seekable channel.
+     *
+     * @return the channel.
+     * @exception UnsupportedOperationException if the channel is not seekable.
+     */
+    protected SeekableByteChannel seekable() {
+        if (false == isSeekable()) {
+            String message = getNotSeekableErrorMessage();
+            throw new UnsupportedOperationException(message);
+        }
+        return (SeekableByteChannel) _channel;
+    }
+
+    /**
+     * Reads into the buffer if it is empty.
+     *
+     * @return the number of bytes in the buffer, {@code 0} at the end of the
+     *         channel.
+     * @exception IOException if the reader is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    protected int fill() throws IOException {
+        var buffer = buffer();
+        if (false == buffer.hasRemaining()) {
+            buffer.clear();
+            int read = 0;
+            while (0 == read) {
+                read = _channel.read(buffer);
+            }
+            buffer.flip();
+        }
+        int available = buffer.remaining();
+        return available;
+    }
+
+    /**
+     * Makes sure the buffer holds at least {@code numBytes} bytes, moving the
+     * remaining ones to its start and reading as many times as needed.
+     *
+     * @param numBytes the number of bytes, at most the size of the buffer.
+     * @return the buffer.
+     * @exception EOFException if the channel ends before.
+     * @exception IOException if the reader is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    protected ByteBuffer ensure(int numBytes) throws IOException {
+        var buffer = buffer();
+        if (buffer.remaining() < numBytes) {
+            buffer.compact();
+            try {
+                while (buffer.position() < numBytes) {
+                    if (-1 == _channel.read(buffer)) {
+                        throw new EOFException();
+                    }
+                }
+            }
+            finally {
+                buffer.flip();
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Reads {@code short}s into an array, as if by as many calls to
+     * {@link #readShort()}.
+     *
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception EOFException if the channel ends before all the values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(short[], int, int)
+     */
+    public void readShorts(short[] dst, int off, int len) throws IOException {
+        Arrays.checkArray(dst, off, len);
+        for (int done = 0; done < len; ) {
+            var buffer = ensure(Bits.NUM_OCTETS_IN_SHORT);
+            int count = Math.min(len - done, buffer.remaining() / Bits.NUM_OCTETS_IN_SHORT);
+            buffer.asShortBuffer().get(dst, off + done, count);
+            buffer.position(buffer.position() + count * Bits.NUM_OCTETS_IN_SHORT);
+            done += count;
+        }
+    }
+
+    /**
+     * Reads {@code int}s into an array, as if by as many calls to
+     * {@link #readInt()}.
+     *
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception EOFException if the channel ends before all the values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(int[], int, int)
+     */
+    public void readInts(int[] dst, int off, int len) throws IOException {
+        Arrays.checkArray(dst, off, len);
+        for (int done = 0; done < len; ) {
+            var buffer = ensure(Bits.NUM_OCTETS_IN_INT);
+            int count = Math.min(len - done, buffer.remaining() / Bits.NUM_OCTETS_IN_INT);
+            buffer.asIntBuffer().get(dst, off + done, count);
+            buffer.position(buffer.position() + count * Bits.NUM_OCTETS_IN_INT);
+            done += count;
+        }
+    }
+
+    /**
+     * Reads {@code long}s into an array, as if by as many calls to
+     * {@link #readLong()}.
+     *
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception EOFException if the channel ends before all the values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public void readLongs(long[] dst, int off, int len) throws IOException {
+        Arrays.checkArray(dst, off, len);
+        for (int done = 0; done < len; ) {
+            var buffer = ensure(Bits.NUM_OCTETS_IN_LONG);
+            int count = Math.min(len - done, buffer.remaining() / Bits.NUM_OCTETS_IN_LONG);
+            buffer.asLongBuffer().get(dst, off + done, count);
+            buffer.position(buffer.position() + count * Bits.NUM_OCTETS_IN_LONG);
+            done += count;
+        }
+    }
+
+    /**
+     * Reads {@code float}s into an array, as if by as many calls to
+     * {@link #readFloat()}.
+     *
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception EOFException if the channel ends before all the values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(float[], int, int)
+     */
+    public void readFloats(float[] dst, int off, int len) throws IOException {
+        Arrays.checkArray(dst, off, len);
+        for (int done = 0; done < len; ) {
+            var buffer = ensure(Bits.NUM_OCTETS_IN_FLOAT);
+            int count = Math.min(len - done, buffer.remaining() / Bits.NUM_OCTETS_IN_FLOAT);
+            buffer.asFloatBuffer().get(dst, off + done, count);
+            buffer.position(buffer.position() + count * Bits.NUM_OCTETS_IN_FLOAT);
+            done += count;
+        }
+    }
+
+    /**
+     * Reads {@code double}s into an array, as if by as many calls to
+     * {@link #readDouble()}.
+     *
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception EOFException if the channel ends before all the values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public void readDoubles(double[] dst, int off, int len) throws IOException {
+        Arrays.checkArray(dst, off, len);
+        for (int done = 0; done < len; ) {
+            var buffer = ensure(Bits.NUM_OCTETS_IN_DOUBLE);
+            int count = Math.min(len - done, buffer.remaining() / Bits.NUM_OCTETS_IN_DOUBLE);
+            buffer.asDoubleBuffer().get(dst, off + done, count);
+            buffer.position(buffer.position() + count * Bits.NUM_OCTETS_IN_DOUBLE);
+            done += count;
+        }
+    }
+
+    /**
+     * Gets the formatted error message telling that the buffer is too small.
+     *
+     * @param bufferSize the buffer size.
+     * @return the formatted error message.
+     */
+    protected String getBadBufferSizeErrorMessage(int bufferSize) {
+        var key = Resources.CHANNEL_BAD_BUFFER_SIZE;
+        var message = Resources.getLocalizedString(key, bufferSize, Bits.NUM_OCTETS_IN_LONG);
+        return message;
+    }
+
+    /**
+     * Gets the error message telling that the channel is not seekable.
+     *
+     * @return the error message.
+     */
+    protected String getNotSeekableErrorMessage() {
+        var key = Resources.CHANNEL_NOT_SEEKABLE;
+        var message = Resources.getLocalizedString(key);
+        return message;
+    }
+
+
+//---------------------------
+// Implemented methods from java.io.DataInput
+//---------------------------
+
+    /**
+     * Reads some bytes and stores them into the array. For this method, the
+     * concept of endian-ness does not exist.
+     *
+     * @param b the destination array.
+     * @exception EOFException if the channel ends before the array is full.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void readFully(byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    /**
+     * Reads some bytes and stores them into the array. For this method, the
+     * concept of endian-ness does not exist.
+     *
+     * @param b   the destination array.
+     * @param off the offset in the array.
+     * @param len the number of bytes to read.
+     * @exception EOFException if the channel ends before.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        for (int done = 0; done < len; ) {
+            int read = read(b, off + done, len - done);
+            if (-1 == read) {
+                throw new EOFException();
+            }
+            done += read;
+        }
+    }
+
+    /**
+     * Skips over bytes, moving the position of the channel when it is
+     * seekable and reading through the bytes otherwise.
+     *
+     * @param n the number of bytes to skip.
+     * @return the number of bytes skipped, less than {@code n} at the end of
+     *         the channel.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public int skipBytes(int n) throws IOException {
+        var buffer = buffer();
+        int skipped = 0;
+        if (0 < n) {
+            skipped = Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + skipped);
+            if ((skipped < n) && isSeekable()) {
+                var channel = seekable();
+                buffer.limit(0);
+                long position = channel.position();
+                int jump = (int) Math.max(0L, Math.min(n - skipped, channel.size() - position));
+                channel.position(position + jump);
+                skipped += jump;
+            }
+            else {
+                while ((skipped < n) && (0 < fill())) {
+                    int jump = Math.min(n - skipped, buffer.remaining());
+                    buffer.position(buffer.position() + jump);
+                    skipped += jump;
+                }
+            }
+        }
+        return skipped;
+    }
+
+    /**
+     * Reads a {@code boolean}.
+     *
+     * @return the {@code boolean} read.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public boolean readBoolean() throws IOException {
+        boolean z = (0 != readByte());
+        return z;
+    }
+
+    /**
+     * Reads a {@code byte}.
+     *
+     * @return the {@code byte} read.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public byte readByte() throws IOException {
+        byte b = ensure(Bits.NUM_OCTETS_IN_BYTE).get();
+        return b;
+    }
+
+    /**
+     * Reads an {@code unsigned byte}.
+     *
+     * @return the {@code unsigned byte} read.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public int readUnsignedByte() throws IOException {
+        byte b = readByte();
+        int i = Bits.unsignedByte(b);
+        return i;
+    }
+
+    /**
+     * Reads a {@code short}.
+     *
+     * @return the {@code short} read.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public short readShort() throws IOException {
+        short s = ensure(Bits.NUM_OCTETS_IN_SHORT).getShort();
+        return s;
+    }
+
+    /**
+     * Reads an {@code unsigned short}.
+     *
+     * @return the {@code unsigned short} read.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public int readUnsignedShort() throws IOException {
+        short s = readShort();
+        int i = Bits.unsignedShort(s);
+        return i;
+    }
+
+    /**
+     * Reads a {@code char}.
+     *
+     * @return the {@code char} read.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public char readChar() throws IOException {
+        char c = ensure(Bits.NUM_OCTETS_IN_CHAR).getChar();
+        return c;
+    }
+
+    /**
+     * Reads an {@code int}.
+     *
+     * @return the {@code int} read.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public int readInt() throws IOException {
+        int i = ensure(Bits.NUM_OCTETS_IN_INT).getInt();
+        return i;
+    }
+
+    /**
+     * Reads a {@code long}.
+     *
+     * @return the {@code long} read.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public long readLong() throws IOException {
+        long l = ensure(Bits.NUM_OCTETS_IN_LONG).getLong();
+        return l;
+    }
+
+    /**
+     * Reads a {@code float}.
+     *
+     * @return the {@code float} read.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public float readFloat() throws IOException {
+        float f = ensure(Bits.NUM_OCTETS_IN_FLOAT).getFloat();
+        return f;
+    }
+
+    /**
+     * Reads a {@code double}.
+     *
+     * @return the {@code double} read.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public double readDouble() throws IOException {
+        double d = ensure(Bits.NUM_OCTETS_IN_DOUBLE).getDouble();
+        return d;
+    }
+
+    /**
+     * Reads the next line of text, ended by {@code \n}, {@code \r} or
+     * {@code \r\n}, each byte taken as a character.
+     *
+     * @return the line, {@code null} at the end of the channel.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public String readLine() throws IOException {
+        int c = read();
+        if (-1 == c) {
+            return null;
+        }
+        var line = new StringBuilder();
+        while ((-1 != c) && ('\n' != c) && ('\r' != c)) {
+            line.append((char) c);
+            c = read();
+        }
+        if (('\r' == c) && (0 < fill()) && ('\n' == _buffer.get(_buffer.position()))) {
+            _buffer.get();
+        }
+        return line.toString();
+    }
+
+    /**
+     * Reads in a string that has been encoded using a modified UTF-8 format.
+     * For this method, the concept of endian-ness does not exist.
+     *
+     * @return the string read.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public String readUTF() throws IOException {
+        // the length is big-endian, as written by DataOutputStream
+        int high = readUnsignedByte();
+        int low = readUnsignedByte();
+        int len = (high << 8) | low;
+        byte[] utf = new byte[Bits.NUM_OCTETS_IN_SHORT + len];
+        utf[0] = (byte) high;
+        utf[1] = (byte) low;
+        readFully(utf, Bits.NUM_OCTETS_IN_SHORT, len);
+        String line = asDataInputStream(new ByteArrayInputStream(utf)).readUTF();
+        return line;
+    }
+
+}
@@ -0,0 +1,614 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import static ca.forklabs.baselib2.io.Streams.asDataOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutput;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+import ca.forklabs.baselib2.util.Arrays;
+import ca.forklabs.baselib2.util.Bits;
+import lombok.NonNull;
+
+/**
+ * Class {@code EndianChannelWriter} writes primitive values in either byte
+ * order to a {@link WritableByteChannel}, through a direct buffer that it
+ * writes out when full, on {@link #flush()} and on {@link #close()}. The
+ * values are encoded by the buffer itself and the bulk writes, such as
+ * {@link #writeInts(int[], int, int)}, go through its typed views. The buffer
+ * comes from the {@link BufferPool#getDefault() default pool} when it is
+ * off-heap, otherwise it is allocated and freed on {@link #close()}.
+ * <p>
+ * The channel must be in blocking mode and must only be written through this
+ * writer. When the channel is a {@link SeekableByteChannel}, the writer knows
+ * its {@link #position()} and can {@link #seek(long)}. The writer is not
+ * thread-safe.
+ *
+ * @see ca.forklabs.baselib2.io.EndianChannelReader
+ */
+public class EndianChannelWriter implements DataOutput, Flushable, Closeable {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The default size of the buffer, in bytes. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The channel to write to. */
+    private final WritableByteChannel _channel;
+
+    /** The pool of the buffer, {@code null} if it is allocated. */
+    private final BufferPool _pool;
+
+    /** The buffer, its bytes up to its position are not written out yet, {@code null} once closed. */
+    private ByteBuffer _buffer;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs a big-endian {@code EndianChannelWriter} with a buffer of
+     * {@link #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param channel the channel to write to.
+     */
+    public EndianChannelWriter(WritableByteChannel channel) {
+        this(channel, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Constructs an {@code EndianChannelWriter} with a buffer of
+     * {@link #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param channel the channel to write to.
+     * @param order   the byte order of the values.
+     */
+    public EndianChannelWriter(WritableByteChannel channel, ByteOrder order) {
+        this(channel, order, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs an {@code EndianChannelWriter}.
+     *
+     * @param channel    the channel to write to.
+     * @param order      the byte order of the values.
+     * @param bufferSize the minimum size of the buffer, in bytes.
+     * @exception IllegalArgumentException if the buffer cannot hold a
+     *                                     {@code long}.
+     */
+    public EndianChannelWriter(@NonNull WritableByteChannel channel, @NonNull ByteOrder order, int bufferSize) {
+        if (Bits.NUM_OCTETS_IN_LONG > bufferSize) {
+            String message = getBadBufferSizeErrorMessage(bufferSize);
+            throw new IllegalArgumentException(message);
+        }
+        _channel = channel;
+        _pool = BufferPool.getDefault();
+        _buffer = BufferPool.acquireDirect(_pool, bufferSize);
+        _buffer.order(order);
+    }
+
+
+//---------------------------
+// Accessors and mutators
+//---------------------------
+
+    /**
+     * Gets the channel to write to.
+     *
+     * @return the channel.
+     */
+    public WritableByteChannel getChannel() {
+        return _channel;
+    }
+
+    /**
+     * Gets the byte order of the values.
+     *
+     * @return the byte order.
+     * @exception IOException if the writer is closed.
+     */
+    public ByteOrder getOrder() throws IOException {
+        ByteOrder order = buffer().order();
+        return order;
+    }
+
+    /**
+     * Changes the byte order of the values written from now on.
+     *
+     * @param order the byte order.
+     * @exception IOException if the writer is closed.
+     */
+    public void setOrder(@NonNull ByteOrder order) throws IOException {
+        buffer().order(order);
+    }
+
+    /**
+     * Determines if the channel can tell its position and seek.
+     *
+     * @return {@code true} if the channel is seekable, {@code false} otherwise.
+     */
+    public boolean isSeekable() {
+        boolean seekable = (_channel instanceof SeekableByteChannel);
+        return seekable;
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Gets the position in the channel of the next byte to write.
+     *
+     * @return the position.
+     * @exception UnsupportedOperationException if the channel is not seekable.
+     * @exception IOException if the writer is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    public long position() throws IOException {
+        var buffer = buffer();
+        long position = seekable().position() + buffer.position();
+        return position;
+    }
+
+    /**
+     * Writes out the buffer and moves to a position in the channel.
+     *
+     * @param position the new position.
+     * @exception UnsupportedOperationException if the channel is not seekable.
+     * @exception IllegalArgumentException if the position is negative.
+     * @exception IOException if the writer is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    public void seek(long position) throws IOException {
+        var channel = seekable();
+        flushBuffer();
+        channel.position(position);
+    }
+
+    /**
+     * Writes out the buffer.
+     *
+     * @exception IOException if the writer is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+    }
+
+    /**
+     * Writes out the buffer, closes the channel and gives the buffer back to
+     * its pool.
+     *
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void close() throws IOException {
+        if (null == _buffer) {
+            return;
+        }
+        try {
+            flushBuffer();
+        }
+        finally {
+            try {
+                _channel.close();
+            }
+            finally {
+                BufferPool.releaseDirect(_pool, _buffer);
+                _buffer = null;
+            }
+        }
+    }
+
+    /**
+     * Gets the buffer.
+     *
+     * @return the buffer.
+     * @exception ClosedChannelException if the writer is closed.
+     */
+    protected ByteBuffer buffer() throws ClosedChannelException {
+        if (null == _buffer) {
+            throw new ClosedChannelException();
+        }
+        return _buffer;
+    }
+
+    /**
+     * Gets the channel as a seekable channel.
+     *
+     * @return the channel.
+     * @exception UnsupportedOperationException if the channel is not seekable.
+     */
+    protected SeekableByteChannel seekable() {
+        if (false == isSeekable()) {
+            String message = getNotSeekableErrorMessage();
+            throw new UnsupportedOperationException(message);
+        }
+        return (SeekableByteChannel) _channel;
+    }
+
+    /**
+     * Writes out the bytes of the buffer to the channel.
+     *
+     * @exception IOException if the writer is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    protected void flushBuffer() throws IOException {
+        var buffer = buffer();
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                _channel.write(buffer);
+            }
+        }
+        finally {
+            buffer.compact();
+        }
+    }
+
+    /**
+     * Makes sure the buffer has room for at least {@code numBytes} bytes,
+     * writing it out if needed.
+     *
+     * @param numBytes the number of bytes, at most the size of the buffer.
+     * @return the buffer.
+     * @exception IOException if the writer is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    protected ByteBuffer ensure(int numBytes) throws IOException {
+        var buffer = buffer();
+        if (buffer.remaining() < numBytes) {
+            flushBuffer();
+        }
+        return buffer;
+    }
+
+    /**
+     * Writes {@code short}s from an array, as if by as many calls to
+     * {@link #writeShort(int)}.
+     *
+     * @param src the source array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(short[], int, int)
+     */
+    public void writeShorts(short[] src, int off, int len) throws IOException {
+        Arrays.checkArray(src, off, len);
+        for (int done = 0; done < len; ) {
+            var buffer = ensure(Bits.NUM_OCTETS_IN_SHORT);
+            int count = Math.min(len - done, buffer.remaining() / Bits.NUM_OCTETS_IN_SHORT);
+            buffer.asShortBuffer().put(src, off + done, count);
+            buffer.position(buffer.position() + count * Bits.NUM_OCTETS_IN_SHORT);
+            done += count;
+        }
+    }
+
+    /**
+     * Writes {@code int}s from an array, as if by as many calls to
+     * {@link #writeInt(int)}.
+     *
+     * @param src the source array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(int[], int, int)
+     */
+    public void writeInts(int[] src, int off, int len) throws IOException {
+        Arrays.checkArray(src, off, len);
+        for (int done = 0; done < len; ) {
+            var buffer = ensure(Bits.NUM_OCTETS_IN_INT);
+            int count = Math.min(len - done, buffer.remaining() / Bits.NUM_OCTETS_IN_INT);
+            buffer.asIntBuffer().put(src, off + done, count);
+            buffer.position(buffer.position() + count * Bits.NUM_OCTETS_IN_INT);
+            done += count;
+        }
+    }
+
+    /**
+     * Writes {@code long}s from an array, as if by as many calls to
+     * {@link #writeLong(long)}.
+     *
+     * @param src the source array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public void writeLongs(long[] src, int off, int len) throws IOException {
+        Arrays.checkArray(src, off, len);
+        for (int done = 0; done < len; ) {
+            var buffer = ensure(Bits.NUM_OCTETS_IN_LONG);
+            int count = Math.min(len - done, buffer.remaining() / Bits.NUM_OCTETS_IN_LONG);
+            buffer.asLongBuffer().put(src, off + done, count);
+            buffer.position(buffer.position() + count * Bits.NUM_OCTETS_IN_LONG);
+            done += count;
+        }
+    }
+
+    /**
+     * Writes {@code float}s from an array, as if by as many calls to
+     * {@link #writeFloat(float)}.
+     *
+     * @param src the source array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(float[], int, int)
+     */
+    public void writeFloats(float[] src, int off, int len) throws IOException {
+        Arrays.checkArray(src, off, len);
+        for (int done = 0; done < len; ) {
+            var buffer = ensure(Bits.NUM_OCTETS_IN_FLOAT);
+            int count = Math.min(len - done, buffer.remaining() / Bits.NUM_OCTETS_IN_FLOAT);
+            buffer.asFloatBuffer().put(src, off + done, count);
+            buffer.position(buffer.position() + count * Bits.NUM_OCTETS_IN_FLOAT);
+            done += count;
+        }
+    }
+
+    /**
+     * Writes {@code double}s from an array, as if by as many calls to
+     * {@link #writeDouble(double)}.
+     *
+     * @param src the source array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public void writeDoubles(double[] src, int off, int len) throws IOException {
+        Arrays.checkArray(src, off, len);
+        for (int done = 0; done < len; ) {
+            var buffer = ensure(Bits.NUM_OCTETS_IN_DOUBLE);
+            int count = Math.min(len - done, buffer.remaining() / Bits.NUM_OCTETS_IN_DOUBLE);
+            buffer.asDoubleBuffer().put(src, off + done, count);
+            buffer.position(buffer.position() + count * Bits.NUM_OCTETS_IN_DOUBLE);
+            done += count;
+        }
+    }
+
+    /**
+     * Gets the formatted error message telling that the buffer is too small.
+     *
+     * @param bufferSize the buffer size.
+     * @return the formatted error message.
+     */
+    protected String getBadBufferSizeErrorMessage(int bufferSize) {
+        var key = Resources.CHANNEL_BAD_BUFFER_SIZE;
+        var message = Resources.getLocalizedString(key, bufferSize, Bits.NUM_OCTETS_IN_LONG);
+        return message;
+    }
+
+    /**
+     * Gets the error message telling that the channel is not seekable.
+     *
+     * @return the error message.
+     */
+    protected String getNotSeekableErrorMessage() {
+        var key = Resources.CHANNEL_NOT_SEEKABLE;
+        var message = Resources.getLocalizedString(key);
+        return message;
+    }
+
+
+//---------------------------
+// Implemented methods from java.io.DataOutput
+//---------------------------
+
+    /**
+     * Writes a byte.
+     *
+     * @param b the byte, only its eight lowest bits are written.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void write(int b) throws IOException {
+        ensure(Bits.NUM_OCTETS_IN_BYTE).put((byte) b);
+    }
+
+    /**
+     * Writes all the bytes of an array.
+     *
+     * @param b the source array.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void write(byte[] b) throws IOException {
+        write(b, 0, b.length);
+    }
+
+    /**
+     * Writes bytes. Requests for at least the buffer size bypass the buffer.
+     *
+     * @param b   the source array.
+     * @param off the offset in the array.
+     * @param len the number of bytes to write.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        var buffer = buffer();
+        if (len >= buffer.capacity()) {
+            flushBuffer();
+            var wrapped = ByteBuffer.wrap(b, off, len);
+            while (wrapped.hasRemaining()) {
+                _channel.write(wrapped);
+            }
+        }
+        else {
+            ensure(len).put(b, off, len);
+        }
+    }
+
+    /**
+     * Writes a {@code boolean}.
+     *
+     * @param z the {@code boolean} value to be written.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void writeBoolean(boolean z) throws IOException {
+        write(z ? 1 : 0);
+    }
+
+    /**
+     * Writes a {@code byte}.
+     *
+     * @param b the {@code byte} value to be written.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void writeByte(int b) throws IOException {
+        write(b);
+    }
+
+    /**
+     * Writes a {@code short}.
+     *
+     * @param s the {@code short} value to be written.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void writeShort(int s) throws IOException {
+        ensure(Bits.NUM_OCTETS_IN_SHORT).putShort((short) s);
+    }
+
+    /**
+     * Writes a {@code char}.
+     *
+     * @param c the {@code char} value to be written.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void writeChar(int c) throws IOException {
+        ensure(Bits.NUM_OCTETS_IN_CHAR).putChar((char) c);
+    }
+
+    /**
+     * Writes an {@code int}.
+     *
+     * @param i the {@code int} value to be written.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void writeInt(int i) throws IOException {
+        ensure(Bits.NUM_OCTETS_IN_INT).putInt(i);
+    }
+
+    /**
+     * Writes a {@code long}.
+     *
+     * @param l the {@code long} value to be written.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void writeLong(long l) throws IOException {
+        ensure(Bits.NUM_OCTETS_IN_LONG).putLong(l);
+    }
+
+    /**
+     * Writes a {@code float}.
+     *
+     * @param f the {@code float} value to be written.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void writeFloat(float f) throws IOException {
+        ensure(Bits.NUM_OCTETS_IN_FLOAT).putFloat(f);
+    }
+
+    /**
+     * Writes a {@code double}.
+     *
+     * @param d the {@code double} value to be written.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void writeDouble(double d) throws IOException {
+        ensure(Bits.NUM_OCTETS_IN_DOUBLE).putDouble(d);
+    }
+
+    /**
+     * Writes out the string as a sequence of {@code byte}s, the eight lowest
+     * bits of each character.
+     *
+     * @param s the string to write.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void writeBytes(String s) throws IOException {
+        for (int i = 0, len = s.length(); i < len; i++) {
+            char c = s.charAt(i);
+            write(c);
+        }
+    }
+
+    /**
+     * Writes out the string as a sequence of {@code char}s.
+     *
+     * @param s the string to write.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void writeChars(String s) throws IOException {
+        for (int i = 0, len = s.length(); i < len; i++) {
+            char c = s.charAt(i);
+            writeChar(c);
+        }
+    }
+
+    /**
+     * Writes a string using a modified UTF-8 format, as
+     * {@link java.io.DataOutputStream#writeUTF(String)} does. For this method,
+     * the concept of endian-ness does not exist.
+     *
+     * @param s the string to write.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void writeUTF(String s) throws IOException {
+        var baos = new ByteArrayOutputStream(s.length() + Bits.NUM_OCTETS_IN_SHORT);
+        asDataOutputStream(baos).writeUTF(s);
+        byte[] utf = baos.toByteArray();
+        write(utf, 0, utf.length);
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Checksum;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * Class {@code HashingInputStream} updates a hash, or any other
+ * {@link Checksum}, with the bytes read from its underlying stream, so that a
+ * file can be fingerprinted while it is being read or copied. Skipped bytes are
+ * read and hashed too. It does not support marking nor resetting.
+ *
+ * @see ca.forklabs.baselib2.util.XxHash64
+ * @see ca.forklabs.baselib2.util.Murmur3Hash128
+ * @see ca.forklabs.baselib2.io.HashingOutputStream
+ */
+@Getter
+@Accessors(prefix = {"_"})
+public class HashingInputStream extends FilterInputStream {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The size of the buffer used to skip bytes. */
+    private static final int SKIP_BUFFER_SIZE = 4096;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The hash updated with the bytes read. */
+    private final Checksum _checksum;
+
+    /** The buffer to read the skipped bytes, created on demand without a pool. */
+    @Getter(AccessLevel.NONE)
+    private byte[] _skipBuffer;
+
+
+//---------------------------
+// Constructor
+//---------------------------
+
+    /**
+     * Constructs a {@code HashingInputStream} build on top of the underlying
+     * {@link InputStream}.
+     *
+     * @param in       the input stream to read from.
+     * @param checksum the hash to update.
+     */
+    public HashingInputStream(@NonNull InputStream in, @NonNull Checksum checksum) {
+        super(in);
+        _checksum = checksum;
+    }
+
+
+//---------------------------
+// Overridden methods from java.io.FilterInputStream
+//---------------------------
+
+    /**
+     * Reads a byte and updates the hash with it.
+     *
+     * @return the byte read or {@code -1} at the end of the stream.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public int read() throws IOException {
+        int b = this.in.read();
+        if (-1 != b) {
+            _checksum.update(b);
+        }
+        return b;
+    }
+
+    /**
+     * Reads some bytes and updates the hash with them.
+     *
+     * @param b   the destination array.
+     * @param off the offset in the array.
+     * @param len the maximum number of bytes to read.
+     * @return the number of bytes read or {@code -1} at the end of the stream.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = this.in.read(b, off, len);
+        if (0 < read) {
+            _checksum.update(b, off, read);
+        }
+        return read;
+    }
+
+    /**
+     * Reads and hashes {@code n} bytes, so that the hash covers the whole
+     * stream. The buffer comes from the {@link BufferPool#getDefault() default
+     * pool} when one is configured.
+     *
+     * @param n the number of bytes to skip.
+     * @return the number of bytes skipped.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        var pool = BufferPool.getDefault();
+        byte[] buffer;
+        if (null != pool) {
+            buffer = pool.acquire(SKIP_BUFFER_SIZE);
+        }
+        else {
+            if (null == _skipBuffer) {
+                _skipBuffer = new byte[SKIP_BUFFER_SIZE];
+            }
+            buffer = _skipBuffer;
+        }
+
+        long skipped = 0L;
+        try {
+            while (skipped < n) {
+                int len = (int) Math.min(SKIP_BUFFER_SIZE, n - skipped);
+                int read = read(buffer, 0, len);
+                if (-1 == read) {
+                    break;
+                }
+                skipped += read;
+            }
+        }
+        finally {
+            BufferPool.release(pool, buffer);
+        }
+        return skipped;
+    }
+
+    /**
+     * Tells that marking is not supported.
+     *
+     * @return always {@code false}.
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Does nothing, marking is not supported.
+     *
+     * @param readlimit ignored.
+     */
+    @Override
+    public void mark(int readlimit) {
+        // nothing
+    }
+
+    /**
+     * Always fails, resetting is not supported.
+     *
+     * @exception IOException always.
+     */
+    @Override
+    public void reset() throws IOException {
+        String message = getNoMarkErrorMessage();
+        throw new IOException(message);
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Gets the formatted error message telling that marking and resetting are
+     * not supported.
+     *
+     * @return the formatted error message.
+     */
+    protected String getNoMarkErrorMessage() {
+        var key = Resources.INPUT_STREAM_NO_MARK;
+        var message = Resources.getLocalizedString(key);
+        return message;
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Checksum;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * Class {@code HashingOutputStream} updates a hash, or any other
+ * {@link Checksum}, with the bytes written to its underlying stream, so that a
+ * file can be fingerprinted while it is being written or copied.
+ *
+ * @see ca.forklabs.baselib2.util.XxHash64
+ * @see ca.forklabs.baselib2.util.Murmur3Hash128
+ * @see ca.forklabs.baselib2.io.HashingInputStream
+ */
+@Getter
+@Accessors(prefix = {"_"})
+public class HashingOutputStream extends FilterOutputStream {
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The hash updated with the bytes written. */
+    private final Checksum _checksum;
+
+
+//---------------------------
+// Constructor
+//---------------------------
+
+    /**
+     * Constructs a {@code HashingOutputStream} build on top of the underlying
+     * {@link OutputStream}.
+     *
+     * @param out      the output stream to write to.
+     * @param checksum the hash to update.
+     */
+    public HashingOutputStream(@NonNull OutputStream out, @NonNull Checksum checksum) {
+        super(out);
+        _checksum = checksum;
+    }
+
+
+//---------------------------
+// Overridden methods from java.io.FilterOutputStream
+//---------------------------
+
+    /**
+     * Writes a byte and updates the hash with it.
+     *
+     * @param b the byte, only the lowest 8 bits are used.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void write(int b) throws IOException {
+        this.out.write(b);
+        _checksum.update(b);
+    }
+
+    /**
+     * Writes the bytes in one call to the underlying stream and updates the
+     * hash with them.
+     *
+     * @param b   the array.
+     * @param off the offset in the array.
+     * @param len the number of bytes.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        this.out.write(b, off, len);
+        _checksum.update(b, off, len);
+    }
+
+}
@@ -20,12 +20,17 @@ package ca.forklabs.baselib2.io;
 
 import static ca.forklabs.baselib2.io.Streams.asDataInputStream;
 
+import java.io.ByteArrayInputStream;
 import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.EOFException;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Objects;
 
 import ca.forklabs.baselib2.util.Arrays;
 import ca.forklabs.baselib2.util.Bits;
@@ -37,18 +42,92 @@ import lombok.NonNull;
  * adaptation from the class in: <blockquote> Elliote Rusty Harold,
  * <i><a target="_blank" href="http://www.oreilly.com/catalog/javaio/">Java
  * I/O</a></i> (p.31), O'Reilly, March 1999, ISBN 1-56592-485-1. </blockquote>
+ * <p>
+ * By default the stream reads from the underlying stream exactly the bytes of
+ * each value, so that the underlying stream can still be used afterwards. When
+ * given a buffer size, the stream reads ahead into its own buffer and decodes
+ * the values straight from it, which turns each primitive read into a bounds
+ * check and a load; the underlying stream must then only be read through this
+ * one, and marking is not supported. The buffer comes from the
+ * {@link BufferPool#getDefault() default pool} when one is configured. The
+ * bulk reads, such as {@link #readInts(int[], int, int)}, decode whole arrays
+ * in both modes.
  *
  * @see ca.forklabs.baselib2.io.LittleEndianOutputStream
  */
 public class LittleEndianInputStream extends FilterInputStream implements DataInput {
 
 //---------------------------
-// Instance variable
+// Inner interface
 //---------------------------
 
-    /** Buffer for the make methods of class {@link Bits}. */
+    /**
+     * Interface {@code Decoder} decodes values from bytes into an array.
+     */
+    @FunctionalInterface
+    protected interface Decoder {
+
+        /**
+         * Decodes values.
+         *
+         * @param bytes the bytes.
+         * @param pos   the position of the first value in the bytes.
+         * @param done  the number of values already decoded.
+         * @param count the number of values to decode.
+         */
+        void decode(byte[] bytes, int pos, int done, int count);
+
+    }
+
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The default size of the buffer, in bytes. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /** The size of the scratch array of the bulk reads of the unbuffered streams. */
+    protected static final int BULK_SCRATCH_SIZE = 64 * 1024;
+
+    /** The little-endian view of the buffer as {@code short}s. */
+    private static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /** The little-endian view of the buffer as {@code char}s. */
+    private static final VarHandle CHAR_LE = MethodHandles.byteArrayViewVarHandle(char[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /** The little-endian view of the buffer as {@code int}s. */
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /** The little-endian view of the buffer as {@code long}s. */
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** Buffer for the typed accessors of class {@link Bits}. */
     private final byte[] _bytes = new byte[Bits.NUM_OCTETS_IN_LONG];
 
+    /** Whether the stream reads ahead into its own buffer. */
+    private final boolean _buffered;
+
+    /** The pool of the buffer, {@code null} if it is allocated. */
+    private final BufferPool _pool;
+
+    /** The read-ahead buffer, {@code null} if unbuffered or once closed. */
+    private byte[] _buffer;
+
+    /** The position of the next byte to read in the buffer. */
+    private int _position = 0;
+
+    /** The number of bytes in the buffer. */
+    private int _limit = 0;
+
+    /** The cache of the strings read by {@link #readString()}, {@code null} if none. */
+    private StringCache _stringCache = null;
+
 
 //---------------------------
 // Constructor
@@ -62,7 +141,29 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
      */
     public LittleEndianInputStream(@NonNull InputStream in) {
         super(asDataInputStream(in));
-        clearBytes();
+        _buffered = false;
+        _pool = null;
+        _buffer = null;
+    }
+
+    /**
+     * Constructs a buffered {@code LittleEndianInputStream} build on top of the
+     * underlying {@link InputStream}.
+     *
+     * @param in         the input stream to read from.
+     * @param bufferSize the minimum size of the buffer, in bytes.
+     * @exception IllegalArgumentException if the buffer cannot hold a
+     *                                     {@code long}.
+     */
+    public LittleEndianInputStream(@NonNull InputStream in, int bufferSize) {
+        super(asDataInputStream(in));
+        if (Bits.NUM_OCTETS_IN_LONG > bufferSize) {
+            String message = getBadBufferSizeErrorMessage(bufferSize);
+            throw new IllegalArgumentException(message);
+        }
+        _buffered = true;
+        _pool = BufferPool.getDefault();
+        _buffer = BufferPool.acquire(_pool, bufferSize);
     }
 
 
@@ -79,6 +180,190 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
         return (DataInputStream) this.in;
     }
 
+    /**
+     * Determines if the stream reads ahead into its own buffer.
+     *
+     * @return {@code true} if the stream is buffered, {@code false} otherwise.
+     */
+    public boolean isBuffered() {
+        return _buffered;
+    }
+
+    /**
+     * Gets the cache of the strings read by {@link #readString()}.
+     *
+     * @return the cache, {@code null} if none.
+     */
+    public StringCache getStringCache() {
+        return _stringCache;
+    }
+
+    /**
+     * Changes the cache of the strings read by {@link #readString()}. The
+     * same cache can be shared by many streams.
+     *
+     * @param stringCache the cache, {@code null} for none.
+     */
+    public void setStringCache(StringCache stringCache) {
+        _stringCache = stringCache;
+    }
+
+
+//---------------------------
+// Overridden methods from java.io.FilterInputStream
+//---------------------------
+
+    /**
+     * Reads a byte.
+     *
+     * @return the byte read or {@code -1} at the end of the stream.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public int read() throws IOException {
+        if (false == _buffered) {
+            return super.read();
+        }
+        int b = -1;
+        if (0 < fill()) {
+            b = _buffer[_position++] & 0xff;
+        }
+        return b;
+    }
+
+    /**
+     * Reads bytes, at most up to the end of the buffer when buffered. Requests
+     * for more than the buffer size bypass an empty buffer.
+     *
+     * @param b   the destination array.
+     * @param off the offset in the array.
+     * @param len the maximum number of bytes to read.
+     * @return the number of bytes read or {@code -1} at the end of the stream.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (false == _buffered) {
+            return super.read(b, off, len);
+        }
+        Objects.checkFromIndexSize(off, len, b.length);
+        var buffer = buffer();
+        if (0 == len) {
+            return 0;
+        }
+        if ((_position == _limit) && (len >= buffer.length)) {
+            return this.in.read(b, off, len);
+        }
+
+        int read = -1;
+        if (0 < fill()) {
+            read = Math.min(len, _limit - _position);
+            System.arraycopy(buffer, _position, b, off, read);
+            _position += read;
+        }
+        return read;
+    }
+
+    /**
+     * Skips bytes, first the buffered ones.
+     *
+     * @param n the number of bytes to skip.
+     * @return the number of bytes skipped.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        if (false == _buffered) {
+            return super.skip(n);
+        }
+        buffer();
+        long skipped = 0L;
+        if (0L < n) {
+            skipped = Math.min(n, _limit - _position);
+            _position += (int) skipped;
+            if (skipped < n) {
+                skipped += this.in.skip(n - skipped);
+            }
+        }
+        return skipped;
+    }
+
+    /**
+     * Gets the number of bytes that can be read without blocking.
+     *
+     * @return the number of bytes in the buffer plus the ones available from
+     *         the underlying stream.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public int available() throws IOException {
+        if (false == _buffered) {
+            return super.available();
+        }
+        buffer();
+        long available = (long) (_limit - _position) + this.in.available();
+        return (int) Math.min(available, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Tells if marking is supported, never when buffered.
+     *
+     * @return {@code false} if buffered, what the underlying stream says
+     *         otherwise.
+     */
+    @Override
+    public boolean markSupported() {
+        boolean supported = (false == _buffered) && super.markSupported();
+        return supported;
+    }
+
+    /**
+     * Marks the position, does nothing when buffered.
+     *
+     * @param readlimit the number of bytes that can be read before the mark is
+     *                  lost.
+     */
+    @Override
+    public synchronized void mark(int readlimit) {
+        if (false == _buffered) {
+            super.mark(readlimit);
+        }
+    }
+
+    /**
+     * Goes back to the mark, always fails when buffered.
+     *
+     * @exception IOException if buffered or if anything goes wrong with I/O.
+     */
+    @Override
+    public synchronized void reset() throws IOException {
+        if (_buffered) {
+            String message = getNoMarkErrorMessage();
+            throw new IOException(message);
+        }
+        super.reset();
+    }
+
+    /**
+     * Closes the underlying stream and gives the buffer back to its pool.
+     *
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        }
+        finally {
+            if (null != _buffer) {
+                BufferPool.release(_pool, _buffer);
+                _buffer = null;
+                _position = 0;
+                _limit = 0;
+            }
+        }
+    }
+
 
 //---------------------------
 // Instance methods
@@ -86,17 +371,110 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
 
     /**
      * Fills the internal buffer {@link #_bytes} with <em>numBytes</em>
-     * starting at index 0.
+     * starting at index 0, reading as many times as needed.
      *
      * @param  numBytes  the number of bytes to read
-     * @exception  EOFException  if we did not read <em>numBytes</em> bytes.
+     * @exception  EOFException  if the stream ends before <em>numBytes</em>
+     *                           bytes.
      * @exception  IOException  if anything goes wrong with I/O.
      */
     protected void fillBytes(int numBytes) throws IOException {
-        int bytesRead = read(_bytes, 0, numBytes);
-        if (bytesRead != numBytes) {
-            String message = "Expected to read " + numBytes + " but read " + bytesRead + " bytes!";
-            throw new EOFException(message);
+        in().readFully(_bytes, 0, numBytes);
+    }
+
+    /**
+     * Gets the read-ahead buffer.
+     *
+     * @return the buffer.
+     * @exception IOException if the stream is closed.
+     */
+    protected byte[] buffer() throws IOException {
+        if (null == _buffer) {
+            String message = getClosedErrorMessage();
+            throw new IOException(message);
+        }
+        return _buffer;
+    }
+
+    /**
+     * Reads into the buffer if it is empty.
+     *
+     * @return the number of bytes in the buffer, {@code 0} at the end of the
+     *         stream.
+     * @exception IOException if the stream is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    protected int fill() throws IOException {
+        var buffer = buffer();
+        if (_position == _limit) {
+            _position = 0;
+            _limit = Math.max(0, this.in.read(buffer, 0, buffer.length));
+        }
+        int available = _limit - _position;
+        return available;
+    }
+
+    /**
+     * Makes sure the buffer holds at least {@code numBytes} bytes, moving the
+     * remaining ones to its start and reading as many times as needed.
+     *
+     * @param numBytes the number of bytes, at most the size of the buffer.
+     * @exception EOFException if the stream ends before.
+     * @exception IOException if the stream is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    protected void ensure(int numBytes) throws IOException {
+        if (_limit - _position < numBytes) {
+            var buffer = buffer();
+            int remaining = _limit - _position;
+            System.arraycopy(buffer, _position, buffer, 0, remaining);
+            _position = 0;
+            _limit = remaining;
+            while (_limit < numBytes) {
+                int read = this.in.read(buffer, _limit, buffer.length - _limit);
+                if (-1 == read) {
+                    throw new EOFException();
+                }
+                _limit += read;
+            }
+        }
+    }
+
+    /**
+     * Reads values in bulk, straight from the buffer when buffered, through a
+     * pooled scratch array otherwise.
+     *
+     * @param width   the number of bytes of each value.
+     * @param len     the number of values.
+     * @param decoder the decoder of the values.
+     * @exception EOFException if the stream ends before all the values.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    protected void readBulk(int width, int len, Decoder decoder) throws IOException {
+        if (_buffered) {
+            for (int done = 0; done < len; ) {
+                ensure(width);
+                int count = Math.min(len - done, (_limit - _position) / width);
+                decoder.decode(_buffer, _position, done, count);
+                _position += count * width;
+                done += count;
+            }
+        }
+        else if (0 < len) {
+            var pool = BufferPool.getDefault();
+            var scratch = BufferPool.acquire(pool, (int) Math.min((long) len * width, BULK_SCRATCH_SIZE));
+            try {
+                int capacity = scratch.length / width;
+                for (int done = 0; done < len; ) {
+                    int count = Math.min(len - done, capacity);
+                    in().readFully(scratch, 0, count * width);
+                    decoder.decode(scratch, 0, done, count);
+                    done += count;
+                }
+            }
+            finally {
+                BufferPool.release(pool, scratch);
+            }
         }
     }
 
@@ -107,6 +485,68 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
         Arrays.memset(_bytes, (byte) 0);
     }
 
+    /**
+     * Gets the formatted error message telling that a variable-length integer
+     * is too long.
+     *
+     * @param maxSize the maximum number of bytes.
+     * @return the formatted error message.
+     */
+    protected String getMalformedVarIntErrorMessage(int maxSize) {
+        var key = Resources.INPUT_STREAM_MALFORMED_VARINT;
+        var message = Resources.getLocalizedString(key, maxSize);
+        return message;
+    }
+
+    /**
+     * Gets the formatted error message telling that the length of a string is
+     * negative.
+     *
+     * @param len the length.
+     * @return the formatted error message.
+     */
+    protected String getNegativeStringLengthErrorMessage(int len) {
+        var key = Resources.INPUT_STREAM_NEGATIVE_STRING_LENGTH;
+        var message = Resources.getLocalizedString(key, len);
+        return message;
+    }
+
+    /**
+     * Gets the formatted error message telling that the buffer cannot hold a
+     * {@code long}.
+     *
+     * @param bufferSize the bad buffer size.
+     * @return the formatted error message.
+     */
+    protected String getBadBufferSizeErrorMessage(int bufferSize) {
+        var key = Resources.INPUT_STREAM_BAD_BUFFER_SIZE;
+        var message = Resources.getLocalizedString(key, bufferSize, Bits.NUM_OCTETS_IN_LONG);
+        return message;
+    }
+
+    /**
+     * Gets the error message telling that marking and resetting are not
+     * supported.
+     *
+     * @return the error message.
+     */
+    protected String getNoMarkErrorMessage() {
+        var key = Resources.INPUT_STREAM_NO_MARK;
+        var message = Resources.getLocalizedString(key);
+        return message;
+    }
+
+    /**
+     * Gets the error message telling that the stream is closed.
+     *
+     * @return the error message.
+     */
+    protected String getClosedErrorMessage() {
+        var key = Resources.INPUT_STREAM_IS_CLOSED;
+        var message = Resources.getLocalizedString(key);
+        return message;
+    }
+
 
 //---------------------------
 // Implemented methods from java.io.DataInput
@@ -120,7 +560,7 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
      */
     @Override
     public boolean readBoolean() throws IOException {
-        boolean z = in().readBoolean();
+        boolean z = (0 != readByte());
         return z;
     }
 
@@ -132,7 +572,11 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
      */
     @Override
     public byte readByte() throws IOException {
-        byte b = in().readByte();
+        if (false == _buffered) {
+            return in().readByte();
+        }
+        ensure(Bits.NUM_OCTETS_IN_BYTE);
+        byte b = _buffer[_position++];
         return b;
     }
 
@@ -157,14 +601,17 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
      */
     @Override
     public char readChar() throws IOException {
-        try {
-            fillBytes(Bits.NUM_OCTETS_IN_CHAR);
-            char c = Bits.makeChar(_bytes[1], _bytes[0]);
-            return c;
+        char c;
+        if (_buffered) {
+            ensure(Bits.NUM_OCTETS_IN_CHAR);
+            c = (char) CHAR_LE.get(_buffer, _position);
+            _position += Bits.NUM_OCTETS_IN_CHAR;
         }
-        finally {
-            clearBytes();
+        else {
+            fillBytes(Bits.NUM_OCTETS_IN_CHAR);
+            c = Bits.getChar(_bytes, 0, ByteOrder.LITTLE_ENDIAN);
         }
+        return c;
     }
 
     /**
@@ -175,14 +622,17 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
      */
     @Override
     public short readShort() throws IOException {
-        try {
-            fillBytes(Bits.NUM_OCTETS_IN_SHORT);
-            short s = Bits.makeShort(_bytes[1], _bytes[0]);
-            return s;
+        short s;
+        if (_buffered) {
+            ensure(Bits.NUM_OCTETS_IN_SHORT);
+            s = (short) SHORT_LE.get(_buffer, _position);
+            _position += Bits.NUM_OCTETS_IN_SHORT;
         }
-        finally {
-            clearBytes();
+        else {
+            fillBytes(Bits.NUM_OCTETS_IN_SHORT);
+            s = Bits.getShort(_bytes, 0, ByteOrder.LITTLE_ENDIAN);
         }
+        return s;
     }
 
     /**
@@ -206,14 +656,17 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
      */
     @Override
     public int readInt() throws IOException {
-        try {
-            fillBytes(Bits.NUM_OCTETS_IN_INT);
-            int i = Bits.makeInt(_bytes[3], _bytes[2], _bytes[1], _bytes[0]);
-            return i;
+        int i;
+        if (_buffered) {
+            ensure(Bits.NUM_OCTETS_IN_INT);
+            i = (int) INT_LE.get(_buffer, _position);
+            _position += Bits.NUM_OCTETS_IN_INT;
         }
-        finally {
-            clearBytes();
+        else {
+            fillBytes(Bits.NUM_OCTETS_IN_INT);
+            i = Bits.getInt(_bytes, 0, ByteOrder.LITTLE_ENDIAN);
         }
+        return i;
     }
 
     /**
@@ -224,14 +677,17 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
      */
     @Override
     public long readLong() throws IOException {
-        try {
-            fillBytes(Bits.NUM_OCTETS_IN_LONG);
-            long l = Bits.makeLong(_bytes[7], _bytes[6], _bytes[5], _bytes[4], _bytes[3], _bytes[2], _bytes[1], _bytes[0]);
-            return l;
+        long l;
+        if (_buffered) {
+            ensure(Bits.NUM_OCTETS_IN_LONG);
+            l = (long) LONG_LE.get(_buffer, _position);
+            _position += Bits.NUM_OCTETS_IN_LONG;
         }
-        finally {
-            clearBytes();
+        else {
+            fillBytes(Bits.NUM_OCTETS_IN_LONG);
+            l = Bits.getLong(_bytes, 0, ByteOrder.LITTLE_ENDIAN);
         }
+        return l;
     }
 
     /**
@@ -260,6 +716,301 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
         return d;
     }
 
+    /**
+     * Reads an IEEE 754 binary16 (half-precision) value.
+     *
+     * @return the value read, as a {@code float}.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Bits#float16ToFloat(short)
+     */
+    public float readFloat16() throws IOException {
+        short h = readShort();
+        float f = Bits.float16ToFloat(h);
+        return f;
+    }
+
+    /**
+     * Reads a bfloat16 value.
+     *
+     * @return the value read, as a {@code float}.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Bits#bfloat16ToFloat(short)
+     */
+    public float readBFloat16() throws IOException {
+        short b = readShort();
+        float f = Bits.bfloat16ToFloat(b);
+        return f;
+    }
+
+    /**
+     * Reads an unsigned {@code int} written as a variable-length integer of one
+     * to five bytes, lowest seven bits first. When buffered with at least eight
+     * bytes left in the buffer, the integer is decoded from a single
+     * {@code long} load.
+     *
+     * @return the {@code int} read.
+     * @exception IOException if the integer is longer than five bytes or if
+     *                        anything goes wrong with I/O.
+     * @see LittleEndianOutputStream#writeVarInt(int)
+     */
+    public int readVarInt() throws IOException {
+        if (_buffered && (Bits.NUM_OCTETS_IN_LONG <= _limit - _position)) {
+            int i;
+            try {
+                i = Bits.getVarInt(_buffer, _position);
+            }
+            catch (IllegalArgumentException e) {
+                String message = getMalformedVarIntErrorMessage(Bits.MAX_NUM_OCTETS_IN_VARINT);
+                throw new IOException(message, e);
+            }
+            _position += Bits.varLength(_buffer, _position);
+            return i;
+        }
+
+        int i = 0;
+        for (int shift = 0; shift < Bits.MAX_NUM_OCTETS_IN_VARINT * 7; shift += 7) {
+            byte b = readByte();
+            i |= (b & 0x7f) << shift;
+            if (0 <= b) {
+                return i;
+            }
+        }
+        String message = getMalformedVarIntErrorMessage(Bits.MAX_NUM_OCTETS_IN_VARINT);
+        throw new IOException(message);
+    }
+
+    /**
+     * Reads a ZigZag encoded variable-length {@code int}.
+     *
+     * @return the {@code int} read.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see LittleEndianOutputStream#writeSignedVarInt(int)
+     */
+    public int readSignedVarInt() throws IOException {
+        int z = readVarInt();
+        int i = Bits.zigZagDecode(z);
+        return i;
+    }
+
+    /**
+     * Reads an unsigned {@code long} written as a variable-length integer of one
+     * to ten bytes, lowest seven bits first. When buffered with the ten bytes
+     * in the buffer, an integer of up to eight bytes is decoded from a single
+     * {@code long} load.
+     *
+     * @return the {@code long} read.
+     * @exception IOException if the integer is longer than ten bytes or if
+     *                        anything goes wrong with I/O.
+     * @see LittleEndianOutputStream#writeVarLong(long)
+     */
+    public long readVarLong() throws IOException {
+        if (_buffered && (Bits.MAX_NUM_OCTETS_IN_VARLONG <= _limit - _position)) {
+            long l;
+            try {
+                l = Bits.getVarLong(_buffer, _position);
+            }
+            catch (IllegalArgumentException e) {
+                String message = getMalformedVarIntErrorMessage(Bits.MAX_NUM_OCTETS_IN_VARLONG);
+                throw new IOException(message, e);
+            }
+            _position += Bits.varLength(_buffer, _position);
+            return l;
+        }
+
+        long l = 0L;
+        for (int shift = 0; shift < Bits.MAX_NUM_OCTETS_IN_VARLONG * 7; shift += 7) {
+            byte b = readByte();
+            l |= (b & 0x7fL) << shift;
+            if (0 <= b) {
+                return l;
+            }
+        }
+        String message = getMalformedVarIntErrorMessage(Bits.MAX_NUM_OCTETS_IN_VARLONG);
+        throw new IOException(message);
+    }
+
+    /**
+     * Reads a ZigZag encoded variable-length {@code long}.
+     *
+     * @return the {@code long} read.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see LittleEndianOutputStream#writeSignedVarLong(long)
+     */
+    public long readSignedVarLong() throws IOException {
+        long z = readVarLong();
+        long l = Bits.zigZagDecode(z);
+        return l;
+    }
+
+    /**
+     * Reads a string of any length written by
+     * {@link LittleEndianOutputStream#writeString(String)}: its number of
+     * bytes as a variable-length integer, then its bytes in UTF-8. When
+     * buffered, the string is decoded straight from the buffer. Strings of
+     * ASCII characters are built from their bytes taken as Latin-1, and
+     * short strings come from the {@link #getStringCache() string cache}, if
+     * any. Large strings are read in chunks into an array that grows as the
+     * bytes arrive, so that a corrupt length runs into the end of the stream
+     * before it allocates much memory.
+     *
+     * @return the string read.
+     * @exception EOFException if the stream ends before the whole string.
+     * @exception IOException if the length is negative or if anything goes
+     *                        wrong with I/O.
+     */
+    public String readString() throws IOException {
+        int len = readVarInt();
+        if (0 > len) {
+            String message = getNegativeStringLengthErrorMessage(len);
+            throw new IOException(message);
+        }
+
+        String string;
+        if (0 == len) {
+            string = "";
+        }
+        else if (_buffered && (len <= _buffer.length)) {
+            ensure(len);
+            string = decode(_buffer, _position, len);
+            _position += len;
+        }
+        else {
+            var pool = BufferPool.getDefault();
+            var scratch = BufferPool.acquire(pool, Math.min(len, BULK_SCRATCH_SIZE));
+            try {
+                var bytes = scratch;
+                int done = 0;
+                while (done < len) {
+                    if (done == bytes.length) {
+                        bytes = java.util.Arrays.copyOf(bytes, (int) Math.min(len, 2L * bytes.length));
+                    }
+                    int count = Math.min(len, bytes.length) - done;
+                    readFully(bytes, done, count);
+                    done += count;
+                }
+                string = decode(bytes, 0, len);
+            }
+            finally {
+                BufferPool.release(pool, scratch);
+            }
+        }
+        return string;
+    }
+
+    /**
+     * Decodes UTF-8 bytes, through the string cache if there is one.
+     *
+     * @param bytes the bytes.
+     * @param off   the offset of the first byte.
+     * @param len   the number of bytes.
+     * @return the string.
+     */
+    protected String decode(byte[] bytes, int off, int len) {
+        var cache = _stringCache;
+        String string = (null == cache) ? StringCache.decode(bytes, off, len) : cache.get(bytes, off, len);
+        return string;
+    }
+
+    /**
+     * Reads {@code short}s into an array, as if by as many calls to
+     * {@link #readShort()}.
+     *
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception EOFException if the stream ends before all the values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(short[], int, int)
+     */
+    public void readShorts(short[] dst, int off, int len) throws IOException {
+        Arrays.checkArray(dst, off, len);
+        readBulk(Bits.NUM_OCTETS_IN_SHORT, len, (bytes, pos, done, count) -> {
+            for (int i = 0; i < count; i++) {
+                dst[off + done + i] = (short) SHORT_LE.get(bytes, pos + i * Bits.NUM_OCTETS_IN_SHORT);
+            }
+        });
+    }
+
+    /**
+     * Reads {@code int}s into an array, as if by as many calls to
+     * {@link #readInt()}.
+     *
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception EOFException if the stream ends before all the values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(int[], int, int)
+     */
+    public void readInts(int[] dst, int off, int len) throws IOException {
+        Arrays.checkArray(dst, off, len);
+        readBulk(Bits.NUM_OCTETS_IN_INT, len, (bytes, pos, done, count) -> {
+            for (int i = 0; i < count; i++) {
+                dst[off + done + i] = (int) INT_LE.get(bytes, pos + i * Bits.NUM_OCTETS_IN_INT);
+            }
+        });
+    }
+
+    /**
+     * Reads {@code long}s into an array, as if by as many calls to
+     * {@link #readLong()}.
+     *
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception EOFException if the stream ends before all the values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public void readLongs(long[] dst, int off, int len) throws IOException {
+        Arrays.checkArray(dst, off, len);
+        readBulk(Bits.NUM_OCTETS_IN_LONG, len, (bytes, pos, done, count) -> {
+            for (int i = 0; i < count; i++) {
+                dst[off + done + i] = (long) LONG_LE.get(bytes, pos + i * Bits.NUM_OCTETS_IN_LONG);
+            }
+        });
+    }
+
+    /**
+     * Reads {@code float}s into an array, as if by as many calls to
+     * {@link #readFloat()}.
+     *
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception EOFException if the stream ends before all the values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(float[], int, int)
+     */
+    public void readFloats(float[] dst, int off, int len) throws IOException {
+        Arrays.checkArray(dst, off, len);
+        readBulk(Bits.NUM_OCTETS_IN_INT, len, (bytes, pos, done, count) -> {
+            for (int i = 0; i < count; i++) {
+                dst[off + done + i] = Float.intBitsToFloat((int) INT_LE.get(bytes, pos + i * Bits.NUM_OCTETS_IN_INT));
+            }
+        });
+    }
+
+    /**
+     * Reads {@code double}s into an array, as if by as many calls to
+     * {@link #readDouble()}.
+     *
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception EOFException if the stream ends before all the values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public void readDoubles(double[] dst, int off, int len) throws IOException {
+        Arrays.checkArray(dst, off, len);
+        readBulk(Bits.NUM_OCTETS_IN_LONG, len, (bytes, pos, done, count) -> {
+            for (int i = 0; i < count; i++) {
+                dst[off + done + i] = Double.longBitsToDouble((long) LONG_LE.get(bytes, pos + i * Bits.NUM_OCTETS_IN_LONG));
+            }
+        });
+    }
+
     /**
      * Reads some bytes from an input stream and stores them into the buffer array.
      * For this method, the concept of endian-ness does not exist.
@@ -271,7 +1022,18 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
      */
     @Override
     public void readFully(byte[] data, int off, int len) throws IOException {
-        in().readFully(data, off, len);
+        if (false == _buffered) {
+            in().readFully(data, off, len);
+            return;
+        }
+        Objects.checkFromIndexSize(off, len, data.length);
+        for (int done = 0; done < len; ) {
+            int read = read(data, off + done, len - done);
+            if (-1 == read) {
+                throw new EOFException();
+            }
+            done += read;
+        }
     }
 
     /**
@@ -299,8 +1061,22 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
     @Override
     @Deprecated
     public String readLine() throws IOException {
-        String line = in().readLine();
-        return line;
+        if (false == _buffered) {
+            return in().readLine();
+        }
+        int c = read();
+        if (-1 == c) {
+            return null;
+        }
+        var line = new StringBuilder();
+        while ((-1 != c) && ('\n' != c) && ('\r' != c)) {
+            line.append((char) c);
+            c = read();
+        }
+        if (('\r' == c) && (0 < fill()) && ('\n' == _buffer[_position])) {
+            _position++;
+        }
+        return line.toString();
     }
 
     /**
@@ -309,10 +1085,22 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
      *
      * @return the string read.
      * @exception IOException if anything goes wrong with I/O.
+     * @see #readString()
      */
     @Override
     public String readUTF() throws IOException {
-        String line = in().readUTF();
+        if (false == _buffered) {
+            return in().readUTF();
+        }
+        // the length is big-endian, as written by DataOutputStream
+        int high = readUnsignedByte();
+        int low = readUnsignedByte();
+        int len = (high << 8) | low;
+        byte[] utf = new byte[Bits.NUM_OCTETS_IN_SHORT + len];
+        utf[0] = (byte) high;
+        utf[1] = (byte) low;
+        readFully(utf, Bits.NUM_OCTETS_IN_SHORT, len);
+        String line = asDataInputStream(new ByteArrayInputStream(utf)).readUTF();
         return line;
     }
 
@@ -326,7 +1114,7 @@ public class LittleEndianInputStream extends FilterInputStream implements DataIn
      */
     @Override
     public int skipBytes(int n) throws IOException {
-        int skipped = in().skipBytes(n);
+        int skipped = _buffered ? (int) skip(n) : in().skipBytes(n);
         return skipped;
     }
 
@@ -19,15 +19,17 @@
 package ca.forklabs.baselib2.io;
 
 import static ca.forklabs.baselib2.io.Streams.asDataOutputStream;
-import static ca.forklabs.baselib2.util.Bits.breakIntLE;
-import static ca.forklabs.baselib2.util.Bits.breakLongLE;
-import static ca.forklabs.baselib2.util.Bits.breakShortLE;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Objects;
 
 import ca.forklabs.baselib2.util.Arrays;
 import ca.forklabs.baselib2.util.Bits;
@@ -39,17 +41,86 @@ import lombok.NonNull;
  * adaptation from the class in: <blockquote> Elliote Rusty Harold,
  * <i><a target="_blank" href="http://www.oreilly.com/catalog/javaio/">Java
  * I/O</a></i> (p.31), O'Reilly, March 1999, ISBN 1-56592-485-1. </blockquote>
+ * <p>
+ * By default the stream hands the bytes of each value to the underlying stream
+ * as soon as it is written. When given a buffer size, the stream encodes the
+ * values straight into its own buffer and writes it out when it is full, on
+ * {@link #flush()} and on {@link #close()}. The buffer comes from the
+ * {@link BufferPool#getDefault() default pool} when one is configured. The
+ * bulk writes, such as {@link #writeInts(int[], int, int)}, encode whole
+ * arrays in both modes.
+ * <p>
+ * The stream is not thread-safe, concurrent writers must synchronize
+ * externally.
  *
  * @see ca.forklabs.baselib2.io.LittleEndianInputStream
  */
 public class LittleEndianOutputStream extends FilterOutputStream implements DataOutput {
 
 //---------------------------
-// Instance variable
+// Inner interface
 //---------------------------
 
-    /** Buffer for the break methods of class {@link Bits}. */
-    private final byte[] _bytes = new byte[Bits.NUM_OCTETS_IN_LONG];
+    /**
+     * Interface {@code Encoder} encodes values from an array into bytes.
+     */
+    @FunctionalInterface
+    protected interface Encoder {
+
+        /**
+         * Encodes values.
+         *
+         * @param bytes the bytes.
+         * @param pos   the position of the first value in the bytes.
+         * @param done  the number of values already encoded.
+         * @param count the number of values to encode.
+         */
+        void encode(byte[] bytes, int pos, int done, int count);
+
+    }
+
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The default size of the buffer, in bytes. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /** The size of the scratch array of the bulk writes of the unbuffered streams. */
+    protected static final int BULK_SCRATCH_SIZE = 64 * 1024;
+
+    /** The little-endian view of the buffer as {@code short}s. */
+    private static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /** The little-endian view of the buffer as {@code int}s. */
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /** The little-endian view of the buffer as {@code long}s. */
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** Buffer for the typed accessors and variable-length integers of class {@link Bits}. */
+    private final byte[] _bytes = new byte[Bits.MAX_NUM_OCTETS_IN_VARLONG];
+
+    /** Whether the stream encodes into its own buffer. */
+    private final boolean _buffered;
+
+    /** The pool of the buffer, {@code null} if it is allocated. */
+    private final BufferPool _pool;
+
+    /** The output buffer, {@code null} if unbuffered or once closed. */
+    private byte[] _buffer;
+
+    /** The number of bytes in the buffer. */
+    private int _position = 0;
+
+    /** The number of bytes written to this stream. */
+    private long _size = 0L;
 
 
 //---------------------------
@@ -64,7 +135,29 @@ public class LittleEndianOutputStream extends FilterOutputStream implements Data
      */
     public LittleEndianOutputStream(@NonNull OutputStream out) {
         super(asDataOutputStream(out));
-        clearBytes();
+        _buffered = false;
+        _pool = null;
+        _buffer = null;
+    }
+
+    /**
+     * Constructs a buffered {@code LittleEndianOutputStream} build on top of
+     * the underlying {@link OutputStream}.
+     *
+     * @param out        the output stream to write to.
+     * @param bufferSize the minimum size of the buffer, in bytes.
+     * @exception IllegalArgumentException if the buffer cannot hold a
+     *                                     variable-length {@code long}.
+     */
+    public LittleEndianOutputStream(@NonNull OutputStream out, int bufferSize) {
+        super(asDataOutputStream(out));
+        if (Bits.MAX_NUM_OCTETS_IN_VARLONG > bufferSize) {
+            String message = getBadBufferSizeErrorMessage(bufferSize);
+            throw new IllegalArgumentException(message);
+        }
+        _buffered = true;
+        _pool = BufferPool.getDefault();
+        _buffer = BufferPool.acquire(_pool, bufferSize);
     }
 
 
@@ -81,6 +174,98 @@ public class LittleEndianOutputStream extends FilterOutputStream implements Data
         return (DataOutputStream) this.out;
     }
 
+    /**
+     * Determines if the stream encodes into its own buffer.
+     *
+     * @return {@code true} if the stream is buffered, {@code false} otherwise.
+     */
+    public boolean isBuffered() {
+        return _buffered;
+    }
+
+
+//---------------------------
+// Overridden methods from java.io.FilterOutputStream
+//---------------------------
+
+    /**
+     * Writes a byte.
+     *
+     * @param b the byte, only its eight lowest bits are written.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void write(int b) throws IOException {
+        if (_buffered) {
+            ensure(Bits.NUM_OCTETS_IN_BYTE);
+            _buffer[_position++] = (byte) b;
+        }
+        else {
+            this.out.write(b);
+        }
+        _size++;
+    }
+
+    /**
+     * Writes bytes in one call to the underlying stream when unbuffered.
+     * Requests for at least the buffer size bypass the buffer.
+     *
+     * @param b   the source array.
+     * @param off the offset in the array.
+     * @param len the number of bytes to write.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (false == _buffered) {
+            this.out.write(b, off, len);
+        }
+        else if (len >= buffer().length) {
+            flushBuffer();
+            this.out.write(b, off, len);
+        }
+        else {
+            ensure(len);
+            System.arraycopy(b, off, _buffer, _position, len);
+            _position += len;
+        }
+        _size += len;
+    }
+
+    /**
+     * Writes out the buffer then flushes the underlying stream.
+     *
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (null != _buffer) {
+            flushBuffer();
+        }
+        this.out.flush();
+    }
+
+    /**
+     * Flushes and closes the underlying stream and gives the buffer back to
+     * its pool.
+     *
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        }
+        finally {
+            if (null != _buffer) {
+                BufferPool.release(_pool, _buffer);
+                _buffer = null;
+                _position = 0;
+            }
+        }
+    }
+
 
 //---------------------------
 // Instance methods
@@ -93,19 +278,136 @@ public class LittleEndianOutputStream extends FilterOutputStream implements Data
         Arrays.memset(_bytes, (byte) 0);
     }
 
+    /**
+     * Gets the output buffer.
+     *
+     * @return the buffer.
+     * @exception IOException if the stream is closed.
+     */
+    protected byte[] buffer() throws IOException {
+        if (null == _buffer) {
+            String message = getClosedErrorMessage();
+            throw new IOException(message);
+        }
+        return _buffer;
+    }
+
+    /**
+     * Writes out the bytes of the buffer to the underlying stream, without
+     * flushing it.
+     *
+     * @exception IOException if the stream is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    protected void flushBuffer() throws IOException {
+        var buffer = buffer();
+        if (0 < _position) {
+            this.out.write(buffer, 0, _position);
+            _position = 0;
+        }
+    }
+
+    /**
+     * Makes sure the buffer has room for at least {@code numBytes} bytes,
+     * writing it out if needed.
+     *
+     * @param numBytes the number of bytes, at most the size of the buffer.
+     * @exception IOException if the stream is closed or if anything goes wrong
+     *                        with I/O.
+     */
+    protected void ensure(int numBytes) throws IOException {
+        var buffer = buffer();
+        if (buffer.length - _position < numBytes) {
+            flushBuffer();
+        }
+    }
+
+    /**
+     * Writes the first <em>numBytes</em> of the internal buffer
+     * {@link #_bytes}, in one call to the underlying stream.
+     *
+     * @param numBytes the number of bytes.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    protected void flushBytes(int numBytes) throws IOException {
+        write(_bytes, 0, numBytes);
+    }
+
+    /**
+     * Writes values in bulk, straight into the buffer when buffered, through
+     * a pooled scratch array otherwise.
+     *
+     * @param width   the number of bytes of each value.
+     * @param len     the number of values.
+     * @param encoder the encoder of the values.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    protected void writeBulk(int width, int len, Encoder encoder) throws IOException {
+        if (_buffered) {
+            for (int done = 0; done < len; ) {
+                ensure(width);
+                int count = Math.min(len - done, (_buffer.length - _position) / width);
+                encoder.encode(_buffer, _position, done, count);
+                _position += count * width;
+                done += count;
+            }
+        }
+        else if (0 < len) {
+            var pool = BufferPool.getDefault();
+            var scratch = BufferPool.acquire(pool, (int) Math.min((long) len * width, BULK_SCRATCH_SIZE));
+            try {
+                int capacity = scratch.length / width;
+                for (int done = 0; done < len; ) {
+                    int count = Math.min(len - done, capacity);
+                    encoder.encode(scratch, 0, done, count);
+                    this.out.write(scratch, 0, count * width);
+                    done += count;
+                }
+            }
+            finally {
+                BufferPool.release(pool, scratch);
+            }
+        }
+        _size += (long) len * width;
+    }
+
+    /**
+     * Gets the formatted error message telling that the buffer is too small.
+     *
+     * @param bufferSize the buffer size.
+     * @return the formatted error message.
+     */
+    protected String getBadBufferSizeErrorMessage(int bufferSize) {
+        var key = Resources.OUTPUT_STREAM_BAD_BUFFER_SIZE;
+        var message = Resources.getLocalizedString(key, bufferSize, Bits.MAX_NUM_OCTETS_IN_VARLONG);
+        return message;
+    }
+
+    /**
+     * Gets the error message telling that the stream is closed.
+     *
+     * @return the error message.
+     */
+    protected String getClosedErrorMessage() {
+        var key = Resources.OUTPUT_STREAM_IS_CLOSED;
+        var message = Resources.getLocalizedString(key);
+        return message;
+    }
+
 
 //---------------------------
 // Implemented methods from java.io.DataOutput
 //---------------------------
 
     /**
-     * Gets the number of bytes written to this stream so far.
+     * Gets the number of bytes written to this stream so far. Unlike
+     * {@link DataOutputStream#size()}, the count does not overflow after
+     * 2&nbsp;GiB.
      *
      * @return the number of bytes written.
      */
-    public int size() {
-        int size = out().size();
-        return size;
+    public long size() {
+        return _size;
     }
 
     /**
@@ -116,7 +418,7 @@ public class LittleEndianOutputStream extends FilterOutputStream implements Data
      */
     @Override
     public void writeBoolean(boolean z) throws IOException {
-        out().writeBoolean(z);
+        write(z ? 1 : 0);
     }
 
     /**
@@ -127,7 +429,7 @@ public class LittleEndianOutputStream extends FilterOutputStream implements Data
      */
     @Override
     public void writeByte(int b) throws IOException {
-        out().writeByte(b);
+        write(b);
     }
 
     /**
@@ -137,13 +439,16 @@ public class LittleEndianOutputStream extends FilterOutputStream implements Data
      * @throws IOException if an I/O error occurs.
      */
     @Override
-    public synchronized void writeShort(int s) throws IOException {
-        try {
-            breakShortLE((short) s, _bytes, 0);
-            write(_bytes, 0, Bits.NUM_OCTETS_IN_SHORT);
+    public void writeShort(int s) throws IOException {
+        if (_buffered) {
+            ensure(Bits.NUM_OCTETS_IN_SHORT);
+            SHORT_LE.set(_buffer, _position, (short) s);
+            _position += Bits.NUM_OCTETS_IN_SHORT;
+            _size += Bits.NUM_OCTETS_IN_SHORT;
         }
-        finally {
-            clearBytes();
+        else {
+            Bits.putShort(_bytes, 0, (short) s, ByteOrder.LITTLE_ENDIAN);
+            flushBytes(Bits.NUM_OCTETS_IN_SHORT);
         }
     }
 
@@ -165,13 +470,16 @@ public class LittleEndianOutputStream extends FilterOutputStream implements Data
      * @throws IOException if an I/O error occurs.
      */
     @Override
-    public synchronized void writeInt(int i) throws IOException {
-        try {
-            breakIntLE(i, _bytes, 0);
-            write(_bytes, 0, Bits.NUM_OCTETS_IN_INT);
+    public void writeInt(int i) throws IOException {
+        if (_buffered) {
+            ensure(Bits.NUM_OCTETS_IN_INT);
+            INT_LE.set(_buffer, _position, i);
+            _position += Bits.NUM_OCTETS_IN_INT;
+            _size += Bits.NUM_OCTETS_IN_INT;
         }
-        finally {
-            clearBytes();
+        else {
+            Bits.putInt(_bytes, 0, i, ByteOrder.LITTLE_ENDIAN);
+            flushBytes(Bits.NUM_OCTETS_IN_INT);
         }
     }
 
@@ -182,13 +490,16 @@ public class LittleEndianOutputStream extends FilterOutputStream implements Data
      * @throws IOException if an I/O error occurs.
      */
     @Override
-    public synchronized void writeLong(long l) throws IOException {
-        try {
-            breakLongLE(l, _bytes, 0);
-            write(_bytes, 0, Bits.NUM_OCTETS_IN_LONG);
+    public void writeLong(long l) throws IOException {
+        if (_buffered) {
+            ensure(Bits.NUM_OCTETS_IN_LONG);
+            LONG_LE.set(_buffer, _position, l);
+            _position += Bits.NUM_OCTETS_IN_LONG;
+            _size += Bits.NUM_OCTETS_IN_LONG;
         }
-        finally {
-            clearBytes();
+        else {
+            Bits.putLong(_bytes, 0, l, ByteOrder.LITTLE_ENDIAN);
+            flushBytes(Bits.NUM_OCTETS_IN_LONG);
         }
     }
 
@@ -216,6 +527,131 @@ public class LittleEndianOutputStream extends FilterOutputStream implements Data
         writeLong(l);
     }
 
+    /**
+     * Writes the {@code float} argument as an IEEE 754 binary16
+     * (half-precision) value, lowest byte first.
+     *
+     * @param f the {@code float} value to be written.
+     * @throws IOException if an I/O error occurs.
+     * @see Bits#floatToFloat16(float)
+     */
+    public void writeFloat16(float f) throws IOException {
+        short h = Bits.floatToFloat16(f);
+        writeShort(h);
+    }
+
+    /**
+     * Writes the {@code float} argument as a bfloat16 value, lowest byte first.
+     *
+     * @param f the {@code float} value to be written.
+     * @throws IOException if an I/O error occurs.
+     * @see Bits#floatToBFloat16(float)
+     */
+    public void writeBFloat16(float f) throws IOException {
+        short b = Bits.floatToBFloat16(f);
+        writeShort(b);
+    }
+
+    /**
+     * Writes the {@code int} argument, taken as unsigned, as a variable-length
+     * integer of one to five bytes, lowest seven bits first.
+     *
+     * @param i the {@code int} value to be written.
+     * @throws IOException if an I/O error occurs.
+     * @see Bits#putVarInt(byte[], int, int)
+     */
+    public void writeVarInt(int i) throws IOException {
+        if (_buffered) {
+            ensure(Bits.MAX_NUM_OCTETS_IN_VARINT);
+            int size = Bits.putVarInt(_buffer, _position, i);
+            _position += size;
+            _size += size;
+        }
+        else {
+            int size = Bits.putVarInt(_bytes, 0, i);
+            flushBytes(size);
+        }
+    }
+
+    /**
+     * Writes the {@code int} argument as a ZigZag encoded variable-length
+     * integer, so that small negative values also take few bytes.
+     *
+     * @param i the {@code int} value to be written.
+     * @throws IOException if an I/O error occurs.
+     * @see Bits#zigZagEncode(int)
+     */
+    public void writeSignedVarInt(int i) throws IOException {
+        int z = Bits.zigZagEncode(i);
+        writeVarInt(z);
+    }
+
+    /**
+     * Writes the {@code long} argument, taken as unsigned, as a variable-length
+     * integer of one to ten bytes, lowest seven bits first.
+     *
+     * @param l the {@code long} value to be written.
+     * @throws IOException if an I/O error occurs.
+     * @see Bits#putVarLong(byte[], int, long)
+     */
+    public void writeVarLong(long l) throws IOException {
+        if (_buffered) {
+            ensure(Bits.MAX_NUM_OCTETS_IN_VARLONG);
+            int size = Bits.putVarLong(_buffer, _position, l);
+            _position += size;
+            _size += size;
+        }
+        else {
+            int size = Bits.putVarLong(_bytes, 0, l);
+            flushBytes(size);
+        }
+    }
+
+    /**
+     * Writes the {@code long} argument as a ZigZag encoded variable-length
+     * integer, so that small negative values also take few bytes.
+     *
+     * @param l the {@code long} value to be written.
+     * @throws IOException if an I/O error occurs.
+     * @see Bits#zigZagEncode(long)
+     */
+    public void writeSignedVarLong(long l) throws IOException {
+        long z = Bits.zigZagEncode(l);
+        writeVarLong(z);
+    }
+
+    /**
+     * Writes a string of any length: its number of bytes in UTF-8 as a
+     * variable-length integer, then these bytes. Unlike
+     * {@link #writeUTF(String)}, the length is little-endian, the encoding is
+     * real UTF-8 and there is no limit of 64&nbsp;KiB. When buffered, ASCII
+     * strings are copied straight into the buffer.
+     *
+     * @param s the string to write.
+     * @throws IOException if an I/O error occurs.
+     * @see LittleEndianInputStream#readString()
+     */
+    public void writeString(String s) throws IOException {
+        int len = s.length();
+        if (_buffered && (len <= buffer().length - Bits.MAX_NUM_OCTETS_IN_VARINT)) {
+            ensure(Bits.MAX_NUM_OCTETS_IN_VARINT + len);
+            int start = _position + Bits.varIntSize(len);
+            int i = 0;
+            for (char c; (i < len) && (0x80 > (c = s.charAt(i))); i++) {
+                _buffer[start + i] = (byte) c;
+            }
+            if (i == len) {
+                Bits.putVarInt(_buffer, _position, len);
+                _size += start + len - _position;
+                _position = start + len;
+                return;
+            }
+        }
+        byte[] utf = s.getBytes(Charsets.UTF_8);
+        writeVarInt(utf.length);
+        write(utf, 0, utf.length);
+    }
+
     /**
      * Writes out the string to the underlying output stream as a sequence of
      * {@code byte}s.
@@ -225,7 +661,10 @@ public class LittleEndianOutputStream extends FilterOutputStream implements Data
      */
     @Override
     public void writeBytes(String s) throws IOException {
-        out().writeBytes(s);
+        for (int i = 0, len = s.length(); i < len; i++) {
+            char c = s.charAt(i);
+            write(c);
+        }
     }
 
     /**
@@ -245,14 +684,114 @@ public class LittleEndianOutputStream extends FilterOutputStream implements Data
 
     /**
      * Writes a string to the underlying output stream using UTF-8 encoding in a
-     * machine-independent manner.
+     * machine-independent manner. As required by {@link DataOutput}, the length
+     * is big-endian, the encoding is modified UTF-8 and the string is limited
+     * to 64&nbsp;KiB.
      *
      * @param s the string to write.
      * @throws IOException if an I/O error occurs.
+     * @see #writeString(String)
      */
     @Override
     public void writeUTF(String s) throws IOException {
-        out().writeUTF(s);
+        var baos = new ByteArrayOutputStream(s.length() + 2);
+        asDataOutputStream(baos).writeUTF(s);
+        baos.writeTo(this);
+    }
+
+    /**
+     * Writes {@code short}s from an array, as if by as many calls to
+     * {@link #writeShort(int)}.
+     *
+     * @param src the source array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(short[], int, int)
+     */
+    public void writeShorts(short[] src, int off, int len) throws IOException {
+        Arrays.checkArray(src, off, len);
+        writeBulk(Bits.NUM_OCTETS_IN_SHORT, len, (bytes, pos, done, count) -> {
+            for (int i = 0; i < count; i++) {
+                SHORT_LE.set(bytes, pos + i * Bits.NUM_OCTETS_IN_SHORT, src[off + done + i]);
+            }
+        });
+    }
+
+    /**
+     * Writes {@code int}s from an array, as if by as many calls to
+     * {@link #writeInt(int)}.
+     *
+     * @param src the source array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(int[], int, int)
+     */
+    public void writeInts(int[] src, int off, int len) throws IOException {
+        Arrays.checkArray(src, off, len);
+        writeBulk(Bits.NUM_OCTETS_IN_INT, len, (bytes, pos, done, count) -> {
+            for (int i = 0; i < count; i++) {
+                INT_LE.set(bytes, pos + i * Bits.NUM_OCTETS_IN_INT, src[off + done + i]);
+            }
+        });
+    }
+
+    /**
+     * Writes {@code long}s from an array, as if by as many calls to
+     * {@link #writeLong(long)}.
+     *
+     * @param src the source array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public void writeLongs(long[] src, int off, int len) throws IOException {
+        Arrays.checkArray(src, off, len);
+        writeBulk(Bits.NUM_OCTETS_IN_LONG, len, (bytes, pos, done, count) -> {
+            for (int i = 0; i < count; i++) {
+                LONG_LE.set(bytes, pos + i * Bits.NUM_OCTETS_IN_LONG, src[off + done + i]);
+            }
+        });
+    }
+
+    /**
+     * Writes {@code float}s from an array, as if by as many calls to
+     * {@link #writeFloat(float)}.
+     *
+     * @param src the source array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(float[], int, int)
+     */
+    public void writeFloats(float[] src, int off, int len) throws IOException {
+        Arrays.checkArray(src, off, len);
+        writeBulk(Bits.NUM_OCTETS_IN_INT, len, (bytes, pos, done, count) -> {
+            for (int i = 0; i < count; i++) {
+                INT_LE.set(bytes, pos + i * Bits.NUM_OCTETS_IN_INT, Float.floatToRawIntBits(src[off + done + i]));
+            }
+        });
+    }
+
+    /**
+     * Writes {@code double}s from an array, as if by as many calls to
+     * {@link #writeDouble(double)}.
+     *
+     * @param src the source array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IOException if anything goes wrong with I/O.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public void writeDoubles(double[] src, int off, int len) throws IOException {
+        Arrays.checkArray(src, off, len);
+        writeBulk(Bits.NUM_OCTETS_IN_LONG, len, (bytes, pos, done, count) -> {
+            for (int i = 0; i < count; i++) {
+                LONG_LE.set(bytes, pos + i * Bits.NUM_OCTETS_IN_LONG, Double.doubleToRawLongBits(src[off + done + i]));
+            }
+        });
     }
 
 }
@@ -0,0 +1,612 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import ca.forklabs.baselib2.util.Arrays;
+import ca.forklabs.baselib2.util.Bits;
+import ca.forklabs.baselib2.util.DirectBuffers;
+import lombok.NonNull;
+
+/**
+ * Class {@code MappedEndianFile} reads primitive values in either byte order
+ * at any position of a file, however large, by mapping it in memory. The file
+ * is mapped read-only in chunks of a power of two bytes, each one overlapping
+ * the next by the size of a {@code long} so that no value ever straddles two
+ * mappings, and a read is a shift, a mask and a load.
+ * <p>
+ * The reads never move any shared position, so any number of threads can read
+ * concurrently without locking. The file must not be truncated while mapped.
+ * Once {@link #close() closed}, the reads throw an
+ * {@link IllegalStateException} and the mappings are released by the garbage
+ * collector, when no reader still holds them. {@link #close(boolean)} can
+ * release them right away instead, when {@link DirectBuffers#canFree()
+ * possible}, but only if no other thread can still be reading the file: a
+ * read racing with it touches unmapped memory and crashes the virtual
+ * machine.
+ * <p>
+ * The JDK offers no {@code madvise()} for sequential or random access, the
+ * only hint is {@link #load(long, long)}, which asks the operating system to
+ * bring a range of the file in memory ahead of its use.
+ */
+public class MappedEndianFile implements Closeable {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The default size of the chunks, in bytes. */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 30;
+
+    /** The number of bytes that each chunk shares with the next one. */
+    protected static final int OVERLAP = Bits.NUM_OCTETS_IN_LONG;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The size of the file, in bytes. */
+    private final long _size;
+
+    /** The byte order of the values. */
+    private final ByteOrder _order;
+
+    /** The base 2 logarithm of the size of the chunks. */
+    private final int _shift;
+
+    /** The mask of the position within a chunk. */
+    private final long _mask;
+
+    /** The chunks, {@code null} once closed. */
+    private volatile MappedByteBuffer[] _chunks;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Maps a little-endian file in chunks of {@link #DEFAULT_CHUNK_SIZE}
+     * bytes.
+     *
+     * @param path the file.
+     * @exception IOException if the file cannot be opened or mapped.
+     */
+    public MappedEndianFile(Path path) throws IOException {
+        this(path, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Maps a file in chunks of {@link #DEFAULT_CHUNK_SIZE} bytes.
+     *
+     * @param path  the file.
+     * @param order the byte order of the values.
+     * @exception IOException if the file cannot be opened or mapped.
+     */
+    public MappedEndianFile(Path path, ByteOrder order) throws IOException {
+        this(path, order, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Maps a file.
+     *
+     * @param path      the file.
+     * @param order     the byte order of the values.
+     * @param chunkSize the size of the chunks, a power of two between
+     *                  {@link #OVERLAP} and {@link #DEFAULT_CHUNK_SIZE}.
+     * @exception IllegalArgumentException if the chunk size is not valid.
+     * @exception IOException if the file cannot be opened or mapped.
+     */
+    public MappedEndianFile(@NonNull Path path, @NonNull ByteOrder order, int chunkSize) throws IOException {
+        if ((OVERLAP > chunkSize) || (DEFAULT_CHUNK_SIZE < chunkSize) || (1 != Integer.bitCount(chunkSize))) {
+            String message = getBadChunkSizeErrorMessage(chunkSize);
+            throw new IllegalArgumentException(message);
+        }
+        _order = order;
+        _shift = Integer.numberOfTrailingZeros(chunkSize);
+        _mask = chunkSize - 1;
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            _size = channel.size();
+            _chunks = map(channel, _size, chunkSize, order);
+        }
+    }
+
+
+//---------------------------
+// Accessors and mutators
+//---------------------------
+
+    /**
+     * Gets the size of the file.
+     *
+     * @return the size, in bytes.
+     */
+    public long getSize() {
+        return _size;
+    }
+
+    /**
+     * Gets the byte order of the values.
+     *
+     * @return the byte order.
+     */
+    public ByteOrder getOrder() {
+        return _order;
+    }
+
+    /**
+     * Gets the size of the chunks.
+     *
+     * @return the size, in bytes.
+     */
+    public int getChunkSize() {
+        int size = 1 << _shift;
+        return size;
+    }
+
+
+//---------------------------
+// Class methods
+//---------------------------
+
+    /**
+     * Maps the chunks of a file.
+     *
+     * @param channel   the file.
+     * @param size      the size of the file.
+     * @param chunkSize the size of the chunks.
+     * @param order     the byte order of the values.
+     * @return the chunks.
+     * @exception IOException if the file cannot be mapped.
+     */
+    private static MappedByteBuffer[] map(FileChannel channel, long size, int chunkSize, ByteOrder order) throws IOException {
+        int count = (int) ((size + chunkSize - 1) / chunkSize);
+        var chunks = new MappedByteBuffer[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                long start = (long) i * chunkSize;
+                long length = Math.min(size - start, (long) chunkSize + OVERLAP);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                chunks[i].order(order);
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            unmap(chunks);
+            throw e;
+        }
+        return chunks;
+    }
+
+    /**
+     * Releases the mapped chunks.
+     *
+     * @param chunks the chunks, some of them can be {@code null}.
+     */
+    private static void unmap(MappedByteBuffer[] chunks) {
+        for (var chunk : chunks) {
+            DirectBuffers.free(chunk);
+        }
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Gets the chunks.
+     *
+     * @return the chunks.
+     * @exception IllegalStateException if the file is closed.
+     */
+    protected MappedByteBuffer[] chunks() {
+        var chunks = _chunks;
+        if (null == chunks) {
+            String message = getClosedErrorMessage();
+            throw new IllegalStateException(message);
+        }
+        return chunks;
+    }
+
+    /**
+     * Checks that bytes lie within the file.
+     *
+     * @param pos      the position of the bytes.
+     * @param numBytes the number of bytes.
+     * @exception IndexOutOfBoundsException if the bytes are outside the file.
+     */
+    protected void checkBounds(long pos, long numBytes) {
+        if ((0L > pos) || (0L > numBytes) || (_size - numBytes < pos)) {
+            String message = getOutOfBoundsErrorMessage(pos, numBytes);
+            throw new IndexOutOfBoundsException(message);
+        }
+    }
+
+    /**
+     * Gets the chunk holding the given position, checking that the given
+     * number of bytes, at least one, lie within the file.
+     *
+     * @param pos      the position.
+     * @param numBytes the number of bytes.
+     * @return the chunk.
+     * @exception IndexOutOfBoundsException if the bytes are outside the file.
+     * @exception IllegalStateException if the file is closed.
+     */
+    protected ByteBuffer chunk(long pos, long numBytes) {
+        checkBounds(pos, numBytes);
+        var chunk = chunks()[(int) (pos >>> _shift)];
+        return chunk;
+    }
+
+    /**
+     * Gets the position within its chunk of a position in the file.
+     *
+     * @param pos the position in the file.
+     * @return the position in the chunk.
+     */
+    protected int offset(long pos) {
+        int offset = (int) (pos & _mask);
+        return offset;
+    }
+
+    /**
+     * Gets the view of a range of a chunk in the byte order of the file.
+     *
+     * @param pos   the position of the range in the file.
+     * @param width the number of bytes of each value.
+     * @param len   the number of values still to read, at least one.
+     * @return the view, of a whole number of values.
+     */
+    protected ByteBuffer view(long pos, int width, int len) {
+        var chunk = chunk(pos, (long) len * width);
+        int offset = offset(pos);
+        int count = Math.min(len, (chunk.limit() - offset) / width);
+        var view = chunk.slice(offset, count * width)
+                        .order(_order);
+        return view;
+    }
+
+    /**
+     * Reads a {@code byte}.
+     *
+     * @param pos the position in the file.
+     * @return the value.
+     * @exception IndexOutOfBoundsException if the value is outside the file.
+     * @exception IllegalStateException if the file is closed.
+     */
+    public byte get(long pos) {
+        byte b = chunk(pos, Bits.NUM_OCTETS_IN_BYTE).get(offset(pos));
+        return b;
+    }
+
+    /**
+     * Reads a {@code short}.
+     *
+     * @param pos the position in the file.
+     * @return the value.
+     * @exception IndexOutOfBoundsException if the value is outside the file.
+     * @exception IllegalStateException if the file is closed.
+     */
+    public short getShort(long pos) {
+        short s = chunk(pos, Bits.NUM_OCTETS_IN_SHORT).getShort(offset(pos));
+        return s;
+    }
+
+    /**
+     * Reads a {@code char}.
+     *
+     * @param pos the position in the file.
+     * @return the value.
+     * @exception IndexOutOfBoundsException if the value is outside the file.
+     * @exception IllegalStateException if the file is closed.
+     */
+    public char getChar(long pos) {
+        char c = chunk(pos, Bits.NUM_OCTETS_IN_CHAR).getChar(offset(pos));
+        return c;
+    }
+
+    /**
+     * Reads an {@code int}.
+     *
+     * @param pos the position in the file.
+     * @return the value.
+     * @exception IndexOutOfBoundsException if the value is outside the file.
+     * @exception IllegalStateException if the file is closed.
+     */
+    public int getInt(long pos) {
+        int i = chunk(pos, Bits.NUM_OCTETS_IN_INT).getInt(offset(pos));
+        return i;
+    }
+
+    /**
+     * Reads a {@code long}.
+     *
+     * @param pos the position in the file.
+     * @return the value.
+     * @exception IndexOutOfBoundsException if the value is outside the file.
+     * @exception IllegalStateException if the file is closed.
+     */
+    public long getLong(long pos) {
+        long l = chunk(pos, Bits.NUM_OCTETS_IN_LONG).getLong(offset(pos));
+        return l;
+    }
+
+    /**
+     * Reads a {@code float}.
+     *
+     * @param pos the position in the file.
+     * @return the value.
+     * @exception IndexOutOfBoundsException if the value is outside the file.
+     * @exception IllegalStateException if the file is closed.
+     */
+    public float getFloat(long pos) {
+        float f = chunk(pos, Bits.NUM_OCTETS_IN_FLOAT).getFloat(offset(pos));
+        return f;
+    }
+
+    /**
+     * Reads a {@code double}.
+     *
+     * @param pos the position in the file.
+     * @return the value.
+     * @exception IndexOutOfBoundsException if the value is outside the file.
+     * @exception IllegalStateException if the file is closed.
+     */
+    public double getDouble(long pos) {
+        double d = chunk(pos, Bits.NUM_OCTETS_IN_DOUBLE).getDouble(offset(pos));
+        return d;
+    }
+
+    /**
+     * Reads {@code byte}s into an array.
+     *
+     * @param pos the position of the first value in the file.
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IndexOutOfBoundsException if the values are outside the file.
+     * @exception IllegalStateException if the file is closed.
+     * @see Arrays#checkArray(byte[], int, int)
+     */
+    public void get(long pos, byte[] dst, int off, int len) {
+        Arrays.checkArray(dst, off, len);
+        for (int done = 0; done < len; ) {
+            var view = view(pos, Bits.NUM_OCTETS_IN_BYTE, len - done);
+            int count = view.remaining();
+            view.get(dst, off + done, count);
+            pos += count;
+            done += count;
+        }
+    }
+
+    /**
+     * Reads {@code short}s into an array.
+     *
+     * @param pos the position of the first value in the file.
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IndexOutOfBoundsException if the values are outside the file.
+     * @exception IllegalStateException if the file is closed.
+     * @see Arrays#checkArray(short[], int, int)
+     */
+    public void getShorts(long pos, short[] dst, int off, int len) {
+        Arrays.checkArray(dst, off, len);
+        for (int done = 0; done < len; ) {
+            var view = view(pos, Bits.NUM_OCTETS_IN_SHORT, len - done).asShortBuffer();
+            int count = view.remaining();
+            view.get(dst, off + done, count);
+            pos += (long) count * Bits.NUM_OCTETS_IN_SHORT;
+            done += count;
+        }
+    }
+
+    /**
+     * Reads {@code int}s into an array.
+     *
+     * @param pos the position of the first value in the file.
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IndexOutOfBoundsException if the values are outside the file.
+     * @exception IllegalStateException if the file is closed.
+     * @see Arrays#checkArray(int[], int, int)
+     */
+    public void getInts(long pos, int[] dst, int off, int len) {
+        Arrays.checkArray(dst, off, len);
+        for (int done = 0; done < len; ) {
+            var view = view(pos, Bits.NUM_OCTETS_IN_INT, len - done).asIntBuffer();
+            int count = view.remaining();
+            view.get(dst, off + done, count);
+            pos += (long) count * Bits.NUM_OCTETS_IN_INT;
+            done += count;
+        }
+    }
+
+    /**
+     * Reads {@code long}s into an array.
+     *
+     * @param pos the position of the first value in the file.
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IndexOutOfBoundsException if the values are outside the file.
+     * @exception IllegalStateException if the file is closed.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public void getLongs(long pos, long[] dst, int off, int len) {
+        Arrays.checkArray(dst, off, len);
+        for (int done = 0; done < len; ) {
+            var view = view(pos, Bits.NUM_OCTETS_IN_LONG, len - done).asLongBuffer();
+            int count = view.remaining();
+            view.get(dst, off + done, count);
+            pos += (long) count * Bits.NUM_OCTETS_IN_LONG;
+            done += count;
+        }
+    }
+
+    /**
+     * Reads {@code float}s into an array.
+     *
+     * @param pos the position of the first value in the file.
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IndexOutOfBoundsException if the values are outside the file.
+     * @exception IllegalStateException if the file is closed.
+     * @see Arrays#checkArray(float[], int, int)
+     */
+    public void getFloats(long pos, float[] dst, int off, int len) {
+        Arrays.checkArray(dst, off, len);
+        for (int done = 0; done < len; ) {
+            var view = view(pos, Bits.NUM_OCTETS_IN_FLOAT, len - done).asFloatBuffer();
+            int count = view.remaining();
+            view.get(dst, off + done, count);
+            pos += (long) count * Bits.NUM_OCTETS_IN_FLOAT;
+            done += count;
+        }
+    }
+
+    /**
+     * Reads {@code double}s into an array.
+     *
+     * @param pos the position of the first value in the file.
+     * @param dst the destination array.
+     * @param off the offset of the first value in the array.
+     * @param len the number of values.
+     * @exception IndexOutOfBoundsException if the values are outside the file.
+     * @exception IllegalStateException if the file is closed.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public void getDoubles(long pos, double[] dst, int off, int len) {
+        Arrays.checkArray(dst, off, len);
+        for (int done = 0; done < len; ) {
+            var view = view(pos, Bits.NUM_OCTETS_IN_DOUBLE, len - done).asDoubleBuffer();
+            int count = view.remaining();
+            view.get(dst, off + done, count);
+            pos += (long) count * Bits.NUM_OCTETS_IN_DOUBLE;
+            done += count;
+        }
+    }
+
+    /**
+     * Asks the operating system to bring the whole file in memory.
+     *
+     * @exception IllegalStateException if the file is closed.
+     * @see MappedByteBuffer#load()
+     */
+    public void load() {
+        load(0L, _size);
+    }
+
+    /**
+     * Asks the operating system to bring a range of the file in memory, by
+     * loading the chunks that cover it.
+     *
+     * @param pos the position of the range.
+     * @param len the length of the range, in bytes.
+     * @exception IndexOutOfBoundsException if the range is outside the file.
+     * @exception IllegalStateException if the file is closed.
+     * @see MappedByteBuffer#load()
+     */
+    public void load(long pos, long len) {
+        checkBounds(pos, len);
+        var chunks = chunks();
+        if (0L < len) {
+            int last = (int) ((pos + len - 1) >>> _shift);
+            for (int i = (int) (pos >>> _shift); i <= last; i++) {
+                chunks[i].load();
+            }
+        }
+    }
+
+    /**
+     * Closes the file, leaving its mappings to the garbage collector. The
+     * reads in progress in other threads finish safely.
+     *
+     * @see #close(boolean)
+     */
+    @Override
+    public void close() {
+        close(false);
+    }
+
+    /**
+     * Closes the file, releasing its mappings right away if asked to. No
+     * other thread must be reading the file when they are released.
+     *
+     * @param unmap whether to release the mappings right away rather than
+     *              leave them to the garbage collector.
+     */
+    public void close(boolean unmap) {
+        var chunks = _chunks;
+        _chunks = null;
+        if ((null != chunks) && unmap) {
+            unmap(chunks);
+        }
+    }
+
+    /**
+     * Gets the formatted error message telling that the chunk size is not
+     * valid.
+     *
+     * @param chunkSize the chunk size.
+     * @return the formatted error message.
+     */
+    protected String getBadChunkSizeErrorMessage(int chunkSize) {
+        var key = Resources.MAPPED_FILE_BAD_CHUNK_SIZE;
+        var message = Resources.getLocalizedString(key, chunkSize, OVERLAP, DEFAULT_CHUNK_SIZE);
+        return message;
+    }
+
+    /**
+     * Gets the formatted error message telling that bytes are outside the
+     * file.
+     *
+     * @param pos      the position of the bytes.
+     * @param numBytes the number of bytes.
+     * @return the formatted error message.
+     */
+    protected String getOutOfBoundsErrorMessage(long pos, long numBytes) {
+        var key = Resources.MAPPED_FILE_OUT_OF_BOUNDS;
+        var message = Resources.getLocalizedString(key, numBytes, pos, _size);
+        return message;
+    }
+
+    /**
+     * Gets the error message telling that the file is closed.
+     *
+     * @return the error message.
+     */
+    protected String getClosedErrorMessage() {
+        var key = Resources.MAPPED_FILE_IS_CLOSED;
+        var message = Resources.getLocalizedString(key);
+        return message;
+    }
+
+}
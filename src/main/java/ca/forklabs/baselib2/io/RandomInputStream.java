@@ -19,32 +19,98 @@
 package ca.forklabs.baselib2.io;
 
 import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.util.Random;
+import java.util.SplittableRandom;
 
 import ca.forklabs.baselib2.util.Arrays;
-import lombok.Getter;
+import ca.forklabs.baselib2.util.Bits;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
-import lombok.experimental.Accessors;
 
 /**
  * Class {@code RandomInputStream} mimics {@code /dev/random} of UNIX systems.
  * This streams has an unlimited number of bytes that can be read. It does not
  * support marking and resetting.
+ * <p>
+ * Built on a {@link Random}, the stream draws each byte with
+ * {@link Random#nextInt(int)} while holding the lock of the source, so that
+ * it can be shared and gives the same bytes as the source would. Built by
+ * {@link #splittable(long)} on a {@link SplittableRandom}, the stream is meant
+ * to be owned by one thread: it takes no lock, fills eight bytes per
+ * {@link SplittableRandom#nextLong()} and can be {@link #split()} into
+ * independent streams for the other threads.
  */
-@Getter
-@RequiredArgsConstructor
-@Accessors(prefix = {"_"})
 public class RandomInputStream extends InputStream {
 
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The little-endian view of the arrays as {@code long}s. */
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+
 //---------------------------
 // Instance variable
 //---------------------------
 
-    /** The random source. */
-    @NonNull
+    /** The random source, {@code null} if splittable. */
     private final Random _source;
 
+    /** The splittable random source, {@code null} if not splittable. */
+    private final SplittableRandom _splittableSource;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs a stream drawing its bytes one by one from a shared source.
+     * @param   source   the random source.
+     */
+    public RandomInputStream(@NonNull Random source) {
+        this(source, null);
+    }
+
+    /**
+     * Constructs a stream on either kind of source.
+     * @param   source   the random source, or {@code null}.
+     * @param   splittableSource   the splittable random source, or {@code null}.
+     */
+    private RandomInputStream(Random source, SplittableRandom splittableSource) {
+        _source = source;
+        _splittableSource = splittableSource;
+    }
+
+
+//---------------------------
+// Accessors and mutators
+//---------------------------
+
+    /**
+     * Gets the random source of a stream built on a {@link Random}. The source
+     * of a splittable stream stays private to the stream, as it is not
+     * thread-safe.
+     * @return   the random source, or {@code null} if the stream is
+     *           splittable.
+     * @see #isSplittable()
+     */
+    public Random getSource() {
+        return _source;
+    }
+
+    /**
+     * Tells if the stream is splittable, and lock-free.
+     * @return   {@code true} if it is, {@code false} otherwise.
+     */
+    public boolean isSplittable() {
+        boolean splittable = (null != _splittableSource);
+        return splittable;
+    }
+
 
 //---------------------------
 // Overridden methods from java.io.InputStream
@@ -65,6 +131,10 @@ public class RandomInputStream extends InputStream {
      */
     @Override
     public int read() {
+        if (isSplittable()) {
+            var value = _splittableSource.nextInt() & 0xff;
+            return value;
+        }
         synchronized (_source) {
             var value = _source.nextInt(256);
             return value;
@@ -82,6 +152,11 @@ public class RandomInputStream extends InputStream {
     public int read(byte[] b, int off, int len) {
         Arrays.checkArray(b, off, len);
 
+        if (isSplittable()) {
+            fill(_splittableSource, b, off, len);
+            return len;
+        }
+
         synchronized (_source) {
             var begin = off;
             var end = off + len;
@@ -94,8 +169,9 @@ public class RandomInputStream extends InputStream {
     }
 
     /**
-     * Skips {@code n} bytes. This method can be slow because it will
-     * generate and discard {@code n} random bytes.
+     * Skips {@code n} bytes. When built on a {@link Random} this method can be
+     * slow because it will generate and discard {@code n} random bytes, when
+     * splittable it generates nothing.
      * @param   n   the number of bytes to skip.
      * @return   {@code n}.
      * @exception   IllegalArgumentException   if {@code n < 0}.
@@ -107,6 +183,10 @@ public class RandomInputStream extends InputStream {
             throw new IllegalArgumentException(message);
         }
 
+        if (isSplittable()) {
+            return n;
+        }
+
         synchronized (_source) {
             for (long l = 0L; l < n; l++) {
                 _source.nextInt(256);
@@ -117,10 +197,71 @@ public class RandomInputStream extends InputStream {
     }
 
 
+//---------------------------
+// Class methods
+//---------------------------
+
+    /**
+     * Creates a splittable stream.
+     * @param   seed   the seed of the stream.
+     * @return   the stream.
+     */
+    public static RandomInputStream splittable(long seed) {
+        var source = new SplittableRandom(seed);
+        var stream = splittable(source);
+        return stream;
+    }
+
+    /**
+     * Creates a splittable stream on a source that it will own.
+     * @param   source   the splittable random source.
+     * @return   the stream.
+     */
+    public static RandomInputStream splittable(@NonNull SplittableRandom source) {
+        var stream = new RandomInputStream(null, source);
+        return stream;
+    }
+
+    /**
+     * Fills a sub-array with random values, eight at a time.
+     * @param   source   the random source.
+     * @param   b   the array.
+     * @param   off   the index from where to begin.
+     * @param   len   the length of the sub-array.
+     */
+    private static void fill(SplittableRandom source, byte[] b, int off, int len) {
+        var i = off;
+        for (int end = off + len - Bits.NUM_OCTETS_IN_LONG; i <= end; i += Bits.NUM_OCTETS_IN_LONG) {
+            LONG_LE.set(b, i, source.nextLong());
+        }
+        var end = off + len;
+        if (i < end) {
+            for (long bits = source.nextLong(); i < end; i++, bits >>>= 8) {
+                b[i] = (byte) bits;
+            }
+        }
+    }
+
+
 //---------------------------
 // Instance methods
 //---------------------------
 
+    /**
+     * Splits off a new stream, independent from this one, for another thread.
+     * @return   the new stream.
+     * @exception   UnsupportedOperationException   if the stream is not
+     *                                              splittable.
+     */
+    public RandomInputStream split() {
+        if (false == isSplittable()) {
+            var message = this.getNotSplittableErrorMessage();
+            throw new UnsupportedOperationException(message);
+        }
+        var stream = splittable(_splittableSource.split());
+        return stream;
+    }
+
     /**
      * Gets the formatted error message telling that the source of randomness is
      * {@code null}.
@@ -144,4 +285,14 @@ public class RandomInputStream extends InputStream {
         return message;
     }
 
+    /**
+     * Gets the error message telling that the stream is not splittable.
+     * @return   the error message.
+     */
+    protected String getNotSplittableErrorMessage() {
+        var key = Resources.RANDOM_INPUT_STREAM_NOT_SPLITTABLE;
+        var message = Resources.getLocalizedString(key);
+        return message;
+    }
+
 }
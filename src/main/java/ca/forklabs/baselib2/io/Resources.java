@@ -37,12 +37,57 @@ class Resources {
     public static final String WRITER_IS_CLOSED = "writer.is.closed";
     /** The key when the writer is closed. */
     public static final String OUTPUT_STREAM_IS_CLOSED = "outputstream.is.closed";
+    /** The key when the buffer is too small. */
+    public static final String OUTPUT_STREAM_BAD_BUFFER_SIZE = "output.stream.bad.buffer.size";
 
     /** The key to indicate that the skip size is negative. */
     public static final String INPUT_STREAM_NEGATIVE_SKIP = "input.stream.negative.skip";
+    /** The key to indicate that a variable-length integer is too long. */
+    public static final String INPUT_STREAM_MALFORMED_VARINT = "input.stream.malformed.varint";
+    /** The key to indicate that marking and resetting are not supported. */
+    public static final String INPUT_STREAM_NO_MARK = "input.stream.no.mark";
+    /** The key to indicate that the input stream is closed. */
+    public static final String INPUT_STREAM_IS_CLOSED = "input.stream.is.closed";
+    /** The key to indicate that the buffer of an input stream is too small. */
+    public static final String INPUT_STREAM_BAD_BUFFER_SIZE = "input.stream.bad.buffer.size";
+    /** The key when the length of a string is negative. */
+    public static final String INPUT_STREAM_NEGATIVE_STRING_LENGTH = "input.stream.negative.string.length";
+
+    /** The key to indicate that the frame size is not positive. */
+    public static final String CHECKSUMMED_STREAM_BAD_FRAME_SIZE = "checksummed.stream.bad.frame.size";
+    /** The key to indicate that a frame does not match its checksum. */
+    public static final String CHECKSUMMED_STREAM_CORRUPTED = "checksummed.stream.corrupted";
+    /** The key to indicate that the stream ends before its last frame. */
+    public static final String CHECKSUMMED_STREAM_TRUNCATED = "checksummed.stream.truncated";
 
     /** The key to indicate that the skip size is negative. */
     public static final String RANDOM_INPUT_STREAM_NULL_RANDOM = "random.input.stream.null.random";
+    /** The key when the random stream is not splittable. */
+    public static final String RANDOM_INPUT_STREAM_NOT_SPLITTABLE = "random.input.stream.not.splittable";
+
+    /** The key to indicate that a capacity of a buffer pool is negative. */
+    public static final String BUFFER_POOL_BAD_CAPACITY = "buffer.pool.bad.capacity";
+    /** The key to indicate that the size of a buffer is negative. */
+    public static final String BUFFER_POOL_NEGATIVE_SIZE = "buffer.pool.negative.size";
+    /** The key to indicate that a released buffer was not borrowed from the pool. */
+    public static final String BUFFER_POOL_NOT_BORROWED = "buffer.pool.not.borrowed";
+
+    /** The key when the buffer of a channel is too small. */
+    public static final String CHANNEL_BAD_BUFFER_SIZE = "channel.bad.buffer.size";
+    /** The key when the channel is not seekable. */
+    public static final String CHANNEL_NOT_SEEKABLE = "channel.not.seekable";
+
+    /** The key when the chunk size of a mapped file is not valid. */
+    public static final String MAPPED_FILE_BAD_CHUNK_SIZE = "mapped.file.bad.chunk.size";
+    /** The key when a read falls outside a mapped file. */
+    public static final String MAPPED_FILE_OUT_OF_BOUNDS = "mapped.file.out.of.bounds";
+    /** The key when the mapped file is closed. */
+    public static final String MAPPED_FILE_IS_CLOSED = "mapped.file.is.closed";
+
+    /** The key when the capacity of a string cache is not valid. */
+    public static final String STRING_CACHE_BAD_CAPACITY = "string.cache.bad.capacity";
+    /** The key when the maximum length of the cached strings is negative. */
+    public static final String STRING_CACHE_NEGATIVE_MAX_LENGTH = "string.cache.negative.max.length";
 
 
 //---------------------------
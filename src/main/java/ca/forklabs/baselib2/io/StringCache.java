@@ -0,0 +1,230 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import ca.forklabs.baselib2.util.Arrays;
+
+/**
+ * Class {@code StringCache} decodes UTF-8 strings and keeps the short ones in
+ * a bounded cache, so that the keys repeated over and over in records are
+ * decoded once and then shared instead of allocated again. The cache is
+ * direct-mapped: each string goes in the slot picked by the hash of its
+ * bytes, replacing whatever was there.
+ * <p>
+ * The cache can be shared by many threads without locking, racing threads at
+ * worst miss a string that another one just stored.
+ *
+ * @see LittleEndianInputStream#setStringCache(StringCache)
+ */
+public class StringCache {
+
+//---------------------------
+// Inner class
+//---------------------------
+
+    /**
+     * Class {@code Entry} is a string and its bytes.
+     */
+    private static final class Entry {
+
+        /** The UTF-8 bytes. */
+        private final byte[] _bytes;
+
+        /** The string. */
+        private final String _string;
+
+        /**
+         * Constructor.
+         *
+         * @param bytes  the UTF-8 bytes.
+         * @param string the string.
+         */
+        private Entry(byte[] bytes, String string) {
+            _bytes = bytes;
+            _string = string;
+        }
+
+    }
+
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The default number of strings in the cache. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** The default length, in bytes, of the longest string kept in the cache. */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The slots. */
+    private final Entry[] _entries;
+
+    /** The length of the longest string kept in the cache. */
+    private final int _maxLength;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs a cache of {@link #DEFAULT_CAPACITY} strings of at most
+     * {@link #DEFAULT_MAX_LENGTH} bytes.
+     */
+    public StringCache() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Constructs a cache.
+     *
+     * @param capacity  the number of strings, rounded up to a power of two.
+     * @param maxLength the length, in bytes, of the longest string to keep.
+     * @exception IllegalArgumentException if the capacity is not positive or
+     *                                     larger than {@code 2^30}, or if the
+     *                                     maximum length is negative.
+     */
+    public StringCache(int capacity, int maxLength) {
+        if ((0 >= capacity) || ((1 << 30) < capacity)) {
+            String message = getBadCapacityErrorMessage(capacity);
+            throw new IllegalArgumentException(message);
+        }
+        if (0 > maxLength) {
+            String message = getNegativeMaxLengthErrorMessage(maxLength);
+            throw new IllegalArgumentException(message);
+        }
+        int size = (1 == capacity) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        _entries = new Entry[size];
+        _maxLength = maxLength;
+    }
+
+
+//---------------------------
+// Accessors and mutators
+//---------------------------
+
+    /**
+     * Gets the number of strings in the cache.
+     *
+     * @return the capacity.
+     */
+    public int getCapacity() {
+        int capacity = _entries.length;
+        return capacity;
+    }
+
+    /**
+     * Gets the length of the longest string kept in the cache.
+     *
+     * @return the length, in bytes.
+     */
+    public int getMaxLength() {
+        return _maxLength;
+    }
+
+
+//---------------------------
+// Class methods
+//---------------------------
+
+    /**
+     * Decodes UTF-8 bytes, taking them straight as Latin-1 characters when
+     * they are all ASCII.
+     *
+     * @param bytes the bytes.
+     * @param off   the offset of the first byte.
+     * @param len   the number of bytes.
+     * @return the string.
+     */
+    public static String decode(byte[] bytes, int off, int len) {
+        boolean ascii = true;
+        for (int i = off, end = off + len; ascii && (i < end); i++) {
+            ascii = (0 <= bytes[i]);
+        }
+        String string = new String(bytes, off, len, ascii ? Charsets.ISO_8859_1 : Charsets.UTF_8);
+        return string;
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Decodes UTF-8 bytes, giving back the cached string if there is one.
+     *
+     * @param bytes the bytes.
+     * @param off   the offset of the first byte.
+     * @param len   the number of bytes.
+     * @return the string.
+     */
+    public String get(byte[] bytes, int off, int len) {
+        if ((0 == len) || (_maxLength < len)) {
+            return decode(bytes, off, len);
+        }
+
+        int slot = Arrays.hash(bytes, off, len) & (_entries.length - 1);
+        var entry = _entries[slot];
+        if ((null == entry) || (len != entry._bytes.length) || (false == Arrays.equals(entry._bytes, 0, bytes, off, len))) {
+            byte[] copy = java.util.Arrays.copyOfRange(bytes, off, off + len);
+            entry = new Entry(copy, decode(copy, 0, len));
+            _entries[slot] = entry;
+        }
+        return entry._string;
+    }
+
+    /**
+     * Empties the cache.
+     */
+    public void clear() {
+        java.util.Arrays.fill(_entries, null);
+    }
+
+    /**
+     * Gets the formatted error message telling that the capacity is not valid.
+     *
+     * @param capacity the capacity.
+     * @return the formatted error message.
+     */
+    protected String getBadCapacityErrorMessage(int capacity) {
+        var key = Resources.STRING_CACHE_BAD_CAPACITY;
+        var message = Resources.getLocalizedString(key, capacity);
+        return message;
+    }
+
+    /**
+     * Gets the formatted error message telling that the maximum length is
+     * negative.
+     *
+     * @param maxLength the maximum length.
+     * @return the formatted error message.
+     */
+    protected String getNegativeMaxLengthErrorMessage(int maxLength) {
+        var key = Resources.STRING_CACHE_NEGATIVE_MAX_LENGTH;
+        var message = Resources.getLocalizedString(key, maxLength);
+        return message;
+    }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Class {@code AbstractRingBuffer} is the base of the bounded lock-free queues
+ * handing elements from producer threads to a single consumer thread. The
+ * capacity is a power of two so that the sequences map to slots with a mask.
+ * <p>
+ * The sequence of the next element to write, the tail, and of the next one to
+ * read, the head, only grow. They live in an array, each with the copy of the
+ * other that its writers read, 128 bytes apart and away from the ends, so that
+ * the producers and the consumer do not invalidate each other's cache lines
+ * each time they move.
+ *
+ * @see WaitStrategy
+ */
+@Getter
+@Accessors(prefix = {"_"})
+public abstract class AbstractRingBuffer {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The access to the sequences with memory ordering. */
+    protected static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /** The number of {@code long}s between the sequences, two cache lines. */
+    private static final int PADDING = 16;
+
+    /** The index of the tail, written by the producers. */
+    protected static final int TAIL = PADDING;
+
+    /** The index of the head last seen by the producers. */
+    protected static final int HEAD_CACHE = PADDING + 1;
+
+    /** The index of the head, written by the consumer. */
+    protected static final int HEAD = 2 * PADDING;
+
+    /** The index of the tail last seen by the consumer. */
+    protected static final int TAIL_CACHE = 2 * PADDING + 1;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The maximum number of elements. */
+    private final int _capacity;
+
+    /** The mask from a sequence to its slot. */
+    @Getter(AccessLevel.NONE)
+    protected final int _mask;
+
+    /** What the threads do while they wait. */
+    private final WaitStrategy _waitStrategy;
+
+    /** The padded sequences. */
+    @Getter(AccessLevel.NONE)
+    protected final long[] _sequences = new long[3 * PADDING];
+
+
+//---------------------------
+// Constructor
+//---------------------------
+
+    /**
+     * Constructor.
+     * @param   capacity   the maximum number of elements, a power of two.
+     * @param   waitStrategy   what the threads do while they wait.
+     * @exception   IllegalArgumentException   if the capacity is not a
+     *                                         positive power of two.
+     * @exception   NullPointerException   if the wait strategy is
+     *                                     {@code null}.
+     */
+    protected AbstractRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        if ((0 >= capacity) || (0 != (capacity & (capacity - 1)))) {
+            var message = getBadCapacityErrorMessage(capacity);
+            throw new IllegalArgumentException(message);
+        }
+        Arrays.checkNull(waitStrategy);
+
+        _capacity = capacity;
+        _mask = capacity - 1;
+        _waitStrategy = waitStrategy;
+    }
+
+
+//---------------------------
+// Accessors and mutators
+//---------------------------
+
+    /**
+     * Gets the number of elements. The number can be stale by the time it is
+     * returned, and includes the elements still being written by producers.
+     * @return   the number of elements.
+     */
+    public int size() {
+        long head = head();
+        long tail = tail();
+        int size = (int) Math.max(0L, Math.min(tail - head, _capacity));
+        return size;
+    }
+
+    /**
+     * Determines if the buffer is empty. Only the consumer can trust the
+     * answer to stay {@code false}.
+     * @return   {@code true} if there are no elements, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        boolean empty = (head() >= tail());
+        return empty;
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Gets the tail with acquire semantics.
+     * @return   the sequence of the next element to write.
+     */
+    protected long tail() {
+        long tail = (long) SEQUENCES.getAcquire(_sequences, TAIL);
+        return tail;
+    }
+
+    /**
+     * Gets the head with acquire semantics.
+     * @return   the sequence of the next element to read.
+     */
+    protected long head() {
+        long head = (long) SEQUENCES.getAcquire(_sequences, HEAD);
+        return head;
+    }
+
+    /**
+     * Gets the slot of a sequence.
+     * @param   sequence   the sequence.
+     * @return   the slot.
+     */
+    protected int slot(long sequence) {
+        int slot = (int) sequence & _mask;
+        return slot;
+    }
+
+    /**
+     * Waits once with the wait strategy.
+     * @param   attempts   the number of times the thread has waited since it
+     *                     last made progress.
+     * @exception   InterruptedException   if the thread is interrupted.
+     */
+    protected void idle(int attempts) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        _waitStrategy.idle(attempts);
+    }
+
+    /**
+     * Counts one more wait, without overflowing into negative counts that
+     * would bring a long-blocked thread back to spinning.
+     * @param   attempts   the number of times the thread has waited.
+     * @return   the next number, at most {@link Integer#MAX_VALUE}.
+     */
+    protected static int nextAttempt(int attempts) {
+        int next = (Integer.MAX_VALUE == attempts) ? attempts : attempts + 1;
+        return next;
+    }
+
+
+//---------------------------
+// Error message class methods
+//---------------------------
+
+    /**
+     * Gets the error message telling that the capacity is not a positive power
+     * of two.
+     * @param   capacity   the bad capacity.
+     * @return   the formatted message.
+     */
+    protected static String getBadCapacityErrorMessage(int capacity) {
+        var key = Resources.RING_BUFFER_BAD_CAPACITY;
+        var message = Resources.getLocalizedString(key, capacity);
+        return message;
+    }
+
+}
@@ -18,12 +18,32 @@
 
 package ca.forklabs.baselib2.util;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Class {@code Arrays} contains methods that acts on arrays. It complements the
  * core library class {@link java.util.Arrays}.
  */
 public class Arrays {
 
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The number of bytes each task fills in {@code parallelMemset()}. */
+    public static final int PARALLEL_MEMSET_GRAIN = 1 << 20;
+
+    /** The length under which object arrays are filled element by element. */
+    private static final int OBJECT_COPY_THRESHOLD = 64;
+
+    /** The factor of the third last element of a step of {@code hash()}. */
+    private static final int HASH_31_2 = 31 * 31;
+    /** The factor of the fourth last element of a step of {@code hash()}. */
+    private static final int HASH_31_3 = 31 * 31 * 31;
+    /** The factor of the hash so far in a step of {@code hash()}. */
+    private static final int HASH_31_4 = 31 * 31 * 31 * 31;
+
+
 //---------------------------
 // Constructor
 //---------------------------
@@ -140,12 +160,7 @@ public class Arrays {
      */
     public static void memset(boolean[] array, boolean value, int offset, int len) {
         checkArray(array, offset, len);
-        if (len > 0) {
-            array[offset] = value;
-        }
-        for (int i = 1; i < len; i += i) {
-            System.arraycopy(array, offset, array, i + offset, ((len - i) < i) ? (len - i) : i);
-        }
+        java.util.Arrays.fill(array, offset, offset + len, value);
     }
 
     /**
@@ -158,12 +173,7 @@ public class Arrays {
      */
     public static void memset(byte[] array, byte value, int offset, int len) {
         checkArray(array, offset, len);
-        if (len > 0) {
-            array[offset] = value;
-        }
-        for (int i = 1; i < len; i += i) {
-            System.arraycopy(array, offset, array, i + offset, ((len - i) < i) ? (len - i) : i);
-        }
+        java.util.Arrays.fill(array, offset, offset + len, value);
     }
 
     /**
@@ -176,12 +186,7 @@ public class Arrays {
      */
     public static void memset(char[] array, char value, int offset, int len) {
         checkArray(array, offset, len);
-        if (len > 0) {
-            array[offset] = value;
-        }
-        for (int i = 1; i < len; i += i) {
-            System.arraycopy(array, offset, array, i + offset, ((len - i) < i) ? (len - i) : i);
-        }
+        java.util.Arrays.fill(array, offset, offset + len, value);
     }
 
     /**
@@ -194,17 +199,17 @@ public class Arrays {
      */
     public static void memset(short[] array, short value, int offset, int len) {
         checkArray(array, offset, len);
-        if (len > 0) {
-            array[offset] = value;
-        }
-        for (int i = 1; i < len; i += i) {
-            System.arraycopy(array, offset, array, i + offset, ((len - i) < i) ? (len - i) : i);
-        }
+        java.util.Arrays.fill(array, offset, offset + len, value);
     }
 
     /**
      * Similar to the C function {@code <a target="_blank" href="http://www.dinkumware.com/htm_cl/string.html#memset">memset</a>}.
-     * Adaption from <a target="_blank" href="http://javafaq.com/cjlfara.html">the Java FAQ</a>.
+     * The primitive arrays are filled with
+     * {@link java.util.Arrays#fill(int[], int, int, int)}, which the JIT
+     * compiler turns into wide vector stores and which beats the doubling
+     * {@link System#arraycopy(Object, int, Object, int, int)} loop at every
+     * size. Object arrays, whose stores go through the garbage collector
+     * barriers, still use the doubling copy past a few elements.
      * @param   array   the array to set each element at {@code value}.
      * @param   value   the value to set each element of {@code array}.
      * @param   offset  the index of the first element of the interval.
@@ -212,12 +217,7 @@ public class Arrays {
      */
     public static void memset(int[] array, int value, int offset, int len) {
         checkArray(array, offset, len);
-        if (len > 0) {
-            array[offset] = value;
-        }
-        for (int i = 1; i < len; i += i) {
-            System.arraycopy(array, offset, array, i + offset, ((len - i) < i) ? (len - i) : i);
-        }
+        java.util.Arrays.fill(array, offset, offset + len, value);
     }
 
     /**
@@ -230,12 +230,7 @@ public class Arrays {
      */
     public static void memset(long[] array, long value, int offset, int len) {
         checkArray(array, offset, len);
-        if (len > 0) {
-            array[offset] = value;
-        }
-        for (int i = 1; i < len; i += i) {
-            System.arraycopy(array, offset, array, i + offset, ((len - i) < i) ? (len - i) : i);
-        }
+        java.util.Arrays.fill(array, offset, offset + len, value);
     }
 
     /**
@@ -248,12 +243,7 @@ public class Arrays {
      */
     public static void memset(float[] array, float value, int offset, int len) {
         checkArray(array, offset, len);
-        if (len > 0) {
-            array[offset] = value;
-        }
-        for (int i = 1; i < len; i += i) {
-            System.arraycopy(array, offset, array, i + offset, ((len - i) < i) ? (len - i) : i);
-        }
+        java.util.Arrays.fill(array, offset, offset + len, value);
     }
 
     /**
@@ -266,12 +256,7 @@ public class Arrays {
      */
     public static void memset(double[] array, double value, int offset, int len) {
         checkArray(array, offset, len);
-        if (len > 0) {
-            array[offset] = value;
-        }
-        for (int i = 1; i < len; i += i) {
-            System.arraycopy(array, offset, array, i + offset, ((len - i) < i) ? (len - i) : i);
-        }
+        java.util.Arrays.fill(array, offset, offset + len, value);
     }
 
     /**
@@ -285,15 +270,1071 @@ public class Arrays {
      */
     public static <E> void memset(E[] array, E value, int offset, int len) {
         checkArray(array, offset, len);
-        if (len > 0) {
-            array[offset] = value;
+        fill(array, value, offset, offset + len);
+    }
+
+
+//---------------------------
+// parallelMemset()
+//---------------------------
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @see #parallelMemset(boolean[], boolean, int, int)
+     */
+    public static void parallelMemset(boolean[] array, boolean value) {
+        parallelMemset(array, value, 0, array.length);
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @see #parallelMemset(byte[], byte, int, int)
+     */
+    public static void parallelMemset(byte[] array, byte value) {
+        parallelMemset(array, value, 0, array.length);
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @see #parallelMemset(char[], char, int, int)
+     */
+    public static void parallelMemset(char[] array, char value) {
+        parallelMemset(array, value, 0, array.length);
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @see #parallelMemset(short[], short, int, int)
+     */
+    public static void parallelMemset(short[] array, short value) {
+        parallelMemset(array, value, 0, array.length);
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @see #parallelMemset(int[], int, int, int)
+     */
+    public static void parallelMemset(int[] array, int value) {
+        parallelMemset(array, value, 0, array.length);
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @see #parallelMemset(long[], long, int, int)
+     */
+    public static void parallelMemset(long[] array, long value) {
+        parallelMemset(array, value, 0, array.length);
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @see #parallelMemset(float[], float, int, int)
+     */
+    public static void parallelMemset(float[] array, float value) {
+        parallelMemset(array, value, 0, array.length);
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @see #parallelMemset(double[], double, int, int)
+     */
+    public static void parallelMemset(double[] array, double value) {
+        parallelMemset(array, value, 0, array.length);
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @see #parallelMemset(Object[], Object, int, int)
+     */
+    public static void parallelMemset(Object[] array, Object value) {
+        parallelMemset(array, value, 0, array.length);
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @param   offset   the offset in the array.
+     * @param   len   the length of the interval.
+     * @see #parallelMemset(int[], int, int, int)
+     */
+    public static void parallelMemset(boolean[] array, boolean value, int offset, int len) {
+        checkArray(array, offset, len);
+        ParallelRange.forEach(offset, offset + len, PARALLEL_MEMSET_GRAIN / 1, (from, to) -> java.util.Arrays.fill(array, from, to, value));
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @param   offset   the offset in the array.
+     * @param   len   the length of the interval.
+     * @see #parallelMemset(int[], int, int, int)
+     */
+    public static void parallelMemset(byte[] array, byte value, int offset, int len) {
+        checkArray(array, offset, len);
+        ParallelRange.forEach(offset, offset + len, PARALLEL_MEMSET_GRAIN / Byte.BYTES, (from, to) -> java.util.Arrays.fill(array, from, to, value));
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @param   offset   the offset in the array.
+     * @param   len   the length of the interval.
+     * @see #parallelMemset(int[], int, int, int)
+     */
+    public static void parallelMemset(char[] array, char value, int offset, int len) {
+        checkArray(array, offset, len);
+        ParallelRange.forEach(offset, offset + len, PARALLEL_MEMSET_GRAIN / Character.BYTES, (from, to) -> java.util.Arrays.fill(array, from, to, value));
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @param   offset   the offset in the array.
+     * @param   len   the length of the interval.
+     * @see #parallelMemset(int[], int, int, int)
+     */
+    public static void parallelMemset(short[] array, short value, int offset, int len) {
+        checkArray(array, offset, len);
+        ParallelRange.forEach(offset, offset + len, PARALLEL_MEMSET_GRAIN / Short.BYTES, (from, to) -> java.util.Arrays.fill(array, from, to, value));
+    }
+
+    /**
+     * Sets each element of the interval to the specified value. Intervals of
+     * more than {@link #PARALLEL_MEMSET_GRAIN} bytes are cut into pieces of
+     * that size filled concurrently by the common {@link ForkJoinPool}, so that
+     * huge arrays use more of the memory bandwidth than a single core can.
+     * Smaller intervals, or a pool without parallelism, are filled like
+     * {@link #memset(int[], int, int, int)} does.
+     * @param   array   the array to set each element at {@code value}.
+     * @param   value   the value to set each element of {@code array}.
+     * @param   offset  the index of the first element of the interval.
+     * @param   len     the length of the interval.
+     */
+    public static void parallelMemset(int[] array, int value, int offset, int len) {
+        checkArray(array, offset, len);
+        ParallelRange.forEach(offset, offset + len, PARALLEL_MEMSET_GRAIN / Integer.BYTES, (from, to) -> java.util.Arrays.fill(array, from, to, value));
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @param   offset   the offset in the array.
+     * @param   len   the length of the interval.
+     * @see #parallelMemset(int[], int, int, int)
+     */
+    public static void parallelMemset(long[] array, long value, int offset, int len) {
+        checkArray(array, offset, len);
+        ParallelRange.forEach(offset, offset + len, PARALLEL_MEMSET_GRAIN / Long.BYTES, (from, to) -> java.util.Arrays.fill(array, from, to, value));
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @param   offset   the offset in the array.
+     * @param   len   the length of the interval.
+     * @see #parallelMemset(int[], int, int, int)
+     */
+    public static void parallelMemset(float[] array, float value, int offset, int len) {
+        checkArray(array, offset, len);
+        ParallelRange.forEach(offset, offset + len, PARALLEL_MEMSET_GRAIN / Float.BYTES, (from, to) -> java.util.Arrays.fill(array, from, to, value));
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @param   offset   the offset in the array.
+     * @param   len   the length of the interval.
+     * @see #parallelMemset(int[], int, int, int)
+     */
+    public static void parallelMemset(double[] array, double value, int offset, int len) {
+        checkArray(array, offset, len);
+        ParallelRange.forEach(offset, offset + len, PARALLEL_MEMSET_GRAIN / Double.BYTES, (from, to) -> java.util.Arrays.fill(array, from, to, value));
+    }
+
+    /**
+     * Sets each element of the array to the specified value, splitting large
+     * arrays across the common {@link ForkJoinPool}. The grain assumes
+     * compressed references of four bytes.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @param   offset   the offset in the array.
+     * @param   len   the length of the interval.
+     * @param   <E>   the type of the elements in the array.
+     * @see #parallelMemset(int[], int, int, int)
+     */
+    public static <E> void parallelMemset(E[] array, E value, int offset, int len) {
+        checkArray(array, offset, len);
+        ParallelRange.forEach(offset, offset + len, PARALLEL_MEMSET_GRAIN / Integer.BYTES, (from, to) -> fill(array, value, from, to));
+    }
+
+    /**
+     * Sets each element of the interval to the specified value, element by
+     * element for short intervals, by doubling the filled prefix with
+     * {@link System#arraycopy(Object, int, Object, int, int)} otherwise.
+     * @param   array   the array.
+     * @param   value   the value.
+     * @param   from   the first index, inclusive.
+     * @param   to   the last index, exclusive.
+     */
+    private static void fill(Object[] array, Object value, int from, int to) {
+        int len = to - from;
+        if (len < OBJECT_COPY_THRESHOLD) {
+            java.util.Arrays.fill(array, from, to, value);
         }
-        for (int i = 1; i < len; i += i) {
-            System.arraycopy(array, offset, array, i + offset, ((len - i) < i) ? (len - i) : i);
+        else {
+            array[from] = value;
+            for (int i = 1; i < len; i += i) {
+                System.arraycopy(array, from, array, i + from, ((len - i) < i) ? (len - i) : i);
+            }
         }
     }
 
 
+//---------------------------
+// mismatch()
+//---------------------------
+
+    /**
+     * Finds the first index where two intervals of the same length differ.
+     * The comparison is delegated to
+     * {@link java.util.Arrays#mismatch(boolean[], int, int, boolean[], int, int)},
+     * which compares many elements at a time.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   the index of the first difference relative to the offsets,
+     *           or {@code -1} if the intervals are equal.
+     * @see #checkArray(boolean[], int, int)
+     */
+    public static int mismatch(boolean[] a, int aOff, boolean[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        int index = java.util.Arrays.mismatch(a, aOff, aOff + len, b, bOff, bOff + len);
+        return index;
+    }
+
+    /**
+     * Finds the first index where two intervals of the same length differ.
+     * The comparison is delegated to
+     * {@link java.util.Arrays#mismatch(byte[], int, int, byte[], int, int)},
+     * which compares many elements at a time.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   the index of the first difference relative to the offsets,
+     *           or {@code -1} if the intervals are equal.
+     * @see #checkArray(byte[], int, int)
+     */
+    public static int mismatch(byte[] a, int aOff, byte[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        int index = java.util.Arrays.mismatch(a, aOff, aOff + len, b, bOff, bOff + len);
+        return index;
+    }
+
+    /**
+     * Finds the first index where two intervals of the same length differ.
+     * The comparison is delegated to
+     * {@link java.util.Arrays#mismatch(char[], int, int, char[], int, int)},
+     * which compares many elements at a time.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   the index of the first difference relative to the offsets,
+     *           or {@code -1} if the intervals are equal.
+     * @see #checkArray(char[], int, int)
+     */
+    public static int mismatch(char[] a, int aOff, char[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        int index = java.util.Arrays.mismatch(a, aOff, aOff + len, b, bOff, bOff + len);
+        return index;
+    }
+
+    /**
+     * Finds the first index where two intervals of the same length differ.
+     * The comparison is delegated to
+     * {@link java.util.Arrays#mismatch(short[], int, int, short[], int, int)},
+     * which compares many elements at a time.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   the index of the first difference relative to the offsets,
+     *           or {@code -1} if the intervals are equal.
+     * @see #checkArray(short[], int, int)
+     */
+    public static int mismatch(short[] a, int aOff, short[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        int index = java.util.Arrays.mismatch(a, aOff, aOff + len, b, bOff, bOff + len);
+        return index;
+    }
+
+    /**
+     * Finds the first index where two intervals of the same length differ.
+     * The comparison is delegated to
+     * {@link java.util.Arrays#mismatch(int[], int, int, int[], int, int)},
+     * which compares many elements at a time.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   the index of the first difference relative to the offsets,
+     *           or {@code -1} if the intervals are equal.
+     * @see #checkArray(int[], int, int)
+     */
+    public static int mismatch(int[] a, int aOff, int[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        int index = java.util.Arrays.mismatch(a, aOff, aOff + len, b, bOff, bOff + len);
+        return index;
+    }
+
+    /**
+     * Finds the first index where two intervals of the same length differ.
+     * The comparison is delegated to
+     * {@link java.util.Arrays#mismatch(long[], int, int, long[], int, int)},
+     * which compares many elements at a time.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   the index of the first difference relative to the offsets,
+     *           or {@code -1} if the intervals are equal.
+     * @see #checkArray(long[], int, int)
+     */
+    public static int mismatch(long[] a, int aOff, long[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        int index = java.util.Arrays.mismatch(a, aOff, aOff + len, b, bOff, bOff + len);
+        return index;
+    }
+
+    /**
+     * Finds the first index where two intervals of the same length differ.
+     * The comparison is delegated to
+     * {@link java.util.Arrays#mismatch(float[], int, int, float[], int, int)},
+     * which compares many elements at a time.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   the index of the first difference relative to the offsets,
+     *           or {@code -1} if the intervals are equal.
+     * @see #checkArray(float[], int, int)
+     */
+    public static int mismatch(float[] a, int aOff, float[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        int index = java.util.Arrays.mismatch(a, aOff, aOff + len, b, bOff, bOff + len);
+        return index;
+    }
+
+    /**
+     * Finds the first index where two intervals of the same length differ.
+     * The comparison is delegated to
+     * {@link java.util.Arrays#mismatch(double[], int, int, double[], int, int)},
+     * which compares many elements at a time.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   the index of the first difference relative to the offsets,
+     *           or {@code -1} if the intervals are equal.
+     * @see #checkArray(double[], int, int)
+     */
+    public static int mismatch(double[] a, int aOff, double[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        int index = java.util.Arrays.mismatch(a, aOff, aOff + len, b, bOff, bOff + len);
+        return index;
+    }
+
+
+//---------------------------
+// compare()
+//---------------------------
+
+    /**
+     * Compares two intervals lexicographically, as
+     * {@link java.util.Arrays#compare(boolean[], int, int, boolean[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   aLen   the length of the first interval.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   bLen   the length of the second interval.
+     * @return   a negative number, zero or a positive number if the first
+     *           interval is less than, equal to or greater than the second.
+     * @see #checkArray(boolean[], int, int)
+     */
+    public static int compare(boolean[] a, int aOff, int aLen, boolean[] b, int bOff, int bLen) {
+        checkArray(a, aOff, aLen);
+        checkArray(b, bOff, bLen);
+        int comparison = java.util.Arrays.compare(a, aOff, aOff + aLen, b, bOff, bOff + bLen);
+        return comparison;
+    }
+
+    /**
+     * Compares two intervals lexicographically, as
+     * {@link java.util.Arrays#compare(byte[], int, int, byte[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   aLen   the length of the first interval.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   bLen   the length of the second interval.
+     * @return   a negative number, zero or a positive number if the first
+     *           interval is less than, equal to or greater than the second.
+     * @see #checkArray(byte[], int, int)
+     */
+    public static int compare(byte[] a, int aOff, int aLen, byte[] b, int bOff, int bLen) {
+        checkArray(a, aOff, aLen);
+        checkArray(b, bOff, bLen);
+        int comparison = java.util.Arrays.compare(a, aOff, aOff + aLen, b, bOff, bOff + bLen);
+        return comparison;
+    }
+
+    /**
+     * Compares two intervals lexicographically, the elements being unsigned,
+     * as {@link java.util.Arrays#compareUnsigned(byte[], int, int, byte[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   aLen   the length of the first interval.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   bLen   the length of the second interval.
+     * @return   a negative number, zero or a positive number if the first
+     *           interval is less than, equal to or greater than the second.
+     * @see #checkArray(byte[], int, int)
+     */
+    public static int compareUnsigned(byte[] a, int aOff, int aLen, byte[] b, int bOff, int bLen) {
+        checkArray(a, aOff, aLen);
+        checkArray(b, bOff, bLen);
+        int comparison = java.util.Arrays.compareUnsigned(a, aOff, aOff + aLen, b, bOff, bOff + bLen);
+        return comparison;
+    }
+
+    /**
+     * Compares two intervals lexicographically, as
+     * {@link java.util.Arrays#compare(char[], int, int, char[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   aLen   the length of the first interval.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   bLen   the length of the second interval.
+     * @return   a negative number, zero or a positive number if the first
+     *           interval is less than, equal to or greater than the second.
+     * @see #checkArray(char[], int, int)
+     */
+    public static int compare(char[] a, int aOff, int aLen, char[] b, int bOff, int bLen) {
+        checkArray(a, aOff, aLen);
+        checkArray(b, bOff, bLen);
+        int comparison = java.util.Arrays.compare(a, aOff, aOff + aLen, b, bOff, bOff + bLen);
+        return comparison;
+    }
+
+    /**
+     * Compares two intervals lexicographically, as
+     * {@link java.util.Arrays#compare(short[], int, int, short[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   aLen   the length of the first interval.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   bLen   the length of the second interval.
+     * @return   a negative number, zero or a positive number if the first
+     *           interval is less than, equal to or greater than the second.
+     * @see #checkArray(short[], int, int)
+     */
+    public static int compare(short[] a, int aOff, int aLen, short[] b, int bOff, int bLen) {
+        checkArray(a, aOff, aLen);
+        checkArray(b, bOff, bLen);
+        int comparison = java.util.Arrays.compare(a, aOff, aOff + aLen, b, bOff, bOff + bLen);
+        return comparison;
+    }
+
+    /**
+     * Compares two intervals lexicographically, the elements being unsigned,
+     * as {@link java.util.Arrays#compareUnsigned(short[], int, int, short[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   aLen   the length of the first interval.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   bLen   the length of the second interval.
+     * @return   a negative number, zero or a positive number if the first
+     *           interval is less than, equal to or greater than the second.
+     * @see #checkArray(short[], int, int)
+     */
+    public static int compareUnsigned(short[] a, int aOff, int aLen, short[] b, int bOff, int bLen) {
+        checkArray(a, aOff, aLen);
+        checkArray(b, bOff, bLen);
+        int comparison = java.util.Arrays.compareUnsigned(a, aOff, aOff + aLen, b, bOff, bOff + bLen);
+        return comparison;
+    }
+
+    /**
+     * Compares two intervals lexicographically, as
+     * {@link java.util.Arrays#compare(int[], int, int, int[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   aLen   the length of the first interval.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   bLen   the length of the second interval.
+     * @return   a negative number, zero or a positive number if the first
+     *           interval is less than, equal to or greater than the second.
+     * @see #checkArray(int[], int, int)
+     */
+    public static int compare(int[] a, int aOff, int aLen, int[] b, int bOff, int bLen) {
+        checkArray(a, aOff, aLen);
+        checkArray(b, bOff, bLen);
+        int comparison = java.util.Arrays.compare(a, aOff, aOff + aLen, b, bOff, bOff + bLen);
+        return comparison;
+    }
+
+    /**
+     * Compares two intervals lexicographically, the elements being unsigned,
+     * as {@link java.util.Arrays#compareUnsigned(int[], int, int, int[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   aLen   the length of the first interval.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   bLen   the length of the second interval.
+     * @return   a negative number, zero or a positive number if the first
+     *           interval is less than, equal to or greater than the second.
+     * @see #checkArray(int[], int, int)
+     */
+    public static int compareUnsigned(int[] a, int aOff, int aLen, int[] b, int bOff, int bLen) {
+        checkArray(a, aOff, aLen);
+        checkArray(b, bOff, bLen);
+        int comparison = java.util.Arrays.compareUnsigned(a, aOff, aOff + aLen, b, bOff, bOff + bLen);
+        return comparison;
+    }
+
+    /**
+     * Compares two intervals lexicographically, as
+     * {@link java.util.Arrays#compare(long[], int, int, long[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   aLen   the length of the first interval.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   bLen   the length of the second interval.
+     * @return   a negative number, zero or a positive number if the first
+     *           interval is less than, equal to or greater than the second.
+     * @see #checkArray(long[], int, int)
+     */
+    public static int compare(long[] a, int aOff, int aLen, long[] b, int bOff, int bLen) {
+        checkArray(a, aOff, aLen);
+        checkArray(b, bOff, bLen);
+        int comparison = java.util.Arrays.compare(a, aOff, aOff + aLen, b, bOff, bOff + bLen);
+        return comparison;
+    }
+
+    /**
+     * Compares two intervals lexicographically, the elements being unsigned,
+     * as {@link java.util.Arrays#compareUnsigned(long[], int, int, long[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   aLen   the length of the first interval.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   bLen   the length of the second interval.
+     * @return   a negative number, zero or a positive number if the first
+     *           interval is less than, equal to or greater than the second.
+     * @see #checkArray(long[], int, int)
+     */
+    public static int compareUnsigned(long[] a, int aOff, int aLen, long[] b, int bOff, int bLen) {
+        checkArray(a, aOff, aLen);
+        checkArray(b, bOff, bLen);
+        int comparison = java.util.Arrays.compareUnsigned(a, aOff, aOff + aLen, b, bOff, bOff + bLen);
+        return comparison;
+    }
+
+    /**
+     * Compares two intervals lexicographically, as
+     * {@link java.util.Arrays#compare(float[], int, int, float[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   aLen   the length of the first interval.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   bLen   the length of the second interval.
+     * @return   a negative number, zero or a positive number if the first
+     *           interval is less than, equal to or greater than the second.
+     * @see #checkArray(float[], int, int)
+     */
+    public static int compare(float[] a, int aOff, int aLen, float[] b, int bOff, int bLen) {
+        checkArray(a, aOff, aLen);
+        checkArray(b, bOff, bLen);
+        int comparison = java.util.Arrays.compare(a, aOff, aOff + aLen, b, bOff, bOff + bLen);
+        return comparison;
+    }
+
+    /**
+     * Compares two intervals lexicographically, as
+     * {@link java.util.Arrays#compare(double[], int, int, double[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   aLen   the length of the first interval.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   bLen   the length of the second interval.
+     * @return   a negative number, zero or a positive number if the first
+     *           interval is less than, equal to or greater than the second.
+     * @see #checkArray(double[], int, int)
+     */
+    public static int compare(double[] a, int aOff, int aLen, double[] b, int bOff, int bLen) {
+        checkArray(a, aOff, aLen);
+        checkArray(b, bOff, bLen);
+        int comparison = java.util.Arrays.compare(a, aOff, aOff + aLen, b, bOff, bOff + bLen);
+        return comparison;
+    }
+
+
+//---------------------------
+// equals()
+//---------------------------
+
+    /**
+     * Tells if two intervals of the same length are equal, as
+     * {@link java.util.Arrays#equals(boolean[], int, int, boolean[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   {@code true} if the intervals are equal, {@code false}
+     *           otherwise.
+     * @see #checkArray(boolean[], int, int)
+     */
+    public static boolean equals(boolean[] a, int aOff, boolean[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        boolean equals = java.util.Arrays.equals(a, aOff, aOff + len, b, bOff, bOff + len);
+        return equals;
+    }
+
+    /**
+     * Tells if two intervals of the same length are equal, as
+     * {@link java.util.Arrays#equals(byte[], int, int, byte[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   {@code true} if the intervals are equal, {@code false}
+     *           otherwise.
+     * @see #checkArray(byte[], int, int)
+     */
+    public static boolean equals(byte[] a, int aOff, byte[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        boolean equals = java.util.Arrays.equals(a, aOff, aOff + len, b, bOff, bOff + len);
+        return equals;
+    }
+
+    /**
+     * Tells if two intervals of the same length are equal, as
+     * {@link java.util.Arrays#equals(char[], int, int, char[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   {@code true} if the intervals are equal, {@code false}
+     *           otherwise.
+     * @see #checkArray(char[], int, int)
+     */
+    public static boolean equals(char[] a, int aOff, char[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        boolean equals = java.util.Arrays.equals(a, aOff, aOff + len, b, bOff, bOff + len);
+        return equals;
+    }
+
+    /**
+     * Tells if two intervals of the same length are equal, as
+     * {@link java.util.Arrays#equals(short[], int, int, short[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   {@code true} if the intervals are equal, {@code false}
+     *           otherwise.
+     * @see #checkArray(short[], int, int)
+     */
+    public static boolean equals(short[] a, int aOff, short[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        boolean equals = java.util.Arrays.equals(a, aOff, aOff + len, b, bOff, bOff + len);
+        return equals;
+    }
+
+    /**
+     * Tells if two intervals of the same length are equal, as
+     * {@link java.util.Arrays#equals(int[], int, int, int[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   {@code true} if the intervals are equal, {@code false}
+     *           otherwise.
+     * @see #checkArray(int[], int, int)
+     */
+    public static boolean equals(int[] a, int aOff, int[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        boolean equals = java.util.Arrays.equals(a, aOff, aOff + len, b, bOff, bOff + len);
+        return equals;
+    }
+
+    /**
+     * Tells if two intervals of the same length are equal, as
+     * {@link java.util.Arrays#equals(long[], int, int, long[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   {@code true} if the intervals are equal, {@code false}
+     *           otherwise.
+     * @see #checkArray(long[], int, int)
+     */
+    public static boolean equals(long[] a, int aOff, long[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        boolean equals = java.util.Arrays.equals(a, aOff, aOff + len, b, bOff, bOff + len);
+        return equals;
+    }
+
+    /**
+     * Tells if two intervals of the same length are equal, as
+     * {@link java.util.Arrays#equals(float[], int, int, float[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   {@code true} if the intervals are equal, {@code false}
+     *           otherwise.
+     * @see #checkArray(float[], int, int)
+     */
+    public static boolean equals(float[] a, int aOff, float[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        boolean equals = java.util.Arrays.equals(a, aOff, aOff + len, b, bOff, bOff + len);
+        return equals;
+    }
+
+    /**
+     * Tells if two intervals of the same length are equal, as
+     * {@link java.util.Arrays#equals(double[], int, int, double[], int, int)}.
+     * @param   a   the first array.
+     * @param   aOff   the offset in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset in the second array.
+     * @param   len   the length of the intervals.
+     * @return   {@code true} if the intervals are equal, {@code false}
+     *           otherwise.
+     * @see #checkArray(double[], int, int)
+     */
+    public static boolean equals(double[] a, int aOff, double[] b, int bOff, int len) {
+        checkArray(a, aOff, len);
+        checkArray(b, bOff, len);
+        boolean equals = java.util.Arrays.equals(a, aOff, aOff + len, b, bOff, bOff + len);
+        return equals;
+    }
+
+
+//---------------------------
+// hash()
+//---------------------------
+
+    /**
+     * Computes the hash code of an interval, the same as
+     * {@link java.util.Arrays#hashCode(boolean[])} on a copy of the interval.
+     * Four elements are folded per step to shorten the chain of
+     * multiplications.
+     * @param   array   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the length of the interval.
+     * @return   the hash code.
+     * @see #checkArray(boolean[], int, int)
+     */
+    public static int hash(boolean[] array, int off, int len) {
+        checkArray(array, off, len);
+        int hash = 1;
+        int i = off;
+        for (int end = off + (len & ~3); i < end; i += 4) {
+            hash = hash * HASH_31_4
+                 + (array[i] ? 1231 : 1237) * HASH_31_3
+                 + (array[i + 1] ? 1231 : 1237) * HASH_31_2
+                 + (array[i + 2] ? 1231 : 1237) * 31
+                 + (array[i + 3] ? 1231 : 1237);
+        }
+        for (int end = off + len; i < end; i++) {
+            hash = 31 * hash + (array[i] ? 1231 : 1237);
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the hash code of an interval, the same as
+     * {@link java.util.Arrays#hashCode(byte[])} on a copy of the interval.
+     * Four elements are folded per step to shorten the chain of
+     * multiplications.
+     * @param   array   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the length of the interval.
+     * @return   the hash code.
+     * @see #checkArray(byte[], int, int)
+     */
+    public static int hash(byte[] array, int off, int len) {
+        checkArray(array, off, len);
+        int hash = 1;
+        int i = off;
+        for (int end = off + (len & ~3); i < end; i += 4) {
+            hash = hash * HASH_31_4
+                 + array[i] * HASH_31_3
+                 + array[i + 1] * HASH_31_2
+                 + array[i + 2] * 31
+                 + array[i + 3];
+        }
+        for (int end = off + len; i < end; i++) {
+            hash = 31 * hash + array[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the hash code of an interval, the same as
+     * {@link java.util.Arrays#hashCode(char[])} on a copy of the interval.
+     * Four elements are folded per step to shorten the chain of
+     * multiplications.
+     * @param   array   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the length of the interval.
+     * @return   the hash code.
+     * @see #checkArray(char[], int, int)
+     */
+    public static int hash(char[] array, int off, int len) {
+        checkArray(array, off, len);
+        int hash = 1;
+        int i = off;
+        for (int end = off + (len & ~3); i < end; i += 4) {
+            hash = hash * HASH_31_4
+                 + array[i] * HASH_31_3
+                 + array[i + 1] * HASH_31_2
+                 + array[i + 2] * 31
+                 + array[i + 3];
+        }
+        for (int end = off + len; i < end; i++) {
+            hash = 31 * hash + array[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the hash code of an interval, the same as
+     * {@link java.util.Arrays#hashCode(short[])} on a copy of the interval.
+     * Four elements are folded per step to shorten the chain of
+     * multiplications.
+     * @param   array   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the length of the interval.
+     * @return   the hash code.
+     * @see #checkArray(short[], int, int)
+     */
+    public static int hash(short[] array, int off, int len) {
+        checkArray(array, off, len);
+        int hash = 1;
+        int i = off;
+        for (int end = off + (len & ~3); i < end; i += 4) {
+            hash = hash * HASH_31_4
+                 + array[i] * HASH_31_3
+                 + array[i + 1] * HASH_31_2
+                 + array[i + 2] * 31
+                 + array[i + 3];
+        }
+        for (int end = off + len; i < end; i++) {
+            hash = 31 * hash + array[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the hash code of an interval, the same as
+     * {@link java.util.Arrays#hashCode(int[])} on a copy of the interval.
+     * Four elements are folded per step to shorten the chain of
+     * multiplications.
+     * @param   array   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the length of the interval.
+     * @return   the hash code.
+     * @see #checkArray(int[], int, int)
+     */
+    public static int hash(int[] array, int off, int len) {
+        checkArray(array, off, len);
+        int hash = 1;
+        int i = off;
+        for (int end = off + (len & ~3); i < end; i += 4) {
+            hash = hash * HASH_31_4
+                 + array[i] * HASH_31_3
+                 + array[i + 1] * HASH_31_2
+                 + array[i + 2] * 31
+                 + array[i + 3];
+        }
+        for (int end = off + len; i < end; i++) {
+            hash = 31 * hash + array[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the hash code of an interval, the same as
+     * {@link java.util.Arrays#hashCode(long[])} on a copy of the interval.
+     * Four elements are folded per step to shorten the chain of
+     * multiplications.
+     * @param   array   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the length of the interval.
+     * @return   the hash code.
+     * @see #checkArray(long[], int, int)
+     */
+    public static int hash(long[] array, int off, int len) {
+        checkArray(array, off, len);
+        int hash = 1;
+        int i = off;
+        for (int end = off + (len & ~3); i < end; i += 4) {
+            hash = hash * HASH_31_4
+                 + Long.hashCode(array[i]) * HASH_31_3
+                 + Long.hashCode(array[i + 1]) * HASH_31_2
+                 + Long.hashCode(array[i + 2]) * 31
+                 + Long.hashCode(array[i + 3]);
+        }
+        for (int end = off + len; i < end; i++) {
+            hash = 31 * hash + Long.hashCode(array[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the hash code of an interval, the same as
+     * {@link java.util.Arrays#hashCode(float[])} on a copy of the interval.
+     * Four elements are folded per step to shorten the chain of
+     * multiplications.
+     * @param   array   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the length of the interval.
+     * @return   the hash code.
+     * @see #checkArray(float[], int, int)
+     */
+    public static int hash(float[] array, int off, int len) {
+        checkArray(array, off, len);
+        int hash = 1;
+        int i = off;
+        for (int end = off + (len & ~3); i < end; i += 4) {
+            hash = hash * HASH_31_4
+                 + Float.floatToIntBits(array[i]) * HASH_31_3
+                 + Float.floatToIntBits(array[i + 1]) * HASH_31_2
+                 + Float.floatToIntBits(array[i + 2]) * 31
+                 + Float.floatToIntBits(array[i + 3]);
+        }
+        for (int end = off + len; i < end; i++) {
+            hash = 31 * hash + Float.floatToIntBits(array[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the hash code of an interval, the same as
+     * {@link java.util.Arrays#hashCode(double[])} on a copy of the interval.
+     * Four elements are folded per step to shorten the chain of
+     * multiplications.
+     * @param   array   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the length of the interval.
+     * @return   the hash code.
+     * @see #checkArray(double[], int, int)
+     */
+    public static int hash(double[] array, int off, int len) {
+        checkArray(array, off, len);
+        int hash = 1;
+        int i = off;
+        for (int end = off + (len & ~3); i < end; i += 4) {
+            hash = hash * HASH_31_4
+                 + Double.hashCode(array[i]) * HASH_31_3
+                 + Double.hashCode(array[i + 1]) * HASH_31_2
+                 + Double.hashCode(array[i + 2]) * 31
+                 + Double.hashCode(array[i + 3]);
+        }
+        for (int end = off + len; i < end; i++) {
+            hash = 31 * hash + Double.hashCode(array[i]);
+        }
+        return hash;
+    }
+
+
 //---------------------------
 // checkArray()
 //---------------------------
@@ -425,6 +1466,20 @@ public class Arrays {
         checkOffLen(array.length, off, len);
     }
 
+    /**
+     * Throws an exception is the region {@code [off, off + len]} is not
+     * within the bounds of a big array.
+     * @param   array   the array.
+     * @param   off   the begin offset in the array.
+     * @param   len   the length of the interval
+     * @see  #checkNull(Object)
+     * @see  #checkOffLen(long, long, long)
+     */
+    public static void checkArray(BigArray array, long off, long len) {
+        checkNull(array);
+        checkOffLen(array.getLength(), off, len);
+    }
+
 
 //---------------------------
 // Class methods
@@ -477,6 +1532,41 @@ public class Arrays {
         }
      }
 
+    /**
+     * Given the length of a large array, checks to see if the region
+     * {@code [off, off + len]} is within the array bounds. The contract is the
+     * same as {@link #checkOffLen(int, int, int)}, for arrays indexed by
+     * {@code long}s.
+     * @param  arrayLen  the length of the array.
+     * @param  off       the offset in the the array.
+     * @param  len       the length of the interval.
+     * @exception  ArrayIndexOutOfBoundsException  if {@code arrayLen &lt; 0}.
+     * @exception  ArrayIndexOutOfBoundsException  if {@code off} is not within }[0, arrayLen - 1].
+     * @exception  IllegalArgumentException        if {@code len &lt; 0}.
+     * @exception  IllegalArgumentException        if {@code off + len &gt; arrayLen}.
+     */
+    public static void checkOffLen(long arrayLen, long off, long len) throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        if ((arrayLen == 0L) && (off == 0L) && (len == 0L)) {
+            return;
+        }
+        if (arrayLen < 0L) {
+            var message = getNoValidIntervalErrorMessage(arrayLen);
+            throw new ArrayIndexOutOfBoundsException(message);
+        }
+        if (off < 0L || off > arrayLen - 1L) {
+            var message = getBadOffsetErrorMessage(off, arrayLen);
+            throw new ArrayIndexOutOfBoundsException(message);
+        }
+        if (len < 0L) {
+            var message = getBadLenghtErrorMessage(len);
+            throw new IllegalArgumentException(message);
+        }
+        if (len > arrayLen - off) {
+            var message = getEndNotWithinBoundsErrorMessage(arrayLen, off, len);
+            throw new IllegalArgumentException(message);
+        }
+    }
+
 
 //---------------------------
 // Error message class methods
@@ -504,6 +1594,17 @@ public class Arrays {
         return message;
     }
 
+    /**
+     * Gets the formatted error message that says that there exist no interval.
+     * @param   len   the lenght of the array.
+     * @return   the formatted error message.
+     */
+    protected static String getNoValidIntervalErrorMessage(long len) {
+        var key = Resources.ARRAYS_ZERO_LENGTH;
+        var message = Resources.getLocalizedString(key, len);
+        return message;
+    }
+
     /**
      * Gets the formatted error message that says that the offset is out of
      * bounds.
@@ -517,6 +1618,19 @@ public class Arrays {
         return message;
     }
 
+    /**
+     * Gets the formatted error message that says that the offset is out of
+     * bounds.
+     * @param   off   the offset.
+     * @param   len   the len of the array.
+     * @return   the formatted error message.
+     */
+    protected static String getBadOffsetErrorMessage(long off, long len) {
+        var key = Resources.ARRAYS_NOT_WITHIN_BOUNDS;
+        var message = Resources.getLocalizedString(key, off, len);
+        return message;
+    }
+
     /**
      * Gets the formatted error message that says that the length of the interval
      * is negative.
@@ -529,6 +1643,18 @@ public class Arrays {
         return message;
     }
 
+    /**
+     * Gets the formatted error message that says that the length of the interval
+     * is negative.
+     * @param   len   the length of the interval.
+     * @return   the formatted error message.
+     */
+    protected static String getBadLenghtErrorMessage(long len) {
+        var key = Resources.ARRAYS_NEGATIVE_LENGTH;
+        var message = Resources.getLocalizedString(key, len);
+        return message;
+    }
+
     /**
      * Gets the formatted error message that says that the end of the interval
      * goes past the end of the array.
@@ -543,4 +1669,18 @@ public class Arrays {
         return message;
     }
 
+    /**
+     * Gets the formatted error message that says that the end of the interval
+     * goes past the end of the array.
+     * @param   arrayLen   the length of the array.
+     * @param   off   the offset in the array.
+     * @param   len   the length of the interval.
+     * @return   the formatted error message.
+     */
+    protected static String getEndNotWithinBoundsErrorMessage(long arrayLen, long off, long len) {
+        var key = Resources.ARRAYS_END_NOT_WITHIN_BOUNDS;
+        var message = Resources.getLocalizedString(key, arrayLen, off, len);
+        return message;
+    }
+
 }
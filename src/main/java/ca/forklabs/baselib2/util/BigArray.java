@@ -0,0 +1,204 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Class {@code BigArray} is the base of the primitive arrays on the Java heap
+ * that are indexed by {@code long}s, so that a single logical array can hold
+ * more than {@link Integer#MAX_VALUE} elements. The elements are stored in
+ * segments of a power-of-two number of elements, all full except the last.
+ * <p>
+ * Ranges are checked with the same contract as
+ * {@link Arrays#checkArray(int[], int, int)}, through
+ * {@link Arrays#checkArray(BigArray, long, long)}. The arrays are not
+ * thread-safe, but concurrent reads and writes to distinct elements are fine.
+ *
+ * @see OffHeapArray
+ */
+@Getter
+@Accessors(prefix = {"_"})
+public abstract class BigArray {
+
+//---------------------------
+// Inner interface
+//---------------------------
+
+    /**
+     * Interface {@code SegmentAction} is the work done on the part of a range
+     * that falls in one segment.
+     */
+    @FunctionalInterface
+    protected interface SegmentAction {
+
+        /**
+         * Works on {@code len} elements of a segment.
+         * @param   segment   the index of the segment.
+         * @param   index   the index of the first element in the segment.
+         * @param   done   the number of elements of the range already done.
+         * @param   len   the number of elements.
+         */
+        void apply(int segment, int index, long done, int len);
+
+    }
+
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The base 2 logarithm of the number of elements in a segment. */
+    public static final int DEFAULT_SEGMENT_SHIFT = 27;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The number of elements. */
+    private final long _length;
+
+    /** The base 2 logarithm of the number of elements in each segment. */
+    @Getter(AccessLevel.NONE)
+    protected final int _shift;
+
+    /** The mask of the index in a segment. */
+    @Getter(AccessLevel.NONE)
+    protected final long _mask;
+
+
+//---------------------------
+// Constructor
+//---------------------------
+
+    /**
+     * Constructor.
+     * @param   length   the number of elements.
+     * @param   segmentShift   the base 2 logarithm of the number of elements
+     *                         in a segment.
+     * @exception   IllegalArgumentException   if {@code length} is negative.
+     */
+    protected BigArray(long length, int segmentShift) {
+        if (0L > length) {
+            var message = getNegativeLengthErrorMessage(length);
+            throw new IllegalArgumentException(message);
+        }
+
+        _length = length;
+        _shift = segmentShift;
+        _mask = (1L << segmentShift) - 1L;
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Gets the number of segments.
+     * @return   the number of segments.
+     */
+    protected int segments() {
+        int segments = (int) ((_length + _mask) >>> _shift);
+        return segments;
+    }
+
+    /**
+     * Gets the number of elements of a segment.
+     * @param   segment   the index of the segment.
+     * @return   the number of elements.
+     */
+    protected int segmentLength(int segment) {
+        int length = (int) Math.min(_length - ((long) segment << _shift), _mask + 1L);
+        return length;
+    }
+
+    /**
+     * Gets the segment holding an element.
+     * @param   index   the index of the element.
+     * @return   the index of the segment.
+     */
+    protected int segment(long index) {
+        int segment = (int) (index >>> _shift);
+        return segment;
+    }
+
+    /**
+     * Gets the position of an element in its segment.
+     * @param   index   the index of the element.
+     * @return   the position in the segment.
+     */
+    protected int local(long index) {
+        int local = (int) (index & _mask);
+        return local;
+    }
+
+    /**
+     * Checks the index of an element.
+     * @param   index   the index.
+     * @exception   ArrayIndexOutOfBoundsException   if the index is outside the
+     *                                               array.
+     * @see Arrays#checkOffLen(long, long, long)
+     */
+    protected void checkIndex(long index) {
+        if (0L > index || _length <= index) {
+            Arrays.checkOffLen(_length, index, 1L);
+        }
+    }
+
+    /**
+     * Checks a range then cuts it at the segment boundaries.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   action   the work to do on each piece.
+     * @see Arrays#checkArray(BigArray, long, long)
+     */
+    protected void forEachSegment(long off, long len, SegmentAction action) {
+        Arrays.checkArray(this, off, len);
+
+        long done = 0L;
+        while (done < len) {
+            long index = off + done;
+            int local = local(index);
+            int count = (int) Math.min(len - done, (_mask + 1L) - local);
+            action.apply(segment(index), local, done, count);
+            done += count;
+        }
+    }
+
+
+//---------------------------
+// Error message class methods
+//---------------------------
+
+    /**
+     * Gets the formatted error message that says that the length is negative.
+     * @param   length   the length.
+     * @return   the formatted error message.
+     */
+    protected static String getNegativeLengthErrorMessage(long length) {
+        var key = Resources.BIG_ARRAY_NEGATIVE_LENGTH;
+        var message = Resources.getLocalizedString(key, length);
+        return message;
+    }
+
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+/**
+ * Class {@code BigByteArray} is an array of {@code byte}s on the Java heap
+ * indexed by {@code long}s, able to hold more than
+ * {@link Integer#MAX_VALUE} elements.
+ * <p>
+ * Large {@code BigByteArray}s are well suited for bitmaps and tables of flags.
+ *
+ * @see BigArray
+ */
+public class BigByteArray extends BigArray {
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The segments. */
+    private final byte[][] _segments;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs a zeroed array.
+     * @param   length   the number of elements.
+     * @exception   IllegalArgumentException   if {@code length} is negative.
+     */
+    public BigByteArray(long length) {
+        this(length, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Constructs a zeroed array with segments of the given size.
+     * @param   length   the number of elements.
+     * @param   segmentShift   the base 2 logarithm of the number of elements
+     *                         in a segment.
+     * @exception   IllegalArgumentException   if {@code length} is negative.
+     */
+    BigByteArray(long length, int segmentShift) {
+        super(length, segmentShift);
+
+        int count = segments();
+        _segments = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            _segments[i] = new byte[segmentLength(i)];
+        }
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Gets an element.
+     * @param   index   the index of the element.
+     * @return   the element.
+     * @exception   ArrayIndexOutOfBoundsException   if the index is outside the
+     *                                               array.
+     */
+    public byte get(long index) {
+        checkIndex(index);
+        byte value = _segments[segment(index)][local(index)];
+        return value;
+    }
+
+    /**
+     * Sets an element.
+     * @param   index   the index of the element.
+     * @param   value   the new value.
+     * @exception   ArrayIndexOutOfBoundsException   if the index is outside the
+     *                                               array.
+     */
+    public void set(long index, byte value) {
+        checkIndex(index);
+        _segments[segment(index)][local(index)] = value;
+    }
+
+    /**
+     * Sets each element of the array to the specified value.
+     * @param   value   the value.
+     * @see #memset(byte, long, long)
+     */
+    public void memset(byte value) {
+        memset(value, 0L, getLength());
+    }
+
+    /**
+     * Sets each element of the range to the specified value.
+     * @param   value   the value.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see Arrays#checkArray(BigArray, long, long)
+     */
+    public void memset(byte value, long off, long len) {
+        forEachSegment(off, len, (segment, index, done, count) -> java.util.Arrays.fill(_segments[segment], index, index + count, value));
+    }
+
+    /**
+     * Copies elements to a heap array.
+     * @param   srcOff   the offset in this array.
+     * @param   dst   the heap array.
+     * @param   dstOff   the offset in the heap array.
+     * @param   len   the number of elements.
+     * @return   {@code dst}.
+     * @see Arrays#checkArray(byte[], int, int)
+     * @see Arrays#checkArray(BigArray, long, long)
+     */
+    public byte[] copyTo(long srcOff, byte[] dst, int dstOff, int len) {
+        Arrays.checkArray(dst, dstOff, len);
+        forEachSegment(srcOff, len, (segment, index, done, count) -> System.arraycopy(_segments[segment], index, dst, dstOff + (int) done, count));
+        return dst;
+    }
+
+    /**
+     * Copies elements from a heap array.
+     * @param   src   the heap array.
+     * @param   srcOff   the offset in the heap array.
+     * @param   dstOff   the offset in this array.
+     * @param   len   the number of elements.
+     * @see Arrays#checkArray(byte[], int, int)
+     * @see Arrays#checkArray(BigArray, long, long)
+     */
+    public void copyFrom(byte[] src, int srcOff, long dstOff, int len) {
+        Arrays.checkArray(src, srcOff, len);
+        forEachSegment(dstOff, len, (segment, index, done, count) -> System.arraycopy(src, srcOff + (int) done, _segments[segment], index, count));
+    }
+
+    /**
+     * Searches a value in the whole array, which must be sorted.
+     * @param   key   the value to search.
+     * @return   the index of the value, or {@code (-(insertion point) - 1)}.
+     * @see #binarySearch(long, long, byte)
+     */
+    public long binarySearch(byte key) {
+        long index = binarySearch(0L, getLength(), key);
+        return index;
+    }
+
+    /**
+     * Searches a value in a range of the array, which must be sorted. The
+     * contract is the same as
+     * {@link java.util.Arrays#binarySearch(byte[], int, int, byte)}.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   key   the value to search.
+     * @return   the index of the value, or {@code (-(insertion point) - 1)}.
+     * @see Arrays#checkArray(BigArray, long, long)
+     */
+    public long binarySearch(long off, long len, byte key) {
+        Arrays.checkArray(this, off, len);
+
+        var segments = _segments;
+        long low = off;
+        long high = off + len - 1L;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            byte value = segments[segment(middle)][local(middle)];
+            if (value < key) {
+                low = middle + 1L;
+            }
+            else if (value > key) {
+                high = middle - 1L;
+            }
+            else {
+                return middle;
+            }
+        }
+        return -(low + 1L);
+    }
+
+    /**
+     * Sorts the whole array in ascending order.
+     * @see #sort(long, long)
+     */
+    public void sort() {
+        sort(0L, getLength());
+    }
+
+    /**
+     * Sorts a range of the array in ascending order. The occurrences of each
+     * value are counted, one segment per task, then the range is rewritten in
+     * order; this needs no buffer.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see Arrays#checkArray(BigArray, long, long)
+     */
+    public void sort(long off, long len) {
+        var pieces = new LongArrayList();
+        forEachSegment(off, len, (segment, index, done, count) -> {
+            pieces.add(((long) segment << 32) | index);
+            pieces.add(count);
+        });
+
+        int n = pieces.size() / 2;
+        var counts = new long[n][256];
+        ParallelRange.forEach(0, n, 1, (first, last) -> {
+            for (int i = first; i < last; i++) {
+                long piece = pieces.get(2 * i);
+                var segment = _segments[(int) (piece >>> 32)];
+                int index = (int) piece;
+                int end = index + (int) pieces.get(2 * i + 1);
+                var count = counts[i];
+                for (int j = index; j < end; j++) {
+                    count[segment[j] & 0xff]++;
+                }
+            }
+        });
+
+        long position = off;
+        for (int value = Byte.MIN_VALUE; value <= Byte.MAX_VALUE; value++) {
+            long total = 0L;
+            for (var count : counts) {
+                total += count[value & 0xff];
+            }
+            if (0L < total) {
+                memset((byte) value, position, total);
+                position += total;
+            }
+        }
+    }
+
+//---------------------------
+// Class methods
+//---------------------------
+
+    /**
+     * Copies a range of elements between big arrays, which may be the same
+     * array with overlapping ranges.
+     * @param   src   the source array.
+     * @param   srcOff   the offset in the source array.
+     * @param   dst   the destination array.
+     * @param   dstOff   the offset in the destination array.
+     * @param   len   the number of elements.
+     * @see Arrays#checkArray(BigArray, long, long)
+     */
+    public static void copy(BigByteArray src, long srcOff, BigByteArray dst, long dstOff, long len) {
+        Arrays.checkArray(src, srcOff, len);
+        Arrays.checkArray(dst, dstOff, len);
+
+        var from = src._segments;
+        var to = dst._segments;
+        if (src == dst && srcOff < dstOff && dstOff < srcOff + len) {
+            // copies from the end so that the source is read before it is overwritten
+            long s = srcOff + len;
+            long d = dstOff + len;
+            while (s > srcOff) {
+                int count = (int) Math.min(s - srcOff, Math.min(src.local(s - 1L), dst.local(d - 1L)) + 1L);
+                s -= count;
+                d -= count;
+                System.arraycopy(from[src.segment(s)], src.local(s), to[dst.segment(d)], dst.local(d), count);
+            }
+        }
+        else {
+            long done = 0L;
+            while (done < len) {
+                long s = srcOff + done;
+                long d = dstOff + done;
+                int count = (int) Math.min(len - done, Math.min(src._mask + 1L - src.local(s), dst._mask + 1L - dst.local(d)));
+                System.arraycopy(from[src.segment(s)], src.local(s), to[dst.segment(d)], dst.local(d), count);
+                done += count;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+/**
+ * Class {@code BigLongArray} is an array of {@code long}s on the Java heap
+ * indexed by {@code long}s, able to hold more than
+ * {@link Integer#MAX_VALUE} elements.
+ *
+ * @see BigArray
+ */
+public class BigLongArray extends BigArray {
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The segments. */
+    private final long[][] _segments;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs a zeroed array.
+     * @param   length   the number of elements.
+     * @exception   IllegalArgumentException   if {@code length} is negative.
+     */
+    public BigLongArray(long length) {
+        this(length, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Constructs a zeroed array with segments of the given size.
+     * @param   length   the number of elements.
+     * @param   segmentShift   the base 2 logarithm of the number of elements
+     *                         in a segment.
+     * @exception   IllegalArgumentException   if {@code length} is negative.
+     */
+    BigLongArray(long length, int segmentShift) {
+        super(length, segmentShift);
+
+        int count = segments();
+        _segments = new long[count][];
+        for (int i = 0; i < count; i++) {
+            _segments[i] = new long[segmentLength(i)];
+        }
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Gets an element.
+     * @param   index   the index of the element.
+     * @return   the element.
+     * @exception   ArrayIndexOutOfBoundsException   if the index is outside the
+     *                                               array.
+     */
+    public long get(long index) {
+        checkIndex(index);
+        long value = _segments[segment(index)][local(index)];
+        return value;
+    }
+
+    /**
+     * Sets an element.
+     * @param   index   the index of the element.
+     * @param   value   the new value.
+     * @exception   ArrayIndexOutOfBoundsException   if the index is outside the
+     *                                               array.
+     */
+    public void set(long index, long value) {
+        checkIndex(index);
+        _segments[segment(index)][local(index)] = value;
+    }
+
+    /**
+     * Sets each element of the array to the specified value.
+     * @param   value   the value.
+     * @see #memset(long, long, long)
+     */
+    public void memset(long value) {
+        memset(value, 0L, getLength());
+    }
+
+    /**
+     * Sets each element of the range to the specified value.
+     * @param   value   the value.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see Arrays#checkArray(BigArray, long, long)
+     */
+    public void memset(long value, long off, long len) {
+        forEachSegment(off, len, (segment, index, done, count) -> java.util.Arrays.fill(_segments[segment], index, index + count, value));
+    }
+
+    /**
+     * Copies elements to a heap array.
+     * @param   srcOff   the offset in this array.
+     * @param   dst   the heap array.
+     * @param   dstOff   the offset in the heap array.
+     * @param   len   the number of elements.
+     * @return   {@code dst}.
+     * @see Arrays#checkArray(long[], int, int)
+     * @see Arrays#checkArray(BigArray, long, long)
+     */
+    public long[] copyTo(long srcOff, long[] dst, int dstOff, int len) {
+        Arrays.checkArray(dst, dstOff, len);
+        forEachSegment(srcOff, len, (segment, index, done, count) -> System.arraycopy(_segments[segment], index, dst, dstOff + (int) done, count));
+        return dst;
+    }
+
+    /**
+     * Copies elements from a heap array.
+     * @param   src   the heap array.
+     * @param   srcOff   the offset in the heap array.
+     * @param   dstOff   the offset in this array.
+     * @param   len   the number of elements.
+     * @see Arrays#checkArray(long[], int, int)
+     * @see Arrays#checkArray(BigArray, long, long)
+     */
+    public void copyFrom(long[] src, int srcOff, long dstOff, int len) {
+        Arrays.checkArray(src, srcOff, len);
+        forEachSegment(dstOff, len, (segment, index, done, count) -> System.arraycopy(src, srcOff + (int) done, _segments[segment], index, count));
+    }
+
+    /**
+     * Searches a value in the whole array, which must be sorted.
+     * @param   key   the value to search.
+     * @return   the index of the value, or {@code (-(insertion point) - 1)}.
+     * @see #binarySearch(long, long, long)
+     */
+    public long binarySearch(long key) {
+        long index = binarySearch(0L, getLength(), key);
+        return index;
+    }
+
+    /**
+     * Searches a value in a range of the array, which must be sorted. The
+     * contract is the same as
+     * {@link java.util.Arrays#binarySearch(long[], int, int, long)}.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   key   the value to search.
+     * @return   the index of the value, or {@code (-(insertion point) - 1)}.
+     * @see Arrays#checkArray(BigArray, long, long)
+     */
+    public long binarySearch(long off, long len, long key) {
+        Arrays.checkArray(this, off, len);
+
+        var segments = _segments;
+        long low = off;
+        long high = off + len - 1L;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            long value = segments[segment(middle)][local(middle)];
+            if (value < key) {
+                low = middle + 1L;
+            }
+            else if (value > key) {
+                high = middle - 1L;
+            }
+            else {
+                return middle;
+            }
+        }
+        return -(low + 1L);
+    }
+
+    /**
+     * Sorts the whole array in ascending order.
+     * @see #sort(long, long)
+     */
+    public void sort() {
+        sort(0L, getLength());
+    }
+
+    /**
+     * Sorts a range of the array in ascending order. The pieces of the range
+     * in each segment are sorted with
+     * {@link java.util.Arrays#parallelSort(long[], int, int)}, then merged in
+     * pairs, the merges of a pass running in parallel. Ranges spanning more
+     * than one segment need a buffer as large as the range.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see Arrays#checkArray(BigArray, long, long)
+     */
+    public void sort(long off, long len) {
+        var runs = new LongArrayList();
+        runs.add(off);
+        forEachSegment(off, len, (segment, index, done, count) -> {
+            java.util.Arrays.parallelSort(_segments[segment], index, index + count);
+            runs.add(off + done + count);
+        });
+        if (3 > runs.size()) {
+            return;
+        }
+
+        var buffer = new BigLongArray(len, _shift);
+        var bounds = runs.toArray();
+        var src = this;
+        var dst = buffer;
+        long srcBase = 0L;
+        long dstBase = off;
+        while (2 < bounds.length) {
+            var pass = bounds;
+            var from = src;
+            var to = dst;
+            long fromBase = srcBase;
+            long toBase = dstBase;
+            int pairs = pass.length / 2;
+            ParallelRange.forEach(0, pairs, 1, (first, last) -> {
+                for (int i = first; i < last; i++) {
+                    int lo = 2 * i;
+                    int hi = Math.min(lo + 2, pass.length - 1);
+                    int mid = Math.min(lo + 1, hi);
+                    merge(from, fromBase, to, toBase, pass[lo], pass[mid], pass[hi]);
+                }
+            });
+
+            var next = new long[pairs + 1];
+            for (int i = 0; i < pairs; i++) {
+                next[i] = bounds[2 * i];
+            }
+            next[pairs] = bounds[bounds.length - 1];
+            bounds = next;
+            src = to;
+            dst = from;
+            srcBase = toBase;
+            dstBase = fromBase;
+        }
+        if (src != this) {
+            copy(src, 0L, this, off, len);
+        }
+    }
+
+//---------------------------
+// Class methods
+//---------------------------
+
+    /**
+     * Copies a range of elements between big arrays, which may be the same
+     * array with overlapping ranges.
+     * @param   src   the source array.
+     * @param   srcOff   the offset in the source array.
+     * @param   dst   the destination array.
+     * @param   dstOff   the offset in the destination array.
+     * @param   len   the number of elements.
+     * @see Arrays#checkArray(BigArray, long, long)
+     */
+    public static void copy(BigLongArray src, long srcOff, BigLongArray dst, long dstOff, long len) {
+        Arrays.checkArray(src, srcOff, len);
+        Arrays.checkArray(dst, dstOff, len);
+
+        var from = src._segments;
+        var to = dst._segments;
+        if (src == dst && srcOff < dstOff && dstOff < srcOff + len) {
+            // copies from the end so that the source is read before it is overwritten
+            long s = srcOff + len;
+            long d = dstOff + len;
+            while (s > srcOff) {
+                int count = (int) Math.min(s - srcOff, Math.min(src.local(s - 1L), dst.local(d - 1L)) + 1L);
+                s -= count;
+                d -= count;
+                System.arraycopy(from[src.segment(s)], src.local(s), to[dst.segment(d)], dst.local(d), count);
+            }
+        }
+        else {
+            long done = 0L;
+            while (done < len) {
+                long s = srcOff + done;
+                long d = dstOff + done;
+                int count = (int) Math.min(len - done, Math.min(src._mask + 1L - src.local(s), dst._mask + 1L - dst.local(d)));
+                System.arraycopy(from[src.segment(s)], src.local(s), to[dst.segment(d)], dst.local(d), count);
+                done += count;
+            }
+        }
+    }
+
+    /**
+     * Merges two sorted runs. The runs and the result are located by their
+     * logical positions in the range being sorted, the physical index in an
+     * array being the logical position minus the base of the array.
+     * @param   src   the array holding the runs.
+     * @param   srcBase   the base of the source array.
+     * @param   dst   the array receiving the result.
+     * @param   dstBase   the base of the destination array.
+     * @param   lo   the position of the first run.
+     * @param   mid   the position of the second run.
+     * @param   hi   the position past the second run.
+     */
+    private static void merge(BigLongArray src, long srcBase, BigLongArray dst, long dstBase, long lo, long mid, long hi) {
+        var from = src._segments;
+        var to = dst._segments;
+        long i = lo - srcBase;
+        long j = mid - srcBase;
+        long iEnd = j;
+        long jEnd = hi - srcBase;
+        long k = lo - dstBase;
+        while (i < iEnd && j < jEnd) {
+            long a = from[src.segment(i)][src.local(i)];
+            long b = from[src.segment(j)][src.local(j)];
+            if (b < a) {
+                to[dst.segment(k)][dst.local(k)] = b;
+                j++;
+            }
+            else {
+                to[dst.segment(k)][dst.local(k)] = a;
+                i++;
+            }
+            k++;
+        }
+        if (i < iEnd) {
+            copy(src, i, dst, k, iEnd - i);
+        }
+        else if (j < jEnd) {
+            copy(src, j, dst, k, jEnd - j);
+        }
+    }
+
+}
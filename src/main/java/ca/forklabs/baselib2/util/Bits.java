@@ -18,6 +18,11 @@
 
 package ca.forklabs.baselib2.util;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
  * Class {@code Bits} contains methods that acts on bits and primitive data
  * types.
@@ -42,6 +47,35 @@ public class Bits {
     public static final int NUM_OCTETS_IN_FLOAT = 4;
     /** The number of octets (8-bit byte) in a {@code double}. */
     public static final int NUM_OCTETS_IN_DOUBLE = 8;
+    /** The maximum number of octets (8-bit byte) in a variable-length {@code int}. */
+    public static final int MAX_NUM_OCTETS_IN_VARINT = 5;
+    /** The maximum number of octets (8-bit byte) in a variable-length {@code long}. */
+    public static final int MAX_NUM_OCTETS_IN_VARLONG = 10;
+
+    /** View of a {@code byte[]} as a {@code short[]}, big-endian. */
+    private static final VarHandle SHORT_BE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    /** View of a {@code byte[]} as a {@code short[]}, little-endian. */
+    private static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    /** View of a {@code byte[]} as a {@code char[]}, big-endian. */
+    private static final VarHandle CHAR_BE = MethodHandles.byteArrayViewVarHandle(char[].class, ByteOrder.BIG_ENDIAN);
+    /** View of a {@code byte[]} as a {@code char[]}, little-endian. */
+    private static final VarHandle CHAR_LE = MethodHandles.byteArrayViewVarHandle(char[].class, ByteOrder.LITTLE_ENDIAN);
+    /** View of a {@code byte[]} as an {@code int[]}, big-endian. */
+    private static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    /** View of a {@code byte[]} as an {@code int[]}, little-endian. */
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    /** View of a {@code byte[]} as a {@code long[]}, big-endian. */
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    /** View of a {@code byte[]} as a {@code long[]}, little-endian. */
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    /** View of a {@code byte[]} as a {@code float[]}, big-endian. */
+    private static final VarHandle FLOAT_BE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
+    /** View of a {@code byte[]} as a {@code float[]}, little-endian. */
+    private static final VarHandle FLOAT_LE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    /** View of a {@code byte[]} as a {@code double[]}, big-endian. */
+    private static final VarHandle DOUBLE_BE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+    /** View of a {@code byte[]} as a {@code double[]}, little-endian. */
+    private static final VarHandle DOUBLE_LE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
 
 
 //---------------------------
@@ -1003,4 +1037,1331 @@ public class Bits {
         return bytes;
     }
 
+
+//---------------------------
+// Typed accessors
+//---------------------------
+
+    /**
+     * Reads a {@code short} from two bytes of the array in the given byte
+     * order. The bytes need not be aligned.
+     *
+     * @param b     the source array.
+     * @param off   the offset in the array.
+     * @param order the byte order.
+     * @return the {@code short} read.
+     * @exception IndexOutOfBoundsException if the two bytes are not within the
+     *                                      array.
+     */
+    public static short getShort(byte[] b, int off, ByteOrder order) {
+        short s = (ByteOrder.LITTLE_ENDIAN == order) ? (short) SHORT_LE.get(b, off) : (short) SHORT_BE.get(b, off);
+        return s;
+    }
+
+    /**
+     * Writes a {@code short} as two bytes into the array in the given byte
+     * order. The bytes need not be aligned.
+     *
+     * @param b     the destination array.
+     * @param off   the offset in the array.
+     * @param s     the {@code short} to write.
+     * @param order the byte order.
+     * @exception IndexOutOfBoundsException if the two bytes are not within the
+     *                                      array.
+     */
+    public static void putShort(byte[] b, int off, short s, ByteOrder order) {
+        if (ByteOrder.LITTLE_ENDIAN == order) {
+            SHORT_LE.set(b, off, s);
+        }
+        else {
+            SHORT_BE.set(b, off, s);
+        }
+    }
+
+    /**
+     * Reads a {@code char} from two bytes of the array in the given byte
+     * order. The bytes need not be aligned.
+     *
+     * @param b     the source array.
+     * @param off   the offset in the array.
+     * @param order the byte order.
+     * @return the {@code char} read.
+     * @exception IndexOutOfBoundsException if the two bytes are not within the
+     *                                      array.
+     */
+    public static char getChar(byte[] b, int off, ByteOrder order) {
+        char c = (ByteOrder.LITTLE_ENDIAN == order) ? (char) CHAR_LE.get(b, off) : (char) CHAR_BE.get(b, off);
+        return c;
+    }
+
+    /**
+     * Writes a {@code char} as two bytes into the array in the given byte
+     * order. The bytes need not be aligned.
+     *
+     * @param b     the destination array.
+     * @param off   the offset in the array.
+     * @param c     the {@code char} to write.
+     * @param order the byte order.
+     * @exception IndexOutOfBoundsException if the two bytes are not within the
+     *                                      array.
+     */
+    public static void putChar(byte[] b, int off, char c, ByteOrder order) {
+        if (ByteOrder.LITTLE_ENDIAN == order) {
+            CHAR_LE.set(b, off, c);
+        }
+        else {
+            CHAR_BE.set(b, off, c);
+        }
+    }
+
+    /**
+     * Reads an {@code int} from four bytes of the array in the given byte
+     * order. The bytes need not be aligned.
+     *
+     * @param b     the source array.
+     * @param off   the offset in the array.
+     * @param order the byte order.
+     * @return the {@code int} read.
+     * @exception IndexOutOfBoundsException if the four bytes are not within the
+     *                                      array.
+     */
+    public static int getInt(byte[] b, int off, ByteOrder order) {
+        int i = (ByteOrder.LITTLE_ENDIAN == order) ? (int) INT_LE.get(b, off) : (int) INT_BE.get(b, off);
+        return i;
+    }
+
+    /**
+     * Writes an {@code int} as four bytes into the array in the given byte
+     * order. The bytes need not be aligned.
+     *
+     * @param b     the destination array.
+     * @param off   the offset in the array.
+     * @param i     the {@code int} to write.
+     * @param order the byte order.
+     * @exception IndexOutOfBoundsException if the four bytes are not within the
+     *                                      array.
+     */
+    public static void putInt(byte[] b, int off, int i, ByteOrder order) {
+        if (ByteOrder.LITTLE_ENDIAN == order) {
+            INT_LE.set(b, off, i);
+        }
+        else {
+            INT_BE.set(b, off, i);
+        }
+    }
+
+    /**
+     * Reads a {@code long} from eight bytes of the array in the given byte
+     * order. The bytes need not be aligned.
+     *
+     * @param b     the source array.
+     * @param off   the offset in the array.
+     * @param order the byte order.
+     * @return the {@code long} read.
+     * @exception IndexOutOfBoundsException if the eight bytes are not within the
+     *                                      array.
+     */
+    public static long getLong(byte[] b, int off, ByteOrder order) {
+        long l = (ByteOrder.LITTLE_ENDIAN == order) ? (long) LONG_LE.get(b, off) : (long) LONG_BE.get(b, off);
+        return l;
+    }
+
+    /**
+     * Writes a {@code long} as eight bytes into the array in the given byte
+     * order. The bytes need not be aligned.
+     *
+     * @param b     the destination array.
+     * @param off   the offset in the array.
+     * @param l     the {@code long} to write.
+     * @param order the byte order.
+     * @exception IndexOutOfBoundsException if the eight bytes are not within the
+     *                                      array.
+     */
+    public static void putLong(byte[] b, int off, long l, ByteOrder order) {
+        if (ByteOrder.LITTLE_ENDIAN == order) {
+            LONG_LE.set(b, off, l);
+        }
+        else {
+            LONG_BE.set(b, off, l);
+        }
+    }
+
+    /**
+     * Reads a {@code float} from four bytes of the array in the given byte
+     * order. The bytes need not be aligned.
+     *
+     * @param b     the source array.
+     * @param off   the offset in the array.
+     * @param order the byte order.
+     * @return the {@code float} read.
+     * @exception IndexOutOfBoundsException if the four bytes are not within the
+     *                                      array.
+     */
+    public static float getFloat(byte[] b, int off, ByteOrder order) {
+        float f = (ByteOrder.LITTLE_ENDIAN == order) ? (float) FLOAT_LE.get(b, off) : (float) FLOAT_BE.get(b, off);
+        return f;
+    }
+
+    /**
+     * Writes a {@code float} as four bytes into the array in the given byte
+     * order. The bytes need not be aligned.
+     *
+     * @param b     the destination array.
+     * @param off   the offset in the array.
+     * @param f     the {@code float} to write.
+     * @param order the byte order.
+     * @exception IndexOutOfBoundsException if the four bytes are not within the
+     *                                      array.
+     */
+    public static void putFloat(byte[] b, int off, float f, ByteOrder order) {
+        if (ByteOrder.LITTLE_ENDIAN == order) {
+            FLOAT_LE.set(b, off, f);
+        }
+        else {
+            FLOAT_BE.set(b, off, f);
+        }
+    }
+
+    /**
+     * Reads a {@code double} from eight bytes of the array in the given byte
+     * order. The bytes need not be aligned.
+     *
+     * @param b     the source array.
+     * @param off   the offset in the array.
+     * @param order the byte order.
+     * @return the {@code double} read.
+     * @exception IndexOutOfBoundsException if the eight bytes are not within the
+     *                                      array.
+     */
+    public static double getDouble(byte[] b, int off, ByteOrder order) {
+        double d = (ByteOrder.LITTLE_ENDIAN == order) ? (double) DOUBLE_LE.get(b, off) : (double) DOUBLE_BE.get(b, off);
+        return d;
+    }
+
+    /**
+     * Writes a {@code double} as eight bytes into the array in the given byte
+     * order. The bytes need not be aligned.
+     *
+     * @param b     the destination array.
+     * @param off   the offset in the array.
+     * @param d     the {@code double} to write.
+     * @param order the byte order.
+     * @exception IndexOutOfBoundsException if the eight bytes are not within the
+     *                                      array.
+     */
+    public static void putDouble(byte[] b, int off, double d, ByteOrder order) {
+        if (ByteOrder.LITTLE_ENDIAN == order) {
+            DOUBLE_LE.set(b, off, d);
+        }
+        else {
+            DOUBLE_BE.set(b, off, d);
+        }
+    }
+
+
+//---------------------------
+// Bulk conversions
+//---------------------------
+
+    /**
+     * Encodes {@code count} {@code short}s into the byte array in the given
+     * byte order. The conversion goes through a {@link ByteBuffer} view, which
+     * copies whole blocks instead of breaking one value at a time.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of {@code short}s to encode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see Arrays#checkArray(short[], int, int)
+     */
+    public static byte[] encode(short[] src, int srcOff, byte[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(src, srcOff, count);
+        var len = count * NUM_OCTETS_IN_SHORT;
+        Arrays.checkArray(dst, dstOff, len);
+
+        ByteBuffer.wrap(dst, dstOff, len)
+                  .order(order)
+                  .asShortBuffer()
+                  .put(src, srcOff, count);
+        return dst;
+    }
+
+    /**
+     * Decodes {@code count} {@code short}s from the byte array in the given
+     * byte order. The conversion goes through a {@link ByteBuffer} view, which
+     * copies whole blocks instead of making one value at a time.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of {@code short}s to decode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see Arrays#checkArray(short[], int, int)
+     */
+    public static short[] decode(byte[] src, int srcOff, short[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(dst, dstOff, count);
+        var len = count * NUM_OCTETS_IN_SHORT;
+        Arrays.checkArray(src, srcOff, len);
+
+        ByteBuffer.wrap(src, srcOff, len)
+                  .order(order)
+                  .asShortBuffer()
+                  .get(dst, dstOff, count);
+        return dst;
+    }
+
+    /**
+     * Encodes {@code count} {@code char}s into the byte array in the given
+     * byte order. The conversion goes through a {@link ByteBuffer} view, which
+     * copies whole blocks instead of breaking one value at a time.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of {@code char}s to encode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see Arrays#checkArray(char[], int, int)
+     */
+    public static byte[] encode(char[] src, int srcOff, byte[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(src, srcOff, count);
+        var len = count * NUM_OCTETS_IN_CHAR;
+        Arrays.checkArray(dst, dstOff, len);
+
+        ByteBuffer.wrap(dst, dstOff, len)
+                  .order(order)
+                  .asCharBuffer()
+                  .put(src, srcOff, count);
+        return dst;
+    }
+
+    /**
+     * Decodes {@code count} {@code char}s from the byte array in the given
+     * byte order. The conversion goes through a {@link ByteBuffer} view, which
+     * copies whole blocks instead of making one value at a time.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of {@code char}s to decode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see Arrays#checkArray(char[], int, int)
+     */
+    public static char[] decode(byte[] src, int srcOff, char[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(dst, dstOff, count);
+        var len = count * NUM_OCTETS_IN_CHAR;
+        Arrays.checkArray(src, srcOff, len);
+
+        ByteBuffer.wrap(src, srcOff, len)
+                  .order(order)
+                  .asCharBuffer()
+                  .get(dst, dstOff, count);
+        return dst;
+    }
+
+    /**
+     * Encodes {@code count} {@code int}s into the byte array in the given
+     * byte order. The conversion goes through a {@link ByteBuffer} view, which
+     * copies whole blocks instead of breaking one value at a time.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of {@code int}s to encode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see Arrays#checkArray(int[], int, int)
+     */
+    public static byte[] encode(int[] src, int srcOff, byte[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(src, srcOff, count);
+        var len = count * NUM_OCTETS_IN_INT;
+        Arrays.checkArray(dst, dstOff, len);
+
+        ByteBuffer.wrap(dst, dstOff, len)
+                  .order(order)
+                  .asIntBuffer()
+                  .put(src, srcOff, count);
+        return dst;
+    }
+
+    /**
+     * Decodes {@code count} {@code int}s from the byte array in the given
+     * byte order. The conversion goes through a {@link ByteBuffer} view, which
+     * copies whole blocks instead of making one value at a time.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of {@code int}s to decode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see Arrays#checkArray(int[], int, int)
+     */
+    public static int[] decode(byte[] src, int srcOff, int[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(dst, dstOff, count);
+        var len = count * NUM_OCTETS_IN_INT;
+        Arrays.checkArray(src, srcOff, len);
+
+        ByteBuffer.wrap(src, srcOff, len)
+                  .order(order)
+                  .asIntBuffer()
+                  .get(dst, dstOff, count);
+        return dst;
+    }
+
+    /**
+     * Encodes {@code count} {@code long}s into the byte array in the given
+     * byte order. The conversion goes through a {@link ByteBuffer} view, which
+     * copies whole blocks instead of breaking one value at a time.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of {@code long}s to encode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public static byte[] encode(long[] src, int srcOff, byte[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(src, srcOff, count);
+        var len = count * NUM_OCTETS_IN_LONG;
+        Arrays.checkArray(dst, dstOff, len);
+
+        ByteBuffer.wrap(dst, dstOff, len)
+                  .order(order)
+                  .asLongBuffer()
+                  .put(src, srcOff, count);
+        return dst;
+    }
+
+    /**
+     * Decodes {@code count} {@code long}s from the byte array in the given
+     * byte order. The conversion goes through a {@link ByteBuffer} view, which
+     * copies whole blocks instead of making one value at a time.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of {@code long}s to decode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public static long[] decode(byte[] src, int srcOff, long[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(dst, dstOff, count);
+        var len = count * NUM_OCTETS_IN_LONG;
+        Arrays.checkArray(src, srcOff, len);
+
+        ByteBuffer.wrap(src, srcOff, len)
+                  .order(order)
+                  .asLongBuffer()
+                  .get(dst, dstOff, count);
+        return dst;
+    }
+
+    /**
+     * Encodes {@code count} {@code float}s into the byte array in the given
+     * byte order. The conversion goes through a {@link ByteBuffer} view, which
+     * copies whole blocks instead of breaking one value at a time.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of {@code float}s to encode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see Arrays#checkArray(float[], int, int)
+     */
+    public static byte[] encode(float[] src, int srcOff, byte[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(src, srcOff, count);
+        var len = count * NUM_OCTETS_IN_FLOAT;
+        Arrays.checkArray(dst, dstOff, len);
+
+        ByteBuffer.wrap(dst, dstOff, len)
+                  .order(order)
+                  .asFloatBuffer()
+                  .put(src, srcOff, count);
+        return dst;
+    }
+
+    /**
+     * Decodes {@code count} {@code float}s from the byte array in the given
+     * byte order. The conversion goes through a {@link ByteBuffer} view, which
+     * copies whole blocks instead of making one value at a time.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of {@code float}s to decode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see Arrays#checkArray(float[], int, int)
+     */
+    public static float[] decode(byte[] src, int srcOff, float[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(dst, dstOff, count);
+        var len = count * NUM_OCTETS_IN_FLOAT;
+        Arrays.checkArray(src, srcOff, len);
+
+        ByteBuffer.wrap(src, srcOff, len)
+                  .order(order)
+                  .asFloatBuffer()
+                  .get(dst, dstOff, count);
+        return dst;
+    }
+
+    /**
+     * Encodes {@code count} {@code double}s into the byte array in the given
+     * byte order. The conversion goes through a {@link ByteBuffer} view, which
+     * copies whole blocks instead of breaking one value at a time.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of {@code double}s to encode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public static byte[] encode(double[] src, int srcOff, byte[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(src, srcOff, count);
+        var len = count * NUM_OCTETS_IN_DOUBLE;
+        Arrays.checkArray(dst, dstOff, len);
+
+        ByteBuffer.wrap(dst, dstOff, len)
+                  .order(order)
+                  .asDoubleBuffer()
+                  .put(src, srcOff, count);
+        return dst;
+    }
+
+    /**
+     * Decodes {@code count} {@code double}s from the byte array in the given
+     * byte order. The conversion goes through a {@link ByteBuffer} view, which
+     * copies whole blocks instead of making one value at a time.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of {@code double}s to decode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public static double[] decode(byte[] src, int srcOff, double[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(dst, dstOff, count);
+        var len = count * NUM_OCTETS_IN_DOUBLE;
+        Arrays.checkArray(src, srcOff, len);
+
+        ByteBuffer.wrap(src, srcOff, len)
+                  .order(order)
+                  .asDoubleBuffer()
+                  .get(dst, dstOff, count);
+        return dst;
+    }
+
+
+//---------------------------
+// Variable-length integers
+//---------------------------
+
+    /**
+     * Maps a signed {@code int} to an unsigned one so that numbers with a small
+     * magnitude, positive or negative, have a small encoding (ZigZag encoding).
+     *
+     * @param i the {@code int} to encode.
+     * @return the ZigZag encoded value.
+     */
+    public static int zigZagEncode(int i) {
+        int z = (i << 1) ^ (i >> 31);
+        return z;
+    }
+
+    /**
+     * Reverses {@link #zigZagEncode(int)}.
+     *
+     * @param z the ZigZag encoded value.
+     * @return the original {@code int}.
+     */
+    public static int zigZagDecode(int z) {
+        int i = (z >>> 1) ^ -(z & 1);
+        return i;
+    }
+
+    /**
+     * Maps a signed {@code long} to an unsigned one so that numbers with a small
+     * magnitude, positive or negative, have a small encoding (ZigZag encoding).
+     *
+     * @param l the {@code long} to encode.
+     * @return the ZigZag encoded value.
+     */
+    public static long zigZagEncode(long l) {
+        long z = (l << 1) ^ (l >> 63);
+        return z;
+    }
+
+    /**
+     * Reverses {@link #zigZagEncode(long)}.
+     *
+     * @param z the ZigZag encoded value.
+     * @return the original {@code long}.
+     */
+    public static long zigZagDecode(long z) {
+        long l = (z >>> 1) ^ -(z & 1L);
+        return l;
+    }
+
+    /**
+     * Gets the number of bytes needed to write the {@code int}, taken as
+     * unsigned, in the LEB128 variable-length format.
+     *
+     * @param i the {@code int}.
+     * @return a number of bytes between 1 and {@link #MAX_NUM_OCTETS_IN_VARINT}.
+     */
+    public static int varIntSize(int i) {
+        int size = (31 - Integer.numberOfLeadingZeros(i | 1)) / 7 + 1;
+        return size;
+    }
+
+    /**
+     * Gets the number of bytes needed to write the {@code long}, taken as
+     * unsigned, in the LEB128 variable-length format.
+     *
+     * @param l the {@code long}.
+     * @return a number of bytes between 1 and {@link #MAX_NUM_OCTETS_IN_VARLONG}.
+     */
+    public static int varLongSize(long l) {
+        int size = (63 - Long.numberOfLeadingZeros(l | 1L)) / 7 + 1;
+        return size;
+    }
+
+    /**
+     * Writes the {@code int}, taken as unsigned, in the LEB128 variable-length
+     * format: seven bits per byte, lowest bits first, the highest bit of each
+     * byte telling if another byte follows. Signed values should first go
+     * through {@link #zigZagEncode(int)}.
+     *
+     * @param b   the destination array.
+     * @param off the offset in the array.
+     * @param i   the {@code int} to write.
+     * @return the number of bytes written.
+     * @see #varIntSize(int)
+     */
+    public static int putVarInt(byte[] b, int off, int i) {
+        int size = varIntSize(i);
+        Arrays.checkArray(b, off, size);
+
+        int value = i;
+        int offset = off;
+        for (int n = 1; n < size; n++) {
+            b[offset] = (byte) (value | 0x80);
+            offset++;
+            value >>>= 7;
+        }
+        b[offset] = (byte) value;
+
+        return size;
+    }
+
+    /**
+     * Writes the {@code long}, taken as unsigned, in the LEB128 variable-length
+     * format. Signed values should first go through
+     * {@link #zigZagEncode(long)}.
+     *
+     * @param b   the destination array.
+     * @param off the offset in the array.
+     * @param l   the {@code long} to write.
+     * @return the number of bytes written.
+     * @see #putVarInt(byte[], int, int)
+     * @see #varLongSize(long)
+     */
+    public static int putVarLong(byte[] b, int off, long l) {
+        int size = varLongSize(l);
+        Arrays.checkArray(b, off, size);
+
+        long value = l;
+        int offset = off;
+        for (int n = 1; n < size; n++) {
+            b[offset] = (byte) (value | 0x80);
+            offset++;
+            value >>>= 7;
+        }
+        b[offset] = (byte) value;
+
+        return size;
+    }
+
+    /**
+     * Gets the number of bytes taken by the variable-length integer starting at
+     * the given offset.
+     *
+     * @param b   the source array.
+     * @param off the offset in the array.
+     * @return the number of bytes, up to {@link #MAX_NUM_OCTETS_IN_VARLONG}.
+     * @exception IllegalArgumentException if no byte ends the integer within
+     *                                     {@link #MAX_NUM_OCTETS_IN_VARLONG}
+     *                                     bytes.
+     */
+    public static int varLength(byte[] b, int off) {
+        if (off + NUM_OCTETS_IN_LONG <= b.length) {
+            long word = (long) LONG_LE.get(b, off);
+            long stops = ~word & 0x8080808080808080L;
+            if (0L != stops) {
+                int len = (Long.numberOfTrailingZeros(stops) >>> 3) + 1;
+                return len;
+            }
+        }
+
+        for (int len = 1; len <= MAX_NUM_OCTETS_IN_VARLONG; len++) {
+            if (0 <= b[off + len - 1]) {
+                return len;
+            }
+        }
+        var message = getMalformedVarIntErrorMessage(off, MAX_NUM_OCTETS_IN_VARLONG);
+        throw new IllegalArgumentException(message);
+    }
+
+    /**
+     * Reads an unsigned {@code int} in the LEB128 variable-length format. When
+     * eight bytes are available, the integer is decoded from a single
+     * {@code long} load without looping over its bytes.
+     *
+     * @param b   the source array.
+     * @param off the offset in the array.
+     * @return the {@code int} read.
+     * @exception IllegalArgumentException if the integer is longer than
+     *                                     {@link #MAX_NUM_OCTETS_IN_VARINT}
+     *                                     bytes.
+     * @see #varLength(byte[], int)
+     */
+    public static int getVarInt(byte[] b, int off) {
+        if (off + NUM_OCTETS_IN_LONG <= b.length) {
+            long word = (long) LONG_LE.get(b, off);
+            long stops = ~word & 0x8080808080808080L;
+            int bits = Long.numberOfTrailingZeros(stops) + 1;
+            if (bits <= MAX_NUM_OCTETS_IN_VARINT * 8) {
+                int i = (int) compactVarLong(word, bits);
+                return i;
+            }
+            var message = getMalformedVarIntErrorMessage(off, MAX_NUM_OCTETS_IN_VARINT);
+            throw new IllegalArgumentException(message);
+        }
+
+        int i = 0;
+        int offset = off;
+        for (int shift = 0; shift < MAX_NUM_OCTETS_IN_VARINT * 7; shift += 7) {
+            byte octet = b[offset];
+            offset++;
+            i |= (octet & 0x7f) << shift;
+            if (0 <= octet) {
+                return i;
+            }
+        }
+        var message = getMalformedVarIntErrorMessage(off, MAX_NUM_OCTETS_IN_VARINT);
+        throw new IllegalArgumentException(message);
+    }
+
+    /**
+     * Reads an unsigned {@code long} in the LEB128 variable-length format. When
+     * eight bytes are available and the integer fits in them, it is decoded from
+     * a single {@code long} load without looping over its bytes.
+     *
+     * @param b   the source array.
+     * @param off the offset in the array.
+     * @return the {@code long} read.
+     * @exception IllegalArgumentException if the integer is longer than
+     *                                     {@link #MAX_NUM_OCTETS_IN_VARLONG}
+     *                                     bytes.
+     * @see #varLength(byte[], int)
+     */
+    public static long getVarLong(byte[] b, int off) {
+        if (off + NUM_OCTETS_IN_LONG <= b.length) {
+            long word = (long) LONG_LE.get(b, off);
+            long stops = ~word & 0x8080808080808080L;
+            if (0L != stops) {
+                int bits = Long.numberOfTrailingZeros(stops) + 1;
+                long l = compactVarLong(word, bits);
+                return l;
+            }
+        }
+
+        long l = 0L;
+        int offset = off;
+        for (int shift = 0; shift < MAX_NUM_OCTETS_IN_VARLONG * 7; shift += 7) {
+            byte octet = b[offset];
+            offset++;
+            l |= (octet & 0x7fL) << shift;
+            if (0 <= octet) {
+                return l;
+            }
+        }
+        var message = getMalformedVarIntErrorMessage(off, MAX_NUM_OCTETS_IN_VARLONG);
+        throw new IllegalArgumentException(message);
+    }
+
+    /**
+     * Gathers the seven data bits of each byte of a variable-length integer
+     * loaded little-endian in a {@code long}.
+     *
+     * @param word the bytes of the integer, lowest byte first.
+     * @param bits the number of bits of {@code word} that belong to the
+     *             integer, a multiple of 8.
+     * @return the decoded integer.
+     */
+    private static long compactVarLong(long word, int bits) {
+        long l = word & (-1L >>> (64 - bits)) & 0x7f7f7f7f7f7f7f7fL;
+        l = (l & 0x007f007f007f007fL) | ((l & 0x7f007f007f007f00L) >>> 1);
+        l = (l & 0x00003fff00003fffL) | ((l & 0x3fff00003fff0000L) >>> 2);
+        l = (l & 0x000000000fffffffL) | ((l & 0x0fffffff00000000L) >>> 4);
+        return l;
+    }
+
+
+//---------------------------
+// Half-precision floating point
+//---------------------------
+
+    /**
+     * Converts a {@code float} to an IEEE 754 binary16 (half-precision) value,
+     * rounding to the nearest value, ties to even. Magnitudes too large for
+     * half precision become infinities, magnitudes too small become subnormals
+     * or signed zeros, and NaNs stay quiet NaNs keeping the top bits of their
+     * payload.
+     *
+     * @param f the {@code float} to convert.
+     * @return the binary16 bits.
+     */
+    public static short floatToFloat16(float f) {
+        int bits = Float.floatToRawIntBits(f);
+        int sign = (bits >>> 16) & 0x8000;
+        int abs = bits & 0x7fffffff;
+
+        int h;
+        if (0x7f800000 < abs) {
+            // NaN, forced quiet
+            h = 0x7e00 | ((abs >>> 13) & 0x03ff);
+        }
+        else if (0x477ff000 <= abs) {
+            // rounds past 65504, the largest half
+            h = 0x7c00;
+        }
+        else if (0x38800000 <= abs) {
+            // normal, rebias the exponent from 127 to 15
+            h = (abs - 0x38000000) >>> 13;
+            h += roundingCarry(abs, 13, h);
+        }
+        else if (0x33000000 < abs) {
+            // subnormal, in units of 2^-24
+            int exponent = abs >>> 23;
+            int mantissa = (abs & 0x007fffff) | 0x00800000;
+            int shift = 126 - exponent;
+            h = mantissa >>> shift;
+            h += roundingCarry(mantissa, shift, h);
+        }
+        else {
+            // rounds to zero
+            h = 0;
+        }
+        return (short) (sign | h);
+    }
+
+    /**
+     * Converts an IEEE 754 binary16 (half-precision) value to a {@code float}.
+     * The conversion is exact.
+     *
+     * @param h the binary16 bits.
+     * @return the {@code float}.
+     */
+    public static float float16ToFloat(short h) {
+        int sign = (h & 0x8000) << 16;
+        int exponent = (h >>> 10) & 0x1f;
+        int mantissa = h & 0x03ff;
+
+        float f;
+        if (0x1f == exponent) {
+            // infinities and NaNs
+            f = Float.intBitsToFloat(sign | 0x7f800000 | (mantissa << 13));
+        }
+        else if (0 != exponent) {
+            f = Float.intBitsToFloat(sign | ((exponent + 112) << 23) | (mantissa << 13));
+        }
+        else {
+            // zeros and subnormals, mantissa * 2^-24
+            f = mantissa * 0x1p-24f;
+            f = (0 == sign) ? f : -f;
+        }
+        return f;
+    }
+
+    /**
+     * Converts a {@code float} to a bfloat16 value, the upper half of the
+     * {@code float}, rounding to the nearest value, ties to even. NaNs stay
+     * quiet NaNs.
+     *
+     * @param f the {@code float} to convert.
+     * @return the bfloat16 bits.
+     */
+    public static short floatToBFloat16(float f) {
+        int bits = Float.floatToRawIntBits(f);
+        int b;
+        if (0x7f800000 < (bits & 0x7fffffff)) {
+            b = (bits >>> 16) | 0x0040;
+        }
+        else {
+            b = (bits + 0x7fff + ((bits >>> 16) & 1)) >>> 16;
+        }
+        return (short) b;
+    }
+
+    /**
+     * Converts a bfloat16 value to a {@code float}. The conversion is exact.
+     *
+     * @param b the bfloat16 bits.
+     * @return the {@code float}.
+     */
+    public static float bfloat16ToFloat(short b) {
+        float f = Float.intBitsToFloat(b << 16);
+        return f;
+    }
+
+    /**
+     * Converts {@code count} {@code float}s to binary16 values.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of values to convert.
+     * @return {@code dst}.
+     * @see #floatToFloat16(float)
+     */
+    public static short[] floatToFloat16(float[] src, int srcOff, short[] dst, int dstOff, int count) {
+        Arrays.checkArray(src, srcOff, count);
+        Arrays.checkArray(dst, dstOff, count);
+
+        for (int i = 0; i < count; i++) {
+            dst[dstOff + i] = floatToFloat16(src[srcOff + i]);
+        }
+        return dst;
+    }
+
+    /**
+     * Converts {@code count} binary16 values to {@code float}s.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of values to convert.
+     * @return {@code dst}.
+     * @see #float16ToFloat(short)
+     */
+    public static float[] float16ToFloat(short[] src, int srcOff, float[] dst, int dstOff, int count) {
+        Arrays.checkArray(src, srcOff, count);
+        Arrays.checkArray(dst, dstOff, count);
+
+        for (int i = 0; i < count; i++) {
+            dst[dstOff + i] = float16ToFloat(src[srcOff + i]);
+        }
+        return dst;
+    }
+
+    /**
+     * Converts {@code count} {@code float}s to bfloat16 values.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of values to convert.
+     * @return {@code dst}.
+     * @see #floatToBFloat16(float)
+     */
+    public static short[] floatToBFloat16(float[] src, int srcOff, short[] dst, int dstOff, int count) {
+        Arrays.checkArray(src, srcOff, count);
+        Arrays.checkArray(dst, dstOff, count);
+
+        for (int i = 0; i < count; i++) {
+            dst[dstOff + i] = floatToBFloat16(src[srcOff + i]);
+        }
+        return dst;
+    }
+
+    /**
+     * Converts {@code count} bfloat16 values to {@code float}s.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of values to convert.
+     * @return {@code dst}.
+     * @see #bfloat16ToFloat(short)
+     */
+    public static float[] bfloat16ToFloat(short[] src, int srcOff, float[] dst, int dstOff, int count) {
+        Arrays.checkArray(src, srcOff, count);
+        Arrays.checkArray(dst, dstOff, count);
+
+        for (int i = 0; i < count; i++) {
+            dst[dstOff + i] = bfloat16ToFloat(src[srcOff + i]);
+        }
+        return dst;
+    }
+
+    /**
+     * Encodes {@code count} {@code float}s as binary16 values into the byte
+     * array in the given byte order, two bytes each.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of values to encode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see #floatToFloat16(float)
+     */
+    public static byte[] encodeFloat16(float[] src, int srcOff, byte[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(src, srcOff, count);
+        Arrays.checkArray(dst, dstOff, count * NUM_OCTETS_IN_SHORT);
+
+        if (ByteOrder.LITTLE_ENDIAN == order) {
+            for (int i = 0; i < count; i++) {
+                SHORT_LE.set(dst, dstOff + i * NUM_OCTETS_IN_SHORT, floatToFloat16(src[srcOff + i]));
+            }
+        }
+        else {
+            for (int i = 0; i < count; i++) {
+                SHORT_BE.set(dst, dstOff + i * NUM_OCTETS_IN_SHORT, floatToFloat16(src[srcOff + i]));
+            }
+        }
+        return dst;
+    }
+
+    /**
+     * Decodes {@code count} binary16 values from the byte array in the given
+     * byte order into {@code float}s.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of values to decode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see #float16ToFloat(short)
+     */
+    public static float[] decodeFloat16(byte[] src, int srcOff, float[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(dst, dstOff, count);
+        Arrays.checkArray(src, srcOff, count * NUM_OCTETS_IN_SHORT);
+
+        if (ByteOrder.LITTLE_ENDIAN == order) {
+            for (int i = 0; i < count; i++) {
+                dst[dstOff + i] = float16ToFloat((short) SHORT_LE.get(src, srcOff + i * NUM_OCTETS_IN_SHORT));
+            }
+        }
+        else {
+            for (int i = 0; i < count; i++) {
+                dst[dstOff + i] = float16ToFloat((short) SHORT_BE.get(src, srcOff + i * NUM_OCTETS_IN_SHORT));
+            }
+        }
+        return dst;
+    }
+
+    /**
+     * Encodes {@code count} {@code float}s as bfloat16 values into the byte
+     * array in the given byte order, two bytes each.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of values to encode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see #floatToBFloat16(float)
+     */
+    public static byte[] encodeBFloat16(float[] src, int srcOff, byte[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(src, srcOff, count);
+        Arrays.checkArray(dst, dstOff, count * NUM_OCTETS_IN_SHORT);
+
+        if (ByteOrder.LITTLE_ENDIAN == order) {
+            for (int i = 0; i < count; i++) {
+                SHORT_LE.set(dst, dstOff + i * NUM_OCTETS_IN_SHORT, floatToBFloat16(src[srcOff + i]));
+            }
+        }
+        else {
+            for (int i = 0; i < count; i++) {
+                SHORT_BE.set(dst, dstOff + i * NUM_OCTETS_IN_SHORT, floatToBFloat16(src[srcOff + i]));
+            }
+        }
+        return dst;
+    }
+
+    /**
+     * Decodes {@code count} bfloat16 values from the byte array in the given
+     * byte order into {@code float}s.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @param count  the number of values to decode.
+     * @param order  the byte order.
+     * @return {@code dst}.
+     * @see #bfloat16ToFloat(short)
+     */
+    public static float[] decodeBFloat16(byte[] src, int srcOff, float[] dst, int dstOff, int count, ByteOrder order) {
+        Arrays.checkArray(dst, dstOff, count);
+        Arrays.checkArray(src, srcOff, count * NUM_OCTETS_IN_SHORT);
+
+        if (ByteOrder.LITTLE_ENDIAN == order) {
+            for (int i = 0; i < count; i++) {
+                dst[dstOff + i] = bfloat16ToFloat((short) SHORT_LE.get(src, srcOff + i * NUM_OCTETS_IN_SHORT));
+            }
+        }
+        else {
+            for (int i = 0; i < count; i++) {
+                dst[dstOff + i] = bfloat16ToFloat((short) SHORT_BE.get(src, srcOff + i * NUM_OCTETS_IN_SHORT));
+            }
+        }
+        return dst;
+    }
+
+    /**
+     * Computes the carry when rounding to nearest, ties to even, the lowest
+     * {@code shift} bits are dropped from {@code bits}.
+     *
+     * @param bits      the bits before rounding.
+     * @param shift     the number of dropped bits, between 1 and 31.
+     * @param truncated the truncated value, whose parity breaks ties.
+     * @return {@code 1} to round up, {@code 0} otherwise.
+     */
+    private static int roundingCarry(int bits, int shift, int truncated) {
+        int dropped = bits & ((1 << shift) - 1);
+        int half = 1 << (shift - 1);
+        int carry = (half < dropped || (half == dropped && 0 != (truncated & 1))) ? 1 : 0;
+        return carry;
+    }
+
+
+//---------------------------
+// Byte swapping
+//---------------------------
+
+    /**
+     * Reverses, in place, the bytes of {@code len} {@code short}s, converting
+     * them between big-endian and little-endian.
+     *
+     * @param array the array.
+     * @param off   the offset in the array.
+     * @param len   the number of elements.
+     * @return {@code array}.
+     * @see Arrays#checkArray(short[], int, int)
+     */
+    public static short[] reverseBytes(short[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        for (int i = off, end = off + len; i < end; i++) {
+            array[i] = Short.reverseBytes(array[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Reverses, in place, the bytes of {@code len} {@code char}s, converting
+     * them between big-endian and little-endian.
+     *
+     * @param array the array.
+     * @param off   the offset in the array.
+     * @param len   the number of elements.
+     * @return {@code array}.
+     * @see Arrays#checkArray(char[], int, int)
+     */
+    public static char[] reverseBytes(char[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        for (int i = off, end = off + len; i < end; i++) {
+            array[i] = Character.reverseBytes(array[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Reverses, in place, the bytes of {@code len} {@code int}s, converting
+     * them between big-endian and little-endian.
+     *
+     * @param array the array.
+     * @param off   the offset in the array.
+     * @param len   the number of elements.
+     * @return {@code array}.
+     * @see Arrays#checkArray(int[], int, int)
+     */
+    public static int[] reverseBytes(int[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        for (int i = off, end = off + len; i < end; i++) {
+            array[i] = Integer.reverseBytes(array[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Reverses, in place, the bytes of {@code len} {@code long}s, converting
+     * them between big-endian and little-endian.
+     *
+     * @param array the array.
+     * @param off   the offset in the array.
+     * @param len   the number of elements.
+     * @return {@code array}.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public static long[] reverseBytes(long[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        for (int i = off, end = off + len; i < end; i++) {
+            array[i] = Long.reverseBytes(array[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Reverses, in place, the bytes of {@code len} {@code float}s, converting
+     * them between big-endian and little-endian. The raw bits are swapped, so
+     * a swapped value can be any bit pattern, NaNs included, and swapping back
+     * gives the original bits.
+     *
+     * @param array the array.
+     * @param off   the offset in the array.
+     * @param len   the number of elements.
+     * @return {@code array}.
+     * @see Arrays#checkArray(float[], int, int)
+     */
+    public static float[] reverseBytes(float[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        for (int i = off, end = off + len; i < end; i++) {
+            int bits = Float.floatToRawIntBits(array[i]);
+            array[i] = Float.intBitsToFloat(Integer.reverseBytes(bits));
+        }
+        return array;
+    }
+
+    /**
+     * Reverses, in place, the bytes of {@code len} {@code double}s, converting
+     * them between big-endian and little-endian. The raw bits are swapped, so
+     * a swapped value can be any bit pattern, NaNs included, and swapping back
+     * gives the original bits.
+     *
+     * @param array the array.
+     * @param off   the offset in the array.
+     * @param len   the number of elements.
+     * @return {@code array}.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public static double[] reverseBytes(double[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        for (int i = off, end = off + len; i < end; i++) {
+            long bits = Double.doubleToRawLongBits(array[i]);
+            array[i] = Double.longBitsToDouble(Long.reverseBytes(bits));
+        }
+        return array;
+    }
+
+    /**
+     * Reverses, in place, the bytes of each element of {@code width} bytes in
+     * a raw buffer. Widths of 2, 4 and 8 bytes read each element in one byte
+     * order and write it back in the other, which compiles to byte swap
+     * instructions, other widths reverse the bytes one by one.
+     *
+     * @param data  the raw buffer.
+     * @param off   the offset in the buffer.
+     * @param len   the number of bytes, a multiple of {@code width}.
+     * @param width the number of bytes in each element.
+     * @return {@code data}.
+     * @exception IllegalArgumentException if {@code width} is not positive or
+     *                                     if {@code len} is not a multiple of
+     *                                     it.
+     * @see Arrays#checkArray(byte[], int, int)
+     */
+    public static byte[] swap(byte[] data, int off, int len, int width) {
+        Arrays.checkArray(data, off, len);
+        if (0 >= width || 0 != len % width) {
+            String message = getBadSwapWidthErrorMessage(len, width);
+            throw new IllegalArgumentException(message);
+        }
+
+        int end = off + len;
+        switch (width) {
+            case NUM_OCTETS_IN_SHORT:
+                for (int i = off; i < end; i += NUM_OCTETS_IN_SHORT) {
+                    SHORT_BE.set(data, i, (short) SHORT_LE.get(data, i));
+                }
+                break;
+            case NUM_OCTETS_IN_INT:
+                for (int i = off; i < end; i += NUM_OCTETS_IN_INT) {
+                    INT_BE.set(data, i, (int) INT_LE.get(data, i));
+                }
+                break;
+            case NUM_OCTETS_IN_LONG:
+                for (int i = off; i < end; i += NUM_OCTETS_IN_LONG) {
+                    LONG_BE.set(data, i, (long) LONG_LE.get(data, i));
+                }
+                break;
+            default:
+                for (int i = off; i < end; i += width) {
+                    for (int lo = i, hi = i + width - 1; lo < hi; lo++, hi--) {
+                        byte b = data[lo];
+                        data[lo] = data[hi];
+                        data[hi] = b;
+                    }
+                }
+                break;
+        }
+        return data;
+    }
+
+
+//---------------------------
+// Error message class methods
+//---------------------------
+
+    /**
+     * Gets the formatted error message that says that a variable-length integer
+     * is longer than allowed.
+     *
+     * @param off     the offset of the integer.
+     * @param maxSize the maximum number of bytes.
+     * @return the formatted error message.
+     */
+    protected static String getMalformedVarIntErrorMessage(int off, int maxSize) {
+        var key = Resources.BITS_MALFORMED_VARINT;
+        var message = Resources.getLocalizedString(key, off, maxSize);
+        return message;
+    }
+
+    /**
+     * Gets the formatted error message that says that the bytes cannot be
+     * swapped in elements of the given width.
+     *
+     * @param len   the number of bytes.
+     * @param width the width of the elements.
+     * @return the formatted error message.
+     */
+    protected static String getBadSwapWidthErrorMessage(int len, int width) {
+        var key = Resources.BITS_BAD_SWAP_WIDTH;
+        var message = Resources.getLocalizedString(key, len, width);
+        return message;
+    }
+
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Class {@code DirectBuffers} allocates direct {@link ByteBuffer}s in the
+ * native byte order and releases their memory on demand instead of waiting for
+ * the garbage collector to find them unreachable.
+ * <p>
+ * The release goes through {@code sun.misc.Unsafe.invokeCleaner()}, the
+ * supported way since Java 9. When it cannot be reached the memory is left to
+ * the garbage collector. A buffer must not be used, nor any of its views, once
+ * released.
+ */
+public final class DirectBuffers {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The instance of {@code sun.misc.Unsafe}, or {@code null}. */
+    private static final Object UNSAFE;
+    /** The method {@code sun.misc.Unsafe.invokeCleaner()}, or {@code null}. */
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            var clazz = Class.forName("sun.misc.Unsafe");
+            Field field = clazz.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = clazz.getMethod("invokeCleaner", ByteBuffer.class);
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+
+//---------------------------
+// Constructor
+//---------------------------
+
+    /**
+     * Let no one instanciate this class.
+     */
+    private DirectBuffers() {
+        // nothing
+    }
+
+
+//---------------------------
+// Class methods
+//---------------------------
+
+    /**
+     * Allocates a zeroed direct buffer in the native byte order.
+     * @param   capacity   the capacity, in bytes.
+     * @return   the buffer.
+     */
+    public static ByteBuffer allocate(int capacity) {
+        var buffer = ByteBuffer.allocateDirect(capacity)
+                               .order(ByteOrder.nativeOrder());
+        return buffer;
+    }
+
+    /**
+     * Tells if the memory of direct buffers can be released on demand.
+     * @return   {@code true} if it can, {@code false} otherwise.
+     */
+    public static boolean canFree() {
+        boolean can = (null != INVOKE_CLEANER);
+        return can;
+    }
+
+    /**
+     * Releases the memory of a direct buffer, allocated or mapped. Heap
+     * buffers, slices and duplicates are left alone.
+     * @param   buffer   the buffer.
+     * @return   {@code true} if the memory was released, {@code false} if it is
+     *           left to the garbage collector.
+     */
+    public static boolean free(ByteBuffer buffer) {
+        if (null == buffer || false == buffer.isDirect() || false == canFree()) {
+            return false;
+        }
+
+        boolean freed;
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            freed = true;
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            freed = false;
+        }
+        return freed;
+    }
+
+}
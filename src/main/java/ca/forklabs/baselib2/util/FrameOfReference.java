@@ -0,0 +1,723 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Class {@code FrameOfReference} packs blocks of {@link #BLOCK_SIZE} integers
+ * as a base value, the smallest of the block, followed by the difference of
+ * each integer to that base written on just enough bits. Sorted identifiers
+ * and timestamps have small differences and shrink a lot.
+ * <p>
+ * A block is written little-endian as:
+ * <ul>
+ * <li>one byte with the bit width <em>w</em> of the differences;</li>
+ * <li>the base value, four bytes for {@code int}s and eight bytes for
+ *     {@code long}s;</li>
+ * <li>{@code 16 * w} bytes of differences, packed lowest bits first.</li>
+ * </ul>
+ * The bit width is picked for each block. Nothing is allocated while
+ * encoding or decoding.
+ */
+public class FrameOfReference {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The number of integers in a block. */
+    public static final int BLOCK_SIZE = 128;
+
+    /** The number of bytes taken by the bit width of a block. */
+    private static final int WIDTH_SIZE = Bits.NUM_OCTETS_IN_BYTE;
+
+    /** View of a {@link ByteBuffer} as a {@code long[]}, little-endian, whatever the order of the buffer. */
+    private static final VarHandle LONG_LE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    /** View of a {@link ByteBuffer} as an {@code int[]}, little-endian, whatever the order of the buffer. */
+    private static final VarHandle INT_LE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+
+//---------------------------
+// Constructor
+//---------------------------
+
+    /**
+     * Let no one instantiate this class.
+     */
+    private FrameOfReference() {
+        // nothing
+    }
+
+
+//---------------------------
+// Block sizes
+//---------------------------
+
+    /**
+     * Gets the number of bits needed to write the differences between the
+     * integers of the block and the smallest of them.
+     *
+     * @param values the integers.
+     * @param off    the offset of the block.
+     * @return a bit width between 0 and 32.
+     */
+    public static int bitWidth(int[] values, int off) {
+        Arrays.checkArray(values, off, BLOCK_SIZE);
+        int base = min(values, off);
+        int width = bitWidth(values, off, base);
+        return width;
+    }
+
+    /**
+     * Gets the number of bits needed to write the differences between the
+     * integers of the block and the smallest of them.
+     *
+     * @param values the integers.
+     * @param off    the offset of the block.
+     * @return a bit width between 0 and 64.
+     */
+    public static int bitWidth(long[] values, int off) {
+        Arrays.checkArray(values, off, BLOCK_SIZE);
+        long base = min(values, off);
+        int width = bitWidth(values, off, base);
+        return width;
+    }
+
+    /**
+     * Gets the number of bytes of an encoded block of {@code int}s.
+     *
+     * @param width the bit width of the block.
+     * @return the number of bytes.
+     */
+    public static int intBlockSize(int width) {
+        int size = WIDTH_SIZE + Bits.NUM_OCTETS_IN_INT + packedSize(width);
+        return size;
+    }
+
+    /**
+     * Gets the number of bytes of an encoded block of {@code long}s.
+     *
+     * @param width the bit width of the block.
+     * @return the number of bytes.
+     */
+    public static int longBlockSize(int width) {
+        int size = WIDTH_SIZE + Bits.NUM_OCTETS_IN_LONG + packedSize(width);
+        return size;
+    }
+
+    /**
+     * Gets the number of bytes taken by {@link #BLOCK_SIZE} differences.
+     *
+     * @param width the bit width.
+     * @return the number of bytes.
+     */
+    private static int packedSize(int width) {
+        int size = BLOCK_SIZE / Byte.SIZE * width;
+        return size;
+    }
+
+
+//---------------------------
+// int blocks
+//---------------------------
+
+    /**
+     * Encodes a block of {@link #BLOCK_SIZE} {@code int}s into the byte
+     * array.
+     *
+     * @param src    the integers.
+     * @param srcOff the offset of the block.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @return the number of bytes written.
+     * @see #intBlockSize(int)
+     */
+    public static int encode(int[] src, int srcOff, byte[] dst, int dstOff) {
+        Arrays.checkArray(src, srcOff, BLOCK_SIZE);
+        int base = min(src, srcOff);
+        int width = bitWidth(src, srcOff, base);
+        int size = intBlockSize(width);
+        Arrays.checkArray(dst, dstOff, size);
+
+        int offset = dstOff;
+        dst[offset] = (byte) width;
+        offset += WIDTH_SIZE;
+        Bits.putInt(dst, offset, base, ByteOrder.LITTLE_ENDIAN);
+        offset += Bits.NUM_OCTETS_IN_INT;
+        pack(src, srcOff, base, width, dst, offset);
+
+        return size;
+    }
+
+    /**
+     * Decodes a block of {@link #BLOCK_SIZE} {@code int}s from the byte
+     * array.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination of the integers.
+     * @param dstOff the offset of the block.
+     * @return the number of bytes read.
+     * @exception IllegalArgumentException if the bit width of the block is not
+     *                                     within {@code [0, 32]}.
+     */
+    public static int decode(byte[] src, int srcOff, int[] dst, int dstOff) {
+        Arrays.checkArray(dst, dstOff, BLOCK_SIZE);
+        Arrays.checkArray(src, srcOff, WIDTH_SIZE);
+        int width = checkWidth(src[srcOff], 32);
+        int size = intBlockSize(width);
+        Arrays.checkArray(src, srcOff, size);
+
+        int offset = srcOff + WIDTH_SIZE;
+        int base = Bits.getInt(src, offset, ByteOrder.LITTLE_ENDIAN);
+        offset += Bits.NUM_OCTETS_IN_INT;
+        unpack(src, offset, width, base, dst, dstOff);
+
+        return size;
+    }
+
+    /**
+     * Encodes a block of {@link #BLOCK_SIZE} {@code int}s at the position
+     * of the buffer, then moves the position after the block. The block is
+     * little-endian whatever the order of the buffer.
+     *
+     * @param src    the integers.
+     * @param srcOff the offset of the block.
+     * @param dst    the destination buffer.
+     * @exception BufferOverflowException if the block does not fit in the
+     *                                    remaining bytes of the buffer.
+     */
+    public static void encode(int[] src, int srcOff, ByteBuffer dst) {
+        Arrays.checkArray(src, srcOff, BLOCK_SIZE);
+        int base = min(src, srcOff);
+        int width = bitWidth(src, srcOff, base);
+        int size = intBlockSize(width);
+        if (dst.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+
+        int offset = dst.position();
+        dst.put(offset, (byte) width);
+        offset += WIDTH_SIZE;
+        INT_LE.set(dst, offset, base);
+        offset += Bits.NUM_OCTETS_IN_INT;
+        pack(src, srcOff, base, width, dst, offset);
+
+        dst.position(dst.position() + size);
+    }
+
+    /**
+     * Decodes a block of {@link #BLOCK_SIZE} {@code int}s at the position
+     * of the buffer, then moves the position after the block.
+     *
+     * @param src    the source buffer.
+     * @param dst    the destination of the integers.
+     * @param dstOff the offset of the block.
+     * @exception BufferUnderflowException if the block is longer than the
+     *                                     remaining bytes of the buffer.
+     * @exception IllegalArgumentException if the bit width of the block is not
+     *                                     within {@code [0, 32]}.
+     */
+    public static void decode(ByteBuffer src, int[] dst, int dstOff) {
+        Arrays.checkArray(dst, dstOff, BLOCK_SIZE);
+        if (!src.hasRemaining()) {
+            throw new BufferUnderflowException();
+        }
+        int width = checkWidth(src.get(src.position()), 32);
+        int size = intBlockSize(width);
+        if (src.remaining() < size) {
+            throw new BufferUnderflowException();
+        }
+
+        int offset = src.position() + WIDTH_SIZE;
+        int base = (int) INT_LE.get(src, offset);
+        offset += Bits.NUM_OCTETS_IN_INT;
+        unpack(src, offset, width, base, dst, dstOff);
+
+        src.position(src.position() + size);
+    }
+
+    /**
+     * Finds the smallest integer of the block.
+     *
+     * @param values the integers.
+     * @param off    the offset of the block.
+     * @return the smallest integer.
+     */
+    private static int min(int[] values, int off) {
+        int min = values[off];
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            min = Math.min(min, values[off + i]);
+        }
+        return min;
+    }
+
+    /**
+     * Gets the number of bits needed by the differences to the base.
+     *
+     * @param values the integers.
+     * @param off    the offset of the block.
+     * @param base   the smallest integer of the block.
+     * @return the bit width.
+     */
+    private static int bitWidth(int[] values, int off, int base) {
+        long bits = 0L;
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            bits |= (values[off + i] - base) & 0xffffffffL;
+        }
+        int width = Long.SIZE - Long.numberOfLeadingZeros(bits);
+        return width;
+    }
+
+    /**
+     * Packs the differences to the base, {@code width} bits each, lowest bits
+     * first. Since {@link #BLOCK_SIZE} is a multiple of 64, the block always
+     * ends on a whole {@code long}.
+     *
+     * @param src    the integers.
+     * @param srcOff the offset of the block.
+     * @param base   the smallest integer of the block.
+     * @param width  the bit width.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     */
+    private static void pack(int[] src, int srcOff, int base, int width, byte[] dst, int dstOff) {
+        long word = 0L;
+        int used = 0;
+        int offset = dstOff;
+        for (int i = 0; (0 < width) && (i < BLOCK_SIZE); i++) {
+            long delta = (src[srcOff + i] - base) & 0xffffffffL;
+            word |= delta << used;
+            used += width;
+            if (Long.SIZE <= used) {
+                Bits.putLong(dst, offset, word, ByteOrder.LITTLE_ENDIAN);
+                offset += Bits.NUM_OCTETS_IN_LONG;
+                used -= Long.SIZE;
+                word = (0 == used) ? 0L : delta >>> (width - used);
+            }
+        }
+    }
+
+    /**
+     * Packs the differences to the base in the buffer.
+     *
+     * @param src    the integers.
+     * @param srcOff the offset of the block.
+     * @param base   the smallest integer of the block.
+     * @param width  the bit width.
+     * @param dst    the destination buffer.
+     * @param dstOff the absolute index in the destination buffer.
+     * @see #pack(int[], int, int, int, byte[], int)
+     */
+    private static void pack(int[] src, int srcOff, int base, int width, ByteBuffer dst, int dstOff) {
+        long word = 0L;
+        int used = 0;
+        int offset = dstOff;
+        for (int i = 0; (0 < width) && (i < BLOCK_SIZE); i++) {
+            long delta = (src[srcOff + i] - base) & 0xffffffffL;
+            word |= delta << used;
+            used += width;
+            if (Long.SIZE <= used) {
+                LONG_LE.set(dst, offset, word);
+                offset += Bits.NUM_OCTETS_IN_LONG;
+                used -= Long.SIZE;
+                word = (0 == used) ? 0L : delta >>> (width - used);
+            }
+        }
+    }
+
+    /**
+     * Unpacks the differences and adds them back to the base. A difference
+     * either lies within one {@code long} or straddles two of them.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset of the packed differences.
+     * @param width  the bit width.
+     * @param base   the smallest integer of the block.
+     * @param dst    the destination of the integers.
+     * @param dstOff the offset of the block.
+     */
+    private static void unpack(byte[] src, int srcOff, int width, int base, int[] dst, int dstOff) {
+        if (0 == width) {
+            Arrays.memset(dst, base, dstOff, BLOCK_SIZE);
+            return;
+        }
+
+        long mask = -1L >>> (Long.SIZE - width);
+        for (int i = 0, bit = 0; i < BLOCK_SIZE; i++, bit += width) {
+            int offset = srcOff + ((bit >>> 6) << 3);
+            int shift = bit & 63;
+            long delta = Bits.getLong(src, offset, ByteOrder.LITTLE_ENDIAN) >>> shift;
+            if (Long.SIZE < shift + width) {
+                delta |= Bits.getLong(src, offset + Bits.NUM_OCTETS_IN_LONG, ByteOrder.LITTLE_ENDIAN) << (Long.SIZE - shift);
+            }
+            delta &= mask;
+            dst[dstOff + i] = (int) (base + delta);
+        }
+    }
+
+    /**
+     * Unpacks the differences from the buffer and adds them back to the base.
+     *
+     * @param src    the source buffer.
+     * @param srcOff the absolute index of the packed differences.
+     * @param width  the bit width.
+     * @param base   the smallest integer of the block.
+     * @param dst    the destination of the integers.
+     * @param dstOff the offset of the block.
+     * @see #unpack(byte[], int, int, int, int[], int)
+     */
+    private static void unpack(ByteBuffer src, int srcOff, int width, int base, int[] dst, int dstOff) {
+        if (0 == width) {
+            Arrays.memset(dst, base, dstOff, BLOCK_SIZE);
+            return;
+        }
+
+        long mask = -1L >>> (Long.SIZE - width);
+        for (int i = 0, bit = 0; i < BLOCK_SIZE; i++, bit += width) {
+            int offset = srcOff + ((bit >>> 6) << 3);
+            int shift = bit & 63;
+            long delta = (long) LONG_LE.get(src, offset) >>> shift;
+            if (Long.SIZE < shift + width) {
+                delta |= (long) LONG_LE.get(src, offset + Bits.NUM_OCTETS_IN_LONG) << (Long.SIZE - shift);
+            }
+            delta &= mask;
+            dst[dstOff + i] = (int) (base + delta);
+        }
+    }
+
+
+//---------------------------
+// long blocks
+//---------------------------
+
+    /**
+     * Encodes a block of {@link #BLOCK_SIZE} {@code long}s into the byte
+     * array.
+     *
+     * @param src    the integers.
+     * @param srcOff the offset of the block.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     * @return the number of bytes written.
+     * @see #longBlockSize(int)
+     */
+    public static int encode(long[] src, int srcOff, byte[] dst, int dstOff) {
+        Arrays.checkArray(src, srcOff, BLOCK_SIZE);
+        long base = min(src, srcOff);
+        int width = bitWidth(src, srcOff, base);
+        int size = longBlockSize(width);
+        Arrays.checkArray(dst, dstOff, size);
+
+        int offset = dstOff;
+        dst[offset] = (byte) width;
+        offset += WIDTH_SIZE;
+        Bits.putLong(dst, offset, base, ByteOrder.LITTLE_ENDIAN);
+        offset += Bits.NUM_OCTETS_IN_LONG;
+        pack(src, srcOff, base, width, dst, offset);
+
+        return size;
+    }
+
+    /**
+     * Decodes a block of {@link #BLOCK_SIZE} {@code long}s from the byte
+     * array.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset in the source array.
+     * @param dst    the destination of the integers.
+     * @param dstOff the offset of the block.
+     * @return the number of bytes read.
+     * @exception IllegalArgumentException if the bit width of the block is not
+     *                                     within {@code [0, 64]}.
+     */
+    public static int decode(byte[] src, int srcOff, long[] dst, int dstOff) {
+        Arrays.checkArray(dst, dstOff, BLOCK_SIZE);
+        Arrays.checkArray(src, srcOff, WIDTH_SIZE);
+        int width = checkWidth(src[srcOff], 64);
+        int size = longBlockSize(width);
+        Arrays.checkArray(src, srcOff, size);
+
+        int offset = srcOff + WIDTH_SIZE;
+        long base = Bits.getLong(src, offset, ByteOrder.LITTLE_ENDIAN);
+        offset += Bits.NUM_OCTETS_IN_LONG;
+        unpack(src, offset, width, base, dst, dstOff);
+
+        return size;
+    }
+
+    /**
+     * Encodes a block of {@link #BLOCK_SIZE} {@code long}s at the position
+     * of the buffer, then moves the position after the block. The block is
+     * little-endian whatever the order of the buffer.
+     *
+     * @param src    the integers.
+     * @param srcOff the offset of the block.
+     * @param dst    the destination buffer.
+     * @exception BufferOverflowException if the block does not fit in the
+     *                                    remaining bytes of the buffer.
+     */
+    public static void encode(long[] src, int srcOff, ByteBuffer dst) {
+        Arrays.checkArray(src, srcOff, BLOCK_SIZE);
+        long base = min(src, srcOff);
+        int width = bitWidth(src, srcOff, base);
+        int size = longBlockSize(width);
+        if (dst.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+
+        int offset = dst.position();
+        dst.put(offset, (byte) width);
+        offset += WIDTH_SIZE;
+        LONG_LE.set(dst, offset, base);
+        offset += Bits.NUM_OCTETS_IN_LONG;
+        pack(src, srcOff, base, width, dst, offset);
+
+        dst.position(dst.position() + size);
+    }
+
+    /**
+     * Decodes a block of {@link #BLOCK_SIZE} {@code long}s at the position
+     * of the buffer, then moves the position after the block.
+     *
+     * @param src    the source buffer.
+     * @param dst    the destination of the integers.
+     * @param dstOff the offset of the block.
+     * @exception BufferUnderflowException if the block is longer than the
+     *                                     remaining bytes of the buffer.
+     * @exception IllegalArgumentException if the bit width of the block is not
+     *                                     within {@code [0, 64]}.
+     */
+    public static void decode(ByteBuffer src, long[] dst, int dstOff) {
+        Arrays.checkArray(dst, dstOff, BLOCK_SIZE);
+        if (!src.hasRemaining()) {
+            throw new BufferUnderflowException();
+        }
+        int width = checkWidth(src.get(src.position()), 64);
+        int size = longBlockSize(width);
+        if (src.remaining() < size) {
+            throw new BufferUnderflowException();
+        }
+
+        int offset = src.position() + WIDTH_SIZE;
+        long base = (long) LONG_LE.get(src, offset);
+        offset += Bits.NUM_OCTETS_IN_LONG;
+        unpack(src, offset, width, base, dst, dstOff);
+
+        src.position(src.position() + size);
+    }
+
+    /**
+     * Finds the smallest integer of the block.
+     *
+     * @param values the integers.
+     * @param off    the offset of the block.
+     * @return the smallest integer.
+     */
+    private static long min(long[] values, int off) {
+        long min = values[off];
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            min = Math.min(min, values[off + i]);
+        }
+        return min;
+    }
+
+    /**
+     * Gets the number of bits needed by the differences to the base.
+     *
+     * @param values the integers.
+     * @param off    the offset of the block.
+     * @param base   the smallest integer of the block.
+     * @return the bit width.
+     */
+    private static int bitWidth(long[] values, int off, long base) {
+        long bits = 0L;
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            bits |= values[off + i] - base;
+        }
+        int width = Long.SIZE - Long.numberOfLeadingZeros(bits);
+        return width;
+    }
+
+    /**
+     * Packs the differences to the base, {@code width} bits each, lowest bits
+     * first. Since {@link #BLOCK_SIZE} is a multiple of 64, the block always
+     * ends on a whole {@code long}.
+     *
+     * @param src    the integers.
+     * @param srcOff the offset of the block.
+     * @param base   the smallest integer of the block.
+     * @param width  the bit width.
+     * @param dst    the destination array.
+     * @param dstOff the offset in the destination array.
+     */
+    private static void pack(long[] src, int srcOff, long base, int width, byte[] dst, int dstOff) {
+        long word = 0L;
+        int used = 0;
+        int offset = dstOff;
+        for (int i = 0; (0 < width) && (i < BLOCK_SIZE); i++) {
+            long delta = src[srcOff + i] - base;
+            word |= delta << used;
+            used += width;
+            if (Long.SIZE <= used) {
+                Bits.putLong(dst, offset, word, ByteOrder.LITTLE_ENDIAN);
+                offset += Bits.NUM_OCTETS_IN_LONG;
+                used -= Long.SIZE;
+                word = (0 == used) ? 0L : delta >>> (width - used);
+            }
+        }
+    }
+
+    /**
+     * Packs the differences to the base in the buffer.
+     *
+     * @param src    the integers.
+     * @param srcOff the offset of the block.
+     * @param base   the smallest integer of the block.
+     * @param width  the bit width.
+     * @param dst    the destination buffer.
+     * @param dstOff the absolute index in the destination buffer.
+     * @see #pack(long[], int, long, int, byte[], int)
+     */
+    private static void pack(long[] src, int srcOff, long base, int width, ByteBuffer dst, int dstOff) {
+        long word = 0L;
+        int used = 0;
+        int offset = dstOff;
+        for (int i = 0; (0 < width) && (i < BLOCK_SIZE); i++) {
+            long delta = src[srcOff + i] - base;
+            word |= delta << used;
+            used += width;
+            if (Long.SIZE <= used) {
+                LONG_LE.set(dst, offset, word);
+                offset += Bits.NUM_OCTETS_IN_LONG;
+                used -= Long.SIZE;
+                word = (0 == used) ? 0L : delta >>> (width - used);
+            }
+        }
+    }
+
+    /**
+     * Unpacks the differences and adds them back to the base. A difference
+     * either lies within one {@code long} or straddles two of them.
+     *
+     * @param src    the source array.
+     * @param srcOff the offset of the packed differences.
+     * @param width  the bit width.
+     * @param base   the smallest integer of the block.
+     * @param dst    the destination of the integers.
+     * @param dstOff the offset of the block.
+     */
+    private static void unpack(byte[] src, int srcOff, int width, long base, long[] dst, int dstOff) {
+        if (0 == width) {
+            Arrays.memset(dst, base, dstOff, BLOCK_SIZE);
+            return;
+        }
+
+        long mask = -1L >>> (Long.SIZE - width);
+        for (int i = 0, bit = 0; i < BLOCK_SIZE; i++, bit += width) {
+            int offset = srcOff + ((bit >>> 6) << 3);
+            int shift = bit & 63;
+            long delta = Bits.getLong(src, offset, ByteOrder.LITTLE_ENDIAN) >>> shift;
+            if (Long.SIZE < shift + width) {
+                delta |= Bits.getLong(src, offset + Bits.NUM_OCTETS_IN_LONG, ByteOrder.LITTLE_ENDIAN) << (Long.SIZE - shift);
+            }
+            delta &= mask;
+            dst[dstOff + i] = base + delta;
+        }
+    }
+
+    /**
+     * Unpacks the differences from the buffer and adds them back to the base.
+     *
+     * @param src    the source buffer.
+     * @param srcOff the absolute index of the packed differences.
+     * @param width  the bit width.
+     * @param base   the smallest integer of the block.
+     * @param dst    the destination of the integers.
+     * @param dstOff the offset of the block.
+     * @see #unpack(byte[], int, int, long, long[], int)
+     */
+    private static void unpack(ByteBuffer src, int srcOff, int width, long base, long[] dst, int dstOff) {
+        if (0 == width) {
+            Arrays.memset(dst, base, dstOff, BLOCK_SIZE);
+            return;
+        }
+
+        long mask = -1L >>> (Long.SIZE - width);
+        for (int i = 0, bit = 0; i < BLOCK_SIZE; i++, bit += width) {
+            int offset = srcOff + ((bit >>> 6) << 3);
+            int shift = bit & 63;
+            long delta = (long) LONG_LE.get(src, offset) >>> shift;
+            if (Long.SIZE < shift + width) {
+                delta |= (long) LONG_LE.get(src, offset + Bits.NUM_OCTETS_IN_LONG) << (Long.SIZE - shift);
+            }
+            delta &= mask;
+            dst[dstOff + i] = base + delta;
+        }
+    }
+
+
+//---------------------------
+// Error checking
+//---------------------------
+
+    /**
+     * Checks the bit width read from an encoded block.
+     *
+     * @param b        the byte with the width.
+     * @param maxWidth the largest valid width.
+     * @return the width.
+     * @exception IllegalArgumentException if the width is not within
+     *                                     {@code [0, maxWidth]}.
+     */
+    private static int checkWidth(byte b, int maxWidth) {
+        int width = Bits.unsignedByte(b);
+        if (maxWidth < width) {
+            var message = getBadWidthErrorMessage(width, maxWidth);
+            throw new IllegalArgumentException(message);
+        }
+        return width;
+    }
+
+
+//---------------------------
+// Error message class methods
+//---------------------------
+
+    /**
+     * Gets the formatted error message that says that the bit width of a block
+     * is not valid.
+     *
+     * @param width    the bit width.
+     * @param maxWidth the largest valid width.
+     * @return the formatted error message.
+     */
+    protected static String getBadWidthErrorMessage(int width, int maxWidth) {
+        var key = Resources.FRAME_OF_REFERENCE_BAD_WIDTH;
+        var message = Resources.getLocalizedString(key, width, maxWidth);
+        return message;
+    }
+
+}
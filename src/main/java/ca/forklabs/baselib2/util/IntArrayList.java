@@ -0,0 +1,508 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Class {@code IntArrayList} is a growable list of {@code int}s. Unlike an
+ * {@link java.util.ArrayList} of {@link Integer}s, it keeps its elements in a
+ * plain array, so that none of its operations box and each element costs
+ * its 4 bytes only.
+ * <p>
+ * The capacity grows by half when full, for amortized constant time additions.
+ * The list is not thread-safe.
+ */
+public class IntArrayList {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The default capacity. */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /** The largest capacity, some virtual machines reserve header words. */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /** The largest initial capacity of the builder of {@code toString()}. */
+    private static final int MAX_STRING_CAPACITY = 1 << 16;
+
+    /** The empty array shared by empty lists. */
+    private static final int[] EMPTY = new int[0];
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The elements, followed by unused capacity. */
+    private int[] _elements;
+
+    /** The number of elements. */
+    private int _size = 0;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs an empty list.
+     */
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the given capacity.
+     * @param   capacity   the initial capacity.
+     * @exception   IllegalArgumentException   if the capacity is negative.
+     */
+    public IntArrayList(int capacity) {
+        if (0 > capacity) {
+            var message = getNegativeCapacityErrorMessage(capacity);
+            throw new IllegalArgumentException(message);
+        }
+        _elements = (0 == capacity) ? EMPTY : new int[capacity];
+    }
+
+    /**
+     * Constructs a list holding a copy of the elements.
+     * @param   elements   the elements.
+     * @param   off   the offset of the elements.
+     * @param   len   the number of elements.
+     * @see Arrays#checkArray(int[], int, int)
+     */
+    public IntArrayList(int[] elements, int off, int len) {
+        this(len);
+        addAll(elements, off, len);
+    }
+
+
+//---------------------------
+// Accessors and mutators
+//---------------------------
+
+    /**
+     * Gets the number of elements.
+     * @return   the number of elements.
+     */
+    public int size() {
+        return _size;
+    }
+
+    /**
+     * Tells if there are no elements.
+     * @return   {@code true} if the list is empty, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        boolean empty = (0 == _size);
+        return empty;
+    }
+
+    /**
+     * Gets an element.
+     * @param   index   the index of the element.
+     * @return   the element.
+     * @exception   IndexOutOfBoundsException   if the index is not within
+     *                                          {@code [0, size()[}.
+     */
+    public int get(int index) {
+        Objects.checkIndex(index, _size);
+        int value = _elements[index];
+        return value;
+    }
+
+    /**
+     * Replaces an element.
+     * @param   index   the index of the element.
+     * @param   value   the new value.
+     * @return   the old value.
+     * @exception   IndexOutOfBoundsException   if the index is not within
+     *                                          {@code [0, size()[}.
+     */
+    public int set(int index, int value) {
+        Objects.checkIndex(index, _size);
+        int old = _elements[index];
+        _elements[index] = value;
+        return old;
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Appends an element.
+     * @param   value   the element.
+     */
+    public void add(int value) {
+        if (_size == _elements.length) {
+            grow(_size + 1);
+        }
+        _elements[_size++] = value;
+    }
+
+    /**
+     * Inserts an element, shifting the following elements to the right.
+     * @param   index   the index of the new element.
+     * @param   value   the element.
+     * @exception   IndexOutOfBoundsException   if the index is not within
+     *                                          {@code [0, size()]}.
+     */
+    public void add(int index, int value) {
+        Objects.checkIndex(index, _size + 1);
+        if (_size == _elements.length) {
+            grow(_size + 1);
+        }
+        System.arraycopy(_elements, index, _elements, index + 1, _size - index);
+        _elements[index] = value;
+        _size++;
+    }
+
+    /**
+     * Appends the elements of an array in one copy.
+     * @param   src   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of elements.
+     * @see Arrays#checkArray(int[], int, int)
+     */
+    public void addAll(int[] src, int off, int len) {
+        Arrays.checkArray(src, off, len);
+        ensureCapacity(_size + len);
+        System.arraycopy(src, off, _elements, _size, len);
+        _size += len;
+    }
+
+    /**
+     * Appends the elements of another list in one copy.
+     * @param   list   the other list.
+     */
+    public void addAll(IntArrayList list) {
+        int len = list._size;
+        ensureCapacity(_size + len);
+        System.arraycopy(list._elements, 0, _elements, _size, len);
+        _size += len;
+    }
+
+    /**
+     * Removes an element, shifting the following elements to the left.
+     * @param   index   the index of the element.
+     * @return   the removed element.
+     * @exception   IndexOutOfBoundsException   if the index is not within
+     *                                          {@code [0, size()[}.
+     */
+    public int removeAt(int index) {
+        Objects.checkIndex(index, _size);
+        int old = _elements[index];
+        System.arraycopy(_elements, index + 1, _elements, index, _size - index - 1);
+        _size--;
+        return old;
+    }
+
+    /**
+     * Removes the elements from {@code from}, inclusive, to {@code to},
+     * exclusive.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @exception   IndexOutOfBoundsException   if the range is not within
+     *                                          {@code [0, size()]}.
+     */
+    public void removeRange(int from, int to) {
+        Objects.checkFromToIndex(from, to, _size);
+        System.arraycopy(_elements, to, _elements, from, _size - to);
+        _size -= to - from;
+    }
+
+    /**
+     * Removes all the elements, keeping the capacity.
+     */
+    public void clear() {
+        _size = 0;
+    }
+
+    /**
+     * Grows or shrinks the list to the given size, new elements are zero.
+     * @param   size   the new size.
+     * @exception   IllegalArgumentException   if the size is negative.
+     */
+    public void setSize(int size) {
+        if (0 > size) {
+            var message = getNegativeCapacityErrorMessage(size);
+            throw new IllegalArgumentException(message);
+        }
+        if (size > _size) {
+            ensureCapacity(size);
+            Arrays.memset(_elements, 0, _size, size - _size);
+        }
+        _size = size;
+    }
+
+    /**
+     * Sets each element to the specified value.
+     * @param   value   the value.
+     * @see Arrays#memset(int[], int, int, int)
+     */
+    public void memset(int value) {
+        if (0 < _size) {
+            Arrays.memset(_elements, value, 0, _size);
+        }
+    }
+
+    /**
+     * Sets each element of the range to the specified value.
+     * @param   value   the value.
+     * @param   off   the index of the first element.
+     * @param   len   the number of elements.
+     * @exception   IndexOutOfBoundsException   if the range is not within
+     *                                          {@code [0, size()]}.
+     * @see Arrays#memset(int[], int, int, int)
+     */
+    public void memset(int value, int off, int len) {
+        Objects.checkFromIndexSize(off, len, _size);
+        if (0 < len) {
+            Arrays.memset(_elements, value, off, len);
+        }
+    }
+
+    /**
+     * Makes sure the list can hold the given number of elements without
+     * growing.
+     * @param   capacity   the minimal capacity.
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > _elements.length) {
+            grow(capacity);
+        }
+    }
+
+    /**
+     * Shrinks the capacity to the number of elements.
+     */
+    public void trimToSize() {
+        if (_size < _elements.length) {
+            _elements = (0 == _size) ? EMPTY : java.util.Arrays.copyOf(_elements, _size);
+        }
+    }
+
+    /**
+     * Grows the capacity by half, or to the minimal capacity if more is needed.
+     * @param   capacity   the minimal capacity.
+     * @exception   OutOfMemoryError   if the capacity cannot be reached.
+     */
+    protected void grow(int capacity) {
+        if (0 > capacity || MAX_CAPACITY < capacity) {
+            throw new OutOfMemoryError();
+        }
+        int length = _elements.length;
+        int grown = Math.min(MAX_CAPACITY, Math.max(DEFAULT_CAPACITY, length + (length >> 1)));
+        _elements = java.util.Arrays.copyOf(_elements, Math.max(grown, capacity));
+    }
+
+    /**
+     * Finds the first occurrence of a value.
+     * @param   value   the value.
+     * @return   the index of the value, or {@code -1} if it is absent.
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < _size; i++) {
+            if (value == _elements[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Tells if the list holds a value.
+     * @param   value   the value.
+     * @return   {@code true} if the value is present, {@code false} otherwise.
+     */
+    public boolean contains(int value) {
+        boolean contains = (-1 != indexOf(value));
+        return contains;
+    }
+
+    /**
+     * Sorts the elements in ascending order.
+     * @see java.util.Arrays#sort(int[], int, int)
+     */
+    public void sort() {
+        java.util.Arrays.sort(_elements, 0, _size);
+    }
+
+    /**
+     * Searches a value in the sorted list.
+     * @param   value   the value.
+     * @return   the index of the value, or {@code -(insertion point) - 1} if it
+     *           is absent.
+     * @see java.util.Arrays#binarySearch(int[], int, int, int)
+     */
+    public int binarySearch(int value) {
+        int index = java.util.Arrays.binarySearch(_elements, 0, _size, value);
+        return index;
+    }
+
+    /**
+     * Copies the elements to a new array.
+     * @return   the array.
+     */
+    public int[] toArray() {
+        var array = java.util.Arrays.copyOf(_elements, _size);
+        return array;
+    }
+
+    /**
+     * Copies the elements to an array.
+     * @param   dst   the array.
+     * @param   off   the offset in the array.
+     * @return   {@code dst}.
+     * @see Arrays#checkArray(int[], int, int)
+     */
+    public int[] toArray(int[] dst, int off) {
+        Arrays.checkArray(dst, off, _size);
+        System.arraycopy(_elements, 0, dst, off, _size);
+        return dst;
+    }
+
+    /**
+     * Gets an iterator over the elements that does not box them.
+     * @return   the iterator.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        var iterator = new PrimitiveIterator.OfInt() {
+            private int _next = 0;
+
+            @Override
+            public boolean hasNext() {
+                boolean more = (_next < _size);
+                return more;
+            }
+
+            @Override
+            public int nextInt() {
+                if (_next >= _size) {
+                    throw new NoSuchElementException();
+                }
+                int value = _elements[_next++];
+                return value;
+            }
+        };
+        return iterator;
+    }
+
+    /**
+     * Performs the action on each element, in order.
+     * @param   action   the action.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < _size; i++) {
+            action.accept(_elements[i]);
+        }
+    }
+
+    /**
+     * Gets a sequential stream over the elements. The list must not be
+     * modified while the stream is used.
+     * @return   the stream.
+     */
+    public IntStream stream() {
+        var stream = java.util.Arrays.stream(_elements, 0, _size);
+        return stream;
+    }
+
+
+//---------------------------
+// Overridden methods from java.lang.Object
+//---------------------------
+
+    /**
+     * Tells if the other object is a list with the same elements in the same
+     * order.
+     * @param   obj   the other object.
+     * @return   {@code true} if the lists are equal, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (false == obj instanceof IntArrayList) {
+            return false;
+        }
+        var other = (IntArrayList) obj;
+        boolean equals = java.util.Arrays.equals(_elements, 0, _size, other._elements, 0, other._size);
+        return equals;
+    }
+
+    /**
+     * Computes the hash code of the elements, like
+     * {@link java.util.Arrays#hashCode(int[])}.
+     * @return   the hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < _size; i++) {
+            hash = 31 * hash + Integer.hashCode(_elements[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Formats the elements like {@link java.util.Arrays#toString(int[])}.
+     * @return   the string.
+     */
+    @Override
+    public String toString() {
+        var builder = new StringBuilder((int) Math.min(2L + 8L * _size, MAX_STRING_CAPACITY)).append('[');
+        for (int i = 0; i < _size; i++) {
+            if (0 < i) {
+                builder.append(", ");
+            }
+            builder.append(_elements[i]);
+        }
+        var string = builder.append(']').toString();
+        return string;
+    }
+
+
+//---------------------------
+// Error message class methods
+//---------------------------
+
+    /**
+     * Gets the formatted error message that says that the capacity is
+     * negative.
+     * @param   capacity   the capacity.
+     * @return   the formatted error message.
+     */
+    protected static String getNegativeCapacityErrorMessage(int capacity) {
+        var key = Resources.ARRAY_LIST_NEGATIVE_CAPACITY;
+        var message = Resources.getLocalizedString(key, capacity);
+        return message;
+    }
+
+}
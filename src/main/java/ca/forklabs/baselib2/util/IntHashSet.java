@@ -0,0 +1,300 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Class {@code IntHashSet} is a set of {@code int}s with open addressing and
+ * linear probing, so that the elements are not boxed and a lookup usually
+ * touches a single cache line.
+ * <p>
+ * It shares the design of {@link IntIntHashMap}: mixing with
+ * {@link Bits#rotateLeft(int, int)}, a configurable load factor and
+ * backward-shift deletion. The set is not thread-safe.
+ */
+public class IntHashSet {
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The load factor. */
+    private final float _loadFactor;
+
+    /** The elements, {@code 0} for the free slots. */
+    private int[] _elements;
+
+    /** The mask to wrap the slots. */
+    private int _mask;
+
+    /** The number of elements that triggers the growth of the table. */
+    private int _maxFill;
+
+    /** The number of elements in the table, zero excluded. */
+    private int _size = 0;
+
+    /** Whether zero is present. */
+    private boolean _hasZero = false;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs an empty set.
+     */
+    public IntHashSet() {
+        this(PrimitiveHashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Constructs an empty set sized for a number of elements.
+     * @param   expectedSize   the expected number of elements.
+     */
+    public IntHashSet(int expectedSize) {
+        this(expectedSize, PrimitiveHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty set sized for a number of elements.
+     * @param   expectedSize   the expected number of elements.
+     * @param   loadFactor   the load factor, within {@code ]0, 1[}.
+     * @exception   IllegalArgumentException   if the load factor is not within
+     *                                         {@code ]0, 1[}.
+     */
+    public IntHashSet(int expectedSize, float loadFactor) {
+        _loadFactor = PrimitiveHashing.checkLoadFactor(loadFactor);
+        allocate(PrimitiveHashing.capacityFor(expectedSize, loadFactor));
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Gets the number of elements.
+     * @return   the number of elements.
+     */
+    public int size() {
+        int size = _size + (_hasZero ? 1 : 0);
+        return size;
+    }
+
+    /**
+     * Tells if there are no elements.
+     * @return   {@code true} if the set is empty, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        boolean empty = (0 == size());
+        return empty;
+    }
+
+    /**
+     * Tells if the element is present.
+     * @param   element   the element.
+     * @return   {@code true} if it is present, {@code false} otherwise.
+     */
+    public boolean contains(int element) {
+        if (0 == element) {
+            return _hasZero;
+        }
+        boolean contains = (0 <= slot(element));
+        return contains;
+    }
+
+    /**
+     * Adds an element.
+     * @param   element   the element.
+     * @return   {@code true} if it was absent, {@code false} otherwise.
+     */
+    public boolean add(int element) {
+        if (0 == element) {
+            boolean added = (false == _hasZero);
+            _hasZero = true;
+            return added;
+        }
+        var elements = _elements;
+        int mask = _mask;
+        int i = PrimitiveHashing.mix(element) & mask;
+        for (int e = elements[i]; 0 != e; e = elements[i]) {
+            if (element == e) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        if (_size == _maxFill) {
+            // grow first, so that a failure leaves the table as it was and at
+            // least one slot always stays free to end the probes
+            rehash(PrimitiveHashing.grow(_elements.length));
+            return add(element);
+        }
+        elements[i] = element;
+        _size++;
+        return true;
+    }
+
+    /**
+     * Adds the elements of an array.
+     * @param   elements   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of elements.
+     * @see Arrays#checkArray(int[], int, int)
+     */
+    public void addAll(int[] elements, int off, int len) {
+        Arrays.checkArray(elements, off, len);
+        for (int i = off; i < off + len; i++) {
+            add(elements[i]);
+        }
+    }
+
+    /**
+     * Removes an element.
+     * @param   element   the element.
+     * @return   {@code true} if it was present, {@code false} otherwise.
+     */
+    public boolean remove(int element) {
+        if (0 == element) {
+            boolean removed = _hasZero;
+            _hasZero = false;
+            return removed;
+        }
+        int i = slot(element);
+        if (0 > i) {
+            return false;
+        }
+        shiftBack(i);
+        _size--;
+        return true;
+    }
+
+    /**
+     * Removes all the elements, keeping the capacity.
+     */
+    public void clear() {
+        Arrays.memset(_elements, 0);
+        _size = 0;
+        _hasZero = false;
+    }
+
+    /**
+     * Gives each element to the consumer, in no particular order.
+     * @param   consumer   the consumer.
+     */
+    public void forEach(IntConsumer consumer) {
+        if (_hasZero) {
+            consumer.accept(0);
+        }
+        for (int e : _elements) {
+            if (0 != e) {
+                consumer.accept(e);
+            }
+        }
+    }
+
+    /**
+     * Copies the elements to a new array, in no particular order.
+     * @return   the elements.
+     */
+    public int[] toArray() {
+        var array = new int[size()];
+        int n = 0;
+        if (_hasZero) {
+            array[n++] = 0;
+        }
+        for (int e : _elements) {
+            if (0 != e) {
+                array[n++] = e;
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Finds the slot of an element other than zero.
+     * @param   element   the element.
+     * @return   the slot, or {@code -1} if the element is absent.
+     */
+    protected int slot(int element) {
+        var elements = _elements;
+        int mask = _mask;
+        for (int i = PrimitiveHashing.mix(element) & mask; ; i = (i + 1) & mask) {
+            int e = elements[i];
+            if (element == e) {
+                return i;
+            }
+            if (0 == e) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Empties a slot, moving back the following elements of the probe
+     * sequence that may take its place.
+     * @param   slot   the slot to empty.
+     */
+    protected void shiftBack(int slot) {
+        var elements = _elements;
+        int mask = _mask;
+        int gap = slot;
+        for (int i = (gap + 1) & mask; 0 != elements[i]; i = (i + 1) & mask) {
+            int ideal = PrimitiveHashing.mix(elements[i]) & mask;
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                elements[gap] = elements[i];
+                gap = i;
+            }
+        }
+        elements[gap] = 0;
+    }
+
+    /**
+     * Allocates an empty table.
+     * @param   capacity   the size of the table, a power of two.
+     */
+    protected void allocate(int capacity) {
+        _elements = new int[capacity];
+        _mask = capacity - 1;
+        _maxFill = PrimitiveHashing.maxFill(capacity, _loadFactor);
+    }
+
+    /**
+     * Moves the elements to a new table.
+     * @param   capacity   the size of the new table, a power of two.
+     */
+    protected void rehash(int capacity) {
+        var elements = _elements;
+        allocate(capacity);
+
+        var newElements = _elements;
+        int mask = _mask;
+        for (int e : elements) {
+            if (0 != e) {
+                int i = PrimitiveHashing.mix(e) & mask;
+                while (0 != newElements[i]) {
+                    i = (i + 1) & mask;
+                }
+                newElements[i] = e;
+            }
+        }
+    }
+
+}
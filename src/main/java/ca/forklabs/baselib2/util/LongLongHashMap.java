@@ -0,0 +1,379 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+/**
+ * Class {@code LongLongHashMap} maps {@code long} keys to {@code long}
+ * values with open addressing and linear probing, so that the keys and the
+ * values are not boxed and a lookup usually touches a single cache line.
+ * <p>
+ * The keys are mixed with {@link Bits#rotateLeft(long, int)} before picking
+ * their slot. The table doubles when the number of entries passes the load
+ * factor. Removals shift the following entries of the probe sequence back
+ * instead of leaving tombstones, so lookups never slow down with churn. The
+ * key {@code 0} marks the free slots and is stored on the side.
+ * <p>
+ * Absent keys read as {@code 0}, {@link #containsKey(long)} and {@link
+ * #getOrDefault(long, long)} tell them apart. The map is not thread-safe.
+ *
+ */
+public class LongLongHashMap {
+
+//---------------------------
+// Inner interface
+//---------------------------
+
+    /**
+     * Interface {@code EntryConsumer} receives the entries of the map without
+     * boxing them.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        /**
+         * Receives an entry.
+         * @param   key   the key.
+         * @param   value   the value.
+         */
+        void accept(long key, long value);
+
+    }
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The load factor. */
+    private final float _loadFactor;
+
+    /** The keys, {@code 0} for the free slots. */
+    private long[] _keys;
+
+    /** The values. */
+    private long[] _values;
+
+    /** The mask to wrap the slots. */
+    private int _mask;
+
+    /** The number of entries that triggers the growth of the table. */
+    private int _maxFill;
+
+    /** The number of entries in the table, the zero key excluded. */
+    private int _size = 0;
+
+    /** Whether the zero key is present. */
+    private boolean _hasZeroKey = false;
+
+    /** The value of the zero key. */
+    private long _zeroValue = 0L;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs an empty map.
+     */
+    public LongLongHashMap() {
+        this(PrimitiveHashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Constructs an empty map sized for a number of entries.
+     * @param   expectedSize   the expected number of entries.
+     */
+    public LongLongHashMap(int expectedSize) {
+        this(expectedSize, PrimitiveHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty map sized for a number of entries.
+     * @param   expectedSize   the expected number of entries.
+     * @param   loadFactor   the load factor, within {@code ]0, 1[}.
+     * @exception   IllegalArgumentException   if the load factor is not within
+     *                                         {@code ]0, 1[}.
+     */
+    public LongLongHashMap(int expectedSize, float loadFactor) {
+        _loadFactor = PrimitiveHashing.checkLoadFactor(loadFactor);
+        allocate(PrimitiveHashing.capacityFor(expectedSize, loadFactor));
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Gets the number of entries.
+     * @return   the number of entries.
+     */
+    public int size() {
+        int size = _size + (_hasZeroKey ? 1 : 0);
+        return size;
+    }
+
+    /**
+     * Tells if there are no entries.
+     * @return   {@code true} if the map is empty, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        boolean empty = (0 == size());
+        return empty;
+    }
+
+    /**
+     * Tells if the key is present.
+     * @param   key   the key.
+     * @return   {@code true} if it is present, {@code false} otherwise.
+     */
+    public boolean containsKey(long key) {
+        if (0L == key) {
+            return _hasZeroKey;
+        }
+        boolean contains = (0 <= slot(key));
+        return contains;
+    }
+
+    /**
+     * Gets the value of a key.
+     * @param   key   the key.
+     * @return   the value, or {@code 0} if the key is absent.
+     */
+    public long get(long key) {
+        long value = getOrDefault(key, 0L);
+        return value;
+    }
+
+    /**
+     * Gets the value of a key.
+     * @param   key   the key.
+     * @param   defaultValue   the value if the key is absent.
+     * @return   the value, or {@code defaultValue} if the key is absent.
+     */
+    public long getOrDefault(long key, long defaultValue) {
+        if (0L == key) {
+            return _hasZeroKey ? _zeroValue : defaultValue;
+        }
+        var keys = _keys;
+        int mask = _mask;
+        for (int i = PrimitiveHashing.mix(key) & mask; ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (key == k) {
+                return _values[i];
+            }
+            if (0L == k) {
+                return defaultValue;
+            }
+        }
+    }
+
+    /**
+     * Associates a value to a key.
+     * @param   key   the key.
+     * @param   value   the value.
+     * @return   the previous value, or {@code 0} if the key was absent.
+     */
+    public long put(long key, long value) {
+        if (0L == key) {
+            long old = _zeroValue;
+            _zeroValue = value;
+            _hasZeroKey = true;
+            return old;
+        }
+        var keys = _keys;
+        int mask = _mask;
+        int i = PrimitiveHashing.mix(key) & mask;
+        for (long k = keys[i]; 0L != k; k = keys[i]) {
+            if (key == k) {
+                long old = _values[i];
+                _values[i] = value;
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        if (_size == _maxFill) {
+            // grow first, so that a failure leaves the table as it was and at
+            // least one slot always stays free to end the probes
+            rehash(PrimitiveHashing.grow(_keys.length));
+            return put(key, value);
+        }
+        keys[i] = key;
+        _values[i] = value;
+        _size++;
+        return 0L;
+    }
+
+    /**
+     * Removes a key.
+     * @param   key   the key.
+     * @return   the removed value, or {@code 0} if the key was absent.
+     */
+    public long remove(long key) {
+        if (0L == key) {
+            long old = _zeroValue;
+            _zeroValue = 0L;
+            _hasZeroKey = false;
+            return old;
+        }
+        int i = slot(key);
+        if (0 > i) {
+            return 0L;
+        }
+        long old = _values[i];
+        shiftBack(i);
+        _size--;
+        return old;
+    }
+
+    /**
+     * Adds to the value of a key, starting from zero if the key is absent.
+     * @param   key   the key.
+     * @param   delta   the amount to add.
+     * @return   the new value.
+     */
+    public long addTo(long key, long delta) {
+        long value = getOrDefault(key, 0L) + delta;
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Removes all the entries, keeping the capacity.
+     */
+    public void clear() {
+        Arrays.memset(_keys, 0L);
+        _size = 0;
+        _hasZeroKey = false;
+        _zeroValue = 0L;
+    }
+
+    /**
+     * Gives each entry to the consumer, in no particular order.
+     * @param   consumer   the consumer.
+     */
+    public void forEach(EntryConsumer consumer) {
+        if (_hasZeroKey) {
+            consumer.accept(0L, _zeroValue);
+        }
+        var keys = _keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (0L != keys[i]) {
+                consumer.accept(keys[i], _values[i]);
+            }
+        }
+    }
+
+    /**
+     * Copies the keys to a new array, in no particular order.
+     * @return   the keys.
+     */
+    public long[] keys() {
+        var keys = new long[size()];
+        int n = 0;
+        if (_hasZeroKey) {
+            keys[n++] = 0L;
+        }
+        for (long k : _keys) {
+            if (0L != k) {
+                keys[n++] = k;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Finds the slot of a key other than zero.
+     * @param   key   the key.
+     * @return   the slot, or {@code -1} if the key is absent.
+     */
+    protected int slot(long key) {
+        var keys = _keys;
+        int mask = _mask;
+        for (int i = PrimitiveHashing.mix(key) & mask; ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (key == k) {
+                return i;
+            }
+            if (0L == k) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Empties a slot, moving back the following entries of the probe sequence
+     * that may take its place.
+     * @param   slot   the slot to empty.
+     */
+    protected void shiftBack(int slot) {
+        var keys = _keys;
+        var values = _values;
+        int mask = _mask;
+        int gap = slot;
+        for (int i = (gap + 1) & mask; 0L != keys[i]; i = (i + 1) & mask) {
+            int ideal = PrimitiveHashing.mix(keys[i]) & mask;
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0L;
+        values[gap] = 0L;
+    }
+
+    /**
+     * Allocates an empty table.
+     * @param   capacity   the size of the table, a power of two.
+     */
+    protected void allocate(int capacity) {
+        _keys = new long[capacity];
+        _values = new long[capacity];
+        _mask = capacity - 1;
+        _maxFill = PrimitiveHashing.maxFill(capacity, _loadFactor);
+    }
+
+    /**
+     * Moves the entries to a new table.
+     * @param   capacity   the size of the new table, a power of two.
+     */
+    protected void rehash(int capacity) {
+        var keys = _keys;
+        var values = _values;
+        allocate(capacity);
+
+        var newKeys = _keys;
+        var newValues = _values;
+        int mask = _mask;
+        for (int j = 0; j < keys.length; j++) {
+            long key = keys[j];
+            if (0L != key) {
+                int i = PrimitiveHashing.mix(key) & mask;
+                while (0L != newKeys[i]) {
+                    i = (i + 1) & mask;
+                }
+                newKeys[i] = key;
+                newValues[i] = values[j];
+            }
+        }
+    }
+
+}
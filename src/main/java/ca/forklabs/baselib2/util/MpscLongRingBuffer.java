@@ -0,0 +1,259 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Class {@code MpscLongRingBuffer} is a bounded lock-free queue of
+ * {@code long}s between many producer threads and a single consumer thread,
+ * without boxing. It works like {@link MpscRingBuffer}, except that since no
+ * value can mark an empty slot, each slot also holds the sequence of its
+ * value, plus one, once the value is published.
+ * <p>
+ * Using the buffer from more than one consumer at a time corrupts it.
+ *
+ * @see SpscLongRingBuffer
+ */
+public class MpscLongRingBuffer extends AbstractRingBuffer {
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The slots. */
+    private final long[] _values;
+
+    /** The sequences of the values in the slots, plus one, once published. */
+    private final long[] _published;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructor with the {@link WaitStrategy#PARK} wait.
+     * @param   capacity   the maximum number of values, a power of two.
+     * @exception   IllegalArgumentException   if the capacity is not a
+     *                                         positive power of two.
+     */
+    public MpscLongRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.PARK);
+    }
+
+    /**
+     * Constructor.
+     * @param   capacity   the maximum number of values, a power of two.
+     * @param   waitStrategy   what the threads do while they wait.
+     * @exception   IllegalArgumentException   if the capacity is not a
+     *                                         positive power of two.
+     * @exception   NullPointerException   if the wait strategy is
+     *                                     {@code null}.
+     */
+    public MpscLongRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+        _values = new long[capacity];
+        _published = new long[capacity];
+    }
+
+
+//---------------------------
+// Producer methods
+//---------------------------
+
+    /**
+     * Adds a value if there is room.
+     * @param   value   the value.
+     * @return   {@code true} if the value was added, {@code false} if the
+     *           buffer is full.
+     */
+    public boolean offer(long value) {
+        var sequences = _sequences;
+        int capacity = getCapacity();
+        long tail;
+        do {
+            tail = tail();
+            long head = (long) SEQUENCES.getAcquire(sequences, HEAD_CACHE);
+            if (tail - head >= capacity) {
+                head = head();
+                if (tail - head >= capacity) {
+                    return false;
+                }
+                SEQUENCES.setRelease(sequences, HEAD_CACHE, head);
+            }
+        } while (false == SEQUENCES.compareAndSet(sequences, TAIL, tail, tail + 1L));
+
+        int slot = slot(tail);
+        _values[slot] = value;
+        SEQUENCES.setRelease(_published, slot, tail + 1L);
+        return true;
+    }
+
+    /**
+     * Adds a value, waiting for room.
+     * @param   value   the value.
+     * @exception   InterruptedException   if the thread is interrupted while
+     *                                     it waits.
+     */
+    public void put(long value) throws InterruptedException {
+        for (int attempts = 0; false == offer(value); attempts = nextAttempt(attempts)) {
+            idle(attempts);
+        }
+    }
+
+    /**
+     * Claims as many slots as there is room for, up to a limit, and fills them
+     * with the values of a supplier. If the supplier fails, the values it gave
+     * before are still added and the slots left are skipped by the consumer.
+     * @param   supplier   the supplier of the values.
+     * @param   limit   the maximum number of values.
+     * @return   the number of values added.
+     */
+    public int fill(LongSupplier supplier, int limit) {
+        var sequences = _sequences;
+        int capacity = getCapacity();
+        long tail;
+        int count;
+        do {
+            tail = tail();
+            count = (int) Math.max(0L, Math.min(limit, capacity - (tail - head())));
+            if (0 == count) {
+                return 0;
+            }
+        } while (false == SEQUENCES.compareAndSet(sequences, TAIL, tail, tail + count));
+
+        var values = _values;
+        var published = _published;
+        int i = 0;
+        try {
+            for (; i < count; i++) {
+                long sequence = tail + i;
+                int slot = slot(sequence);
+                values[slot] = supplier.getAsLong();
+                SEQUENCES.setRelease(published, slot, sequence + 1L);
+            }
+        }
+        finally {
+            for (int j = i; j < count; j++) {
+                long sequence = tail + j;
+                SEQUENCES.setRelease(published, slot(sequence), ~(sequence + 1L));
+            }
+        }
+        return count;
+    }
+
+
+//---------------------------
+// Consumer methods
+//---------------------------
+
+    /**
+     * Removes the oldest value.
+     * @param   defaultValue   the value if the buffer is empty.
+     * @return   the value, or {@code defaultValue} if the buffer is empty.
+     */
+    public long poll(long defaultValue) {
+        long value = defaultValue;
+        if (first()) {
+            var sequences = _sequences;
+            long head = sequences[HEAD];
+            value = _values[slot(head)];
+            SEQUENCES.setRelease(sequences, HEAD, head + 1L);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the oldest value, waiting for one.
+     * @return   the value.
+     * @exception   InterruptedException   if the thread is interrupted while
+     *                                     it waits.
+     */
+    public long take() throws InterruptedException {
+        for (int attempts = 0; false == first(); attempts = nextAttempt(attempts)) {
+            idle(attempts);
+        }
+        long value = poll(0L);
+        return value;
+    }
+
+    /**
+     * Looks at the oldest value without removing it.
+     * @param   defaultValue   the value if the buffer is empty.
+     * @return   the value, or {@code defaultValue} if the buffer is empty.
+     */
+    public long peek(long defaultValue) {
+        long value = first() ? _values[slot(_sequences[HEAD])] : defaultValue;
+        return value;
+    }
+
+    /**
+     * Removes the available values, oldest first, and hands them to a
+     * consumer.
+     * @param   consumer   the consumer of the values.
+     * @param   limit   the maximum number of values.
+     * @return   the number of values removed.
+     */
+    public int drain(LongConsumer consumer, int limit) {
+        var sequences = _sequences;
+        int count = 0;
+        for (; (count < limit) && first(); count++) {
+            long head = sequences[HEAD];
+            long value = _values[slot(head)];
+            SEQUENCES.setRelease(sequences, HEAD, head + 1L);
+            consumer.accept(value);
+        }
+        return count;
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Moves the head to the oldest value, skipping the slots of failed fills
+     * and waiting for the slots claimed by producers but not yet written.
+     * @return   {@code true} if there is a value at the head, {@code false} if
+     *           the buffer is empty.
+     */
+    private boolean first() {
+        var sequences = _sequences;
+        var published = _published;
+        for (;;) {
+            long head = sequences[HEAD];
+            long mark = (long) SEQUENCES.getAcquire(published, slot(head));
+            if (head + 1L == mark) {
+                return true;
+            }
+            else if (~(head + 1L) == mark) {
+                SEQUENCES.setRelease(sequences, HEAD, head + 1L);
+            }
+            else if (head == tail()) {
+                return false;
+            }
+            else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+}
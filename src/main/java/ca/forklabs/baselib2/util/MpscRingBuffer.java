@@ -0,0 +1,281 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Class {@code MpscRingBuffer} is a bounded lock-free queue between many
+ * producer threads and a single consumer thread. The producers claim slots by
+ * moving the tail with a compare-and-set, then publish their element in the
+ * slot; the consumer waits on the slot it reads, never on the tail, so a slow
+ * producer only holds back the elements after its own.
+ * <p>
+ * The elements cannot be {@code null}. Using the buffer from more than one
+ * consumer at a time corrupts it.
+ *
+ * @param   <E>   the type of the elements.
+ * @see SpscRingBuffer
+ */
+public class MpscRingBuffer<E> extends AbstractRingBuffer {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The access to the slots with memory ordering. */
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /** The mark of the slots claimed by a {@code fill()} whose supplier failed. */
+    private static final Object SKIPPED = new Object();
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The slots. */
+    private final Object[] _elements;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructor with the {@link WaitStrategy#PARK} wait.
+     * @param   capacity   the maximum number of elements, a power of two.
+     * @exception   IllegalArgumentException   if the capacity is not a
+     *                                         positive power of two.
+     */
+    public MpscRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.PARK);
+    }
+
+    /**
+     * Constructor.
+     * @param   capacity   the maximum number of elements, a power of two.
+     * @param   waitStrategy   what the threads do while they wait.
+     * @exception   IllegalArgumentException   if the capacity is not a
+     *                                         positive power of two.
+     * @exception   NullPointerException   if the wait strategy is
+     *                                     {@code null}.
+     */
+    public MpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+        _elements = new Object[capacity];
+    }
+
+
+//---------------------------
+// Producer methods
+//---------------------------
+
+    /**
+     * Adds an element if there is room.
+     * @param   element   the element.
+     * @return   {@code true} if the element was added, {@code false} if the
+     *           buffer is full.
+     * @exception   NullPointerException   if the element is {@code null}.
+     */
+    public boolean offer(E element) {
+        Arrays.checkNull(element);
+        long tail = claim(1);
+        boolean added = (0L <= tail);
+        if (added) {
+            ELEMENTS.setRelease(_elements, slot(tail), element);
+        }
+        return added;
+    }
+
+    /**
+     * Adds an element, waiting for room.
+     * @param   element   the element.
+     * @exception   NullPointerException   if the element is {@code null}.
+     * @exception   InterruptedException   if the thread is interrupted while
+     *                                     it waits.
+     */
+    public void put(E element) throws InterruptedException {
+        for (int attempts = 0; false == offer(element); attempts = nextAttempt(attempts)) {
+            idle(attempts);
+        }
+    }
+
+    /**
+     * Claims as many slots as there is room for, up to a limit, and fills them
+     * with the elements of a supplier. If the supplier fails, the elements it
+     * gave before are still added and the slots left are skipped by the
+     * consumer.
+     * @param   supplier   the supplier of the elements.
+     * @param   limit   the maximum number of elements.
+     * @return   the number of elements added.
+     * @exception   NullPointerException   if the supplier gives a
+     *                                     {@code null}.
+     */
+    public int fill(Supplier<? extends E> supplier, int limit) {
+        var sequences = _sequences;
+        int capacity = getCapacity();
+        long tail;
+        int count;
+        do {
+            tail = tail();
+            count = (int) Math.max(0L, Math.min(limit, capacity - (tail - head())));
+            if (0 == count) {
+                return 0;
+            }
+        } while (false == SEQUENCES.compareAndSet(sequences, TAIL, tail, tail + count));
+
+        var elements = _elements;
+        int i = 0;
+        try {
+            for (; i < count; i++) {
+                E element = supplier.get();
+                Arrays.checkNull(element);
+                ELEMENTS.setRelease(elements, slot(tail + i), element);
+            }
+        }
+        finally {
+            for (int j = i; j < count; j++) {
+                ELEMENTS.setRelease(elements, slot(tail + j), SKIPPED);
+            }
+        }
+        return count;
+    }
+
+
+//---------------------------
+// Consumer methods
+//---------------------------
+
+    /**
+     * Removes the oldest element.
+     * @return   the element, or {@code null} if the buffer is empty.
+     */
+    public E poll() {
+        E element = first();
+        if (null != element) {
+            var sequences = _sequences;
+            long head = sequences[HEAD];
+            _elements[slot(head)] = null;
+            SEQUENCES.setRelease(sequences, HEAD, head + 1L);
+        }
+        return element;
+    }
+
+    /**
+     * Removes the oldest element, waiting for one.
+     * @return   the element.
+     * @exception   InterruptedException   if the thread is interrupted while
+     *                                     it waits.
+     */
+    public E take() throws InterruptedException {
+        E element = poll();
+        for (int attempts = 0; null == element; attempts = nextAttempt(attempts)) {
+            idle(attempts);
+            element = poll();
+        }
+        return element;
+    }
+
+    /**
+     * Looks at the oldest element without removing it.
+     * @return   the element, or {@code null} if the buffer is empty.
+     */
+    public E peek() {
+        E element = first();
+        return element;
+    }
+
+    /**
+     * Removes the available elements, oldest first, and hands them to a
+     * consumer.
+     * @param   consumer   the consumer of the elements.
+     * @param   limit   the maximum number of elements.
+     * @return   the number of elements removed.
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        int count = 0;
+        for (E element; (count < limit) && (null != (element = poll())); count++) {
+            consumer.accept(element);
+        }
+        return count;
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Claims slots if there is room for them.
+     * @param   count   the number of slots.
+     * @return   the sequence of the first slot, or {@code -1} if the buffer is
+     *           full.
+     */
+    private long claim(int count) {
+        var sequences = _sequences;
+        int capacity = getCapacity();
+        long tail;
+        do {
+            tail = tail();
+            long head = (long) SEQUENCES.getAcquire(sequences, HEAD_CACHE);
+            if (tail + count - head > capacity) {
+                head = head();
+                if (tail + count - head > capacity) {
+                    return -1L;
+                }
+                SEQUENCES.setRelease(sequences, HEAD_CACHE, head);
+            }
+        } while (false == SEQUENCES.compareAndSet(sequences, TAIL, tail, tail + count));
+        return tail;
+    }
+
+    /**
+     * Finds the oldest element, skipping the slots of failed fills and
+     * waiting for the slots claimed by producers but not yet written.
+     * @return   the element, or {@code null} if the buffer is empty.
+     */
+    @SuppressWarnings("unchecked")
+    private E first() {
+        var sequences = _sequences;
+        var elements = _elements;
+        for (;;) {
+            long head = sequences[HEAD];
+            int slot = slot(head);
+            var element = ELEMENTS.getAcquire(elements, slot);
+            if (null == element) {
+                if (head == tail()) {
+                    return null;
+                }
+                Thread.onSpinWait();
+            }
+            else if (SKIPPED == element) {
+                elements[slot] = null;
+                SEQUENCES.setRelease(sequences, HEAD, head + 1L);
+            }
+            else {
+                return (E) element;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,510 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Class {@code Murmur3Hash128} computes the 128-bit, x64 variant of
+ * <a target="_blank" href="https://github.com/aappleby/smhasher">MurmurHash3</a>
+ * of a sequence of bytes. It is a fast non-cryptographic hash function, fit
+ * for fingerprints and hash tables, but not for security.
+ * <p>
+ * The hash is given as two {@code long}s, the first one being the lowest 64
+ * bits. {@link #getValue()} gives the first one only. The class methods hash a
+ * whole input at once. An instance hashes an input given piece by piece and
+ * gives the same value as the class methods over the concatenation of the
+ * pieces. Instances are not thread-safe.
+ */
+public class Murmur3Hash128 extends StreamingHash {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The first mixing constant. */
+    private static final long C1 = 0x87c37b91114253d5L;
+    /** The second mixing constant. */
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    /** The number of bytes processed at once. */
+    private static final int BLOCK_SIZE = 16;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The seed. */
+    private final int _seed;
+
+    /** The first half of the hash. */
+    private long _h1;
+    /** The second half of the hash. */
+    private long _h2;
+
+    /** The total number of bytes hashed. */
+    private long _length;
+
+    /** The bytes not yet making a whole block. */
+    private final byte[] _block = new byte[BLOCK_SIZE];
+    /** The number of bytes in {@link #_block}. */
+    private int _blockLength;
+
+    /** The destination of the hash for {@link #getValue()}. */
+    private final long[] _value = new long[2];
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs a hash with a seed of zero.
+     */
+    public Murmur3Hash128() {
+        this(0);
+    }
+
+    /**
+     * Constructs a hash with the given seed.
+     * @param   seed   the seed, taken as unsigned.
+     */
+    public Murmur3Hash128(int seed) {
+        _seed = seed;
+        reset();
+    }
+
+
+//---------------------------
+// Implemented methods from java.util.zip.Checksum
+//---------------------------
+
+    /**
+     * Updates the hash with the bytes.
+     * @param   b   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of bytes.
+     */
+    @Override
+    public void update(byte[] b, int off, int len) {
+        Arrays.checkArray(b, off, len);
+        _length += len;
+
+        int offset = off;
+        int end = off + len;
+        if (0 < _blockLength) {
+            int count = Math.min(end - offset, BLOCK_SIZE - _blockLength);
+            System.arraycopy(b, offset, _block, _blockLength, count);
+            _blockLength += count;
+            offset += count;
+            if (BLOCK_SIZE > _blockLength) {
+                return;
+            }
+            block(_block, 0);
+            _blockLength = 0;
+        }
+
+        for (; offset <= end - BLOCK_SIZE; offset += BLOCK_SIZE) {
+            block(b, offset);
+        }
+
+        _blockLength = end - offset;
+        System.arraycopy(b, offset, _block, 0, _blockLength);
+    }
+
+    /**
+     * Updates the hash with the remaining bytes of the buffer, leaving the
+     * position at the limit.
+     * @param   buffer   the buffer.
+     */
+    @Override
+    public void update(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            int position = buffer.position();
+            int len = buffer.remaining();
+            update(buffer.array(), buffer.arrayOffset() + position, len);
+            buffer.position(position + len);
+            return;
+        }
+
+        while (buffer.hasRemaining()) {
+            int count = Math.min(buffer.remaining(), BLOCK_SIZE - _blockLength);
+            buffer.get(_block, _blockLength, count);
+            _blockLength += count;
+            _length += count;
+            if (BLOCK_SIZE == _blockLength) {
+                block(_block, 0);
+                _blockLength = 0;
+            }
+        }
+    }
+
+    /**
+     * Gets the lowest 64 bits of the hash of all the bytes so far. More bytes
+     * can be added afterward.
+     * @return   the lowest 64 bits of the hash.
+     * @see   #getValue128(long[])
+     */
+    @Override
+    public long getValue() {
+        getValue128(_value);
+        return _value[0];
+    }
+
+    /**
+     * Resets the hash to its initial value.
+     */
+    @Override
+    public void reset() {
+        _h1 = Bits.unsignedInt(_seed);
+        _h2 = Bits.unsignedInt(_seed);
+        _length = 0L;
+        _blockLength = 0;
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Gets the seed.
+     * @return   the seed.
+     */
+    public int getSeed() {
+        return _seed;
+    }
+
+    /**
+     * Gets the hash of all the bytes so far. More bytes can be added afterward.
+     * If the specified array is {@code null}, it will be created.
+     * @param   result   the destination of the two halves of the hash.
+     * @return   {@code result}.
+     */
+    public long[] getValue128(long[] result) {
+        long[] hash = result;
+        if (null == hash) {
+            hash = new long[2];
+        }
+        else {
+            Arrays.checkArray(hash, 0, 2);
+        }
+        finish(_h1, _h2, _block, 0, _blockLength, _length, hash);
+        return hash;
+    }
+
+    /**
+     * Processes one block of bytes.
+     * @param   b   the array.
+     * @param   off   the offset of the block.
+     */
+    private void block(byte[] b, int off) {
+        long k1 = Bits.getLong(b, off, ByteOrder.LITTLE_ENDIAN);
+        long k2 = Bits.getLong(b, off + 8, ByteOrder.LITTLE_ENDIAN);
+
+        _h1 ^= mixK1(k1);
+        _h1 = Bits.rotateLeft(_h1, 27) + _h2;
+        _h1 = _h1 * 5 + 0x52dce729;
+
+        _h2 ^= mixK2(k2);
+        _h2 = Bits.rotateLeft(_h2, 31) + _h1;
+        _h2 = _h2 * 5 + 0x38495ab5;
+    }
+
+
+//---------------------------
+// Class methods
+//---------------------------
+
+    /**
+     * Hashes the bytes. If the specified result array is {@code null}, it will
+     * be created.
+     * @param   b   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of bytes.
+     * @param   seed   the seed, taken as unsigned.
+     * @param   result   the destination of the two halves of the hash.
+     * @return   {@code result}.
+     */
+    public static long[] hash128(byte[] b, int off, int len, int seed, long[] result) {
+        Arrays.checkArray(b, off, len);
+        long[] hash = result;
+        if (null == hash) {
+            hash = new long[2];
+        }
+        else {
+            Arrays.checkArray(hash, 0, 2);
+        }
+
+        long h1 = Bits.unsignedInt(seed);
+        long h2 = Bits.unsignedInt(seed);
+        int offset = off;
+        int end = off + len;
+        for (; offset <= end - BLOCK_SIZE; offset += BLOCK_SIZE) {
+            long k1 = Bits.getLong(b, offset, ByteOrder.LITTLE_ENDIAN);
+            long k2 = Bits.getLong(b, offset + 8, ByteOrder.LITTLE_ENDIAN);
+
+            h1 ^= mixK1(k1);
+            h1 = Bits.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Bits.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        finish(h1, h2, b, offset, end - offset, len, hash);
+        return hash;
+    }
+
+    /**
+     * Hashes the bytes and gives the lowest 64 bits of the hash.
+     * @param   b   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of bytes.
+     * @param   seed   the seed, taken as unsigned.
+     * @return   the lowest 64 bits of the hash.
+     */
+    public static long hash64(byte[] b, int off, int len, int seed) {
+        long[] hash = hash128(b, off, len, seed, null);
+        return hash[0];
+    }
+
+    /**
+     * Hashes the remaining bytes of the buffer. The position of the buffer does
+     * not move. If the specified result array is {@code null}, it will be
+     * created.
+     * @param   buffer   the buffer.
+     * @param   seed   the seed, taken as unsigned.
+     * @param   result   the destination of the two halves of the hash.
+     * @return   {@code result}.
+     */
+    public static long[] hash128(ByteBuffer buffer, int seed, long[] result) {
+        if (buffer.hasArray()) {
+            long[] hash = hash128(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), seed, result);
+            return hash;
+        }
+        var murmur = new Murmur3Hash128(seed);
+        murmur.update(buffer.duplicate());
+        long[] hash = murmur.getValue128(result);
+        return hash;
+    }
+
+    /**
+     * Hashes the UTF-16 code units of the characters, lowest byte first. If the
+     * specified result array is {@code null}, it will be created.
+     * @param   s   the characters.
+     * @param   seed   the seed, taken as unsigned.
+     * @param   result   the destination of the two halves of the hash.
+     * @return   {@code result}.
+     */
+    public static long[] hash128(CharSequence s, int seed, long[] result) {
+        var murmur = new Murmur3Hash128(seed);
+        murmur.update(s);
+        long[] hash = murmur.getValue128(result);
+        return hash;
+    }
+
+    /**
+     * Hashes the {@code short}s, lowest byte first. If the specified result
+     * array is {@code null}, it will be created.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code short}s.
+     * @param   seed   the seed.
+     * @param   result   the destination of the two halves of the hash.
+     * @return   {@code result}.
+     */
+    public static long[] hash128(short[] a, int off, int len, int seed, long[] result) {
+        var murmur = new Murmur3Hash128(seed);
+        murmur.update(a, off, len);
+        long[] hash = murmur.getValue128(result);
+        return hash;
+    }
+
+    /**
+     * Hashes the {@code char}s, lowest byte first. If the specified result
+     * array is {@code null}, it will be created.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code char}s.
+     * @param   seed   the seed.
+     * @param   result   the destination of the two halves of the hash.
+     * @return   {@code result}.
+     */
+    public static long[] hash128(char[] a, int off, int len, int seed, long[] result) {
+        var murmur = new Murmur3Hash128(seed);
+        murmur.update(a, off, len);
+        long[] hash = murmur.getValue128(result);
+        return hash;
+    }
+
+    /**
+     * Hashes the {@code int}s, lowest byte first. If the specified result
+     * array is {@code null}, it will be created.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code int}s.
+     * @param   seed   the seed.
+     * @param   result   the destination of the two halves of the hash.
+     * @return   {@code result}.
+     */
+    public static long[] hash128(int[] a, int off, int len, int seed, long[] result) {
+        var murmur = new Murmur3Hash128(seed);
+        murmur.update(a, off, len);
+        long[] hash = murmur.getValue128(result);
+        return hash;
+    }
+
+    /**
+     * Hashes the {@code long}s, lowest byte first. If the specified result
+     * array is {@code null}, it will be created.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code long}s.
+     * @param   seed   the seed.
+     * @param   result   the destination of the two halves of the hash.
+     * @return   {@code result}.
+     */
+    public static long[] hash128(long[] a, int off, int len, int seed, long[] result) {
+        var murmur = new Murmur3Hash128(seed);
+        murmur.update(a, off, len);
+        long[] hash = murmur.getValue128(result);
+        return hash;
+    }
+
+    /**
+     * Hashes the {@code float}s, lowest byte first. If the specified result
+     * array is {@code null}, it will be created.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code float}s.
+     * @param   seed   the seed.
+     * @param   result   the destination of the two halves of the hash.
+     * @return   {@code result}.
+     */
+    public static long[] hash128(float[] a, int off, int len, int seed, long[] result) {
+        var murmur = new Murmur3Hash128(seed);
+        murmur.update(a, off, len);
+        long[] hash = murmur.getValue128(result);
+        return hash;
+    }
+
+    /**
+     * Hashes the {@code double}s, lowest byte first. If the specified result
+     * array is {@code null}, it will be created.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code double}s.
+     * @param   seed   the seed.
+     * @param   result   the destination of the two halves of the hash.
+     * @return   {@code result}.
+     */
+    public static long[] hash128(double[] a, int off, int len, int seed, long[] result) {
+        var murmur = new Murmur3Hash128(seed);
+        murmur.update(a, off, len);
+        long[] hash = murmur.getValue128(result);
+        return hash;
+    }
+
+    /**
+     * Mixes the first half of a block.
+     * @param   k1   the first eight bytes.
+     * @return   the mixed bytes.
+     */
+    private static long mixK1(long k1) {
+        long k = k1 * C1;
+        k = Bits.rotateLeft(k, 31);
+        k *= C2;
+        return k;
+    }
+
+    /**
+     * Mixes the second half of a block.
+     * @param   k2   the last eight bytes.
+     * @return   the mixed bytes.
+     */
+    private static long mixK2(long k2) {
+        long k = k2 * C2;
+        k = Bits.rotateLeft(k, 33);
+        k *= C1;
+        return k;
+    }
+
+    /**
+     * Avalanches the bits of one half of the hash.
+     * @param   h   the half.
+     * @return   the mixed half.
+     */
+    private static long fmix(long h) {
+        long k = h;
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    /**
+     * Mixes the last bytes, less than a block, into the hash then avalanches
+     * its bits.
+     * @param   hash1   the first half so far.
+     * @param   hash2   the second half so far.
+     * @param   b   the array.
+     * @param   off   the offset of the last bytes.
+     * @param   len   the number of last bytes.
+     * @param   length   the total number of bytes hashed.
+     * @param   result   the destination of the two halves of the hash.
+     */
+    private static void finish(long hash1, long hash2, byte[] b, int off, int len, long length, long[] result) {
+        long k1 = 0L;
+        long k2 = 0L;
+        for (int i = len - 1; i >= Bits.NUM_OCTETS_IN_LONG; i--) {
+            k2 = (k2 << 8) | Bits.unsignedByte(b[off + i]);
+        }
+        for (int i = Math.min(len, Bits.NUM_OCTETS_IN_LONG) - 1; i >= 0; i--) {
+            k1 = (k1 << 8) | Bits.unsignedByte(b[off + i]);
+        }
+
+        long h1 = hash1;
+        long h2 = hash2;
+        if (Bits.NUM_OCTETS_IN_LONG < len) {
+            h2 ^= mixK2(k2);
+        }
+        if (0 < len) {
+            h1 ^= mixK1(k1);
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+
+        result[0] = h1;
+        result[1] = h2;
+    }
+
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.nio.ByteBuffer;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Class {@code OffHeapArray} is the base of the primitive arrays stored outside
+ * of the Java heap, so that multi-gigabyte tables do not weigh on the garbage
+ * collector. The memory is a sequence of direct buffers of at most 1 GiB each,
+ * which lets the arrays hold more than {@link Integer#MAX_VALUE} elements
+ * indexed by {@code long}s.
+ * <p>
+ * The memory is zeroed at allocation and released by {@link #close()}. Ranges
+ * are checked with the same contract as {@link Arrays#checkArray(int[], int, int)}.
+ * The arrays are not thread-safe: concurrent reads and writes to distinct
+ * elements are fine, but an array must not be closed while it is still used.
+ * Once closed, an array throws an {@link IllegalStateException} on each use
+ * made by the closing thread; a use racing with {@link #close()} from another
+ * thread is undefined.
+ *
+ * @see DirectBuffers
+ */
+@Getter
+@Accessors(prefix = {"_"})
+public abstract class OffHeapArray implements AutoCloseable {
+
+//---------------------------
+// Inner interface
+//---------------------------
+
+    /**
+     * Interface {@code ChunkAction} is the work done on the part of a range
+     * that falls in one chunk.
+     */
+    @FunctionalInterface
+    protected interface ChunkAction {
+
+        /**
+         * Works on {@code len} elements of a chunk.
+         * @param   chunk   the index of the chunk.
+         * @param   index   the index of the first element in the chunk.
+         * @param   done   the number of elements of the range already done.
+         * @param   len   the number of elements.
+         */
+        void apply(int chunk, int index, long done, int len);
+
+    }
+
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The base 2 logarithm of the size of the chunks, in bytes. */
+    public static final int DEFAULT_CHUNK_SHIFT = 30;
+
+    /** The number of elements in the pattern copied by {@code memset()}. */
+    protected static final int FILL_BLOCK_SIZE = 4096;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The number of elements. */
+    private final long _length;
+
+    /** The memory, {@code null} once released. */
+    @Getter(AccessLevel.NONE)
+    private ByteBuffer[] _chunks;
+
+    /** The base 2 logarithm of the number of elements in each chunk. */
+    @Getter(AccessLevel.NONE)
+    protected final int _shift;
+
+    /** The mask of the index in a chunk. */
+    @Getter(AccessLevel.NONE)
+    protected final long _mask;
+
+
+//---------------------------
+// Constructor
+//---------------------------
+
+    /**
+     * Constructor.
+     * @param   length   the number of elements.
+     * @param   elementShift   the base 2 logarithm of the size of an element.
+     * @param   chunkShift   the base 2 logarithm of the size of the chunks.
+     * @exception   IllegalArgumentException   if {@code length} is negative.
+     */
+    protected OffHeapArray(long length, int elementShift, int chunkShift) {
+        if (0L > length) {
+            var message = getNegativeLengthErrorMessage(length);
+            throw new IllegalArgumentException(message);
+        }
+
+        _length = length;
+        _shift = chunkShift - elementShift;
+        _mask = (1L << _shift) - 1L;
+
+        long bytes = length << elementShift;
+        int count = (int) ((bytes + (1L << chunkShift) - 1L) >>> chunkShift);
+        _chunks = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long size = Math.min(bytes - ((long) i << chunkShift), 1L << chunkShift);
+            _chunks[i] = DirectBuffers.allocate((int) size);
+        }
+    }
+
+
+//---------------------------
+// Implemented methods from java.lang.AutoCloseable
+//---------------------------
+
+    /**
+     * Releases the memory. Further uses of the array throw an
+     * {@link IllegalStateException}. Closing more than once has no effect.
+     */
+    @Override
+    public void close() {
+        var chunks = _chunks;
+        if (null != chunks) {
+            _chunks = null;
+            releaseViews();
+            for (var chunk : chunks) {
+                DirectBuffers.free(chunk);
+            }
+        }
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Gets the chunks, for the subclasses to build their views.
+     * @return   the chunks.
+     * @exception   IllegalStateException   if the array is closed.
+     */
+    protected ByteBuffer[] chunks() {
+        ensureOpen();
+        return _chunks;
+    }
+
+    /**
+     * Drops the views on the chunks before the memory is released.
+     */
+    protected abstract void releaseViews();
+
+    /**
+     * Makes sure the memory has not been released.
+     * @exception   IllegalStateException   if the array is closed.
+     */
+    protected void ensureOpen() {
+        if (null == _chunks) {
+            var message = getClosedErrorMessage();
+            throw new IllegalStateException(message);
+        }
+    }
+
+    /**
+     * Checks the index of an element.
+     * @param   index   the index.
+     * @exception   IllegalStateException   if the array is closed.
+     * @exception   ArrayIndexOutOfBoundsException   if the index is outside the
+     *                                               array.
+     * @see Arrays#checkOffLen(long, long, long)
+     */
+    protected void checkIndex(long index) {
+        ensureOpen();
+        if (0L > index || _length <= index) {
+            Arrays.checkOffLen(_length, index, 1L);
+        }
+    }
+
+    /**
+     * Checks a range of elements.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @exception   IllegalStateException   if the array is closed.
+     * @see Arrays#checkOffLen(long, long, long)
+     */
+    protected void checkRange(long off, long len) {
+        ensureOpen();
+        Arrays.checkOffLen(_length, off, len);
+    }
+
+    /**
+     * Gets the chunk holding an element.
+     * @param   index   the index of the element.
+     * @return   the index of the chunk.
+     */
+    protected int chunk(long index) {
+        int chunk = (int) (index >>> _shift);
+        return chunk;
+    }
+
+    /**
+     * Gets the position of an element in its chunk.
+     * @param   index   the index of the element.
+     * @return   the position in the chunk.
+     */
+    protected int local(long index) {
+        int local = (int) (index & _mask);
+        return local;
+    }
+
+    /**
+     * Checks a range then cuts it at the chunk boundaries.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   action   the work to do on each piece.
+     * @see Arrays#checkOffLen(long, long, long)
+     */
+    protected void forEachChunk(long off, long len, ChunkAction action) {
+        checkRange(off, len);
+
+        long done = 0L;
+        while (done < len) {
+            long index = off + done;
+            int local = local(index);
+            int count = (int) Math.min(len - done, (_mask + 1L) - local);
+            action.apply(chunk(index), local, done, count);
+            done += count;
+        }
+    }
+
+
+//---------------------------
+// Error message class methods
+//---------------------------
+
+    /**
+     * Gets the formatted error message that says that the length is negative.
+     * @param   length   the length.
+     * @return   the formatted error message.
+     */
+    protected static String getNegativeLengthErrorMessage(long length) {
+        var key = Resources.OFF_HEAP_ARRAY_NEGATIVE_LENGTH;
+        var message = Resources.getLocalizedString(key, length);
+        return message;
+    }
+
+    /**
+     * Gets the formatted error message that says that the array is closed.
+     * @return   the formatted error message.
+     */
+    protected static String getClosedErrorMessage() {
+        var key = Resources.OFF_HEAP_ARRAY_CLOSED;
+        var message = Resources.getLocalizedString(key);
+        return message;
+    }
+
+}
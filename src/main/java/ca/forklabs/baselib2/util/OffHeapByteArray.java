@@ -0,0 +1,179 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Class {@code OffHeapByteArray} is an array of {@code byte}s stored outside
+ * of the Java heap and indexed by {@code long}s.
+ *
+ * @see OffHeapArray
+ */
+public class OffHeapByteArray extends OffHeapArray {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The base 2 logarithm of the size of an element. */
+    private static final int ELEMENT_SHIFT = 0;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The views on the chunks. */
+    private ByteBuffer[] _views;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs a zeroed array.
+     * @param   length   the number of elements.
+     * @exception   IllegalArgumentException   if {@code length} is negative.
+     */
+    public OffHeapByteArray(long length) {
+        this(length, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Constructs a zeroed array with chunks of the given size.
+     * @param   length   the number of elements.
+     * @param   chunkShift   the base 2 logarithm of the size of the chunks.
+     * @exception   IllegalArgumentException   if {@code length} is negative.
+     */
+    OffHeapByteArray(long length, int chunkShift) {
+        super(length, ELEMENT_SHIFT, chunkShift);
+
+        var chunks = chunks();
+        _views = new ByteBuffer[chunks.length];
+        for (int i = 0; i < chunks.length; i++) {
+            _views[i] = chunks[i];
+        }
+    }
+
+
+//---------------------------
+// Overridden methods from ca.forklabs.baselib2.util.OffHeapArray
+//---------------------------
+
+    /**
+     * Drops the views on the chunks.
+     */
+    @Override
+    protected void releaseViews() {
+        _views = null;
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Gets an element.
+     * @param   index   the index of the element.
+     * @return   the element.
+     * @exception   IllegalStateException   if the array is closed.
+     * @exception   ArrayIndexOutOfBoundsException   if the index is outside the
+     *                                               array.
+     */
+    public byte get(long index) {
+        checkIndex(index);
+        byte value = _views[chunk(index)].get(local(index));
+        return value;
+    }
+
+    /**
+     * Sets an element.
+     * @param   index   the index of the element.
+     * @param   value   the new value.
+     * @exception   IllegalStateException   if the array is closed.
+     * @exception   ArrayIndexOutOfBoundsException   if the index is outside the
+     *                                               array.
+     */
+    public void set(long index, byte value) {
+        checkIndex(index);
+        _views[chunk(index)].put(local(index), value);
+    }
+
+    /**
+     * Sets each element of the array to the specified value.
+     * @param   value   the value.
+     * @see #memset(byte, long, long)
+     */
+    public void memset(byte value) {
+        memset(value, 0L, getLength());
+    }
+
+    /**
+     * Sets each element of the range to the specified value, copying a block
+     * of the value in bulk.
+     * @param   value   the value.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see Arrays#checkOffLen(long, long, long)
+     */
+    public void memset(byte value, long off, long len) {
+        var pattern = new byte[(int) Math.max(0L, Math.min(len, FILL_BLOCK_SIZE))];
+        java.util.Arrays.fill(pattern, value);
+        forEachChunk(off, len, (chunk, index, done, count) -> {
+            var view = _views[chunk];
+            for (int i = 0; i < count; i += pattern.length) {
+                view.put(index + i, pattern, 0, Math.min(pattern.length, count - i));
+            }
+        });
+    }
+
+    /**
+     * Copies elements to a heap array.
+     * @param   srcOff   the offset in this array.
+     * @param   dst   the heap array.
+     * @param   dstOff   the offset in the heap array.
+     * @param   len   the number of elements.
+     * @return   {@code dst}.
+     * @see Arrays#checkArray(byte[], int, int)
+     * @see Arrays#checkOffLen(long, long, long)
+     */
+    public byte[] copyTo(long srcOff, byte[] dst, int dstOff, int len) {
+        Arrays.checkArray(dst, dstOff, len);
+        forEachChunk(srcOff, len, (chunk, index, done, count) -> _views[chunk].get(index, dst, dstOff + (int) done, count));
+        return dst;
+    }
+
+    /**
+     * Copies elements from a heap array.
+     * @param   src   the heap array.
+     * @param   srcOff   the offset in the heap array.
+     * @param   dstOff   the offset in this array.
+     * @param   len   the number of elements.
+     * @see Arrays#checkArray(byte[], int, int)
+     * @see Arrays#checkOffLen(long, long, long)
+     */
+    public void copyFrom(byte[] src, int srcOff, long dstOff, int len) {
+        Arrays.checkArray(src, srcOff, len);
+        forEachChunk(dstOff, len, (chunk, index, done, count) -> _views[chunk].put(index, src, srcOff + (int) done, count));
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class {@code ParallelRange} cuts an interval of indices in pieces and hands
+ * them to the common {@link ForkJoinPool}, splitting in halves until the pieces
+ * are no longer than a grain.
+ */
+final class ParallelRange extends RecursiveAction {
+
+//---------------------------
+// Inner interface
+//---------------------------
+
+    /**
+     * Interface {@code Body} is the work done on a piece of the interval.
+     */
+    @FunctionalInterface
+    interface Body {
+
+        /**
+         * Works on the indices from {@code from}, inclusive, to {@code to},
+         * exclusive.
+         * @param   from   the first index.
+         * @param   to   the index past the last one.
+         */
+        void apply(int from, int to);
+
+    }
+
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The first index of the piece. */
+    private final int _from;
+    /** The index past the last one of the piece. */
+    private final int _to;
+    /** The length under which the piece is no longer split. */
+    private final int _grain;
+    /** The work to do. */
+    private final transient Body _body;
+
+
+//---------------------------
+// Constructor
+//---------------------------
+
+    /**
+     * Constructor.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @param   grain   the length under which the piece is no longer split.
+     * @param   body   the work to do.
+     */
+    private ParallelRange(int from, int to, int grain, Body body) {
+        _from = from;
+        _to = to;
+        _grain = grain;
+        _body = body;
+    }
+
+
+//---------------------------
+// Overridden methods from java.util.concurrent.RecursiveAction
+//---------------------------
+
+    /**
+     * Splits the piece in halves or works on it.
+     */
+    @Override
+    protected void compute() {
+        int len = _to - _from;
+        if (len <= _grain) {
+            _body.apply(_from, _to);
+        }
+        else {
+            int middle = _from + (len >>> 1);
+            invokeAll(new ParallelRange(_from, middle, _grain, _body),
+                      new ParallelRange(middle, _to, _grain, _body));
+        }
+    }
+
+
+//---------------------------
+// Class method
+//---------------------------
+
+    /**
+     * Works on the interval, in parallel if it is longer than the grain and the
+     * common pool has more than one thread, in the calling thread otherwise.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @param   grain   the length under which the interval is not split.
+     * @param   body   the work to do.
+     */
+    static void forEach(int from, int to, int grain, Body body) {
+        int len = to - from;
+        int g = Math.max(1, grain);
+        if (len <= g || 1 >= ForkJoinPool.getCommonPoolParallelism()) {
+            body.apply(from, to);
+        }
+        else {
+            var task = new ParallelRange(from, to, g, body);
+            ForkJoinPool.commonPool().invoke(task);
+        }
+    }
+
+}
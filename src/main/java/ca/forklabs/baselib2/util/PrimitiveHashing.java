@@ -0,0 +1,175 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+/**
+ * Class {@code PrimitiveHashing} holds what the open-addressing hash maps and
+ * sets keyed by primitives share: the mixing of the keys and the sizing of the
+ * tables.
+ */
+final class PrimitiveHashing {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The default load factor. */
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    /** The default number of expected entries. */
+    static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    /** The smallest table. */
+    private static final int MIN_CAPACITY = 4;
+
+    /** The largest table. */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** The golden ratio multiplier for {@code int}s. */
+    private static final int INT_PHI = 0x9e3779b9;
+
+    /** The golden ratio multiplier for {@code long}s. */
+    private static final long LONG_PHI = 0x9e3779b97f4a7c15L;
+
+
+//---------------------------
+// Constructor
+//---------------------------
+
+    /**
+     * Let no one instanciate this class.
+     */
+    private PrimitiveHashing() {
+        // nothing
+    }
+
+
+//---------------------------
+// Class methods
+//---------------------------
+
+    /**
+     * Mixes an {@code int} key so that its lowest bits, which pick the slot,
+     * depend on all its bits. The multiplication spreads the key toward the
+     * highest bits and the rotation folds them back down.
+     * @param   key   the key.
+     * @return   the mixed key.
+     */
+    static int mix(int key) {
+        int h = key * INT_PHI;
+        h ^= Bits.rotateLeft(h, 16);
+        return h;
+    }
+
+    /**
+     * Mixes a {@code long} key so that its lowest bits, which pick the slot,
+     * depend on all its bits.
+     * @param   key   the key.
+     * @return   the mixed key, truncated to an {@code int}.
+     */
+    static int mix(long key) {
+        long h = key * LONG_PHI;
+        h ^= Bits.rotateLeft(h, 32);
+        return (int) h;
+    }
+
+    /**
+     * Checks the load factor.
+     * @param   loadFactor   the load factor.
+     * @return   the load factor.
+     * @exception   IllegalArgumentException   if the load factor is not within
+     *                                         {@code ]0, 1[}.
+     */
+    static float checkLoadFactor(float loadFactor) {
+        if (false == (0.0f < loadFactor && loadFactor < 1.0f)) {
+            var message = getBadLoadFactorErrorMessage(loadFactor);
+            throw new IllegalArgumentException(message);
+        }
+        return loadFactor;
+    }
+
+    /**
+     * Computes the size of the table, a power of two, for the number of
+     * entries.
+     * @param   expectedSize   the expected number of entries.
+     * @param   loadFactor   the load factor.
+     * @return   the size of the table.
+     */
+    static int capacityFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(Math.max(0, expectedSize) / (double) loadFactor);
+        int capacity = (int) Math.min(MAX_CAPACITY, Math.max(MIN_CAPACITY, Long.highestOneBit(Math.max(1L, needed - 1L)) << 1));
+        return capacity;
+    }
+
+    /**
+     * Computes the number of entries that triggers the growth of the table.
+     * @param   capacity   the size of the table.
+     * @param   loadFactor   the load factor.
+     * @return   the number of entries, always less than the capacity.
+     */
+    static int maxFill(int capacity, float loadFactor) {
+        int max = Math.min(capacity - 1, (int) Math.ceil(capacity * (double) loadFactor));
+        return max;
+    }
+
+    /**
+     * Gets the size of the next table.
+     * @param   capacity   the size of the full table.
+     * @return   the size of the next table.
+     * @exception   IllegalStateException   if the table cannot grow anymore.
+     */
+    static int grow(int capacity) {
+        if (MAX_CAPACITY <= capacity) {
+            var message = getTooLargeErrorMessage(MAX_CAPACITY);
+            throw new IllegalStateException(message);
+        }
+        int grown = capacity << 1;
+        return grown;
+    }
+
+
+//---------------------------
+// Error message class methods
+//---------------------------
+
+    /**
+     * Gets the formatted error message that says that the load factor is not
+     * within {@code ]0, 1[}.
+     * @param   loadFactor   the load factor.
+     * @return   the formatted error message.
+     */
+    static String getBadLoadFactorErrorMessage(float loadFactor) {
+        var key = Resources.HASH_BAD_LOAD_FACTOR;
+        var message = Resources.getLocalizedString(key, String.valueOf(loadFactor));
+        return message;
+    }
+
+    /**
+     * Gets the formatted error message that says that the table cannot grow
+     * anymore.
+     * @param   capacity   the largest table.
+     * @return   the formatted error message.
+     */
+    static String getTooLargeErrorMessage(int capacity) {
+        var key = Resources.HASH_TOO_LARGE;
+        var message = Resources.getLocalizedString(key, capacity);
+        return message;
+    }
+
+}
@@ -0,0 +1,1048 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class {@code RadixSort} sorts arrays of primitive keys with a least
+ * significant digit radix sort, one pass per byte of the keys. The sort is
+ * stable and can apply the same permutation to payload arrays, so that keys
+ * and their values can be sorted together without boxing them in a
+ * {@link java.util.Comparator}.
+ * <p>
+ * The order is the one of {@link java.util.Arrays#sort(double[])}:
+ * {@code -0.0} comes before {@code 0.0} and the NaNs come last. The NaNs are
+ * written back as the canonical {@link Double#NaN} or {@link Float#NaN}.
+ * Passes where every key has the same byte are skipped, so small ranges of
+ * values sort faster.
+ * <p>
+ * The sort needs a buffer as large as the keys, plus two {@code int} arrays
+ * for the permutation when there are payloads. The parallel variants build
+ * the histograms and scatter the keys per chunk, on the common
+ * {@link ForkJoinPool}.
+ */
+public class RadixSort {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The smallest number of keys given to each task of {@code parallelSort()}. */
+    public static final int PARALLEL_SORT_GRAIN = 1 << 16;
+
+    /** The number of bits of a digit. */
+    private static final int DIGIT_BITS = 8;
+
+    /** The number of values of a digit. */
+    private static final int DIGITS = 1 << DIGIT_BITS;
+
+    /** The mask of a digit. */
+    private static final int DIGIT_MASK = DIGITS - 1;
+
+    /** The flip of the most significant digit that orders the signed keys. */
+    private static final int SIGN_FLIP = DIGITS >>> 1;
+
+    /** The payloads of the sorts without any. */
+    private static final Object[] NO_PAYLOADS = {};
+
+
+//---------------------------
+// Constructor
+//---------------------------
+
+    /**
+     * Let no one instanciate this class.
+     */
+    private RadixSort() {
+        // nothing
+    }
+
+
+//---------------------------
+// int keys
+//---------------------------
+
+    /**
+     * Sorts the array in ascending order.
+     * @param   keys   the keys.
+     * @see #sort(int[], int, int)
+     */
+    public static void sort(int[] keys) {
+        sort(keys, 0, keys.length);
+    }
+
+    /**
+     * Sorts a range of the array in ascending order.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see Arrays#checkArray(int[], int, int)
+     */
+    public static void sort(int[] keys, int off, int len) {
+        sort(keys, off, len, NO_PAYLOADS, 1);
+    }
+
+    /**
+     * Sorts a range of the array in ascending order, applying the same
+     * permutation to the same range of each payload array. The first payload
+     * is always one array, even an array of objects or of arrays; an array of
+     * objects given last among several payloads must be cast to
+     * {@code Object}.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   payload   the first array to permute like the keys, an array
+     *                    of primitives or of objects at least as long as the
+     *                    range.
+     * @param   payloads   the other arrays to permute like the keys.
+     * @exception   IllegalArgumentException   if a payload is not an array.
+     * @see Arrays#checkArray(int[], int, int)
+     */
+    public static void sort(int[] keys, int off, int len, Object payload, Object... payloads) {
+        sort(keys, off, len, payloads(payload, payloads), 1);
+    }
+
+    /**
+     * Sorts the array in ascending order with many threads.
+     * @param   keys   the keys.
+     * @see #parallelSort(int[], int, int)
+     */
+    public static void parallelSort(int[] keys) {
+        parallelSort(keys, 0, keys.length);
+    }
+
+    /**
+     * Sorts a range of the array in ascending order with many threads. Ranges
+     * shorter than twice {@link #PARALLEL_SORT_GRAIN} are sorted in the
+     * calling thread.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see #sort(int[], int, int)
+     */
+    public static void parallelSort(int[] keys, int off, int len) {
+        sort(keys, off, len, NO_PAYLOADS, chunks(len));
+    }
+
+    /**
+     * Sorts a range of the array in ascending order with many threads,
+     * applying the same permutation to the same range of each payload array.
+     * Ranges shorter than twice {@link #PARALLEL_SORT_GRAIN} are sorted in the
+     * calling thread.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   payload   the first array to permute like the keys.
+     * @param   payloads   the other arrays to permute like the keys.
+     * @exception   IllegalArgumentException   if a payload is not an array.
+     * @see #sort(int[], int, int, Object, Object...)
+     */
+    public static void parallelSort(int[] keys, int off, int len, Object payload, Object... payloads) {
+        sort(keys, off, len, payloads(payload, payloads), chunks(len));
+    }
+
+    /**
+     * Sorts a range of the array in ascending order, cutting it in chunks.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   payloads   the arrays to permute like the keys.
+     * @param   chunks   the number of chunks.
+     * @exception   IllegalArgumentException   if a payload is not an array.
+     */
+    static void sort(int[] keys, int off, int len, Object[] payloads, int chunks) {
+        Arrays.checkArray(keys, off, len);
+        checkPayloads(off, len, payloads);
+
+        var perm = permutation(len, payloads);
+        lsd(keys, off, len, perm, chunks);
+        permute(off, len, perm, payloads, chunks);
+    }
+
+
+//---------------------------
+// long keys
+//---------------------------
+
+    /**
+     * Sorts the array in ascending order.
+     * @param   keys   the keys.
+     * @see #sort(long[], int, int)
+     */
+    public static void sort(long[] keys) {
+        sort(keys, 0, keys.length);
+    }
+
+    /**
+     * Sorts a range of the array in ascending order.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public static void sort(long[] keys, int off, int len) {
+        sort(keys, off, len, NO_PAYLOADS, 1);
+    }
+
+    /**
+     * Sorts a range of the array in ascending order, applying the same
+     * permutation to the same range of each payload array. The first payload
+     * is always one array, even an array of objects or of arrays; an array of
+     * objects given last among several payloads must be cast to
+     * {@code Object}.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   payload   the first array to permute like the keys, an array
+     *                    of primitives or of objects at least as long as the
+     *                    range.
+     * @param   payloads   the other arrays to permute like the keys.
+     * @exception   IllegalArgumentException   if a payload is not an array.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public static void sort(long[] keys, int off, int len, Object payload, Object... payloads) {
+        sort(keys, off, len, payloads(payload, payloads), 1);
+    }
+
+    /**
+     * Sorts the array in ascending order with many threads.
+     * @param   keys   the keys.
+     * @see #parallelSort(long[], int, int)
+     */
+    public static void parallelSort(long[] keys) {
+        parallelSort(keys, 0, keys.length);
+    }
+
+    /**
+     * Sorts a range of the array in ascending order with many threads. Ranges
+     * shorter than twice {@link #PARALLEL_SORT_GRAIN} are sorted in the
+     * calling thread.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see #sort(long[], int, int)
+     */
+    public static void parallelSort(long[] keys, int off, int len) {
+        sort(keys, off, len, NO_PAYLOADS, chunks(len));
+    }
+
+    /**
+     * Sorts a range of the array in ascending order with many threads,
+     * applying the same permutation to the same range of each payload array.
+     * Ranges shorter than twice {@link #PARALLEL_SORT_GRAIN} are sorted in the
+     * calling thread.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   payload   the first array to permute like the keys.
+     * @param   payloads   the other arrays to permute like the keys.
+     * @exception   IllegalArgumentException   if a payload is not an array.
+     * @see #sort(long[], int, int, Object, Object...)
+     */
+    public static void parallelSort(long[] keys, int off, int len, Object payload, Object... payloads) {
+        sort(keys, off, len, payloads(payload, payloads), chunks(len));
+    }
+
+    /**
+     * Sorts a range of the array in ascending order, cutting it in chunks.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   payloads   the arrays to permute like the keys.
+     * @param   chunks   the number of chunks.
+     * @exception   IllegalArgumentException   if a payload is not an array.
+     */
+    static void sort(long[] keys, int off, int len, Object[] payloads, int chunks) {
+        Arrays.checkArray(keys, off, len);
+        checkPayloads(off, len, payloads);
+
+        var perm = permutation(len, payloads);
+        lsd(keys, off, len, perm, chunks);
+        permute(off, len, perm, payloads, chunks);
+    }
+
+
+//---------------------------
+// float keys
+//---------------------------
+
+    /**
+     * Sorts the array in ascending order.
+     * @param   keys   the keys.
+     * @see #sort(float[], int, int)
+     */
+    public static void sort(float[] keys) {
+        sort(keys, 0, keys.length);
+    }
+
+    /**
+     * Sorts a range of the array in ascending order.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see Arrays#checkArray(float[], int, int)
+     */
+    public static void sort(float[] keys, int off, int len) {
+        sort(keys, off, len, NO_PAYLOADS, 1);
+    }
+
+    /**
+     * Sorts a range of the array in ascending order, applying the same
+     * permutation to the same range of each payload array. The first payload
+     * is always one array, even an array of objects or of arrays; an array of
+     * objects given last among several payloads must be cast to
+     * {@code Object}.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   payload   the first array to permute like the keys, an array
+     *                    of primitives or of objects at least as long as the
+     *                    range.
+     * @param   payloads   the other arrays to permute like the keys.
+     * @exception   IllegalArgumentException   if a payload is not an array.
+     * @see Arrays#checkArray(float[], int, int)
+     */
+    public static void sort(float[] keys, int off, int len, Object payload, Object... payloads) {
+        sort(keys, off, len, payloads(payload, payloads), 1);
+    }
+
+    /**
+     * Sorts the array in ascending order with many threads.
+     * @param   keys   the keys.
+     * @see #parallelSort(float[], int, int)
+     */
+    public static void parallelSort(float[] keys) {
+        parallelSort(keys, 0, keys.length);
+    }
+
+    /**
+     * Sorts a range of the array in ascending order with many threads. Ranges
+     * shorter than twice {@link #PARALLEL_SORT_GRAIN} are sorted in the
+     * calling thread.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see #sort(float[], int, int)
+     */
+    public static void parallelSort(float[] keys, int off, int len) {
+        sort(keys, off, len, NO_PAYLOADS, chunks(len));
+    }
+
+    /**
+     * Sorts a range of the array in ascending order with many threads,
+     * applying the same permutation to the same range of each payload array.
+     * Ranges shorter than twice {@link #PARALLEL_SORT_GRAIN} are sorted in the
+     * calling thread.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   payload   the first array to permute like the keys.
+     * @param   payloads   the other arrays to permute like the keys.
+     * @exception   IllegalArgumentException   if a payload is not an array.
+     * @see #sort(float[], int, int, Object, Object...)
+     */
+    public static void parallelSort(float[] keys, int off, int len, Object payload, Object... payloads) {
+        sort(keys, off, len, payloads(payload, payloads), chunks(len));
+    }
+
+    /**
+     * Sorts a range of the array in ascending order, cutting it in chunks.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   payloads   the arrays to permute like the keys.
+     * @param   chunks   the number of chunks.
+     * @exception   IllegalArgumentException   if a payload is not an array.
+     */
+    static void sort(float[] keys, int off, int len, Object[] payloads, int chunks) {
+        Arrays.checkArray(keys, off, len);
+        checkPayloads(off, len, payloads);
+
+        var bits = new int[len];
+        int grain = grain(len, chunks);
+        ParallelRange.forEach(0, len, grain, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                bits[i] = order(Float.floatToIntBits(keys[off + i]));
+            }
+        });
+        var perm = permutation(len, payloads);
+        lsd(bits, 0, len, perm, chunks);
+        ParallelRange.forEach(0, len, grain, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                keys[off + i] = Float.intBitsToFloat(order(bits[i]));
+            }
+        });
+        permute(off, len, perm, payloads, chunks);
+    }
+
+
+//---------------------------
+// double keys
+//---------------------------
+
+    /**
+     * Sorts the array in ascending order.
+     * @param   keys   the keys.
+     * @see #sort(double[], int, int)
+     */
+    public static void sort(double[] keys) {
+        sort(keys, 0, keys.length);
+    }
+
+    /**
+     * Sorts a range of the array in ascending order.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public static void sort(double[] keys, int off, int len) {
+        sort(keys, off, len, NO_PAYLOADS, 1);
+    }
+
+    /**
+     * Sorts a range of the array in ascending order, applying the same
+     * permutation to the same range of each payload array. The first payload
+     * is always one array, even an array of objects or of arrays; an array of
+     * objects given last among several payloads must be cast to
+     * {@code Object}.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   payload   the first array to permute like the keys, an array
+     *                    of primitives or of objects at least as long as the
+     *                    range.
+     * @param   payloads   the other arrays to permute like the keys.
+     * @exception   IllegalArgumentException   if a payload is not an array.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public static void sort(double[] keys, int off, int len, Object payload, Object... payloads) {
+        sort(keys, off, len, payloads(payload, payloads), 1);
+    }
+
+    /**
+     * Sorts the array in ascending order with many threads.
+     * @param   keys   the keys.
+     * @see #parallelSort(double[], int, int)
+     */
+    public static void parallelSort(double[] keys) {
+        parallelSort(keys, 0, keys.length);
+    }
+
+    /**
+     * Sorts a range of the array in ascending order with many threads. Ranges
+     * shorter than twice {@link #PARALLEL_SORT_GRAIN} are sorted in the
+     * calling thread.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see #sort(double[], int, int)
+     */
+    public static void parallelSort(double[] keys, int off, int len) {
+        sort(keys, off, len, NO_PAYLOADS, chunks(len));
+    }
+
+    /**
+     * Sorts a range of the array in ascending order with many threads,
+     * applying the same permutation to the same range of each payload array.
+     * Ranges shorter than twice {@link #PARALLEL_SORT_GRAIN} are sorted in the
+     * calling thread.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   payload   the first array to permute like the keys.
+     * @param   payloads   the other arrays to permute like the keys.
+     * @exception   IllegalArgumentException   if a payload is not an array.
+     * @see #sort(double[], int, int, Object, Object...)
+     */
+    public static void parallelSort(double[] keys, int off, int len, Object payload, Object... payloads) {
+        sort(keys, off, len, payloads(payload, payloads), chunks(len));
+    }
+
+    /**
+     * Sorts a range of the array in ascending order, cutting it in chunks.
+     * @param   keys   the keys.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   payloads   the arrays to permute like the keys.
+     * @param   chunks   the number of chunks.
+     * @exception   IllegalArgumentException   if a payload is not an array.
+     */
+    static void sort(double[] keys, int off, int len, Object[] payloads, int chunks) {
+        Arrays.checkArray(keys, off, len);
+        checkPayloads(off, len, payloads);
+
+        var bits = new long[len];
+        int grain = grain(len, chunks);
+        ParallelRange.forEach(0, len, grain, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                bits[i] = order(Double.doubleToLongBits(keys[off + i]));
+            }
+        });
+        var perm = permutation(len, payloads);
+        lsd(bits, 0, len, perm, chunks);
+        ParallelRange.forEach(0, len, grain, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                keys[off + i] = Double.longBitsToDouble(order(bits[i]));
+            }
+        });
+        permute(off, len, perm, payloads, chunks);
+    }
+
+
+//---------------------------
+// Radix sort of ints
+//---------------------------
+
+    /**
+     * Sorts {@code int}s as signed numbers, along with their permutation.
+     * The keys and the permutation go back and forth between the arrays and
+     * buffers, and end up back in place.
+     * @param   keys   the keys.
+     * @param   off   the offset of the keys.
+     * @param   len   the number of keys.
+     * @param   perm   the permutation, {@code null} if not needed.
+     * @param   chunks   the number of chunks.
+     */
+    private static void lsd(int[] keys, int off, int len, int[] perm, int chunks) {
+        if (2 > len) {
+            return;
+        }
+
+        var src = keys;
+        int srcOff = off;
+        var dst = new int[len];
+        int dstOff = 0;
+        var permSrc = perm;
+        var permDst = (null == perm) ? null : new int[len];
+        var counts = new int[chunks][DIGITS];
+        var starts = new int[chunks][DIGITS];
+        // the order of the keys does not change the counts, so a single
+        // chunk counts the digits of all the passes in one read
+        var histograms = (1 == chunks) ? histograms(keys, off, len) : null;
+        for (int shift = 0; shift < Integer.SIZE; shift += DIGIT_BITS) {
+            var from = src;
+            int fromOff = srcOff;
+            var to = dst;
+            int toOff = dstOff;
+            var permFrom = permSrc;
+            var permTo = permDst;
+            int digit = shift;
+            int flip = (shift + DIGIT_BITS == Integer.SIZE) ? SIGN_FLIP : 0;
+
+            if (null != histograms) {
+                counts[0] = histograms[shift / DIGIT_BITS];
+            }
+            else {
+                ParallelRange.forEach(0, chunks, 1, (first, last) -> {
+                    for (int c = first; c < last; c++) {
+                        var count = counts[c];
+                        java.util.Arrays.fill(count, 0);
+                        for (int i = fromOff + low(len, chunks, c), end = fromOff + low(len, chunks, c + 1); i < end; i++) {
+                            count[((from[i] >>> digit) & DIGIT_MASK) ^ flip]++;
+                        }
+                    }
+                });
+            }
+            if (false == offsets(counts, starts, len)) {
+                continue;
+            }
+            ParallelRange.forEach(0, chunks, 1, (first, last) -> {
+                for (int c = first; c < last; c++) {
+                    var start = starts[c];
+                    int begin = low(len, chunks, c);
+                    int end = low(len, chunks, c + 1);
+                    if (null == permFrom) {
+                        for (int i = begin; i < end; i++) {
+                            int key = from[fromOff + i];
+                            to[toOff + start[((key >>> digit) & DIGIT_MASK) ^ flip]++] = key;
+                        }
+                    }
+                    else {
+                        for (int i = begin; i < end; i++) {
+                            int key = from[fromOff + i];
+                            int j = start[((key >>> digit) & DIGIT_MASK) ^ flip]++;
+                            to[toOff + j] = key;
+                            permTo[j] = permFrom[i];
+                        }
+                    }
+                }
+            });
+
+            src = to;
+            srcOff = toOff;
+            dst = from;
+            dstOff = fromOff;
+            permSrc = permTo;
+            permDst = permFrom;
+        }
+
+        if (src != keys) {
+            System.arraycopy(src, 0, keys, off, len);
+            if (null != perm) {
+                System.arraycopy(permSrc, 0, perm, 0, len);
+            }
+        }
+    }
+
+    /**
+     * Counts the digits of the keys for all the passes at once.
+     * @param   keys   the keys.
+     * @param   off   the offset of the keys.
+     * @param   len   the number of keys.
+     * @return   the number of keys of each digit, for each pass.
+     */
+    private static int[][] histograms(int[] keys, int off, int len) {
+        var histograms = new int[Integer.BYTES][DIGITS];
+        for (int i = off; i < off + len; i++) {
+            int key = keys[i];
+            for (int pass = 0; pass < Integer.BYTES - 1; pass++) {
+                histograms[pass][(key >>> (pass * DIGIT_BITS)) & DIGIT_MASK]++;
+            }
+            histograms[Integer.BYTES - 1][((key >>> (Integer.SIZE - DIGIT_BITS)) & DIGIT_MASK) ^ SIGN_FLIP]++;
+        }
+        return histograms;
+    }
+
+    /**
+     * Maps the bits of a floating point number to a signed integer with the
+     * same order, and back: the bits of the negative numbers other than the
+     * sign are flipped.
+     * @param   bits   the bits.
+     * @return   the mapped bits.
+     */
+    private static int order(int bits) {
+        int ordered = bits ^ ((bits >> (Integer.SIZE - 1)) & Integer.MAX_VALUE);
+        return ordered;
+    }
+
+
+//---------------------------
+// Radix sort of longs
+//---------------------------
+
+    /**
+     * Sorts {@code long}s as signed numbers, along with their permutation.
+     * The keys and the permutation go back and forth between the arrays and
+     * buffers, and end up back in place.
+     * @param   keys   the keys.
+     * @param   off   the offset of the keys.
+     * @param   len   the number of keys.
+     * @param   perm   the permutation, {@code null} if not needed.
+     * @param   chunks   the number of chunks.
+     */
+    private static void lsd(long[] keys, int off, int len, int[] perm, int chunks) {
+        if (2 > len) {
+            return;
+        }
+
+        var src = keys;
+        int srcOff = off;
+        var dst = new long[len];
+        int dstOff = 0;
+        var permSrc = perm;
+        var permDst = (null == perm) ? null : new int[len];
+        var counts = new int[chunks][DIGITS];
+        var starts = new int[chunks][DIGITS];
+        // the order of the keys does not change the counts, so a single
+        // chunk counts the digits of all the passes in one read
+        var histograms = (1 == chunks) ? histograms(keys, off, len) : null;
+        for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+            var from = src;
+            int fromOff = srcOff;
+            var to = dst;
+            int toOff = dstOff;
+            var permFrom = permSrc;
+            var permTo = permDst;
+            int digit = shift;
+            int flip = (shift + DIGIT_BITS == Long.SIZE) ? SIGN_FLIP : 0;
+
+            if (null != histograms) {
+                counts[0] = histograms[shift / DIGIT_BITS];
+            }
+            else {
+                ParallelRange.forEach(0, chunks, 1, (first, last) -> {
+                    for (int c = first; c < last; c++) {
+                        var count = counts[c];
+                        java.util.Arrays.fill(count, 0);
+                        for (int i = fromOff + low(len, chunks, c), end = fromOff + low(len, chunks, c + 1); i < end; i++) {
+                            count[((int) (from[i] >>> digit) & DIGIT_MASK) ^ flip]++;
+                        }
+                    }
+                });
+            }
+            if (false == offsets(counts, starts, len)) {
+                continue;
+            }
+            ParallelRange.forEach(0, chunks, 1, (first, last) -> {
+                for (int c = first; c < last; c++) {
+                    var start = starts[c];
+                    int begin = low(len, chunks, c);
+                    int end = low(len, chunks, c + 1);
+                    if (null == permFrom) {
+                        for (int i = begin; i < end; i++) {
+                            long key = from[fromOff + i];
+                            to[toOff + start[((int) (key >>> digit) & DIGIT_MASK) ^ flip]++] = key;
+                        }
+                    }
+                    else {
+                        for (int i = begin; i < end; i++) {
+                            long key = from[fromOff + i];
+                            int j = start[((int) (key >>> digit) & DIGIT_MASK) ^ flip]++;
+                            to[toOff + j] = key;
+                            permTo[j] = permFrom[i];
+                        }
+                    }
+                }
+            });
+
+            src = to;
+            srcOff = toOff;
+            dst = from;
+            dstOff = fromOff;
+            permSrc = permTo;
+            permDst = permFrom;
+        }
+
+        if (src != keys) {
+            System.arraycopy(src, 0, keys, off, len);
+            if (null != perm) {
+                System.arraycopy(permSrc, 0, perm, 0, len);
+            }
+        }
+    }
+
+    /**
+     * Counts the digits of the keys for all the passes at once.
+     * @param   keys   the keys.
+     * @param   off   the offset of the keys.
+     * @param   len   the number of keys.
+     * @return   the number of keys of each digit, for each pass.
+     */
+    private static int[][] histograms(long[] keys, int off, int len) {
+        var histograms = new int[Long.BYTES][DIGITS];
+        for (int i = off; i < off + len; i++) {
+            long key = keys[i];
+            for (int pass = 0; pass < Long.BYTES - 1; pass++) {
+                histograms[pass][(int) (key >>> (pass * DIGIT_BITS)) & DIGIT_MASK]++;
+            }
+            histograms[Long.BYTES - 1][((int) (key >>> (Long.SIZE - DIGIT_BITS)) & DIGIT_MASK) ^ SIGN_FLIP]++;
+        }
+        return histograms;
+    }
+
+    /**
+     * Maps the bits of a floating point number to a signed integer with the
+     * same order, and back: the bits of the negative numbers other than the
+     * sign are flipped.
+     * @param   bits   the bits.
+     * @return   the mapped bits.
+     */
+    private static long order(long bits) {
+        long ordered = bits ^ ((bits >> (Long.SIZE - 1)) & Long.MAX_VALUE);
+        return ordered;
+    }
+
+
+//---------------------------
+// Class methods
+//---------------------------
+
+    /**
+     * Determines the number of chunks of a parallel sort.
+     * @param   len   the number of keys.
+     * @return   the number of chunks.
+     */
+    private static int chunks(int len) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int chunks = (1 >= parallelism) ? 1 : Math.max(1, Math.min(len / PARALLEL_SORT_GRAIN, 4 * parallelism));
+        return chunks;
+    }
+
+    /**
+     * Gets the length of the pieces handed to {@link ParallelRange} to work
+     * on all the keys.
+     * @param   len   the number of keys.
+     * @param   chunks   the number of chunks.
+     * @return   the grain.
+     */
+    private static int grain(int len, int chunks) {
+        int grain = Math.max(1, len / chunks);
+        return grain;
+    }
+
+    /**
+     * Gets the first index of a chunk.
+     * @param   len   the number of keys.
+     * @param   chunks   the number of chunks.
+     * @param   chunk   the chunk.
+     * @return   the first index of the chunk.
+     */
+    private static int low(int len, int chunks, int chunk) {
+        int low = (int) ((long) len * chunk / chunks);
+        return low;
+    }
+
+    /**
+     * Computes where each chunk writes the keys of each digit.
+     * @param   counts   the number of keys of each digit in each chunk.
+     * @param   starts   receives where each chunk writes its first key of each
+     *                   digit.
+     * @param   len   the number of keys.
+     * @return   {@code false} if all the keys have the same digit and the pass
+     *           can be skipped, {@code true} otherwise.
+     */
+    private static boolean offsets(int[][] counts, int[][] starts, int len) {
+        int position = 0;
+        for (int d = 0; d < DIGITS; d++) {
+            int total = 0;
+            for (int c = 0; c < counts.length; c++) {
+                starts[c][d] = position + total;
+                total += counts[c][d];
+            }
+            if (total == len) {
+                return false;
+            }
+            position += total;
+        }
+        return true;
+    }
+
+    /**
+     * Gathers the payloads of a sort in one array.
+     * @param   payload   the first payload.
+     * @param   payloads   the other payloads.
+     * @return   all the payloads.
+     */
+    private static Object[] payloads(Object payload, Object[] payloads) {
+        Arrays.checkNull(payloads);
+        var all = new Object[payloads.length + 1];
+        all[0] = payload;
+        System.arraycopy(payloads, 0, all, 1, payloads.length);
+        return all;
+    }
+
+    /**
+     * Creates the identity permutation if there are payloads to permute.
+     * @param   len   the number of keys.
+     * @param   payloads   the payloads.
+     * @return   the permutation, or {@code null} if there are no payloads.
+     */
+    private static int[] permutation(int len, Object[] payloads) {
+        if (0 == payloads.length) {
+            return null;
+        }
+        var perm = new int[len];
+        for (int i = 0; i < len; i++) {
+            perm[i] = i;
+        }
+        return perm;
+    }
+
+    /**
+     * Checks that the payloads are arrays holding the range, before anything
+     * is sorted.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   payloads   the payloads.
+     * @exception   IllegalArgumentException   if a payload is not an array.
+     */
+    private static void checkPayloads(int off, int len, Object[] payloads) {
+        Arrays.checkNull(payloads);
+        for (var payload : payloads) {
+            checkPayload(off, len, payload);
+        }
+    }
+
+    /**
+     * Checks that a payload is an array holding the range.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   payload   the payload.
+     * @exception   IllegalArgumentException   if the payload is not an array.
+     */
+    private static void checkPayload(int off, int len, Object payload) {
+        if (payload instanceof Object[]) {
+            Arrays.checkArray((Object[]) payload, off, len);
+        }
+        else if (payload instanceof boolean[]) {
+            Arrays.checkArray((boolean[]) payload, off, len);
+        }
+        else if (payload instanceof byte[]) {
+            Arrays.checkArray((byte[]) payload, off, len);
+        }
+        else if (payload instanceof char[]) {
+            Arrays.checkArray((char[]) payload, off, len);
+        }
+        else if (payload instanceof short[]) {
+            Arrays.checkArray((short[]) payload, off, len);
+        }
+        else if (payload instanceof int[]) {
+            Arrays.checkArray((int[]) payload, off, len);
+        }
+        else if (payload instanceof long[]) {
+            Arrays.checkArray((long[]) payload, off, len);
+        }
+        else if (payload instanceof float[]) {
+            Arrays.checkArray((float[]) payload, off, len);
+        }
+        else if (payload instanceof double[]) {
+            Arrays.checkArray((double[]) payload, off, len);
+        }
+        else {
+            Arrays.checkNull(payload);
+            var message = getBadPayloadErrorMessage(payload);
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * Applies the permutation of the keys to the payloads.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   perm   the permutation.
+     * @param   payloads   the payloads.
+     * @param   chunks   the number of chunks.
+     */
+    private static void permute(int off, int len, int[] perm, Object[] payloads, int chunks) {
+        for (var payload : payloads) {
+            permute(off, len, perm, payload, grain(len, chunks));
+        }
+    }
+
+    /**
+     * Applies the permutation of the keys to a payload.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   perm   the permutation.
+     * @param   payload   the payload.
+     * @param   grain   the number of elements permuted by each task.
+     */
+    private static void permute(int off, int len, int[] perm, Object payload, int grain) {
+        if (payload instanceof Object[]) {
+            var array = (Object[]) payload;
+            var sorted = new Object[len];
+            ParallelRange.forEach(0, len, grain, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    sorted[i] = array[off + perm[i]];
+                }
+            });
+            System.arraycopy(sorted, 0, array, off, len);
+        }
+        else if (payload instanceof boolean[]) {
+            var array = (boolean[]) payload;
+            var sorted = new boolean[len];
+            ParallelRange.forEach(0, len, grain, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    sorted[i] = array[off + perm[i]];
+                }
+            });
+            System.arraycopy(sorted, 0, array, off, len);
+        }
+        else if (payload instanceof byte[]) {
+            var array = (byte[]) payload;
+            var sorted = new byte[len];
+            ParallelRange.forEach(0, len, grain, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    sorted[i] = array[off + perm[i]];
+                }
+            });
+            System.arraycopy(sorted, 0, array, off, len);
+        }
+        else if (payload instanceof char[]) {
+            var array = (char[]) payload;
+            var sorted = new char[len];
+            ParallelRange.forEach(0, len, grain, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    sorted[i] = array[off + perm[i]];
+                }
+            });
+            System.arraycopy(sorted, 0, array, off, len);
+        }
+        else if (payload instanceof short[]) {
+            var array = (short[]) payload;
+            var sorted = new short[len];
+            ParallelRange.forEach(0, len, grain, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    sorted[i] = array[off + perm[i]];
+                }
+            });
+            System.arraycopy(sorted, 0, array, off, len);
+        }
+        else if (payload instanceof int[]) {
+            var array = (int[]) payload;
+            var sorted = new int[len];
+            ParallelRange.forEach(0, len, grain, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    sorted[i] = array[off + perm[i]];
+                }
+            });
+            System.arraycopy(sorted, 0, array, off, len);
+        }
+        else if (payload instanceof long[]) {
+            var array = (long[]) payload;
+            var sorted = new long[len];
+            ParallelRange.forEach(0, len, grain, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    sorted[i] = array[off + perm[i]];
+                }
+            });
+            System.arraycopy(sorted, 0, array, off, len);
+        }
+        else if (payload instanceof float[]) {
+            var array = (float[]) payload;
+            var sorted = new float[len];
+            ParallelRange.forEach(0, len, grain, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    sorted[i] = array[off + perm[i]];
+                }
+            });
+            System.arraycopy(sorted, 0, array, off, len);
+        }
+        else if (payload instanceof double[]) {
+            var array = (double[]) payload;
+            var sorted = new double[len];
+            ParallelRange.forEach(0, len, grain, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    sorted[i] = array[off + perm[i]];
+                }
+            });
+            System.arraycopy(sorted, 0, array, off, len);
+        }
+    }
+
+
+//---------------------------
+// Error message class methods
+//---------------------------
+
+    /**
+     * Gets the formatted error message that says that a payload is not an
+     * array.
+     * @param   payload   the payload.
+     * @return   the formatted error message.
+     */
+    protected static String getBadPayloadErrorMessage(Object payload) {
+        var key = Resources.RADIX_SORT_BAD_PAYLOAD;
+        var message = Resources.getLocalizedString(key, payload.getClass().getName());
+        return message;
+    }
+
+}
@@ -0,0 +1,1259 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class {@code Reductions} reduces ranges of {@code long} and {@code double}
+ * arrays: sums, extrema and their indices, dot products and running totals.
+ * <p>
+ * The loops keep several independent accumulators so that the JIT compiler
+ * can unroll and vectorize them, and the out-of-order core can overlap the
+ * additions instead of waiting on a single chain of them.
+ * <p>
+ * The {@code double} sums and dot products take a {@code compensated} flag.
+ * When it is {@code false}, the terms are added as they come, which is the
+ * fastest and loses precision when the terms cancel out or differ much in
+ * magnitude. When it is {@code true}, the rounding errors are carried on with
+ * the Kahan-Babuška (Neumaier) algorithm, and the products of the dot
+ * products are made exact with {@link Math#fma(double, double, double)}, so
+ * that the result is about as precise as if it had been computed with twice
+ * the precision, for about twice to four times the time.
+ * <p>
+ * The {@code parallel} variants cut the ranges longer than the
+ * {@linkplain #getParallelThreshold() parallel threshold} in chunks of that
+ * length, reduce the chunks on the common {@link ForkJoinPool} and combine
+ * them in order. Their results do not depend on the number of threads, but the
+ * {@code double} sums may differ from the sequential ones in the last bits
+ * since the terms are added in another order.
+ * <p>
+ * The extrema follow {@link Math#min(double, double)} and
+ * {@link Math#max(double, double)}: a NaN wins over any other value and
+ * {@code -0.0} is smaller than {@code 0.0}. The indices of the extrema are the
+ * first ones where the extrema are found.
+ */
+public class Reductions {
+
+//---------------------------
+// Inner interface
+//---------------------------
+
+    /**
+     * Interface {@code Chunk} is the work done on a chunk of a range.
+     */
+    @FunctionalInterface
+    private interface Chunk {
+
+        /**
+         * Works on the chunk.
+         * @param   chunk   the number of the chunk.
+         * @param   from   the first index of the chunk.
+         * @param   to   the index past the last one of the chunk.
+         */
+        void apply(int chunk, int from, int to);
+
+    }
+
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The default length above which the {@code parallel} variants split the ranges. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+    /** The length above which the {@code parallel} variants split the ranges. */
+    private static volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+
+//---------------------------
+// Constructor
+//---------------------------
+
+    /**
+     * Let no one instanciate this class.
+     */
+    private Reductions() {
+        // nothing
+    }
+
+
+//---------------------------
+// Accessors and mutators
+//---------------------------
+
+    /**
+     * Gets the length above which the {@code parallel} variants split the
+     * ranges, which is also the length of the chunks.
+     * @return   the threshold.
+     */
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Changes the length above which the {@code parallel} variants split the
+     * ranges, which is also the length of the chunks.
+     * @param   threshold   the new threshold.
+     * @exception   IllegalArgumentException   if the threshold is not
+     *                                         positive.
+     */
+    public static void setParallelThreshold(int threshold) {
+        if (0 >= threshold) {
+            var message = getBadThresholdErrorMessage(threshold);
+            throw new IllegalArgumentException(message);
+        }
+        parallelThreshold = threshold;
+    }
+
+
+//---------------------------
+// Sums
+//---------------------------
+
+    /**
+     * Sums a range of the array. The sum wraps around on overflow.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the sum, {@code 0} for an empty range.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public static long sum(long[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        long sum = sumBetween(array, off, off + len);
+        return sum;
+    }
+
+    /**
+     * Sums a range of the array with many threads.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the sum.
+     * @see #sum(long[], int, int)
+     */
+    public static long parallelSum(long[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        int grain = parallelThreshold;
+        long sum;
+        if (len <= grain) {
+            sum = sumBetween(array, off, off + len);
+        }
+        else {
+            var sums = new long[chunks(len, grain)];
+            forEachChunk(off, len, grain, (chunk, from, to) -> sums[chunk] = sumBetween(array, from, to));
+            sum = sumBetween(sums, 0, sums.length);
+        }
+        return sum;
+    }
+
+    /**
+     * Sums a range of the array.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   compensated   {@code true} to carry on the rounding errors,
+     *                        {@code false} to add the terms as they come.
+     * @return   the sum, {@code 0.0} for an empty range.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public static double sum(double[] array, int off, int len, boolean compensated) {
+        Arrays.checkArray(array, off, len);
+        double sum;
+        if (compensated) {
+            var sums = new double[2];
+            compensatedSum(array, off, off + len, sums, 0);
+            sum = sums[0] + sums[1];
+        }
+        else {
+            sum = fastSum(array, off, off + len);
+        }
+        return sum;
+    }
+
+    /**
+     * Sums a range of the array with many threads.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   compensated   {@code true} to carry on the rounding errors,
+     *                        {@code false} to add the terms as they come.
+     * @return   the sum.
+     * @see #sum(double[], int, int, boolean)
+     */
+    public static double parallelSum(double[] array, int off, int len, boolean compensated) {
+        Arrays.checkArray(array, off, len);
+        int grain = parallelThreshold;
+        double sum;
+        if (len <= grain) {
+            sum = sum(array, off, len, compensated);
+        }
+        else if (compensated) {
+            var sums = new double[2 * chunks(len, grain)];
+            forEachChunk(off, len, grain, (chunk, from, to) -> compensatedSum(array, from, to, sums, 2 * chunk));
+            sum = combine(sums);
+        }
+        else {
+            var sums = new double[chunks(len, grain)];
+            forEachChunk(off, len, grain, (chunk, from, to) -> sums[chunk] = fastSum(array, from, to));
+            sum = fastSum(sums, 0, sums.length);
+        }
+        return sum;
+    }
+
+
+//---------------------------
+// Minima and maxima
+//---------------------------
+
+    /**
+     * Finds the smallest element of a range of the array.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the smallest element, {@link Long#MAX_VALUE} for an empty
+     *           range.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public static long min(long[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        long min = minBetween(array, off, off + len);
+        return min;
+    }
+
+    /**
+     * Finds the smallest element of a range of the array with many threads.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the smallest element.
+     * @see #min(long[], int, int)
+     */
+    public static long parallelMin(long[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        int grain = parallelThreshold;
+        long min;
+        if (len <= grain) {
+            min = minBetween(array, off, off + len);
+        }
+        else {
+            var mins = new long[chunks(len, grain)];
+            forEachChunk(off, len, grain, (chunk, from, to) -> mins[chunk] = minBetween(array, from, to));
+            min = minBetween(mins, 0, mins.length);
+        }
+        return min;
+    }
+
+    /**
+     * Finds the largest element of a range of the array.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the largest element, {@link Long#MIN_VALUE} for an empty
+     *           range.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public static long max(long[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        long max = maxBetween(array, off, off + len);
+        return max;
+    }
+
+    /**
+     * Finds the largest element of a range of the array with many threads.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the largest element.
+     * @see #max(long[], int, int)
+     */
+    public static long parallelMax(long[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        int grain = parallelThreshold;
+        long max;
+        if (len <= grain) {
+            max = maxBetween(array, off, off + len);
+        }
+        else {
+            var maxs = new long[chunks(len, grain)];
+            forEachChunk(off, len, grain, (chunk, from, to) -> maxs[chunk] = maxBetween(array, from, to));
+            max = maxBetween(maxs, 0, maxs.length);
+        }
+        return max;
+    }
+
+    /**
+     * Finds the smallest element of a range of the array.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the smallest element, {@link Double#POSITIVE_INFINITY} for an
+     *           empty range.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public static double min(double[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        double min = minBetween(array, off, off + len);
+        return min;
+    }
+
+    /**
+     * Finds the smallest element of a range of the array with many threads.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the smallest element.
+     * @see #min(double[], int, int)
+     */
+    public static double parallelMin(double[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        int grain = parallelThreshold;
+        double min;
+        if (len <= grain) {
+            min = minBetween(array, off, off + len);
+        }
+        else {
+            var mins = new double[chunks(len, grain)];
+            forEachChunk(off, len, grain, (chunk, from, to) -> mins[chunk] = minBetween(array, from, to));
+            min = minBetween(mins, 0, mins.length);
+        }
+        return min;
+    }
+
+    /**
+     * Finds the largest element of a range of the array.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the largest element, {@link Double#NEGATIVE_INFINITY} for an
+     *           empty range.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public static double max(double[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        double max = maxBetween(array, off, off + len);
+        return max;
+    }
+
+    /**
+     * Finds the largest element of a range of the array with many threads.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the largest element.
+     * @see #max(double[], int, int)
+     */
+    public static double parallelMax(double[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        int grain = parallelThreshold;
+        double max;
+        if (len <= grain) {
+            max = maxBetween(array, off, off + len);
+        }
+        else {
+            var maxs = new double[chunks(len, grain)];
+            forEachChunk(off, len, grain, (chunk, from, to) -> maxs[chunk] = maxBetween(array, from, to));
+            max = maxBetween(maxs, 0, maxs.length);
+        }
+        return max;
+    }
+
+
+//---------------------------
+// Indices of the minima and maxima
+//---------------------------
+
+    /**
+     * Finds the index of the first smallest element of a range of the array.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the index in the array, {@code -1} for an empty range.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public static int argmin(long[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        int index = argminBetween(array, off, off + len);
+        return index;
+    }
+
+    /**
+     * Finds the index of the first smallest element of a range of the array
+     * with many threads.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the index in the array.
+     * @see #argmin(long[], int, int)
+     */
+    public static int parallelArgmin(long[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        int grain = parallelThreshold;
+        int index;
+        if (len <= grain) {
+            index = argminBetween(array, off, off + len);
+        }
+        else {
+            var indices = new int[chunks(len, grain)];
+            forEachChunk(off, len, grain, (chunk, from, to) -> indices[chunk] = argminBetween(array, from, to));
+            index = indices[0];
+            for (int i : indices) {
+                if (array[i] < array[index]) {
+                    index = i;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Finds the index of the first largest element of a range of the array.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the index in the array, {@code -1} for an empty range.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public static int argmax(long[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        int index = argmaxBetween(array, off, off + len);
+        return index;
+    }
+
+    /**
+     * Finds the index of the first largest element of a range of the array
+     * with many threads.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the index in the array.
+     * @see #argmax(long[], int, int)
+     */
+    public static int parallelArgmax(long[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        int grain = parallelThreshold;
+        int index;
+        if (len <= grain) {
+            index = argmaxBetween(array, off, off + len);
+        }
+        else {
+            var indices = new int[chunks(len, grain)];
+            forEachChunk(off, len, grain, (chunk, from, to) -> indices[chunk] = argmaxBetween(array, from, to));
+            index = indices[0];
+            for (int i : indices) {
+                if (array[i] > array[index]) {
+                    index = i;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Finds the index of the first smallest element of a range of the array.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the index in the array, {@code -1} for an empty range.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public static int argmin(double[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        int index = argminBetween(array, off, off + len);
+        return index;
+    }
+
+    /**
+     * Finds the index of the first smallest element of a range of the array
+     * with many threads.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the index in the array.
+     * @see #argmin(double[], int, int)
+     */
+    public static int parallelArgmin(double[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        int grain = parallelThreshold;
+        int index;
+        if (len <= grain) {
+            index = argminBetween(array, off, off + len);
+        }
+        else {
+            var indices = new int[chunks(len, grain)];
+            forEachChunk(off, len, grain, (chunk, from, to) -> indices[chunk] = argminBetween(array, from, to));
+            index = indices[0];
+            for (int i : indices) {
+                if (isBelow(array[i], array[index])) {
+                    index = i;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Finds the index of the first largest element of a range of the array.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the index in the array, {@code -1} for an empty range.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public static int argmax(double[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        int index = argmaxBetween(array, off, off + len);
+        return index;
+    }
+
+    /**
+     * Finds the index of the first largest element of a range of the array
+     * with many threads.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @return   the index in the array.
+     * @see #argmax(double[], int, int)
+     */
+    public static int parallelArgmax(double[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        int grain = parallelThreshold;
+        int index;
+        if (len <= grain) {
+            index = argmaxBetween(array, off, off + len);
+        }
+        else {
+            var indices = new int[chunks(len, grain)];
+            forEachChunk(off, len, grain, (chunk, from, to) -> indices[chunk] = argmaxBetween(array, from, to));
+            index = indices[0];
+            for (int i : indices) {
+                if (isAbove(array[i], array[index])) {
+                    index = i;
+                }
+            }
+        }
+        return index;
+    }
+
+
+//---------------------------
+// Dot products
+//---------------------------
+
+    /**
+     * Computes the dot product of two ranges. The sum wraps around on
+     * overflow.
+     * @param   a   the first array.
+     * @param   aOff   the offset of the range in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset of the range in the second array.
+     * @param   len   the length of the ranges.
+     * @return   the dot product, {@code 0} for empty ranges.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public static long dot(long[] a, int aOff, long[] b, int bOff, int len) {
+        Arrays.checkArray(a, aOff, len);
+        Arrays.checkArray(b, bOff, len);
+        long dot = dotBetween(a, aOff, aOff + len, b, bOff - aOff);
+        return dot;
+    }
+
+    /**
+     * Computes the dot product of two ranges with many threads.
+     * @param   a   the first array.
+     * @param   aOff   the offset of the range in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset of the range in the second array.
+     * @param   len   the length of the ranges.
+     * @return   the dot product.
+     * @see #dot(long[], int, long[], int, int)
+     */
+    public static long parallelDot(long[] a, int aOff, long[] b, int bOff, int len) {
+        Arrays.checkArray(a, aOff, len);
+        Arrays.checkArray(b, bOff, len);
+        int grain = parallelThreshold;
+        int shift = bOff - aOff;
+        long dot;
+        if (len <= grain) {
+            dot = dotBetween(a, aOff, aOff + len, b, shift);
+        }
+        else {
+            var dots = new long[chunks(len, grain)];
+            forEachChunk(aOff, len, grain, (chunk, from, to) -> dots[chunk] = dotBetween(a, from, to, b, shift));
+            dot = sumBetween(dots, 0, dots.length);
+        }
+        return dot;
+    }
+
+    /**
+     * Computes the dot product of two ranges.
+     * @param   a   the first array.
+     * @param   aOff   the offset of the range in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset of the range in the second array.
+     * @param   len   the length of the ranges.
+     * @param   compensated   {@code true} to carry on the rounding errors,
+     *                        {@code false} to add the products as they come.
+     * @return   the dot product, {@code 0.0} for empty ranges.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public static double dot(double[] a, int aOff, double[] b, int bOff, int len, boolean compensated) {
+        Arrays.checkArray(a, aOff, len);
+        Arrays.checkArray(b, bOff, len);
+        int shift = bOff - aOff;
+        double dot;
+        if (compensated) {
+            var dots = new double[2];
+            compensatedDot(a, aOff, aOff + len, b, shift, dots, 0);
+            dot = dots[0] + dots[1];
+        }
+        else {
+            dot = fastDot(a, aOff, aOff + len, b, shift);
+        }
+        return dot;
+    }
+
+    /**
+     * Computes the dot product of two ranges with many threads.
+     * @param   a   the first array.
+     * @param   aOff   the offset of the range in the first array.
+     * @param   b   the second array.
+     * @param   bOff   the offset of the range in the second array.
+     * @param   len   the length of the ranges.
+     * @param   compensated   {@code true} to carry on the rounding errors,
+     *                        {@code false} to add the products as they come.
+     * @return   the dot product.
+     * @see #dot(double[], int, double[], int, int, boolean)
+     */
+    public static double parallelDot(double[] a, int aOff, double[] b, int bOff, int len, boolean compensated) {
+        Arrays.checkArray(a, aOff, len);
+        Arrays.checkArray(b, bOff, len);
+        int grain = parallelThreshold;
+        int shift = bOff - aOff;
+        double dot;
+        if (len <= grain) {
+            dot = dot(a, aOff, b, bOff, len, compensated);
+        }
+        else if (compensated) {
+            var dots = new double[2 * chunks(len, grain)];
+            forEachChunk(aOff, len, grain, (chunk, from, to) -> compensatedDot(a, from, to, b, shift, dots, 2 * chunk));
+            dot = combine(dots);
+        }
+        else {
+            var dots = new double[chunks(len, grain)];
+            forEachChunk(aOff, len, grain, (chunk, from, to) -> dots[chunk] = fastDot(a, from, to, b, shift));
+            dot = fastSum(dots, 0, dots.length);
+        }
+        return dot;
+    }
+
+
+//---------------------------
+// Prefix sums
+//---------------------------
+
+    /**
+     * Replaces each element of a range of the array by the sum of the
+     * elements of the range up to it, inclusive. The sums wrap around on
+     * overflow.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see Arrays#checkArray(long[], int, int)
+     */
+    public static void prefixSum(long[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        prefixSumBetween(array, off, off + len, 0L);
+    }
+
+    /**
+     * Replaces each element of a range of the array by the sum of the
+     * elements of the range up to it with many threads. The chunks are summed
+     * first, then the running totals are written starting from the sums of
+     * the chunks before, so the array is read twice.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @see #prefixSum(long[], int, int)
+     */
+    public static void parallelPrefixSum(long[] array, int off, int len) {
+        Arrays.checkArray(array, off, len);
+        int grain = parallelThreshold;
+        if (len <= grain) {
+            prefixSumBetween(array, off, off + len, 0L);
+        }
+        else {
+            int chunks = chunks(len, grain);
+            var carries = new long[chunks];
+            forEachChunk(off, (chunks - 1) * grain, grain, (chunk, from, to) -> carries[chunk + 1] = sumBetween(array, from, to));
+            for (int c = 1; c < chunks; c++) {
+                carries[c] += carries[c - 1];
+            }
+            forEachChunk(off, len, grain, (chunk, from, to) -> prefixSumBetween(array, from, to, carries[chunk]));
+        }
+    }
+
+    /**
+     * Replaces each element of a range of the array by the sum of the
+     * elements of the range up to it, inclusive.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   compensated   {@code true} to carry on the rounding errors,
+     *                        {@code false} to add the terms as they come.
+     * @see Arrays#checkArray(double[], int, int)
+     */
+    public static void prefixSum(double[] array, int off, int len, boolean compensated) {
+        Arrays.checkArray(array, off, len);
+        if (compensated) {
+            compensatedPrefixSum(array, off, off + len, 0.0, 0.0);
+        }
+        else {
+            fastPrefixSum(array, off, off + len, 0.0);
+        }
+    }
+
+    /**
+     * Replaces each element of a range of the array by the sum of the
+     * elements of the range up to it with many threads.
+     * @param   array   the array.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   compensated   {@code true} to carry on the rounding errors,
+     *                        {@code false} to add the terms as they come.
+     * @see #prefixSum(double[], int, int, boolean)
+     * @see #parallelPrefixSum(long[], int, int)
+     */
+    public static void parallelPrefixSum(double[] array, int off, int len, boolean compensated) {
+        Arrays.checkArray(array, off, len);
+        int grain = parallelThreshold;
+        if (len <= grain) {
+            prefixSum(array, off, len, compensated);
+        }
+        else if (compensated) {
+            int chunks = chunks(len, grain);
+            var carries = new double[2 * chunks];
+            forEachChunk(off, (chunks - 1) * grain, grain, (chunk, from, to) -> compensatedSum(array, from, to, carries, 2 * (chunk + 1)));
+            for (int c = 2; c < carries.length; c += 2) {
+                double s = carries[c - 2];
+                double x = carries[c];
+                double t = s + x;
+                carries[c + 1] += carries[c - 1] + roundOff(s, x, t);
+                carries[c] = t;
+            }
+            forEachChunk(off, len, grain, (chunk, from, to) -> compensatedPrefixSum(array, from, to, carries[2 * chunk], carries[2 * chunk + 1]));
+        }
+        else {
+            int chunks = chunks(len, grain);
+            var carries = new double[chunks];
+            forEachChunk(off, (chunks - 1) * grain, grain, (chunk, from, to) -> carries[chunk + 1] = fastSum(array, from, to));
+            for (int c = 1; c < chunks; c++) {
+                carries[c] += carries[c - 1];
+            }
+            forEachChunk(off, len, grain, (chunk, from, to) -> fastPrefixSum(array, from, to, carries[chunk]));
+        }
+    }
+
+
+//---------------------------
+// Reduction loops
+//---------------------------
+
+    /**
+     * Sums the elements between two indices.
+     * @param   array   the array.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @return   the sum.
+     */
+    private static long sumBetween(long[] array, int from, int to) {
+        long s0 = 0L;
+        long s1 = 0L;
+        long s2 = 0L;
+        long s3 = 0L;
+        int i = from;
+        for (int end = to - 3; i < end; i += 4) {
+            s0 += array[i];
+            s1 += array[i + 1];
+            s2 += array[i + 2];
+            s3 += array[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += array[i];
+        }
+        long sum = (s0 + s1) + (s2 + s3);
+        return sum;
+    }
+
+    /**
+     * Sums the elements between two indices as they come, in four
+     * interleaved sums.
+     * @param   array   the array.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @return   the sum.
+     */
+    private static double fastSum(double[] array, int from, int to) {
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double s2 = 0.0;
+        double s3 = 0.0;
+        int i = from;
+        for (int end = to - 3; i < end; i += 4) {
+            s0 += array[i];
+            s1 += array[i + 1];
+            s2 += array[i + 2];
+            s3 += array[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += array[i];
+        }
+        double sum = (s0 + s1) + (s2 + s3);
+        return sum;
+    }
+
+    /**
+     * Sums the elements between two indices carrying on the rounding errors,
+     * in two interleaved sums.
+     * @param   array   the array.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @param   sums   where to write the sum and the sum of its rounding
+     *                 errors.
+     * @param   at   the index of the sum in {@code sums}.
+     */
+    private static void compensatedSum(double[] array, int from, int to, double[] sums, int at) {
+        double s0 = 0.0;
+        double c0 = 0.0;
+        double s1 = 0.0;
+        double c1 = 0.0;
+        int i = from;
+        for (int end = to - 1; i < end; i += 2) {
+            double x0 = array[i];
+            double t0 = s0 + x0;
+            c0 += roundOff(s0, x0, t0);
+            s0 = t0;
+
+            double x1 = array[i + 1];
+            double t1 = s1 + x1;
+            c1 += roundOff(s1, x1, t1);
+            s1 = t1;
+        }
+        if (i < to) {
+            double x0 = array[i];
+            double t0 = s0 + x0;
+            c0 += roundOff(s0, x0, t0);
+            s0 = t0;
+        }
+        double t = s0 + s1;
+        sums[at] = t;
+        sums[at + 1] = c0 + c1 + roundOff(s0, s1, t);
+    }
+
+    /**
+     * Adds sums and their rounding errors carrying on the rounding errors.
+     * @param   sums   the sums and their rounding errors, interleaved.
+     * @return   the sum.
+     */
+    private static double combine(double[] sums) {
+        double s = 0.0;
+        double c = 0.0;
+        for (int i = 0; i < sums.length; i += 2) {
+            double x = sums[i];
+            double t = s + x;
+            c += roundOff(s, x, t) + sums[i + 1];
+            s = t;
+        }
+        double sum = s + c;
+        return sum;
+    }
+
+    /**
+     * Computes the rounding error of an addition, whichever term is larger.
+     * When the sum is infinite or NaN there is no error to carry, as in
+     * {@link java.util.DoubleSummaryStatistics#getSum()}, so that the
+     * compensated sum gives the plain one instead of {@code Inf - Inf}.
+     * @param   s   the first term.
+     * @param   x   the second term.
+     * @param   t   the rounded sum of the terms.
+     * @return   the rounding error, {@code 0.0} if {@code t} is not finite.
+     */
+    private static double roundOff(double s, double x, double t) {
+        double error = 0.0;
+        if (Double.isFinite(t)) {
+            error = (Math.abs(s) >= Math.abs(x)) ? (s - t) + x : (x - t) + s;
+        }
+        return error;
+    }
+
+    /**
+     * Computes the rounding error of a product.
+     * @param   x   the first factor.
+     * @param   y   the second factor.
+     * @param   p   the rounded product of the factors.
+     * @return   the rounding error, {@code 0.0} if {@code p} is not finite.
+     */
+    private static double productError(double x, double y, double p) {
+        double error = Double.isFinite(p) ? Math.fma(x, y, -p) : 0.0;
+        return error;
+    }
+
+    /**
+     * Finds the smallest element between two indices.
+     * @param   array   the array.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @return   the smallest element.
+     */
+    private static long minBetween(long[] array, int from, int to) {
+        long min = Long.MAX_VALUE;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Finds the largest element between two indices.
+     * @param   array   the array.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @return   the largest element.
+     */
+    private static long maxBetween(long[] array, int from, int to) {
+        long max = Long.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Finds the smallest element between two indices.
+     * @param   array   the array.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @return   the smallest element.
+     */
+    private static double minBetween(double[] array, int from, int to) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Finds the largest element between two indices.
+     * @param   array   the array.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @return   the largest element.
+     */
+    private static double maxBetween(double[] array, int from, int to) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Finds the index of the first smallest element between two indices.
+     * @param   array   the array.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @return   the index, {@code -1} if there are no elements.
+     */
+    private static int argminBetween(long[] array, int from, int to) {
+        int index = (from < to) ? from : -1;
+        for (int i = from + 1; i < to; i++) {
+            if (array[i] < array[index]) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Finds the index of the first largest element between two indices.
+     * @param   array   the array.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @return   the index, {@code -1} if there are no elements.
+     */
+    private static int argmaxBetween(long[] array, int from, int to) {
+        int index = (from < to) ? from : -1;
+        for (int i = from + 1; i < to; i++) {
+            if (array[i] > array[index]) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Finds the index of the first smallest element between two indices.
+     * @param   array   the array.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @return   the index, {@code -1} if there are no elements.
+     */
+    private static int argminBetween(double[] array, int from, int to) {
+        int index = (from < to) ? from : -1;
+        for (int i = from + 1; i < to; i++) {
+            if (isBelow(array[i], array[index])) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Finds the index of the first largest element between two indices.
+     * @param   array   the array.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @return   the index, {@code -1} if there are no elements.
+     */
+    private static int argmaxBetween(double[] array, int from, int to) {
+        int index = (from < to) ? from : -1;
+        for (int i = from + 1; i < to; i++) {
+            if (isAbove(array[i], array[index])) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Determines if a value is below the smallest so far, in the order of
+     * {@link Math#min(double, double)}.
+     * @param   x   the value.
+     * @param   min   the smallest value so far.
+     * @return   {@code true} if the value is smaller, {@code false} otherwise.
+     */
+    private static boolean isBelow(double x, double min) {
+        // only -0.0 and 0.0 are equal with different bits
+        boolean below = (x < min)
+                     || ((min == min) && ((x != x) || ((x == min) && (Double.doubleToRawLongBits(x) < Double.doubleToRawLongBits(min)))));
+        return below;
+    }
+
+    /**
+     * Determines if a value is above the largest so far, in the order of
+     * {@link Math#max(double, double)}.
+     * @param   x   the value.
+     * @param   max   the largest value so far.
+     * @return   {@code true} if the value is larger, {@code false} otherwise.
+     */
+    private static boolean isAbove(double x, double max) {
+        boolean above = (x > max)
+                     || ((max == max) && ((x != x) || ((x == max) && (Double.doubleToRawLongBits(x) > Double.doubleToRawLongBits(max)))));
+        return above;
+    }
+
+    /**
+     * Computes the dot product between two indices of the first array.
+     * @param   a   the first array.
+     * @param   from   the first index in the first array.
+     * @param   to   the index past the last one in the first array.
+     * @param   b   the second array.
+     * @param   shift   the distance from the indices of the first array to
+     *                  the ones of the second.
+     * @return   the dot product.
+     */
+    private static long dotBetween(long[] a, int from, int to, long[] b, int shift) {
+        long s0 = 0L;
+        long s1 = 0L;
+        int i = from;
+        for (int end = to - 1; i < end; i += 2) {
+            s0 += a[i] * b[i + shift];
+            s1 += a[i + 1] * b[i + 1 + shift];
+        }
+        if (i < to) {
+            s0 += a[i] * b[i + shift];
+        }
+        long dot = s0 + s1;
+        return dot;
+    }
+
+    /**
+     * Computes the dot product between two indices of the first array adding
+     * the products as they come, in four interleaved sums.
+     * @param   a   the first array.
+     * @param   from   the first index in the first array.
+     * @param   to   the index past the last one in the first array.
+     * @param   b   the second array.
+     * @param   shift   the distance from the indices of the first array to
+     *                  the ones of the second.
+     * @return   the dot product.
+     */
+    private static double fastDot(double[] a, int from, int to, double[] b, int shift) {
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double s2 = 0.0;
+        double s3 = 0.0;
+        int i = from;
+        for (int end = to - 3; i < end; i += 4) {
+            s0 += a[i] * b[i + shift];
+            s1 += a[i + 1] * b[i + 1 + shift];
+            s2 += a[i + 2] * b[i + 2 + shift];
+            s3 += a[i + 3] * b[i + 3 + shift];
+        }
+        for (; i < to; i++) {
+            s0 += a[i] * b[i + shift];
+        }
+        double dot = (s0 + s1) + (s2 + s3);
+        return dot;
+    }
+
+    /**
+     * Computes the dot product between two indices of the first array
+     * carrying on the rounding errors of the products and of the sum.
+     * @param   a   the first array.
+     * @param   from   the first index in the first array.
+     * @param   to   the index past the last one in the first array.
+     * @param   b   the second array.
+     * @param   shift   the distance from the indices of the first array to
+     *                  the ones of the second.
+     * @param   dots   where to write the dot product and the sum of its
+     *                 rounding errors.
+     * @param   at   the index of the dot product in {@code dots}.
+     */
+    private static void compensatedDot(double[] a, int from, int to, double[] b, int shift, double[] dots, int at) {
+        double s = 0.0;
+        double c = 0.0;
+        for (int i = from; i < to; i++) {
+            double x = a[i];
+            double y = b[i + shift];
+            double p = x * y;
+            double t = s + p;
+            c += roundOff(s, p, t) + productError(x, y, p);
+            s = t;
+        }
+        dots[at] = s;
+        dots[at + 1] = c;
+    }
+
+    /**
+     * Writes the running totals between two indices.
+     * @param   array   the array.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @param   carry   the sum of the elements before.
+     */
+    private static void prefixSumBetween(long[] array, int from, int to, long carry) {
+        long s = carry;
+        for (int i = from; i < to; i++) {
+            s += array[i];
+            array[i] = s;
+        }
+    }
+
+    /**
+     * Writes the running totals between two indices adding the terms as they
+     * come.
+     * @param   array   the array.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @param   carry   the sum of the elements before.
+     */
+    private static void fastPrefixSum(double[] array, int from, int to, double carry) {
+        double s = carry;
+        for (int i = from; i < to; i++) {
+            s += array[i];
+            array[i] = s;
+        }
+    }
+
+    /**
+     * Writes the running totals between two indices carrying on the rounding
+     * errors.
+     * @param   array   the array.
+     * @param   from   the first index.
+     * @param   to   the index past the last one.
+     * @param   carry   the sum of the elements before.
+     * @param   error   the rounding error of the sum of the elements before.
+     */
+    private static void compensatedPrefixSum(double[] array, int from, int to, double carry, double error) {
+        double s = carry;
+        double c = error;
+        for (int i = from; i < to; i++) {
+            double x = array[i];
+            double t = s + x;
+            c += roundOff(s, x, t);
+            s = t;
+            array[i] = s + c;
+        }
+    }
+
+
+//---------------------------
+// Class methods
+//---------------------------
+
+    /**
+     * Counts the chunks of a range.
+     * @param   len   the length of the range.
+     * @param   grain   the length of the chunks.
+     * @return   the number of chunks.
+     */
+    private static int chunks(int len, int grain) {
+        int chunks = (int) ((len + (long) grain - 1L) / grain);
+        return chunks;
+    }
+
+    /**
+     * Works on the chunks of a range on the common {@link ForkJoinPool}.
+     * @param   off   the offset of the range.
+     * @param   len   the length of the range.
+     * @param   grain   the length of the chunks.
+     * @param   body   the work to do on each chunk.
+     */
+    private static void forEachChunk(int off, int len, int grain, Chunk body) {
+        ParallelRange.forEach(0, chunks(len, grain), 1, (first, last) -> {
+            for (int chunk = first; chunk < last; chunk++) {
+                int from = off + (int) Math.min(len, (long) chunk * grain);
+                int to = off + (int) Math.min(len, (chunk + 1L) * grain);
+                body.apply(chunk, from, to);
+            }
+        });
+    }
+
+
+//---------------------------
+// Error message class methods
+//---------------------------
+
+    /**
+     * Gets the error message telling that the parallel threshold is not
+     * positive.
+     * @param   threshold   the bad threshold.
+     * @return   the formatted message.
+     */
+    protected static String getBadThresholdErrorMessage(int threshold) {
+        var key = Resources.REDUCTIONS_BAD_THRESHOLD;
+        var message = Resources.getLocalizedString(key, threshold);
+        return message;
+    }
+
+}
@@ -42,6 +42,42 @@ class Resources {
     /** The key for the message when next() does not have elements. */
     public static final String ARRAYS_END_NOT_WITHIN_BOUNDS = "arrays.end.not.within.bounds";
 
+    /** The key for the message when a variable-length integer is too long. */
+    public static final String BITS_MALFORMED_VARINT = "bits.malformed.varint";
+    /** The key for the message when bytes cannot be swapped in elements of the given width. */
+    public static final String BITS_BAD_SWAP_WIDTH = "bits.bad.swap.width";
+
+    /** The key for the message when a packed block has an impossible bit width. */
+    public static final String FRAME_OF_REFERENCE_BAD_WIDTH = "frame.of.reference.bad.width";
+
+    /** The key for the message when the length of an off-heap array is negative. */
+    public static final String OFF_HEAP_ARRAY_NEGATIVE_LENGTH = "off.heap.array.negative.length";
+    /** The key for the message when an off-heap array is used after being closed. */
+    public static final String OFF_HEAP_ARRAY_CLOSED = "off.heap.array.closed";
+
+    /** The key for the message when the length of a big array is negative. */
+    public static final String BIG_ARRAY_NEGATIVE_LENGTH = "big.array.negative.length";
+
+    /** The key for the message when the capacity of a list is negative. */
+    public static final String ARRAY_LIST_NEGATIVE_CAPACITY = "array.list.negative.capacity";
+
+    /** The key for the message when the load factor of a hash table is not within ]0, 1[. */
+    public static final String HASH_BAD_LOAD_FACTOR = "hash.bad.load.factor";
+    /** The key for the message when a hash table cannot grow anymore. */
+    public static final String HASH_TOO_LARGE = "hash.too.large";
+
+    /** The key for the message when a payload to sort is not an array. */
+    public static final String RADIX_SORT_BAD_PAYLOAD = "radix.sort.bad.payload";
+
+    /** The key for the message when the parallel threshold of the reductions is not positive. */
+    public static final String REDUCTIONS_BAD_THRESHOLD = "reductions.bad.threshold";
+
+    /** The key for the message when the capacity of a ring buffer is not a positive power of two. */
+    public static final String RING_BUFFER_BAD_CAPACITY = "ring.buffer.bad.capacity";
+
+    /** The key for the message when the elements of a sorted index are not sorted. */
+    public static final String SORTED_INDEX_NOT_SORTED = "sorted.index.not.sorted";
+
 
 //---------------------------
 // Constructor
@@ -0,0 +1,209 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Class {@code SpscLongRingBuffer} is a bounded lock-free queue of
+ * {@code long}s between a single producer thread and a single consumer
+ * thread, without boxing. It works like {@link SpscRingBuffer}.
+ * <p>
+ * Using the buffer from more than one producer or more than one consumer at a
+ * time corrupts it.
+ *
+ * @see MpscLongRingBuffer
+ */
+public class SpscLongRingBuffer extends AbstractRingBuffer {
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The slots. */
+    private final long[] _values;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructor with the {@link WaitStrategy#PARK} wait.
+     * @param   capacity   the maximum number of values, a power of two.
+     * @exception   IllegalArgumentException   if the capacity is not a
+     *                                         positive power of two.
+     */
+    public SpscLongRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.PARK);
+    }
+
+    /**
+     * Constructor.
+     * @param   capacity   the maximum number of values, a power of two.
+     * @param   waitStrategy   what the threads do while they wait.
+     * @exception   IllegalArgumentException   if the capacity is not a
+     *                                         positive power of two.
+     * @exception   NullPointerException   if the wait strategy is
+     *                                     {@code null}.
+     */
+    public SpscLongRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+        _values = new long[capacity];
+    }
+
+
+//---------------------------
+// Producer methods
+//---------------------------
+
+    /**
+     * Adds a value if there is room.
+     * @param   value   the value.
+     * @return   {@code true} if the value was added, {@code false} if the
+     *           buffer is full.
+     */
+    public boolean offer(long value) {
+        var sequences = _sequences;
+        long tail = sequences[TAIL];
+        if (tail - sequences[HEAD_CACHE] >= getCapacity()) {
+            sequences[HEAD_CACHE] = head();
+            if (tail - sequences[HEAD_CACHE] >= getCapacity()) {
+                return false;
+            }
+        }
+        _values[slot(tail)] = value;
+        SEQUENCES.setRelease(sequences, TAIL, tail + 1L);
+        return true;
+    }
+
+    /**
+     * Adds a value, waiting for room.
+     * @param   value   the value.
+     * @exception   InterruptedException   if the thread is interrupted while
+     *                                     it waits.
+     */
+    public void put(long value) throws InterruptedException {
+        for (int attempts = 0; false == offer(value); attempts = nextAttempt(attempts)) {
+            idle(attempts);
+        }
+    }
+
+    /**
+     * Adds the values of a supplier while there is room, publishing them all
+     * at once. If the supplier fails, the values it gave before are still
+     * added.
+     * @param   supplier   the supplier of the values.
+     * @param   limit   the maximum number of values.
+     * @return   the number of values added.
+     */
+    public int fill(LongSupplier supplier, int limit) {
+        var sequences = _sequences;
+        long tail = sequences[TAIL];
+        long head = head();
+        sequences[HEAD_CACHE] = head;
+        int count = (int) Math.max(0L, Math.min(limit, getCapacity() - (tail - head)));
+        var values = _values;
+        int i = 0;
+        try {
+            for (; i < count; i++) {
+                values[slot(tail + i)] = supplier.getAsLong();
+            }
+        }
+        finally {
+            if (0 < i) {
+                SEQUENCES.setRelease(sequences, TAIL, tail + i);
+            }
+        }
+        return count;
+    }
+
+
+//---------------------------
+// Consumer methods
+//---------------------------
+
+    /**
+     * Removes the oldest value.
+     * @param   defaultValue   the value if the buffer is empty.
+     * @return   the value, or {@code defaultValue} if the buffer is empty.
+     */
+    public long poll(long defaultValue) {
+        var sequences = _sequences;
+        long head = sequences[HEAD];
+        if (head >= sequences[TAIL_CACHE]) {
+            sequences[TAIL_CACHE] = tail();
+            if (head >= sequences[TAIL_CACHE]) {
+                return defaultValue;
+            }
+        }
+        long value = _values[slot(head)];
+        SEQUENCES.setRelease(sequences, HEAD, head + 1L);
+        return value;
+    }
+
+    /**
+     * Removes the oldest value, waiting for one.
+     * @return   the value.
+     * @exception   InterruptedException   if the thread is interrupted while
+     *                                     it waits.
+     */
+    public long take() throws InterruptedException {
+        for (int attempts = 0; isEmpty(); attempts = nextAttempt(attempts)) {
+            idle(attempts);
+        }
+        long value = poll(0L);
+        return value;
+    }
+
+    /**
+     * Looks at the oldest value without removing it.
+     * @param   defaultValue   the value if the buffer is empty.
+     * @return   the value, or {@code defaultValue} if the buffer is empty.
+     */
+    public long peek(long defaultValue) {
+        long head = _sequences[HEAD];
+        long value = (head < tail()) ? _values[slot(head)] : defaultValue;
+        return value;
+    }
+
+    /**
+     * Removes the available values, oldest first, and hands them to a
+     * consumer. The room is given back to the producer after each value.
+     * @param   consumer   the consumer of the values.
+     * @param   limit   the maximum number of values.
+     * @return   the number of values removed.
+     */
+    public int drain(LongConsumer consumer, int limit) {
+        var sequences = _sequences;
+        long head = sequences[HEAD];
+        long tail = tail();
+        sequences[TAIL_CACHE] = tail;
+        int count = (int) Math.max(0L, Math.min(limit, tail - head));
+        var values = _values;
+        for (int i = 0; i < count; i++) {
+            long value = values[slot(head + i)];
+            SEQUENCES.setRelease(sequences, HEAD, head + i + 1L);
+            consumer.accept(value);
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Class {@code SpscRingBuffer} is a bounded lock-free queue between a single
+ * producer thread and a single consumer thread. Each side owns its sequence
+ * and only reads the other one when its cached copy says the buffer is full or
+ * empty, so a steady stream of elements costs no atomic instruction.
+ * <p>
+ * The elements cannot be {@code null}. Using the buffer from more than one
+ * producer or more than one consumer at a time corrupts it.
+ *
+ * @param   <E>   the type of the elements.
+ * @see MpscRingBuffer
+ */
+public class SpscRingBuffer<E> extends AbstractRingBuffer {
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The slots. */
+    private final Object[] _elements;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructor with the {@link WaitStrategy#PARK} wait.
+     * @param   capacity   the maximum number of elements, a power of two.
+     * @exception   IllegalArgumentException   if the capacity is not a
+     *                                         positive power of two.
+     */
+    public SpscRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.PARK);
+    }
+
+    /**
+     * Constructor.
+     * @param   capacity   the maximum number of elements, a power of two.
+     * @param   waitStrategy   what the threads do while they wait.
+     * @exception   IllegalArgumentException   if the capacity is not a
+     *                                         positive power of two.
+     * @exception   NullPointerException   if the wait strategy is
+     *                                     {@code null}.
+     */
+    public SpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+        _elements = new Object[capacity];
+    }
+
+
+//---------------------------
+// Producer methods
+//---------------------------
+
+    /**
+     * Adds an element if there is room.
+     * @param   element   the element.
+     * @return   {@code true} if the element was added, {@code false} if the
+     *           buffer is full.
+     * @exception   NullPointerException   if the element is {@code null}.
+     */
+    public boolean offer(E element) {
+        Arrays.checkNull(element);
+        var sequences = _sequences;
+        long tail = sequences[TAIL];
+        if (tail - sequences[HEAD_CACHE] >= getCapacity()) {
+            sequences[HEAD_CACHE] = head();
+            if (tail - sequences[HEAD_CACHE] >= getCapacity()) {
+                return false;
+            }
+        }
+        _elements[slot(tail)] = element;
+        SEQUENCES.setRelease(sequences, TAIL, tail + 1L);
+        return true;
+    }
+
+    /**
+     * Adds an element, waiting for room.
+     * @param   element   the element.
+     * @exception   NullPointerException   if the element is {@code null}.
+     * @exception   InterruptedException   if the thread is interrupted while
+     *                                     it waits.
+     */
+    public void put(E element) throws InterruptedException {
+        for (int attempts = 0; false == offer(element); attempts = nextAttempt(attempts)) {
+            idle(attempts);
+        }
+    }
+
+    /**
+     * Adds the elements of a supplier while there is room, publishing them all
+     * at once. If the supplier fails, the elements it gave before are still
+     * added.
+     * @param   supplier   the supplier of the elements.
+     * @param   limit   the maximum number of elements.
+     * @return   the number of elements added.
+     * @exception   NullPointerException   if the supplier gives a
+     *                                     {@code null}.
+     */
+    public int fill(Supplier<? extends E> supplier, int limit) {
+        var sequences = _sequences;
+        long tail = sequences[TAIL];
+        long head = head();
+        sequences[HEAD_CACHE] = head;
+        int count = (int) Math.max(0L, Math.min(limit, getCapacity() - (tail - head)));
+        var elements = _elements;
+        int i = 0;
+        try {
+            for (; i < count; i++) {
+                E element = supplier.get();
+                Arrays.checkNull(element);
+                elements[slot(tail + i)] = element;
+            }
+        }
+        finally {
+            if (0 < i) {
+                SEQUENCES.setRelease(sequences, TAIL, tail + i);
+            }
+        }
+        return count;
+    }
+
+
+//---------------------------
+// Consumer methods
+//---------------------------
+
+    /**
+     * Removes the oldest element.
+     * @return   the element, or {@code null} if the buffer is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        var sequences = _sequences;
+        long head = sequences[HEAD];
+        if (head >= sequences[TAIL_CACHE]) {
+            sequences[TAIL_CACHE] = tail();
+            if (head >= sequences[TAIL_CACHE]) {
+                return null;
+            }
+        }
+        int slot = slot(head);
+        var element = (E) _elements[slot];
+        _elements[slot] = null;
+        SEQUENCES.setRelease(sequences, HEAD, head + 1L);
+        return element;
+    }
+
+    /**
+     * Removes the oldest element, waiting for one.
+     * @return   the element.
+     * @exception   InterruptedException   if the thread is interrupted while
+     *                                     it waits.
+     */
+    public E take() throws InterruptedException {
+        E element = poll();
+        for (int attempts = 0; null == element; attempts = nextAttempt(attempts)) {
+            idle(attempts);
+            element = poll();
+        }
+        return element;
+    }
+
+    /**
+     * Looks at the oldest element without removing it.
+     * @return   the element, or {@code null} if the buffer is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        var sequences = _sequences;
+        long head = sequences[HEAD];
+        E element = (head < tail()) ? (E) _elements[slot(head)] : null;
+        return element;
+    }
+
+    /**
+     * Removes the available elements, oldest first, and hands them to a
+     * consumer. The room is given back to the producer after each element.
+     * @param   consumer   the consumer of the elements.
+     * @param   limit   the maximum number of elements.
+     * @return   the number of elements removed.
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super E> consumer, int limit) {
+        var sequences = _sequences;
+        long head = sequences[HEAD];
+        long tail = tail();
+        sequences[TAIL_CACHE] = tail;
+        int count = (int) Math.max(0L, Math.min(limit, tail - head));
+        var elements = _elements;
+        for (int i = 0; i < count; i++) {
+            int slot = slot(head + i);
+            var element = (E) elements[slot];
+            elements[slot] = null;
+            SEQUENCES.setRelease(sequences, HEAD, head + i + 1L);
+            consumer.accept(element);
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.nio.ByteOrder;
+import java.util.zip.Checksum;
+
+/**
+ * Class {@code StreamingHash} is the base of the non-cryptographic hash
+ * functions that can be computed piece by piece. Being a {@link Checksum}, it
+ * can be used wherever the core library expects one. Primitive arrays and
+ * character sequences are hashed as their little-endian bytes, through a small
+ * scratch buffer owned by the instance, so nothing is allocated per update.
+ */
+public abstract class StreamingHash implements Checksum {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The size of the scratch buffer. */
+    private static final int SCRATCH_SIZE = 256;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The buffer to convert primitive values into bytes. */
+    private final byte[] _scratch = new byte[SCRATCH_SIZE];
+
+
+//---------------------------
+// Constructor
+//---------------------------
+
+    /**
+     * Constructor.
+     */
+    protected StreamingHash() {
+        // nothing
+    }
+
+
+//---------------------------
+// Implemented methods from java.util.zip.Checksum
+//---------------------------
+
+    /**
+     * Updates the hash with one byte.
+     * @param   b   the byte, only the lowest 8 bits are used.
+     */
+    @Override
+    public void update(int b) {
+        _scratch[0] = (byte) b;
+        update(_scratch, 0, 1);
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Updates the hash with the {@code short}s, lowest byte first.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code short}s.
+     */
+    public void update(short[] a, int off, int len) {
+        Arrays.checkArray(a, off, len);
+        int step = SCRATCH_SIZE / Bits.NUM_OCTETS_IN_SHORT;
+        for (int i = 0; i < len; i += step) {
+            int count = Math.min(step, len - i);
+            Bits.encode(a, off + i, _scratch, 0, count, ByteOrder.LITTLE_ENDIAN);
+            update(_scratch, 0, count * Bits.NUM_OCTETS_IN_SHORT);
+        }
+    }
+
+    /**
+     * Updates the hash with the {@code char}s, lowest byte first.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code char}s.
+     */
+    public void update(char[] a, int off, int len) {
+        Arrays.checkArray(a, off, len);
+        int step = SCRATCH_SIZE / Bits.NUM_OCTETS_IN_CHAR;
+        for (int i = 0; i < len; i += step) {
+            int count = Math.min(step, len - i);
+            Bits.encode(a, off + i, _scratch, 0, count, ByteOrder.LITTLE_ENDIAN);
+            update(_scratch, 0, count * Bits.NUM_OCTETS_IN_CHAR);
+        }
+    }
+
+    /**
+     * Updates the hash with the {@code int}s, lowest byte first.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code int}s.
+     */
+    public void update(int[] a, int off, int len) {
+        Arrays.checkArray(a, off, len);
+        int step = SCRATCH_SIZE / Bits.NUM_OCTETS_IN_INT;
+        for (int i = 0; i < len; i += step) {
+            int count = Math.min(step, len - i);
+            Bits.encode(a, off + i, _scratch, 0, count, ByteOrder.LITTLE_ENDIAN);
+            update(_scratch, 0, count * Bits.NUM_OCTETS_IN_INT);
+        }
+    }
+
+    /**
+     * Updates the hash with the {@code long}s, lowest byte first.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code long}s.
+     */
+    public void update(long[] a, int off, int len) {
+        Arrays.checkArray(a, off, len);
+        int step = SCRATCH_SIZE / Bits.NUM_OCTETS_IN_LONG;
+        for (int i = 0; i < len; i += step) {
+            int count = Math.min(step, len - i);
+            Bits.encode(a, off + i, _scratch, 0, count, ByteOrder.LITTLE_ENDIAN);
+            update(_scratch, 0, count * Bits.NUM_OCTETS_IN_LONG);
+        }
+    }
+
+    /**
+     * Updates the hash with the {@code float}s, lowest byte first.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code float}s.
+     */
+    public void update(float[] a, int off, int len) {
+        Arrays.checkArray(a, off, len);
+        int step = SCRATCH_SIZE / Bits.NUM_OCTETS_IN_FLOAT;
+        for (int i = 0; i < len; i += step) {
+            int count = Math.min(step, len - i);
+            Bits.encode(a, off + i, _scratch, 0, count, ByteOrder.LITTLE_ENDIAN);
+            update(_scratch, 0, count * Bits.NUM_OCTETS_IN_FLOAT);
+        }
+    }
+
+    /**
+     * Updates the hash with the {@code double}s, lowest byte first.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code double}s.
+     */
+    public void update(double[] a, int off, int len) {
+        Arrays.checkArray(a, off, len);
+        int step = SCRATCH_SIZE / Bits.NUM_OCTETS_IN_DOUBLE;
+        for (int i = 0; i < len; i += step) {
+            int count = Math.min(step, len - i);
+            Bits.encode(a, off + i, _scratch, 0, count, ByteOrder.LITTLE_ENDIAN);
+            update(_scratch, 0, count * Bits.NUM_OCTETS_IN_DOUBLE);
+        }
+    }
+
+    /**
+     * Updates the hash with the UTF-16 code units of the characters, lowest
+     * byte first.
+     * @param   s   the characters.
+     */
+    public void update(CharSequence s) {
+        int len = s.length();
+        int step = SCRATCH_SIZE / Bits.NUM_OCTETS_IN_CHAR;
+        for (int i = 0; i < len; i += step) {
+            int count = Math.min(step, len - i);
+            for (int j = 0; j < count; j++) {
+                Bits.putChar(_scratch, j * Bits.NUM_OCTETS_IN_CHAR, s.charAt(i + j), ByteOrder.LITTLE_ENDIAN);
+            }
+            update(_scratch, 0, count * Bits.NUM_OCTETS_IN_CHAR);
+        }
+    }
+
+}
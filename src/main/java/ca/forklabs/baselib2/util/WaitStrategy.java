@@ -0,0 +1,87 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Interface {@code WaitStrategy} tells what a thread does while it waits on a
+ * ring buffer, full for a producer or empty for a consumer. Spinning reacts
+ * the fastest but burns a core, yielding leaves the core to the other threads
+ * and parking sleeps after spinning and yielding for a while, which suits
+ * buffers that are often idle.
+ *
+ * @see AbstractRingBuffer
+ */
+@FunctionalInterface
+public interface WaitStrategy {
+
+    /** The number of attempts spent spinning before yielding or parking. */
+    int SPIN_ATTEMPTS = 128;
+
+    /** The number of attempts spent yielding before parking. */
+    int YIELD_ATTEMPTS = 256;
+
+    /** The wait that keeps spinning. */
+    WaitStrategy SPIN = attempts -> Thread.onSpinWait();
+
+    /** The wait that spins for a while, then yields. */
+    WaitStrategy YIELD = attempts -> {
+        if (SPIN_ATTEMPTS > attempts) {
+            Thread.onSpinWait();
+        }
+        else {
+            Thread.yield();
+        }
+    };
+
+    /** The wait that spins, yields, then parks for a microsecond at a time. */
+    WaitStrategy PARK = parking(1_000L);
+
+
+    /**
+     * Waits once.
+     * @param   attempts   the number of times the thread has waited since it
+     *                     last made progress, starting at {@code 0} and
+     *                     staying at {@link Integer#MAX_VALUE} once there.
+     */
+    void idle(int attempts);
+
+    /**
+     * Creates a wait that spins, yields, then parks. The operating system may
+     * sleep longer than asked.
+     * @param   nanos   the time to park, in nanoseconds.
+     * @return   the wait.
+     */
+    static WaitStrategy parking(long nanos) {
+        WaitStrategy strategy = attempts -> {
+            if (SPIN_ATTEMPTS > attempts) {
+                Thread.onSpinWait();
+            }
+            else if (SPIN_ATTEMPTS + YIELD_ATTEMPTS > attempts) {
+                Thread.yield();
+            }
+            else {
+                LockSupport.parkNanos(nanos);
+            }
+        };
+        return strategy;
+    }
+
+}
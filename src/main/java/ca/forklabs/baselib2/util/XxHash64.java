@@ -0,0 +1,469 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Class {@code XxHash64} computes the 64-bit
+ * <a target="_blank" href="https://github.com/Cyan4973/xxHash">xxHash</a>
+ * of a sequence of bytes. It is a fast non-cryptographic hash function, fit
+ * for fingerprints and hash tables, but not for security.
+ * <p>
+ * The class methods hash a whole input at once. An instance hashes an input
+ * given piece by piece and gives the same value as the class methods over the
+ * concatenation of the pieces. Instances are not thread-safe.
+ */
+public class XxHash64 extends StreamingHash {
+
+//---------------------------
+// Class variables
+//---------------------------
+
+    /** The first prime. */
+    private static final long PRIME_1 = 0x9e3779b185ebca87L;
+    /** The second prime. */
+    private static final long PRIME_2 = 0xc2b2ae3d27d4eb4fL;
+    /** The third prime. */
+    private static final long PRIME_3 = 0x165667b19e3779f9L;
+    /** The fourth prime. */
+    private static final long PRIME_4 = 0x85ebca77c2b2ae63L;
+    /** The fifth prime. */
+    private static final long PRIME_5 = 0x27d4eb2f165667c5L;
+
+    /** The number of bytes processed at once by the four accumulators. */
+    private static final int STRIPE_SIZE = 32;
+
+
+//---------------------------
+// Instance variables
+//---------------------------
+
+    /** The seed. */
+    private final long _seed;
+
+    /** The first accumulator. */
+    private long _v1;
+    /** The second accumulator. */
+    private long _v2;
+    /** The third accumulator. */
+    private long _v3;
+    /** The fourth accumulator. */
+    private long _v4;
+
+    /** The total number of bytes hashed. */
+    private long _length;
+
+    /** The bytes not yet making a whole stripe. */
+    private final byte[] _stripe = new byte[STRIPE_SIZE];
+    /** The number of bytes in {@link #_stripe}. */
+    private int _stripeLength;
+
+
+//---------------------------
+// Constructors
+//---------------------------
+
+    /**
+     * Constructs a hash with a seed of zero.
+     */
+    public XxHash64() {
+        this(0L);
+    }
+
+    /**
+     * Constructs a hash with the given seed.
+     * @param   seed   the seed.
+     */
+    public XxHash64(long seed) {
+        _seed = seed;
+        reset();
+    }
+
+
+//---------------------------
+// Implemented methods from java.util.zip.Checksum
+//---------------------------
+
+    /**
+     * Updates the hash with the bytes.
+     * @param   b   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of bytes.
+     */
+    @Override
+    public void update(byte[] b, int off, int len) {
+        Arrays.checkArray(b, off, len);
+        _length += len;
+
+        int offset = off;
+        int end = off + len;
+        if (0 < _stripeLength) {
+            int count = Math.min(end - offset, STRIPE_SIZE - _stripeLength);
+            System.arraycopy(b, offset, _stripe, _stripeLength, count);
+            _stripeLength += count;
+            offset += count;
+            if (STRIPE_SIZE > _stripeLength) {
+                return;
+            }
+            stripe(_stripe, 0);
+            _stripeLength = 0;
+        }
+
+        for (; offset <= end - STRIPE_SIZE; offset += STRIPE_SIZE) {
+            stripe(b, offset);
+        }
+
+        _stripeLength = end - offset;
+        System.arraycopy(b, offset, _stripe, 0, _stripeLength);
+    }
+
+    /**
+     * Updates the hash with the remaining bytes of the buffer, leaving the
+     * position at the limit.
+     * @param   buffer   the buffer.
+     */
+    @Override
+    public void update(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            int position = buffer.position();
+            int len = buffer.remaining();
+            update(buffer.array(), buffer.arrayOffset() + position, len);
+            buffer.position(position + len);
+            return;
+        }
+
+        while (buffer.hasRemaining()) {
+            int count = Math.min(buffer.remaining(), STRIPE_SIZE - _stripeLength);
+            buffer.get(_stripe, _stripeLength, count);
+            _stripeLength += count;
+            _length += count;
+            if (STRIPE_SIZE == _stripeLength) {
+                stripe(_stripe, 0);
+                _stripeLength = 0;
+            }
+        }
+    }
+
+    /**
+     * Gets the hash of all the bytes so far. More bytes can be added afterward.
+     * @return   the hash.
+     */
+    @Override
+    public long getValue() {
+        long hash;
+        if (STRIPE_SIZE <= _length) {
+            hash = merge(_v1, _v2, _v3, _v4);
+        }
+        else {
+            hash = _seed + PRIME_5;
+        }
+        hash += _length;
+        hash = finish(hash, _stripe, 0, _stripeLength);
+        return hash;
+    }
+
+    /**
+     * Resets the hash to its initial value.
+     */
+    @Override
+    public void reset() {
+        _v1 = _seed + PRIME_1 + PRIME_2;
+        _v2 = _seed + PRIME_2;
+        _v3 = _seed;
+        _v4 = _seed - PRIME_1;
+        _length = 0L;
+        _stripeLength = 0;
+    }
+
+
+//---------------------------
+// Instance methods
+//---------------------------
+
+    /**
+     * Gets the seed.
+     * @return   the seed.
+     */
+    public long getSeed() {
+        return _seed;
+    }
+
+    /**
+     * Processes one stripe of bytes.
+     * @param   b   the array.
+     * @param   off   the offset of the stripe.
+     */
+    private void stripe(byte[] b, int off) {
+        _v1 = round(_v1, Bits.getLong(b, off, ByteOrder.LITTLE_ENDIAN));
+        _v2 = round(_v2, Bits.getLong(b, off + 8, ByteOrder.LITTLE_ENDIAN));
+        _v3 = round(_v3, Bits.getLong(b, off + 16, ByteOrder.LITTLE_ENDIAN));
+        _v4 = round(_v4, Bits.getLong(b, off + 24, ByteOrder.LITTLE_ENDIAN));
+    }
+
+
+//---------------------------
+// Class methods
+//---------------------------
+
+    /**
+     * Hashes the bytes.
+     * @param   b   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of bytes.
+     * @param   seed   the seed.
+     * @return   the hash.
+     */
+    public static long hash(byte[] b, int off, int len, long seed) {
+        Arrays.checkArray(b, off, len);
+
+        int offset = off;
+        int end = off + len;
+        long hash;
+        if (STRIPE_SIZE <= len) {
+            long v1 = seed + PRIME_1 + PRIME_2;
+            long v2 = seed + PRIME_2;
+            long v3 = seed;
+            long v4 = seed - PRIME_1;
+            for (; offset <= end - STRIPE_SIZE; offset += STRIPE_SIZE) {
+                v1 = round(v1, Bits.getLong(b, offset, ByteOrder.LITTLE_ENDIAN));
+                v2 = round(v2, Bits.getLong(b, offset + 8, ByteOrder.LITTLE_ENDIAN));
+                v3 = round(v3, Bits.getLong(b, offset + 16, ByteOrder.LITTLE_ENDIAN));
+                v4 = round(v4, Bits.getLong(b, offset + 24, ByteOrder.LITTLE_ENDIAN));
+            }
+            hash = merge(v1, v2, v3, v4);
+        }
+        else {
+            hash = seed + PRIME_5;
+        }
+        hash += len;
+        hash = finish(hash, b, offset, end - offset);
+        return hash;
+    }
+
+    /**
+     * Hashes the bytes with a seed of zero.
+     * @param   b   the array.
+     * @return   the hash.
+     */
+    public static long hash(byte[] b) {
+        long hash = hash(b, 0, b.length, 0L);
+        return hash;
+    }
+
+    /**
+     * Hashes the remaining bytes of the buffer. The position of the buffer does
+     * not move.
+     * @param   buffer   the buffer.
+     * @param   seed   the seed.
+     * @return   the hash.
+     */
+    public static long hash(ByteBuffer buffer, long seed) {
+        if (buffer.hasArray()) {
+            long hash = hash(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), seed);
+            return hash;
+        }
+        var xxhash = new XxHash64(seed);
+        xxhash.update(buffer.duplicate());
+        long hash = xxhash.getValue();
+        return hash;
+    }
+
+    /**
+     * Hashes the UTF-16 code units of the characters, lowest byte first.
+     * @param   s   the characters.
+     * @param   seed   the seed.
+     * @return   the hash.
+     */
+    public static long hash(CharSequence s, long seed) {
+        var xxhash = new XxHash64(seed);
+        xxhash.update(s);
+        long hash = xxhash.getValue();
+        return hash;
+    }
+
+    /**
+     * Hashes the {@code short}s, lowest byte first.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code short}s.
+     * @param   seed   the seed.
+     * @return   the hash.
+     */
+    public static long hash(short[] a, int off, int len, long seed) {
+        var xxhash = new XxHash64(seed);
+        xxhash.update(a, off, len);
+        long hash = xxhash.getValue();
+        return hash;
+    }
+
+    /**
+     * Hashes the {@code char}s, lowest byte first.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code char}s.
+     * @param   seed   the seed.
+     * @return   the hash.
+     */
+    public static long hash(char[] a, int off, int len, long seed) {
+        var xxhash = new XxHash64(seed);
+        xxhash.update(a, off, len);
+        long hash = xxhash.getValue();
+        return hash;
+    }
+
+    /**
+     * Hashes the {@code int}s, lowest byte first.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code int}s.
+     * @param   seed   the seed.
+     * @return   the hash.
+     */
+    public static long hash(int[] a, int off, int len, long seed) {
+        var xxhash = new XxHash64(seed);
+        xxhash.update(a, off, len);
+        long hash = xxhash.getValue();
+        return hash;
+    }
+
+    /**
+     * Hashes the {@code long}s, lowest byte first.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code long}s.
+     * @param   seed   the seed.
+     * @return   the hash.
+     */
+    public static long hash(long[] a, int off, int len, long seed) {
+        var xxhash = new XxHash64(seed);
+        xxhash.update(a, off, len);
+        long hash = xxhash.getValue();
+        return hash;
+    }
+
+    /**
+     * Hashes the {@code float}s, lowest byte first.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code float}s.
+     * @param   seed   the seed.
+     * @return   the hash.
+     */
+    public static long hash(float[] a, int off, int len, long seed) {
+        var xxhash = new XxHash64(seed);
+        xxhash.update(a, off, len);
+        long hash = xxhash.getValue();
+        return hash;
+    }
+
+    /**
+     * Hashes the {@code double}s, lowest byte first.
+     * @param   a   the array.
+     * @param   off   the offset in the array.
+     * @param   len   the number of {@code double}s.
+     * @param   seed   the seed.
+     * @return   the hash.
+     */
+    public static long hash(double[] a, int off, int len, long seed) {
+        var xxhash = new XxHash64(seed);
+        xxhash.update(a, off, len);
+        long hash = xxhash.getValue();
+        return hash;
+    }
+
+    /**
+     * Mixes eight bytes into an accumulator.
+     * @param   acc   the accumulator.
+     * @param   input   the eight bytes.
+     * @return   the new accumulator.
+     */
+    private static long round(long acc, long input) {
+        long value = acc + input * PRIME_2;
+        value = Bits.rotateLeft(value, 31);
+        value *= PRIME_1;
+        return value;
+    }
+
+    /**
+     * Merges the four accumulators.
+     * @param   v1   the first accumulator.
+     * @param   v2   the second accumulator.
+     * @param   v3   the third accumulator.
+     * @param   v4   the fourth accumulator.
+     * @return   the hash so far.
+     */
+    private static long merge(long v1, long v2, long v3, long v4) {
+        long hash = Bits.rotateLeft(v1, 1) + Bits.rotateLeft(v2, 7) + Bits.rotateLeft(v3, 12) + Bits.rotateLeft(v4, 18);
+        hash = mergeRound(hash, v1);
+        hash = mergeRound(hash, v2);
+        hash = mergeRound(hash, v3);
+        hash = mergeRound(hash, v4);
+        return hash;
+    }
+
+    /**
+     * Merges one accumulator into the hash.
+     * @param   hash   the hash.
+     * @param   acc   the accumulator.
+     * @return   the new hash.
+     */
+    private static long mergeRound(long hash, long acc) {
+        long value = hash ^ round(0L, acc);
+        value = value * PRIME_1 + PRIME_4;
+        return value;
+    }
+
+    /**
+     * Mixes the last bytes, less than a stripe, into the hash then avalanches
+     * its bits.
+     * @param   hash   the hash so far.
+     * @param   b   the array.
+     * @param   off   the offset of the last bytes.
+     * @param   len   the number of last bytes.
+     * @return   the final hash.
+     */
+    private static long finish(long hash, byte[] b, int off, int len) {
+        long h = hash;
+        int offset = off;
+        int end = off + len;
+        for (; offset <= end - Bits.NUM_OCTETS_IN_LONG; offset += Bits.NUM_OCTETS_IN_LONG) {
+            h ^= round(0L, Bits.getLong(b, offset, ByteOrder.LITTLE_ENDIAN));
+            h = Bits.rotateLeft(h, 27) * PRIME_1 + PRIME_4;
+        }
+        if (offset <= end - Bits.NUM_OCTETS_IN_INT) {
+            h ^= Bits.unsignedInt(Bits.getInt(b, offset, ByteOrder.LITTLE_ENDIAN)) * PRIME_1;
+            h = Bits.rotateLeft(h, 23) * PRIME_2 + PRIME_3;
+            offset += Bits.NUM_OCTETS_IN_INT;
+        }
+        for (; offset < end; offset++) {
+            h ^= Bits.unsignedByte(b[offset]) * PRIME_5;
+            h = Bits.rotateLeft(h, 11) * PRIME_1;
+        }
+
+        h ^= h >>> 33;
+        h *= PRIME_2;
+        h ^= h >>> 29;
+        h *= PRIME_3;
+        h ^= h >>> 32;
+        return h;
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code BufferPoolTest} tests class {@link BufferPool}.
+ */
+public class BufferPoolTest {
+
+    /**
+     * Tests the size classes and the recycling in the same thread.
+     */
+    @Test
+    public void testSizeClasses() {
+        var pool = new BufferPool();
+        assertEquals(BufferPool.MIN_BUFFER_SIZE, pool.acquire(0).length);
+        assertEquals(BufferPool.MIN_BUFFER_SIZE, pool.acquire(BufferPool.MIN_BUFFER_SIZE).length);
+        assertEquals(128, pool.acquire(65).length);
+        assertEquals(65_536, pool.acquire(40_000).length);
+        assertEquals(BufferPool.MAX_BUFFER_SIZE, pool.acquire(BufferPool.MAX_BUFFER_SIZE).length);
+        assertEquals(BufferPool.MAX_BUFFER_SIZE + 1, pool.acquire(BufferPool.MAX_BUFFER_SIZE + 1).length);
+        assertEquals(6L, pool.getMisses());
+
+        var array = pool.acquire(1_000);
+        pool.release(array);
+        assertEquals(1_024L, pool.getPooledBytes());
+        assertSame(array, pool.acquire(600));
+        assertEquals(1L, pool.getHits());
+        assertEquals(0L, pool.getPooledBytes());
+
+        pool.release(new byte[100]);
+        pool.release(new byte[BufferPool.MAX_BUFFER_SIZE * 2]);
+        assertEquals(2L, pool.getDiscards());
+        assertThrows(IllegalArgumentException.class, () -> pool.acquire(-1));
+    }
+
+    /**
+     * Tests that the buffers go through the shared tier between threads, and
+     * that a full pool drops the buffers.
+     */
+    @Test
+    public void testSharedTier() throws InterruptedException {
+        var pool = new BufferPool(false, false, 0, 2);
+        var first = pool.acquire(256);
+        var second = pool.acquire(256);
+        var third = pool.acquire(256);
+        var thread = new Thread(() -> {
+            pool.release(first);
+            pool.release(second);
+            pool.release(third);
+        });
+        thread.start();
+        thread.join();
+        assertEquals(1L, pool.getDiscards());
+        assertEquals(512L, pool.getPooledBytes());
+
+        var again = pool.acquire(200);
+        assertTrue(again == first || again == second);
+        pool.acquire(200);
+        assertNotSame(first, pool.acquire(200));
+        assertEquals(2L, pool.getHits());
+
+        pool.release(again);
+        pool.clear();
+        assertEquals(0L, pool.getPooledBytes());
+        assertThrows(IllegalArgumentException.class, () -> new BufferPool(false, false, -1, 2));
+    }
+
+    /**
+     * Tests a pool without shared slots, where only the cache of each thread
+     * keeps buffers.
+     */
+    @Test
+    public void testNoSharedSlots() throws InterruptedException {
+        var pool = new BufferPool(false, false, 4, 0);
+        var bytes = pool.acquire(100);
+        assertEquals(0L, pool.getHits());
+        pool.release(bytes);
+        assertSame(bytes, pool.acquire(100));
+        assertEquals(1L, pool.getHits());
+
+        var thread = new Thread(() -> pool.release(bytes));
+        thread.start();
+        thread.join();
+        assertNotSame(bytes, pool.acquire(100));
+
+        var none = new BufferPool(false, false, 0, 0);
+        none.release(none.acquire(100));
+        assertEquals(1L, none.getDiscards());
+        assertEquals(0L, none.getPooledBytes());
+        pool.clear();
+    }
+
+    /**
+     * Tests the byte buffers, on and off the heap.
+     */
+    @Test
+    public void testByteBuffers() {
+        var heap = new BufferPool();
+        var wrapper = heap.acquireBuffer(100);
+        assertTrue(wrapper.hasArray());
+        assertEquals(128, wrapper.capacity());
+        assertEquals(ByteOrder.nativeOrder(), wrapper.order());
+        wrapper.putInt(42);
+        heap.release(wrapper);
+        assertSame(wrapper.array(), heap.acquire(128));
+
+        var direct = new BufferPool(true, false);
+        var buffer = direct.acquireBuffer(3_000);
+        assertTrue(buffer.isDirect());
+        assertEquals(4_096, buffer.capacity());
+        buffer.position(10);
+        direct.release(buffer);
+        var reused = direct.acquireBuffer(4_096);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+        assertEquals(4_096, reused.limit());
+    }
+
+    /**
+     * Tests the tracking of the borrowed buffers.
+     */
+    @Test
+    public void testLeakDetection() {
+        var pool = new BufferPool(true, true);
+        var array = pool.acquire(10);
+        var buffer = pool.acquireBuffer(10);
+        assertEquals(2, pool.getBorrowedCount());
+        pool.release(array);
+        assertEquals(1, pool.getLeaks().size());
+        assertThrows(IllegalArgumentException.class, () -> pool.release(array));
+        assertThrows(IllegalArgumentException.class, () -> pool.release(new byte[64]));
+        pool.release(buffer);
+        assertEquals(0, pool.getBorrowedCount());
+        assertTrue(pool.getLeaks().isEmpty());
+
+        var quiet = new BufferPool();
+        quiet.acquire(10);
+        assertEquals(0, quiet.getBorrowedCount());
+        assertTrue(quiet.getLeaks().isEmpty());
+    }
+
+    /**
+     * Tests that the streams of the library use the default pool.
+     */
+    @Test
+    public void testDefaultPool() throws IOException {
+        var pool = new BufferPool(false, true);
+        BufferPool.setDefault(pool);
+        try {
+            var baos = new ByteArrayOutputStream();
+            try (var cos = new ChecksummedOutputStream(baos, 1_000)) {
+                cos.write(new byte[2_500]);
+            }
+
+            var cis = new ChecksummedInputStream(new ByteArrayInputStream(baos.toByteArray()), 1_000);
+            assertEquals(1, pool.getBorrowedCount());
+            assertArrayEquals(new byte[2_500], cis.readAllBytes());
+            cis.close();
+            assertEquals(0, pool.getBorrowedCount());
+            assertThrows(IOException.class, () -> cis.read());
+            cis.close();
+
+            try (var his = new HashingInputStream(new ByteArrayInputStream(new byte[10_000]), new CRC32())) {
+                assertEquals(5_000L, his.skip(5_000L));
+                assertEquals(5_000L, his.skip(20_000L));
+            }
+            assertEquals(0, pool.getBorrowedCount());
+            assertTrue(0L < pool.getHits());
+        }
+        finally {
+            BufferPool.setDefault(null);
+        }
+        assertEquals(null, BufferPool.getDefault());
+    }
+
+}
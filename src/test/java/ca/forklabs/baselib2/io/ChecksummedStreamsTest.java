@@ -0,0 +1,179 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code ChecksummedStreamsTest} tests classes
+ * {@link ChecksummedOutputStream} and {@link ChecksummedInputStream}.
+ */
+public class ChecksummedStreamsTest {
+
+    /** The frame size used by the tests. */
+    private static final int FRAME_SIZE = 100;
+
+    /**
+     * Writes the bytes in random chunks.
+     * @param   data   the bytes.
+     * @return   the framed bytes.
+     */
+    private static byte[] write(byte[] data) throws IOException {
+        var random = new Random(data.length);
+        var baos = new ByteArrayOutputStream();
+        try (var cos = new ChecksummedOutputStream(baos, FRAME_SIZE)) {
+            for (int off = 0; off < data.length; ) {
+                int len = Math.min(random.nextInt(250), data.length - off);
+                if (0 == len % 7) {
+                    for (int i = 0; i < len; i++) {
+                        cos.write(data[off + i]);
+                    }
+                }
+                else {
+                    cos.write(data, off, len);
+                }
+                off += len;
+            }
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Reads back the framed bytes.
+     * @param   framed   the framed bytes.
+     * @return   the bytes.
+     */
+    private static byte[] read(byte[] framed) throws IOException {
+        try (var cis = new ChecksummedInputStream(new ByteArrayInputStream(framed), FRAME_SIZE)) {
+            byte[] data = cis.readAllBytes();
+            return data;
+        }
+    }
+
+    /**
+     * Tests round trips around the frame boundaries.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        for (int size : new int[] { 0, 1, 99, 100, 101, 200, 1234 }) {
+            byte[] data = new byte[size];
+            new Random(size).nextBytes(data);
+
+            byte[] framed = write(data);
+            int frames = size / FRAME_SIZE + 1;
+            assertEquals(size + frames * ChecksummedOutputStream.TRAILER_SIZE, framed.length, "size " + size);
+            assertArrayEquals(data, read(framed), "size " + size);
+        }
+    }
+
+    /**
+     * Tests that the layout is the data followed by the little-endian CRC32C.
+     */
+    @Test
+    public void testLayout() throws IOException {
+        var baos = new ByteArrayOutputStream();
+        try (var cos = new ChecksummedOutputStream(baos, 9)) {
+            cos.write("123456789".getBytes("US-ASCII"));
+            assertEquals(1L, cos.getFrameCount());
+        }
+
+        byte[] expected = { '1', '2', '3', '4', '5', '6', '7', '8', '9', (byte) 0x83, (byte) 0x92, (byte) 0x06, (byte) 0xe3, 0, 0, 0, 0 };
+        assertArrayEquals(expected, baos.toByteArray());
+    }
+
+    /**
+     * Tests that corruption is detected at the damaged frame.
+     */
+    @Test
+    public void testCorrupted() throws IOException {
+        byte[] data = new byte[1000];
+        new Random(1L).nextBytes(data);
+        byte[] framed = write(data);
+        framed[2 * (FRAME_SIZE + ChecksummedOutputStream.TRAILER_SIZE) + 17] ^= 0x10;
+
+        try (var cis = new ChecksummedInputStream(new ByteArrayInputStream(framed), FRAME_SIZE)) {
+            byte[] bytes = new byte[2 * FRAME_SIZE];
+            assertEquals(2 * FRAME_SIZE, cis.readNBytes(bytes, 0, bytes.length));
+            assertEquals(2L, cis.getFrameCount());
+            assertThrows(IOException.class, cis::read);
+        }
+    }
+
+    /**
+     * Tests that truncation is detected, even on a frame boundary.
+     */
+    @Test
+    public void testTruncated() throws IOException {
+        byte[] framed = write(new byte[250]);
+
+        int boundary = 2 * (FRAME_SIZE + ChecksummedOutputStream.TRAILER_SIZE);
+        byte[] truncated = java.util.Arrays.copyOf(framed, boundary);
+        assertThrows(EOFException.class, () -> read(truncated));
+
+        byte[] trailerless = java.util.Arrays.copyOf(framed, boundary + 2);
+        assertThrows(IOException.class, () -> read(trailerless));
+
+        assertThrows(EOFException.class, () -> read(new byte[0]));
+    }
+
+    /**
+     * Tests the skip.
+     */
+    @Test
+    public void testSkip() throws IOException {
+        byte[] data = new byte[1000];
+        new Random(2L).nextBytes(data);
+        byte[] framed = write(data);
+
+        try (var cis = new ChecksummedInputStream(new ByteArrayInputStream(framed), FRAME_SIZE)) {
+            assertEquals(555L, cis.skip(555L));
+            assertEquals(data[555] & 0xff, cis.read());
+            assertEquals(444L, cis.skip(1000L));
+            assertEquals(-1, cis.read());
+        }
+    }
+
+    /**
+     * Tests the error cases.
+     */
+    @Test
+    public void testErrors() throws IOException {
+        var baos = new ByteArrayOutputStream();
+        assertThrows(IllegalArgumentException.class, () -> new ChecksummedOutputStream(baos, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ChecksummedInputStream(new ByteArrayInputStream(new byte[0]), -1));
+
+        var cos = new ChecksummedOutputStream(baos);
+        cos.finish();
+        cos.finish();
+        assertThrows(IOException.class, () -> cos.write(0));
+        cos.close();
+        assertEquals(ChecksummedOutputStream.TRAILER_SIZE, baos.size());
+    }
+
+}
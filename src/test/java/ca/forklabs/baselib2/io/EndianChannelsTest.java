@@ -0,0 +1,287 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code EndianChannelsTest} tests classes {@link EndianChannelWriter}
+ * and {@link EndianChannelReader}.
+ */
+public class EndianChannelsTest {
+
+    /**
+     * Writes a bit of everything.
+     * @param   writer   the writer.
+     */
+    private static void writeMixed(EndianChannelWriter writer) throws IOException {
+        for (int i = 0; i < 100; i++) {
+            writer.writeBoolean(0 == i % 2);
+            writer.writeByte(i);
+            writer.writeChar('ﾈ' + i);
+            writer.writeShort(-i);
+            writer.writeInt(0x12345678 * i);
+            writer.writeLong(0x123456789abcdefL * i);
+            writer.writeFloat(i / 3.0f);
+            writer.writeDouble(i / 7.0);
+            writer.writeBytes("abc\n");
+            writer.writeChars("déf");
+            writer.writeUTF("hé €");
+            writer.write(new byte[i]);
+        }
+    }
+
+    /**
+     * Reads back what {@link #writeMixed(EndianChannelWriter)} wrote.
+     * @param   reader   the reader.
+     */
+    private static void readMixed(EndianChannelReader reader) throws IOException {
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0 == i % 2, reader.readBoolean());
+            assertEquals(i, reader.readUnsignedByte());
+            assertEquals('ﾈ' + i, reader.readChar());
+            assertEquals(-i, reader.readShort());
+            assertEquals(0x12345678 * i, reader.readInt());
+            assertEquals(0x123456789abcdefL * i, reader.readLong());
+            assertEquals(i / 3.0f, reader.readFloat());
+            assertEquals(i / 7.0, reader.readDouble());
+            assertEquals("abc", reader.readLine());
+            assertEquals('d', reader.readChar());
+            assertEquals('é', reader.readChar());
+            assertEquals('f', reader.readChar());
+            assertEquals("hé €", reader.readUTF());
+            reader.readFully(new byte[i]);
+        }
+        assertEquals(-1, reader.read());
+        assertThrows(EOFException.class, () -> reader.readByte());
+    }
+
+    /**
+     * Tests that the big-endian writer agrees with {@link DataOutputStream}
+     * and that both orders read back.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        var expected = new ByteArrayOutputStream();
+        try (var dos = new DataOutputStream(expected)) {
+            for (int i = 0; i < 100; i++) {
+                dos.writeBoolean(0 == i % 2);
+                dos.writeByte(i);
+                dos.writeChar('ﾈ' + i);
+                dos.writeShort(-i);
+                dos.writeInt(0x12345678 * i);
+                dos.writeLong(0x123456789abcdefL * i);
+                dos.writeFloat(i / 3.0f);
+                dos.writeDouble(i / 7.0);
+                dos.writeBytes("abc\n");
+                dos.writeChars("déf");
+                dos.writeUTF("hé €");
+                dos.write(new byte[i]);
+            }
+        }
+
+        for (var order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            for (int size : new int[] { 8, 13, EndianChannelWriter.DEFAULT_BUFFER_SIZE }) {
+                var baos = new ByteArrayOutputStream();
+                try (var writer = new EndianChannelWriter(Channels.newChannel(baos), order, size)) {
+                    assertEquals(order, writer.getOrder());
+                    assertFalse(writer.isSeekable());
+                    writeMixed(writer);
+                }
+                byte[] bytes = baos.toByteArray();
+                assertEquals(expected.size(), bytes.length);
+                if (ByteOrder.BIG_ENDIAN == order) {
+                    assertArrayEquals(expected.toByteArray(), bytes);
+                }
+                try (var reader = new EndianChannelReader(Channels.newChannel(new ByteArrayInputStream(bytes)), order, size)) {
+                    readMixed(reader);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the bulk transfers in both orders against {@link ByteBuffer}.
+     */
+    @Test
+    public void testBulk() throws IOException {
+        var random = new Random(29L);
+        int len = 20_000;
+        short[] shorts = new short[len];
+        int[] ints = random.ints(len).toArray();
+        long[] longs = random.longs(len).toArray();
+        float[] floats = new float[len];
+        double[] doubles = random.doubles(len).toArray();
+        for (int i = 0; i < len; i++) {
+            shorts[i] = (short) random.nextInt();
+            floats[i] = random.nextFloat();
+        }
+
+        for (var order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            var buffer = ByteBuffer.allocate(len * 26 + 1).order(order);
+            buffer.asShortBuffer().put(shorts);
+            buffer.position(len * 2);
+            buffer.put((byte) 7);
+            buffer.asIntBuffer().put(ints);
+            buffer.position(buffer.position() + len * 4);
+            buffer.asLongBuffer().put(longs);
+            buffer.position(buffer.position() + len * 8);
+            buffer.asFloatBuffer().put(floats);
+            buffer.position(buffer.position() + len * 4);
+            buffer.asDoubleBuffer().put(doubles);
+            byte[] expected = buffer.array();
+
+            for (int size : new int[] { 8, 13, EndianChannelWriter.DEFAULT_BUFFER_SIZE }) {
+                var baos = new ByteArrayOutputStream();
+                try (var writer = new EndianChannelWriter(Channels.newChannel(baos), order, size)) {
+                    writer.writeShorts(shorts, 0, len);
+                    writer.writeByte(7);
+                    writer.writeInts(ints, 0, len);
+                    writer.writeLongs(longs, 0, len);
+                    writer.writeFloats(floats, 0, 0);
+                    writer.writeFloats(floats, 0, len);
+                    writer.writeDoubles(doubles, 0, len);
+                }
+                assertArrayEquals(expected, baos.toByteArray());
+
+                try (var reader = new EndianChannelReader(Channels.newChannel(new ByteArrayInputStream(expected)), order, size)) {
+                    short[] s = new short[len + 2];
+                    int[] i = new int[len];
+                    long[] l = new long[len];
+                    float[] f = new float[len];
+                    double[] d = new double[len + 1];
+                    reader.readShorts(s, 2, len);
+                    assertEquals(7, reader.readByte());
+                    reader.readInts(i, 0, len);
+                    reader.readLongs(l, 0, len);
+                    reader.readFloats(f, 0, len);
+                    reader.readDoubles(d, 1, len);
+                    assertArrayEquals(shorts, java.util.Arrays.copyOfRange(s, 2, len + 2));
+                    assertArrayEquals(ints, i);
+                    assertArrayEquals(longs, l);
+                    assertArrayEquals(floats, f);
+                    assertArrayEquals(doubles, java.util.Arrays.copyOfRange(d, 1, len + 1));
+                    assertThrows(EOFException.class, () -> reader.readInts(new int[1], 0, 1));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the positions, the seeks and the skips on a file.
+     */
+    @Test
+    public void testSeek() throws IOException {
+        Path path = Files.createTempFile("endian", ".bin");
+        try {
+            try (var writer = new EndianChannelWriter(FileChannel.open(path, StandardOpenOption.WRITE), ByteOrder.LITTLE_ENDIAN, 64)) {
+                assertTrue(writer.isSeekable());
+                for (int i = 0; i < 1_000; i++) {
+                    assertEquals(4L * i, writer.position());
+                    writer.writeInt(i);
+                }
+                writer.seek(40L);
+                writer.writeInt(-10);
+                writer.seek(4_000L);
+                writer.setOrder(ByteOrder.BIG_ENDIAN);
+                writer.writeInt(1_000);
+                assertEquals(4_004L, writer.position());
+            }
+            assertEquals(4_004L, Files.size(path));
+
+            try (var reader = new EndianChannelReader(FileChannel.open(path), ByteOrder.LITTLE_ENDIAN, 64)) {
+                assertTrue(reader.isSeekable());
+                assertEquals(0, reader.readInt());
+                assertEquals(4L, reader.position());
+                assertEquals(28, reader.skipBytes(28));
+                assertEquals(8, reader.readInt());
+                reader.seek(40L);
+                assertEquals(-10, reader.readInt());
+                reader.seek(12L);
+                assertEquals(3, reader.readInt());
+                reader.seek(3_996L);
+                assertEquals(999, reader.readInt());
+                assertEquals(4_000L, reader.position());
+                reader.seek(400L);
+                assertEquals(100, reader.readInt());
+                assertEquals(4_004 - 404, reader.skipBytes(10_000));
+                assertEquals(-1, reader.read());
+                reader.seek(4_000L);
+                reader.setOrder(ByteOrder.BIG_ENDIAN);
+                assertEquals(1_000, reader.readInt());
+                assertEquals(0, reader.skipBytes(1));
+            }
+        }
+        finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Tests the skips, the lines and the errors on channels that are not
+     * seekable.
+     */
+    @Test
+    public void testErrors() throws IOException {
+        var channel = Channels.newChannel(new ByteArrayInputStream("one\r\ntwo\rthree\r".getBytes("ISO-8859-1")));
+        assertThrows(IllegalArgumentException.class, () -> new EndianChannelReader(channel, ByteOrder.BIG_ENDIAN, 7));
+        var reader = new EndianChannelReader(channel, ByteOrder.BIG_ENDIAN, 8);
+        assertFalse(reader.isSeekable());
+        assertThrows(UnsupportedOperationException.class, () -> reader.position());
+        assertThrows(UnsupportedOperationException.class, () -> reader.seek(0L));
+        assertEquals(1, reader.skipBytes(1));
+        assertEquals("ne", reader.readLine());
+        assertEquals("two", reader.readLine());
+        assertEquals("three", reader.readLine());
+        assertNull(reader.readLine());
+        assertEquals(0, reader.skipBytes(10));
+        reader.close();
+        reader.close();
+        assertThrows(ClosedChannelException.class, () -> reader.readInt());
+
+        var writer = new EndianChannelWriter(Channels.newChannel(new ByteArrayOutputStream()), ByteOrder.BIG_ENDIAN, 8);
+        assertThrows(UnsupportedOperationException.class, () -> writer.position());
+        writer.close();
+        writer.close();
+        assertThrows(ClosedChannelException.class, () -> writer.writeInt(1));
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import ca.forklabs.baselib2.util.Murmur3Hash128;
+import ca.forklabs.baselib2.util.XxHash64;
+
+/**
+ * Class {@code HashingStreamsTest} tests classes {@link HashingInputStream} and
+ * {@link HashingOutputStream}.
+ */
+public class HashingStreamsTest {
+
+    /**
+     * Tests that copying a stream hashes it on both ends.
+     */
+    @Test
+    public void testCopy() throws IOException {
+        byte[] data = new byte[100_000];
+        new Random(5L).nextBytes(data);
+        long expected = XxHash64.hash(data);
+
+        var baos = new ByteArrayOutputStream();
+        try (var his = new HashingInputStream(new ByteArrayInputStream(data), new XxHash64());
+             var hos = new HashingOutputStream(baos, new XxHash64())) {
+            his.transferTo(hos);
+
+            assertEquals(expected, his.getChecksum().getValue());
+            assertEquals(expected, hos.getChecksum().getValue());
+        }
+        assertArrayEquals(data, baos.toByteArray());
+    }
+
+    /**
+     * Tests that single bytes and skipped bytes are hashed.
+     */
+    @Test
+    public void testReadAndSkip() throws IOException {
+        byte[] data = new byte[10_000];
+        new Random(6L).nextBytes(data);
+        long[] expected = Murmur3Hash128.hash128(data, 0, data.length, 0, null);
+
+        var murmur = new Murmur3Hash128();
+        try (var his = new HashingInputStream(new ByteArrayInputStream(data), murmur)) {
+            his.read();
+            his.read(new byte[10]);
+            assertEquals(9000L, his.skip(9000L));
+            assertEquals(989L, his.skip(5000L));
+            assertEquals(-1, his.read());
+        }
+        assertArrayEquals(expected, murmur.getValue128(null));
+    }
+
+    /**
+     * Tests that marking is not supported.
+     */
+    @Test
+    public void testNoMark() throws IOException {
+        try (var his = new HashingInputStream(new ByteArrayInputStream(new byte[4]), new XxHash64())) {
+            assertFalse(his.markSupported());
+            his.mark(4);
+            assertThrows(IOException.class, his::reset);
+        }
+    }
+
+}
@@ -26,6 +26,8 @@ import java.io.IOException;
 
 import org.junit.jupiter.api.Test;
 
+import ca.forklabs.baselib2.util.Bits;
+
 /**
  * Class {@code LittleEndianCompatibilityTest} tests the compatibility between
  * {@link LittleEndianInputStream} and {@link LittleEndianOutputStream}.
@@ -85,4 +87,79 @@ public class LittleEndianCompatibilityTest {
         }
     }
 
+    /**
+     * Tests the compatibility of the variable-length integers.
+     */
+    @Test
+    public void testVarIntCompatibility() throws IOException {
+        int[] ints = { 0, 1, 127, 128, 16383, 16384, -1, Integer.MIN_VALUE, Integer.MAX_VALUE };
+        long[] longs = { 0L, 1L, 127L, 128L, 0x00ffffffffffffffL, 0x0100000000000000L, -1L, Long.MIN_VALUE, Long.MAX_VALUE };
+
+        byte[] bytes;
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             LittleEndianOutputStream leos = new LittleEndianOutputStream(baos)) {
+            for (int i : ints) {
+                leos.writeVarInt(i);
+                leos.writeSignedVarInt(i);
+            }
+            for (long l : longs) {
+                leos.writeVarLong(l);
+                leos.writeSignedVarLong(l);
+            }
+            leos.close();
+
+            bytes = baos.toByteArray();
+        }
+
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
+             LittleEndianInputStream leis = new LittleEndianInputStream(bais)) {
+            for (int i : ints) {
+                assertEquals(i, leis.readVarInt());
+                assertEquals(i, leis.readSignedVarInt());
+            }
+            for (long l : longs) {
+                assertEquals(l, leis.readVarLong());
+                assertEquals(l, leis.readSignedVarLong());
+            }
+
+            int eof = leis.read();
+            assertEquals(-1, eof);
+        }
+    }
+
+    /**
+     * Tests that the half-precision values read are the ones written.
+     * @throws   IOException   if anything goes wrong with I/O.
+     */
+    @Test
+    public void testHalfPrecisionCompatibility() throws IOException {
+        float[] floats = { 0.0f, -0.0f, 1.0f, -2.5f, 65504.0f, 0x1p-24f, 3.140625f, Float.POSITIVE_INFINITY };
+
+        byte[] bytes;
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             LittleEndianOutputStream leos = new LittleEndianOutputStream(baos)) {
+            for (float f : floats) {
+                leos.writeFloat16(f);
+                leos.writeBFloat16(f);
+            }
+            leos.close();
+
+            bytes = baos.toByteArray();
+        }
+
+        assertEquals(4 * floats.length, bytes.length);
+        assertEquals((byte) 0x00, bytes[8]);
+        assertEquals((byte) 0x3c, bytes[9]);
+
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
+             LittleEndianInputStream leis = new LittleEndianInputStream(bais)) {
+            for (float f : floats) {
+                assertEquals(f, leis.readFloat16());
+                assertEquals(Bits.bfloat16ToFloat(Bits.floatToBFloat16(f)), leis.readBFloat16());
+            }
+        }
+    }
+
 }
@@ -18,11 +18,24 @@
 
 package ca.forklabs.baselib2.io;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -183,4 +196,285 @@ public class LittleEndianInputStreamTest {
         }
     }
 
+    /**
+     * Builds an input stream handing out one byte at a time.
+     *
+     * @param data the bytes.
+     * @return the stream.
+     */
+    private static InputStream trickle(byte[] data) {
+        var trickle = new FilterInputStream(new ByteArrayInputStream(data)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(1, len));
+            }
+        };
+        return trickle;
+    }
+
+    /**
+     * Builds the little-endian bytes of a few values of each type.
+     *
+     * @return the bytes.
+     */
+    private static byte[] mixed() {
+        var buffer = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) -3).put((byte) 1).putChar('뮪').putShort((short) -2).putInt(0xcafebabe)
+              .putLong(0x0123456789abcdefL).putFloat(1.5f).putDouble(Math.PI)
+              .put((byte) 0x96).put((byte) 0x01);
+        byte[] data = java.util.Arrays.copyOf(buffer.array(), buffer.position());
+        return data;
+    }
+
+    /**
+     * Reads back the values of {@link #mixed()}.
+     *
+     * @param leis the stream to read from.
+     * @exception IOException if anything goes wrong with I/O.
+     */
+    private static void readMixed(LittleEndianInputStream leis) throws IOException {
+        assertEquals(-3, leis.readByte());
+        assertTrue(leis.readBoolean());
+        assertEquals('뮪', leis.readChar());
+        assertEquals((short) -2, leis.readShort());
+        assertEquals(0xcafebabe, leis.readInt());
+        assertEquals(0x0123456789abcdefL, leis.readLong());
+        assertEquals(1.5f, leis.readFloat());
+        assertEquals(Math.PI, leis.readDouble());
+        assertEquals(150, leis.readVarInt());
+        assertEquals(-1, leis.read());
+        assertThrows(EOFException.class, () -> leis.readInt());
+    }
+
+    /**
+     * Tests that the reads survive an underlying stream handing out one byte at
+     * a time, buffered or not.
+     */
+    @Test
+    public void testShortReads() throws IOException {
+        byte[] data = mixed();
+        try (var leis = new LittleEndianInputStream(trickle(data))) {
+            assertFalse(leis.isBuffered());
+            readMixed(leis);
+        }
+        try (var leis = new LittleEndianInputStream(trickle(data), 8)) {
+            assertTrue(leis.isBuffered());
+            readMixed(leis);
+        }
+        try (var leis = new LittleEndianInputStream(new ByteArrayInputStream(data), 13)) {
+            readMixed(leis);
+        }
+    }
+
+    /**
+     * Tests the variable-length integers, decoded from the buffer when it
+     * holds enough bytes and byte by byte otherwise.
+     */
+    @Test
+    public void testVarInts() throws IOException {
+        int[] ints = { 0, 1, 127, 128, 150, 16_383, 16_384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE };
+        long[] longs = { 0L, 300L, 1L << 49, 1L << 56, Long.MAX_VALUE, -1L, Long.MIN_VALUE };
+        var baos = new ByteArrayOutputStream();
+        try (var leos = new LittleEndianOutputStream(baos)) {
+            for (int i : ints) {
+                leos.writeVarInt(i);
+            }
+            for (long l : longs) {
+                leos.writeVarLong(l);
+            }
+            // a zero padded to three bytes
+            leos.write(new byte[] { (byte) 0x80, (byte) 0x80, 0x00 });
+            leos.writeVarLong(-1L);
+        }
+        byte[] data = baos.toByteArray();
+
+        for (int size : new int[] { 0, 8, 13, LittleEndianInputStream.DEFAULT_BUFFER_SIZE }) {
+            InputStream is = (13 == size) ? trickle(data) : new ByteArrayInputStream(data);
+            try (var leis = (0 == size) ? new LittleEndianInputStream(is) : new LittleEndianInputStream(is, size)) {
+                for (int i : ints) {
+                    assertEquals(i, leis.readVarInt());
+                }
+                for (long l : longs) {
+                    assertEquals(l, leis.readVarLong());
+                }
+                assertEquals(0, leis.readVarInt());
+                assertEquals(-1L, leis.readVarLong());
+                assertEquals(-1, leis.read());
+            }
+        }
+
+        byte[] malformed = new byte[16];
+        java.util.Arrays.fill(malformed, (byte) 0xff);
+        for (int size : new int[] { 0, LittleEndianInputStream.DEFAULT_BUFFER_SIZE }) {
+            try (var leis = (0 == size) ? new LittleEndianInputStream(new ByteArrayInputStream(malformed)) : new LittleEndianInputStream(new ByteArrayInputStream(malformed), size)) {
+                assertThrows(IOException.class, () -> leis.readVarInt());
+            }
+            try (var leis = (0 == size) ? new LittleEndianInputStream(new ByteArrayInputStream(malformed)) : new LittleEndianInputStream(new ByteArrayInputStream(malformed), size)) {
+                assertThrows(IOException.class, () -> leis.readVarLong());
+            }
+        }
+    }
+
+    /**
+     * Tests the byte-oriented methods of the buffered stream.
+     */
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testBufferedBytes() throws IOException {
+        byte[] data = new byte[1_000];
+        new Random(17L).nextBytes(data);
+        try (var leis = new LittleEndianInputStream(trickle(data), 16)) {
+            byte[] got = new byte[data.length];
+            assertEquals(data[0] & 0xff, leis.read());
+            assertEquals(1, leis.read(got, 1, 1));
+            assertEquals(10L, leis.skip(10L));
+            assertEquals(0, leis.skipBytes(-1));
+            leis.readFully(got, 12, 300);
+            assertEquals(0, leis.read(got, 0, 0));
+            leis.readFully(got, 312, data.length - 312);
+            assertEquals(-1, leis.read(got, 0, 1));
+            assertEquals(0, leis.available());
+            assertArrayEquals(java.util.Arrays.copyOfRange(data, 12, data.length), java.util.Arrays.copyOfRange(got, 12, data.length));
+            assertEquals(data[1], got[1]);
+            assertFalse(leis.markSupported());
+            assertThrows(IOException.class, () -> leis.reset());
+        }
+
+        var bytes = new ByteArrayOutputStream();
+        try (var dos = new DataOutputStream(bytes)) {
+            dos.writeBytes("first\r\nsecond\rthird\n");
+            dos.writeUTF("hé €");
+            dos.writeBytes("last");
+        }
+        try (var leis = new LittleEndianInputStream(new ByteArrayInputStream(bytes.toByteArray()), 8)) {
+            assertEquals("first", leis.readLine());
+            assertEquals("second", leis.readLine());
+            assertEquals("third", leis.readLine());
+            assertEquals("hé €", leis.readUTF());
+            assertEquals("last", leis.readLine());
+            assertNull(leis.readLine());
+        }
+    }
+
+    /**
+     * Tests the bulk reads, buffered or not, against {@link ByteBuffer}.
+     */
+    @Test
+    public void testBulkReads() throws IOException {
+        var random = new Random(19L);
+        int len = 20_000;
+        var buffer = ByteBuffer.allocate(len * 26 + 3).order(ByteOrder.LITTLE_ENDIAN);
+        short[] shorts = new short[len];
+        int[] ints = random.ints(len).toArray();
+        long[] longs = random.longs(len).toArray();
+        float[] floats = new float[len];
+        double[] doubles = random.doubles(len).toArray();
+        for (int i = 0; i < len; i++) {
+            shorts[i] = (short) random.nextInt();
+            floats[i] = random.nextFloat();
+            buffer.putShort(shorts[i]);
+        }
+        buffer.put((byte) 7);
+        buffer.asIntBuffer().put(ints);
+        buffer.position(buffer.position() + len * 4);
+        buffer.asLongBuffer().put(longs);
+        buffer.position(buffer.position() + len * 8);
+        buffer.asFloatBuffer().put(floats);
+        buffer.position(buffer.position() + len * 4);
+        buffer.asDoubleBuffer().put(doubles);
+        buffer.position(buffer.position() + len * 8);
+        buffer.put((byte) 8).put((byte) 9);
+        byte[] data = buffer.array();
+
+        for (int size : new int[] { 0, 8, 13, LittleEndianInputStream.DEFAULT_BUFFER_SIZE }) {
+            InputStream is = (13 == size) ? trickle(data) : new ByteArrayInputStream(data);
+            try (var leis = (0 == size) ? new LittleEndianInputStream(is) : new LittleEndianInputStream(is, size)) {
+                short[] s = new short[len + 2];
+                int[] i = new int[len];
+                long[] l = new long[len];
+                float[] f = new float[len];
+                double[] d = new double[len + 1];
+                leis.readShorts(s, 2, len);
+                assertEquals(7, leis.readByte());
+                leis.readInts(i, 0, len);
+                leis.readLongs(l, 0, len);
+                leis.readFloats(f, 0, 0);
+                leis.readFloats(f, 0, len);
+                leis.readDoubles(d, 1, len);
+                assertArrayEquals(shorts, java.util.Arrays.copyOfRange(s, 2, len + 2));
+                assertArrayEquals(ints, i);
+                assertArrayEquals(longs, l);
+                assertArrayEquals(floats, f);
+                assertArrayEquals(doubles, java.util.Arrays.copyOfRange(d, 1, len + 1));
+                assertThrows(EOFException.class, () -> leis.readInts(new int[2], 0, 2));
+            }
+        }
+    }
+
+    /**
+     * Tests the bad buffer size and the closed stream.
+     */
+    @Test
+    public void testBufferedErrors() throws IOException {
+        var is = new ByteArrayInputStream(new byte[16]);
+        assertThrows(IllegalArgumentException.class, () -> new LittleEndianInputStream(is, 7));
+        var leis = new LittleEndianInputStream(is, 8);
+        leis.close();
+        leis.close();
+        assertThrows(IOException.class, () -> leis.readInt());
+        assertThrows(IOException.class, () -> leis.read());
+        assertThrows(IOException.class, () -> leis.readLongs(new long[1], 0, 1));
+    }
+
+    /**
+     * Tests {@link LittleEndianInputStream#readString()}, buffered or not,
+     * with or without a string cache.
+     */
+    @Test
+    public void testReadString() throws IOException {
+        String[] strings = { "key", "", "clé €", "x".repeat(70_000) + "é", "key", "clé €" };
+        var baos = new ByteArrayOutputStream();
+        try (var leos = new LittleEndianOutputStream(baos)) {
+            for (var string : strings) {
+                leos.writeString(string);
+            }
+            leos.writeVarInt(-1);
+        }
+        byte[] data = baos.toByteArray();
+
+        for (int size : new int[] { 0, 8, 13, LittleEndianInputStream.DEFAULT_BUFFER_SIZE }) {
+            for (var cache : new StringCache[] { null, new StringCache() }) {
+                InputStream is = (13 == size) ? trickle(data) : new ByteArrayInputStream(data);
+                try (var leis = (0 == size) ? new LittleEndianInputStream(is) : new LittleEndianInputStream(is, size)) {
+                    leis.setStringCache(cache);
+                    assertSame(cache, leis.getStringCache());
+                    String[] got = new String[strings.length];
+                    for (int i = 0; i < strings.length; i++) {
+                        got[i] = leis.readString();
+                    }
+                    assertArrayEquals(strings, got);
+                    if (null != cache) {
+                        assertSame(got[0], got[4]);
+                        assertSame(got[2], got[5]);
+                    }
+                    assertThrows(IOException.class, () -> leis.readString());
+                }
+            }
+        }
+
+        byte[] truncated = { 5, 'a', 'b' };
+        try (var leis = new LittleEndianInputStream(new ByteArrayInputStream(truncated), 8)) {
+            assertThrows(EOFException.class, () -> leis.readString());
+        }
+
+        var corrupt = new ByteArrayOutputStream();
+        try (var leos = new LittleEndianOutputStream(corrupt)) {
+            leos.writeVarInt(Integer.MAX_VALUE);
+            leos.write(new byte[100]);
+        }
+        try (var leis = new LittleEndianInputStream(new ByteArrayInputStream(corrupt.toByteArray()))) {
+            assertThrows(EOFException.class, () -> leis.readString());
+        }
+    }
+
 }
@@ -18,11 +18,18 @@
 
 package ca.forklabs.baselib2.io;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -248,9 +255,164 @@ public class LittleEndianOutputStreamTest {
         int utf_len = dos.size();
 
         int expected = 1 + 1 + 2 + 2 + 4 + 8 + 4 + 8 + len + 2 * len + utf_len;
-        int got = leos.size();
+        long got = leos.size();
 
         assertEquals(expected, got);
     }
 
+    /**
+     * Writes a bit of everything.
+     *
+     * @param leos the stream to write to.
+     */
+    private static void writeMixed(LittleEndianOutputStream leos) throws IOException {
+        for (int i = 0; i < 100; i++) {
+            leos.writeBoolean(0 == i % 2);
+            leos.writeByte(i);
+            leos.writeChar('ﾈ' + i);
+            leos.writeShort(-i);
+            leos.writeInt(0x12345678 * i);
+            leos.writeLong(0x123456789abcdefL * i);
+            leos.writeFloat(i / 3.0f);
+            leos.writeDouble(i / 7.0);
+            leos.writeVarInt(i << 20);
+            leos.writeSignedVarLong(-((long) i << 40));
+            leos.writeBytes("abc");
+            leos.writeChars("déf");
+            leos.writeUTF("hé €");
+            leos.write(new byte[i], 0, i);
+        }
+    }
+
+    /**
+     * Tests that the buffered stream writes the same bytes as the unbuffered
+     * one and counts them the same.
+     */
+    @Test
+    public void testBufferedWrites() throws IOException {
+        var expected = new ByteArrayOutputStream();
+        long expected_size;
+        try (var leos = new LittleEndianOutputStream(expected)) {
+            assertFalse(leos.isBuffered());
+            writeMixed(leos);
+            expected_size = leos.size();
+        }
+        assertEquals(expected.size(), expected_size);
+
+        for (int size : new int[] { 10, 13, LittleEndianOutputStream.DEFAULT_BUFFER_SIZE }) {
+            var baos = new ByteArrayOutputStream();
+            try (var leos = new LittleEndianOutputStream(baos, size)) {
+                assertTrue(leos.isBuffered());
+                writeMixed(leos);
+                assertEquals(expected_size, leos.size());
+                leos.flush();
+                assertEquals(expected_size, baos.size());
+            }
+            assertArrayEquals(expected.toByteArray(), baos.toByteArray());
+        }
+    }
+
+    /**
+     * Tests the bulk writes, buffered or not, against {@link ByteBuffer}.
+     */
+    @Test
+    public void testBulkWrites() throws IOException {
+        var random = new Random(23L);
+        int len = 20_000;
+        var buffer = ByteBuffer.allocate(len * 26 + 1).order(ByteOrder.LITTLE_ENDIAN);
+        short[] shorts = new short[len + 2];
+        int[] ints = random.ints(len).toArray();
+        long[] longs = random.longs(len).toArray();
+        float[] floats = new float[len];
+        double[] doubles = random.doubles(len + 1).toArray();
+        for (int i = 0; i < len; i++) {
+            shorts[i + 2] = (short) random.nextInt();
+            floats[i] = random.nextFloat();
+            buffer.putShort(shorts[i + 2]);
+        }
+        buffer.put((byte) 7);
+        buffer.asIntBuffer().put(ints);
+        buffer.position(buffer.position() + len * 4);
+        buffer.asLongBuffer().put(longs);
+        buffer.position(buffer.position() + len * 8);
+        buffer.asFloatBuffer().put(floats);
+        buffer.position(buffer.position() + len * 4);
+        buffer.asDoubleBuffer().put(doubles, 1, len);
+        byte[] expected = buffer.array();
+
+        for (int size : new int[] { 0, 10, 13, LittleEndianOutputStream.DEFAULT_BUFFER_SIZE }) {
+            var baos = new ByteArrayOutputStream();
+            try (var leos = (0 == size) ? new LittleEndianOutputStream(baos) : new LittleEndianOutputStream(baos, size)) {
+                leos.writeShorts(shorts, 2, len);
+                leos.writeByte(7);
+                leos.writeInts(ints, 0, len);
+                leos.writeLongs(longs, 0, len);
+                leos.writeFloats(floats, 0, 0);
+                leos.writeFloats(floats, 0, len);
+                leos.writeDoubles(doubles, 1, len);
+                assertEquals(expected.length, leos.size());
+            }
+            assertArrayEquals(expected, baos.toByteArray());
+        }
+    }
+
+    /**
+     * Tests that the size does not overflow past 2 GiB.
+     */
+    @Test
+    public void testLargeSize() throws IOException {
+        byte[] block = new byte[16 * 1024 * 1024];
+        try (var leos = new LittleEndianOutputStream(new NullOutputStream(), 1024)) {
+            for (int i = 0; i < 160; i++) {
+                leos.write(block);
+            }
+            leos.writeInt(0);
+            assertEquals(160L * block.length + 4L, leos.size());
+        }
+    }
+
+    /**
+     * Tests the bad buffer size and the closed stream.
+     */
+    @Test
+    public void testBufferedErrors() throws IOException {
+        var baos = new ByteArrayOutputStream();
+        assertThrows(IllegalArgumentException.class, () -> new LittleEndianOutputStream(baos, 9));
+        var leos = new LittleEndianOutputStream(baos, 10);
+        leos.writeInt(1);
+        leos.close();
+        leos.close();
+        assertEquals(4, baos.size());
+        assertThrows(IOException.class, () -> leos.writeInt(2));
+        assertThrows(IOException.class, () -> leos.write(3));
+        assertThrows(IOException.class, () -> leos.writeLongs(new long[1], 0, 1));
+    }
+
+    /**
+     * Tests {@link LittleEndianOutputStream#writeString(String)}, buffered or
+     * not, on ASCII, non-ASCII and long strings.
+     */
+    @Test
+    public void testWriteString() throws IOException {
+        String ascii = "key";
+        String accents = "clé €";
+        String big = "x".repeat(200) + "é";
+        for (int size : new int[] { 0, 10, 64, LittleEndianOutputStream.DEFAULT_BUFFER_SIZE }) {
+            var baos = new ByteArrayOutputStream();
+            try (var leos = (0 == size) ? new LittleEndianOutputStream(baos) : new LittleEndianOutputStream(baos, size)) {
+                leos.writeString(ascii);
+                leos.writeString("");
+                leos.writeString(accents);
+                leos.writeString(big);
+                assertEquals(1 + 3 + 1 + 1 + 8 + 2 + 202, leos.size());
+            }
+            var expected = ByteBuffer.allocate(218);
+            expected.put((byte) 3).put(ascii.getBytes(Charsets.UTF_8));
+            expected.put((byte) 0);
+            expected.put((byte) 8).put(accents.getBytes(Charsets.UTF_8));
+            expected.put((byte) 0xca).put((byte) 0x01).put(big.getBytes(Charsets.UTF_8));
+            assertArrayEquals(expected.array(), baos.toByteArray());
+        }
+    }
+
 }
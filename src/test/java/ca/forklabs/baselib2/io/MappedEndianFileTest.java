@@ -0,0 +1,211 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code MappedEndianFileTest} tests class {@link MappedEndianFile}.
+ */
+public class MappedEndianFileTest {
+
+    /** The size of the chunks used by the tests. */
+    private static final int CHUNK_SIZE = 64;
+
+    /** The content of the file. */
+    private byte[] _data;
+
+    /** The file. */
+    private Path _path;
+
+
+    /**
+     * Writes the file.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        _data = new byte[10_003];
+        new Random(31L).nextBytes(_data);
+        _path = Files.createTempFile("mapped", ".bin");
+        Files.write(_path, _data);
+    }
+
+    /**
+     * Deletes the file.
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.delete(_path);
+    }
+
+    /**
+     * Tests the single values at every position, in both orders.
+     */
+    @Test
+    public void testGet() throws IOException {
+        for (var order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            var expected = ByteBuffer.wrap(_data).order(order);
+            try (var file = new MappedEndianFile(_path, order, CHUNK_SIZE)) {
+                assertEquals(_data.length, file.getSize());
+                assertEquals(order, file.getOrder());
+                assertEquals(CHUNK_SIZE, file.getChunkSize());
+                for (int pos = 0; pos < _data.length; pos++) {
+                    assertEquals(expected.get(pos), file.get(pos));
+                    if (pos + 2 <= _data.length) {
+                        assertEquals(expected.getShort(pos), file.getShort(pos));
+                        assertEquals(expected.getChar(pos), file.getChar(pos));
+                    }
+                    if (pos + 4 <= _data.length) {
+                        assertEquals(expected.getInt(pos), file.getInt(pos));
+                        assertEquals(Float.floatToRawIntBits(expected.getFloat(pos)), Float.floatToRawIntBits(file.getFloat(pos)));
+                    }
+                    if (pos + 8 <= _data.length) {
+                        assertEquals(expected.getLong(pos), file.getLong(pos));
+                        assertEquals(Double.doubleToRawLongBits(expected.getDouble(pos)), Double.doubleToRawLongBits(file.getDouble(pos)));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the bulk reads across chunks, in both orders.
+     */
+    @Test
+    public void testBulk() throws IOException {
+        for (var order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            var expected = ByteBuffer.wrap(_data).order(order);
+            try (var file = new MappedEndianFile(_path, order, CHUNK_SIZE)) {
+                for (int pos : new int[] { 0, 3, 61, 1_000 }) {
+                    int len = (_data.length - pos) / 8;
+                    byte[] b = new byte[len * 8];
+                    short[] s = new short[len * 4];
+                    int[] i = new int[len * 2 + 1];
+                    long[] l = new long[len];
+                    float[] f = new float[len * 2];
+                    double[] d = new double[len];
+                    file.get(pos, b, 0, b.length);
+                    file.getShorts(pos, s, 0, s.length);
+                    file.getInts(pos, i, 1, len * 2);
+                    file.getLongs(pos, l, 0, len);
+                    file.getFloats(pos, f, 0, 0);
+                    file.getFloats(pos, f, 0, f.length);
+                    file.getDoubles(pos, d, 0, len);
+                    for (int k = 0; k < len; k++) {
+                        assertEquals(expected.getLong(pos + 8 * k), l[k]);
+                        assertEquals(Double.doubleToRawLongBits(expected.getDouble(pos + 8 * k)), Double.doubleToRawLongBits(d[k]));
+                    }
+                    for (int k = 0; k < 2 * len; k++) {
+                        assertEquals(expected.getInt(pos + 4 * k), i[k + 1]);
+                        assertEquals(Float.floatToRawIntBits(expected.getFloat(pos + 4 * k)), Float.floatToRawIntBits(f[k]));
+                    }
+                    for (int k = 0; k < 4 * len; k++) {
+                        assertEquals(expected.getShort(pos + 2 * k), s[k]);
+                    }
+                    assertArrayEquals(java.util.Arrays.copyOfRange(_data, pos, pos + b.length), b);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests many threads reading at random positions.
+     */
+    @Test
+    public void testConcurrentReads() throws Exception {
+        var expected = ByteBuffer.wrap(_data).order(ByteOrder.LITTLE_ENDIAN);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (var file = new MappedEndianFile(_path, ByteOrder.LITTLE_ENDIAN, CHUNK_SIZE)) {
+            var futures = new ArrayList<Future<Void>>();
+            for (int t = 0; t < 8; t++) {
+                long seed = t;
+                Callable<Void> task = () -> {
+                    var random = new Random(seed);
+                    for (int k = 0; k < 100_000; k++) {
+                        int pos = random.nextInt(_data.length - 7);
+                        assertEquals(expected.getLong(pos), file.getLong(pos));
+                    }
+                    return null;
+                };
+                futures.add(executor.submit(task));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests the bounds, the loading, the closing and the bad chunk sizes.
+     */
+    @Test
+    public void testErrors() throws IOException {
+        for (int size : new int[] { 4, 96, Integer.MIN_VALUE, Integer.MAX_VALUE }) {
+            assertThrows(IllegalArgumentException.class, () -> new MappedEndianFile(_path, ByteOrder.LITTLE_ENDIAN, size));
+        }
+
+        var file = new MappedEndianFile(_path);
+        assertEquals(ByteOrder.LITTLE_ENDIAN, file.getOrder());
+        assertEquals(MappedEndianFile.DEFAULT_CHUNK_SIZE, file.getChunkSize());
+        file.load();
+        file.load(_data.length, 0L);
+        assertThrows(IndexOutOfBoundsException.class, () -> file.load(-1L, 2L));
+        assertThrows(IndexOutOfBoundsException.class, () -> file.getInt(-1L));
+        assertThrows(IndexOutOfBoundsException.class, () -> file.getInt(_data.length - 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> file.getLongs(_data.length - 15, new long[2], 0, 2));
+        file.getLongs(_data.length, new long[2], 0, 0);
+        file.close();
+        file.close();
+        assertThrows(IllegalStateException.class, () -> file.getInt(0L));
+
+        var unmapped = new MappedEndianFile(_path, ByteOrder.LITTLE_ENDIAN, CHUNK_SIZE);
+        unmapped.close(true);
+        unmapped.close(true);
+        assertThrows(IllegalStateException.class, () -> unmapped.getLong(0L));
+
+        Files.write(_path, new byte[0]);
+        try (var empty = new MappedEndianFile(_path, ByteOrder.BIG_ENDIAN, CHUNK_SIZE)) {
+            assertEquals(0L, empty.getSize());
+            empty.load();
+            assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0L));
+        }
+    }
+
+}
@@ -18,12 +18,21 @@
 
 package ca.forklabs.baselib2.io;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Locale;
 import java.util.Random;
+import java.util.SplittableRandom;
 
 import org.junit.jupiter.api.Test;
 
@@ -218,4 +227,67 @@ public class RandomInputStreamTest {
         }
     }
 
+    /**
+     * Tests that the splittable stream gives the bytes of
+     * {@link SplittableRandom#nextLong()}, lowest byte first, whatever the
+     * alignment.
+     */
+    @Test
+    public void testSplittable() throws IOException {
+        var seed = 0xcafebabeL;
+        for (int off = 0; off < 8; off++) {
+            var external = new SplittableRandom(seed);
+            try (var in = RandomInputStream.splittable(seed)) {
+                assertTrue(in.isSplittable());
+                assertNull(in.getSource());
+
+                var got = new byte[off + 21];
+                assertEquals(21, in.read(got, off, 21));
+                var expected = new byte[24];
+                ByteBuffer.wrap(expected).order(ByteOrder.LITTLE_ENDIAN)
+                                         .putLong(external.nextLong())
+                                         .putLong(external.nextLong())
+                                         .putLong(external.nextLong());
+                for (int i = 0; i < off; i++) {
+                    assertEquals(0, got[i]);
+                }
+                for (int i = 0; i < 21; i++) {
+                    assertEquals(expected[i], got[off + i]);
+                }
+                assertEquals(external.nextInt() & 0xff, in.read());
+                assertEquals(1_000L, in.skip(1_000L));
+                assertEquals(0, in.read(got, 0, 0));
+            }
+        }
+
+        try (var in = new RandomInputStream(new Random())) {
+            assertFalse(in.isSplittable());
+            assertNotNull(in.getSource());
+            assertThrows(UnsupportedOperationException.class, () -> in.split());
+        }
+        assertThrows(NullPointerException.class, () -> RandomInputStream.splittable(null));
+    }
+
+    /**
+     * Tests that the split streams are independent of each other.
+     */
+    @Test
+    public void testSplit() throws IOException {
+        var in = RandomInputStream.splittable(17L);
+        var other = in.split();
+        assertTrue(other.isSplittable());
+
+        var bytes = new byte[4096];
+        var other_bytes = new byte[4096];
+        in.read(bytes);
+        other.read(other_bytes);
+        assertFalse(java.util.Arrays.equals(bytes, other_bytes));
+
+        var again = RandomInputStream.splittable(17L);
+        again.split();
+        var again_bytes = new byte[4096];
+        again.read(again_bytes);
+        assertArrayEquals(bytes, again_bytes);
+    }
+
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code StringCacheTest} tests class {@link StringCache}.
+ */
+public class StringCacheTest {
+
+    /**
+     * Tests {@link StringCache#decode(byte[], int, int)}.
+     */
+    @Test
+    public void testDecode() {
+        byte[] bytes = "[ascii|clé €|]".getBytes(Charsets.UTF_8);
+        assertEquals("ascii", StringCache.decode(bytes, 1, 5));
+        assertEquals("clé €", StringCache.decode(bytes, 7, 8));
+        assertEquals("", StringCache.decode(bytes, 0, 0));
+    }
+
+    /**
+     * Tests the hits, the misses and the strings too long to be kept.
+     */
+    @Test
+    public void testGet() {
+        var cache = new StringCache(3, 6);
+        assertEquals(4, cache.getCapacity());
+        assertEquals(6, cache.getMaxLength());
+
+        byte[] bytes = "keykeyclé €longerkey".getBytes(Charsets.UTF_8);
+        String key = cache.get(bytes, 0, 3);
+        assertEquals("key", key);
+        assertSame(key, cache.get(bytes, 3, 3));
+        String accents = cache.get(bytes, 6, 5);
+        assertEquals("clé ", accents);
+        assertSame(accents, cache.get("clé ".getBytes(Charsets.UTF_8), 0, 5));
+        String longer = cache.get(bytes, 14, 9);
+        assertEquals("longerkey", longer);
+        assertNotSame(longer, cache.get(bytes, 14, 9));
+        assertEquals("", cache.get(bytes, 0, 0));
+
+        cache.clear();
+        assertNotSame(key, cache.get(bytes, 0, 3));
+
+        for (int i = 0; i < 1_000; i++) {
+            byte[] number = Integer.toString(i).getBytes(Charsets.UTF_8);
+            assertEquals(Integer.toString(i), cache.get(number, 0, number.length));
+        }
+    }
+
+    /**
+     * Tests the bad capacities and maximum lengths.
+     */
+    @Test
+    public void testErrors() {
+        assertEquals(1, new StringCache(1, 0).getCapacity());
+        assertEquals(StringCache.DEFAULT_CAPACITY, new StringCache().getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new StringCache(0, 8));
+        assertThrows(IllegalArgumentException.class, () -> new StringCache((1 << 30) + 1, 8));
+        assertThrows(IllegalArgumentException.class, () -> new StringCache(8, -1));
+    }
+
+}
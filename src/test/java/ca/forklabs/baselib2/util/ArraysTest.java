@@ -18,8 +18,13 @@
 
 package ca.forklabs.baselib2.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Locale;
@@ -333,4 +338,178 @@ public class ArraysTest {
         }
     }
 
+    /**
+     * Tests {@link Arrays#memset(Object[], Object, int, int)} past the length
+     * where the doubling copy takes over.
+     */
+    @Test
+    public void testMemsetLongObjectArray() {
+        var array = new String[1000];
+
+        Arrays.memset(array, "this", 10, 900);
+        assertNull(array[9]);
+        for (var i = 10; i < 910; i++) {
+            assertSame("this", array[i]);
+        }
+        assertNull(array[910]);
+    }
+
+    /**
+     * Tests {@link Arrays#parallelMemset(int[], int, int, int)} on an array
+     * large enough to be split.
+     */
+    @Test
+    public void testParallelMemsetI() {
+        var array = new int[3 * Arrays.PARALLEL_MEMSET_GRAIN / Integer.BYTES + 17];
+
+        Arrays.parallelMemset(array, 42, 5, array.length - 10);
+        for (var i = 0; i < array.length; i++) {
+            assertEquals((5 <= i && i < array.length - 5) ? 42 : 0, array[i]);
+        }
+
+        Arrays.parallelMemset(array, -1);
+        for (var i = 0; i < array.length; i++) {
+            assertEquals(-1, array[i]);
+        }
+    }
+
+    /**
+     * Tests {@link Arrays#parallelMemset(byte[], byte)},
+     * {@link Arrays#parallelMemset(long[], long)},
+     * {@link Arrays#parallelMemset(double[], double)} and
+     * {@link Arrays#parallelMemset(Object[], Object)}.
+     */
+    @Test
+    public void testParallelMemset() {
+        var bytes = new byte[2 * Arrays.PARALLEL_MEMSET_GRAIN + 1];
+        Arrays.parallelMemset(bytes, (byte) 7);
+        for (var i = 0; i < bytes.length; i++) {
+            assertEquals((byte) 7, bytes[i]);
+        }
+
+        var longs = new long[Arrays.PARALLEL_MEMSET_GRAIN / 4];
+        Arrays.parallelMemset(longs, Long.MIN_VALUE);
+        for (var i = 0; i < longs.length; i++) {
+            assertEquals(Long.MIN_VALUE, longs[i]);
+        }
+
+        var doubles = new double[] { 1.0, 2.0, 3.0 };
+        Arrays.parallelMemset(doubles, 0.5, 1, 1);
+        assertArrayEquals(new double[] { 1.0, 0.5, 3.0 }, doubles);
+
+        var strings = new String[Arrays.PARALLEL_MEMSET_GRAIN / 2];
+        Arrays.parallelMemset(strings, "that");
+        for (var i = 0; i < strings.length; i++) {
+            assertSame("that", strings[i]);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> Arrays.parallelMemset(doubles, 0.0, 2, 2));
+    }
+
+    /**
+     * Tests {@link Arrays#checkOffLen(long, long, long)} past the range of
+     * {@code int}s.
+     */
+    @Test
+    public void testCheckOffLenLong() {
+        long huge = 1L << 40;
+        Arrays.checkOffLen(0L, 0L, 0L);
+        Arrays.checkOffLen(huge, huge - 1L, 1L);
+        Arrays.checkOffLen(huge, 0L, huge);
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> Arrays.checkOffLen(huge, huge, 0L));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> Arrays.checkOffLen(huge, -1L, 0L));
+        assertThrows(IllegalArgumentException.class, () -> Arrays.checkOffLen(huge, 1L, -1L));
+        assertThrows(IllegalArgumentException.class, () -> Arrays.checkOffLen(huge, 1L, huge));
+        assertThrows(IllegalArgumentException.class, () -> Arrays.checkOffLen(huge, 1L, Long.MAX_VALUE));
+    }
+
+    /**
+     * Tests {@link Arrays#mismatch(byte[], int, byte[], int, int)} and
+     * {@link Arrays#equals(byte[], int, byte[], int, int)} at every position of
+     * a difference.
+     */
+    @Test
+    public void testMismatch() {
+        var random = new java.util.Random(29L);
+        var a = new byte[300];
+        random.nextBytes(a);
+        var b = new byte[310];
+        System.arraycopy(a, 0, b, 10, a.length);
+        assertEquals(-1, Arrays.mismatch(a, 0, b, 10, 300));
+        assertTrue(Arrays.equals(a, 0, b, 10, 300));
+        for (int i = 0; i < 300; i++) {
+            b[10 + i]++;
+            assertEquals((5 <= i) ? i - 5 : -1, Arrays.mismatch(a, 5, b, 15, 295));
+            assertEquals(i, Arrays.mismatch(a, 0, b, 10, 300));
+            assertFalse(Arrays.equals(a, 0, b, 10, 300));
+            b[10 + i]--;
+        }
+
+        long[] longs = { 1L, 2L, 3L };
+        assertEquals(1, Arrays.mismatch(longs, 0, new long[] { 1L, 5L, 3L }, 0, 3));
+        double[] doubles = { Double.NaN, -0.0 };
+        assertEquals(1, Arrays.mismatch(doubles, 0, new double[] { Double.NaN, 0.0 }, 0, 2));
+        assertTrue(Arrays.equals(new char[0], 0, new char[0], 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Arrays.mismatch(a, 0, b, 20, 300));
+        assertThrows(NullPointerException.class, () -> Arrays.equals(a, 0, null, 0, 1));
+    }
+
+    /**
+     * Tests {@link Arrays#compare(byte[], int, int, byte[], int, int)} and
+     * {@link Arrays#compareUnsigned(byte[], int, int, byte[], int, int)}.
+     */
+    @Test
+    public void testCompare() {
+        byte[] a = { 0, 1, 2, -1 };
+        byte[] b = { 9, 1, 2, 1 };
+        assertEquals(0, Arrays.compare(a, 1, 2, b, 1, 2));
+        assertTrue(0 > Arrays.compare(a, 1, 3, b, 1, 3));
+        assertTrue(0 < Arrays.compareUnsigned(a, 1, 3, b, 1, 3));
+        assertTrue(0 > Arrays.compare(a, 1, 2, b, 1, 3));
+        assertTrue(0 < Arrays.compare(a, 1, 3, b, 1, 2));
+
+        int[] ints = { -5, 7 };
+        assertTrue(0 > Arrays.compare(ints, 0, 1, new int[] { 5 }, 0, 1));
+        assertTrue(0 < Arrays.compareUnsigned(ints, 0, 1, new int[] { 5 }, 0, 1));
+        assertTrue(0 > Arrays.compare(new boolean[] { false }, 0, 1, new boolean[] { true }, 0, 1));
+        assertTrue(0 > Arrays.compare(new float[] { -0.0f }, 0, 1, new float[] { 0.0f }, 0, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> Arrays.compare(ints, 2, 0, ints, 0, 0));
+    }
+
+    /**
+     * Tests that {@link Arrays#hash(int[], int, int)} and its overloads match
+     * {@link java.util.Arrays#hashCode(int[])} for every length of interval.
+     */
+    @Test
+    public void testHash() {
+        var random = new java.util.Random(31L);
+        var bytes = new byte[40];
+        random.nextBytes(bytes);
+        int[] ints = random.ints(40).toArray();
+        long[] longs = random.longs(40).toArray();
+        double[] doubles = random.doubles(40).toArray();
+        var booleans = new boolean[40];
+        var chars = new char[40];
+        var shorts = new short[40];
+        var floats = new float[40];
+        for (int i = 0; i < 40; i++) {
+            booleans[i] = random.nextBoolean();
+            chars[i] = (char) random.nextInt();
+            shorts[i] = (short) random.nextInt();
+            floats[i] = random.nextFloat();
+        }
+        for (int len = 0; len < 37; len++) {
+            assertEquals(java.util.Arrays.hashCode(java.util.Arrays.copyOfRange(bytes, 3, 3 + len)), Arrays.hash(bytes, 3, len));
+            assertEquals(java.util.Arrays.hashCode(java.util.Arrays.copyOfRange(ints, 3, 3 + len)), Arrays.hash(ints, 3, len));
+            assertEquals(java.util.Arrays.hashCode(java.util.Arrays.copyOfRange(longs, 3, 3 + len)), Arrays.hash(longs, 3, len));
+            assertEquals(java.util.Arrays.hashCode(java.util.Arrays.copyOfRange(doubles, 3, 3 + len)), Arrays.hash(doubles, 3, len));
+            assertEquals(java.util.Arrays.hashCode(java.util.Arrays.copyOfRange(booleans, 3, 3 + len)), Arrays.hash(booleans, 3, len));
+            assertEquals(java.util.Arrays.hashCode(java.util.Arrays.copyOfRange(chars, 3, 3 + len)), Arrays.hash(chars, 3, len));
+            assertEquals(java.util.Arrays.hashCode(java.util.Arrays.copyOfRange(shorts, 3, 3 + len)), Arrays.hash(shorts, 3, len));
+            assertEquals(java.util.Arrays.hashCode(java.util.Arrays.copyOfRange(floats, 3, 3 + len)), Arrays.hash(floats, 3, len));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Arrays.hash(ints, 3, 38));
+    }
+
 }
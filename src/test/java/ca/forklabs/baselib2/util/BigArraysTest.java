@@ -0,0 +1,179 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code BigArraysTest} tests classes {@link BigByteArray},
+ * {@link BigIntArray} and {@link BigLongArray}, with tiny segments so that
+ * ranges cross them.
+ */
+public class BigArraysTest {
+
+    /** The base 2 logarithm of the size of the segments, 16 elements. */
+    private static final int SEGMENT_SHIFT = 4;
+
+    /**
+     * Tests the single element accessors across the segments.
+     */
+    @Test
+    public void testGetSet() {
+        var ints = new BigIntArray(100L, SEGMENT_SHIFT);
+        var longs = new BigLongArray(100L, SEGMENT_SHIFT);
+        var bytes = new BigByteArray(100L, SEGMENT_SHIFT);
+        assertEquals(100L, longs.getLength());
+        for (long i = 0L; i < 100L; i++) {
+            assertEquals(0L, longs.get(i));
+            ints.set(i, (int) i * 3);
+            longs.set(i, -i << 40);
+            bytes.set(i, (byte) i);
+        }
+        for (long i = 0L; i < 100L; i++) {
+            assertEquals((int) i * 3, ints.get(i));
+            assertEquals(-i << 40, longs.get(i));
+            assertEquals((byte) i, bytes.get(i));
+        }
+    }
+
+    /**
+     * Tests the memset across the segments.
+     */
+    @Test
+    public void testMemset() {
+        var longs = new BigLongArray(1_000L, SEGMENT_SHIFT);
+        longs.memset(-1L);
+        longs.memset(42L, 3L, 990L);
+        assertEquals(-1L, longs.get(2L));
+        assertEquals(42L, longs.get(3L));
+        assertEquals(42L, longs.get(992L));
+        assertEquals(-1L, longs.get(993L));
+    }
+
+    /**
+     * Tests the copies to and from heap arrays and between big arrays,
+     * including overlapping ranges in both directions.
+     */
+    @Test
+    public void testCopy() {
+        int[] reference = new Random(13L).ints(300).toArray();
+        var ints = new BigIntArray(reference.length, SEGMENT_SHIFT);
+        ints.copyFrom(reference, 0, 0L, reference.length);
+        assertArrayEquals(reference, ints.copyTo(0L, new int[reference.length], 0, reference.length));
+
+        var other = new BigIntArray(400L, 5);
+        BigIntArray.copy(ints, 7L, other, 50L, 250L);
+        assertArrayEquals(java.util.Arrays.copyOfRange(reference, 7, 257), other.copyTo(50L, new int[250], 0, 250));
+
+        System.arraycopy(reference, 10, reference, 37, 200);
+        BigIntArray.copy(ints, 10L, ints, 37L, 200L);
+        assertArrayEquals(reference, ints.copyTo(0L, new int[reference.length], 0, reference.length));
+
+        System.arraycopy(reference, 40, reference, 3, 250);
+        BigIntArray.copy(ints, 40L, ints, 3L, 250L);
+        assertArrayEquals(reference, ints.copyTo(0L, new int[reference.length], 0, reference.length));
+    }
+
+    /**
+     * Tests the sorts and the binary searches against {@link java.util.Arrays}.
+     */
+    @Test
+    public void testSortAndSearch() {
+        var random = new Random(17L);
+        for (int length : new int[] { 0, 1, 15, 16, 17, 100, 1_000 }) {
+            long[] reference = random.longs(length, -50L, 50L).toArray();
+            var longs = new BigLongArray(length, SEGMENT_SHIFT);
+            longs.copyFrom(reference, 0, 0L, length);
+            longs.sort();
+            java.util.Arrays.sort(reference);
+            assertArrayEquals(reference, longs.copyTo(0L, new long[length], 0, length));
+            for (long key = -52L; key < 52L; key++) {
+                long index = longs.binarySearch(key);
+                int expected = java.util.Arrays.binarySearch(reference, key);
+                if (0 <= expected) {
+                    assertEquals(key, longs.get(index));
+                }
+                else {
+                    assertEquals(expected, index);
+                }
+            }
+        }
+
+        int[] ints = random.ints(777).toArray();
+        var big = new BigIntArray(ints.length, SEGMENT_SHIFT);
+        big.copyFrom(ints, 0, 0L, ints.length);
+        big.sort(5L, 700L);
+        java.util.Arrays.sort(ints, 5, 705);
+        assertArrayEquals(ints, big.copyTo(0L, new int[ints.length], 0, ints.length));
+        assertEquals(java.util.Arrays.binarySearch(ints, 5, 705, ints[300]), big.binarySearch(5L, 700L, ints[300]));
+
+        var bytes = new byte[1_000];
+        random.nextBytes(bytes);
+        var bigBytes = new BigByteArray(bytes.length, SEGMENT_SHIFT);
+        bigBytes.copyFrom(bytes, 0, 0L, bytes.length);
+        bigBytes.sort(1L, 998L);
+        java.util.Arrays.sort(bytes, 1, 999);
+        assertArrayEquals(bytes, bigBytes.copyTo(0L, new byte[bytes.length], 0, bytes.length));
+    }
+
+    /**
+     * Tests the default segments and indexes past the first segment of a large
+     * number of segments.
+     */
+    @Test
+    public void testLongIndexes() {
+        var bytes = new BigByteArray(1L << 20);
+        bytes.set((1L << 20) - 1L, (byte) 1);
+        assertEquals((byte) 1, bytes.get((1L << 20) - 1L));
+
+        var longs = new BigLongArray(100_000L, 2);
+        long last = longs.getLength() - 1L;
+        longs.set(last, 99L);
+        assertEquals(99L, longs.get(last));
+        assertEquals(-100_001L, longs.binarySearch(100L));
+    }
+
+    /**
+     * Tests the bounds checking contract.
+     */
+    @Test
+    public void testErrors() {
+        assertThrows(IllegalArgumentException.class, () -> new BigIntArray(-1L));
+
+        var ints = new BigIntArray(10L, SEGMENT_SHIFT);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> ints.get(10L));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> ints.set(-1L, 0));
+        assertThrows(IllegalArgumentException.class, () -> ints.memset(0, 5L, 6L));
+        assertThrows(IllegalArgumentException.class, () -> ints.sort(5L, -1L));
+        assertThrows(IllegalArgumentException.class, () -> BigIntArray.copy(ints, 0L, ints, 5L, 6L));
+        assertThrows(NullPointerException.class, () -> Arrays.checkArray((BigArray) null, 0L, 0L));
+
+        var empty = new BigLongArray(0L);
+        empty.memset(1L);
+        empty.sort();
+        assertEquals(-1L, empty.binarySearch(3L));
+    }
+
+}
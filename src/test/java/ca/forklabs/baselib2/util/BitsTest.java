@@ -18,7 +18,12 @@
 
 package ca.forklabs.baselib2.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteOrder;
 
 import org.junit.jupiter.api.Test;
 
@@ -434,4 +439,405 @@ public class BitsTest {
         assertEquals(8, Bits.NUM_OCTETS_IN_DOUBLE);
     }
 
+    /**
+     * Tests {@link Bits#getInt(byte[], int, ByteOrder)} and
+     * {@link Bits#putInt(byte[], int, int, ByteOrder)}.
+     */
+    @Test
+    public void testGetPutInt() {
+        byte[] bytes = new byte[6];
+
+        Bits.putInt(bytes, 1, 0xcafebabe, ByteOrder.BIG_ENDIAN);
+        assertArrayEquals(new byte[] { 0x00, (byte) 0xca, (byte) 0xfe, (byte) 0xba, (byte) 0xbe, 0x00 }, bytes);
+        assertEquals(0xcafebabe, Bits.getInt(bytes, 1, ByteOrder.BIG_ENDIAN));
+        assertEquals(0xbebafeca, Bits.getInt(bytes, 1, ByteOrder.LITTLE_ENDIAN));
+
+        Bits.putInt(bytes, 2, 0xcafebabe, ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(new byte[] { 0x00, (byte) 0xca, (byte) 0xbe, (byte) 0xba, (byte) 0xfe, (byte) 0xca }, bytes);
+        assertEquals(0xcafebabe, Bits.getInt(bytes, 2, ByteOrder.LITTLE_ENDIAN));
+    }
+
+    /**
+     * Tests that the typed accessors agree with the make and break methods.
+     */
+    @Test
+    public void testGetPutAgreesWithMakeBreak() {
+        byte[] bytes = new byte[8];
+
+        Bits.putShort(bytes, 0, (short) 0xaabb, ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(Bits.breakShortLE((short) 0xaabb), java.util.Arrays.copyOf(bytes, 2));
+        assertEquals((short) 0xaabb, Bits.getShort(bytes, 0, ByteOrder.LITTLE_ENDIAN));
+
+        Bits.putChar(bytes, 0, '\u1221', ByteOrder.BIG_ENDIAN);
+        assertArrayEquals(Bits.breakChar('\u1221'), java.util.Arrays.copyOf(bytes, 2));
+        assertEquals('\u1221', Bits.getChar(bytes, 0, ByteOrder.BIG_ENDIAN));
+
+        Bits.putLong(bytes, 0, 0x1133557799bbddffL, ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(Bits.breakLongLE(0x1133557799bbddffL), bytes);
+        assertEquals(0x1133557799bbddffL, Bits.getLong(bytes, 0, ByteOrder.LITTLE_ENDIAN));
+
+        Bits.putLong(bytes, 0, 0x1133557799bbddffL, ByteOrder.BIG_ENDIAN);
+        assertArrayEquals(Bits.breakLong(0x1133557799bbddffL), bytes);
+        assertEquals(0x1133557799bbddffL, Bits.getLong(bytes, 0, ByteOrder.BIG_ENDIAN));
+
+        Bits.putFloat(bytes, 4, (float) Math.E, ByteOrder.BIG_ENDIAN);
+        assertArrayEquals(Bits.breakFloat((float) Math.E), java.util.Arrays.copyOfRange(bytes, 4, 8));
+        assertEquals((float) Math.E, Bits.getFloat(bytes, 4, ByteOrder.BIG_ENDIAN), 0.0f);
+
+        Bits.putDouble(bytes, 0, Math.PI, ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(Bits.breakDoubleLE(Math.PI), bytes);
+        assertEquals(Math.PI, Bits.getDouble(bytes, 0, ByteOrder.LITTLE_ENDIAN), 0.0);
+    }
+
+    /**
+     * Tests that the typed accessors check the bounds of the array.
+     */
+    @Test
+    public void testGetPutOutOfBounds() {
+        byte[] bytes = new byte[8];
+        assertThrows(IndexOutOfBoundsException.class, () -> Bits.getLong(bytes, 1, ByteOrder.LITTLE_ENDIAN));
+        assertThrows(IndexOutOfBoundsException.class, () -> Bits.putInt(bytes, 5, 0, ByteOrder.BIG_ENDIAN));
+        assertThrows(IndexOutOfBoundsException.class, () -> Bits.getShort(bytes, -1, ByteOrder.BIG_ENDIAN));
+    }
+
+    /**
+     * Tests {@link Bits#encode(int[], int, byte[], int, int, ByteOrder)} and
+     * {@link Bits#decode(byte[], int, int[], int, int, ByteOrder)}.
+     */
+    @Test
+    public void testEncodeDecodeInt() {
+        int[] values = { 0x11223344, 0xcafebabe, -1, 0 };
+        byte[] bytes = new byte[2 + 3 * Bits.NUM_OCTETS_IN_INT];
+
+        Bits.encode(values, 1, bytes, 2, 3, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(0, bytes[0]);
+        assertEquals(0, bytes[1]);
+        assertArrayEquals(Bits.breakIntLE(0xcafebabe), java.util.Arrays.copyOfRange(bytes, 2, 6));
+        assertArrayEquals(Bits.breakIntLE(-1), java.util.Arrays.copyOfRange(bytes, 6, 10));
+        assertArrayEquals(Bits.breakIntLE(0), java.util.Arrays.copyOfRange(bytes, 10, 14));
+
+        int[] decoded = Bits.decode(bytes, 2, new int[3], 0, 3, ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(new int[] { 0xcafebabe, -1, 0 }, decoded);
+
+        Bits.encode(values, 0, bytes, 0, 3, ByteOrder.BIG_ENDIAN);
+        assertArrayEquals(Bits.breakInt(0x11223344), java.util.Arrays.copyOfRange(bytes, 0, 4));
+        assertEquals(0xcafebabe, Bits.getInt(bytes, 4, ByteOrder.BIG_ENDIAN));
+    }
+
+    /**
+     * Tests the bulk conversions of the other primitive types.
+     */
+    @Test
+    public void testEncodeDecodeRoundTrip() {
+        byte[] bytes = new byte[32];
+
+        short[] shorts = { 1, -2, (short) 0xaabb };
+        Bits.encode(shorts, 0, bytes, 0, shorts.length, ByteOrder.BIG_ENDIAN);
+        assertEquals((short) 0xaabb, Bits.getShort(bytes, 4, ByteOrder.BIG_ENDIAN));
+        assertArrayEquals(shorts, Bits.decode(bytes, 0, new short[3], 0, 3, ByteOrder.BIG_ENDIAN));
+
+        char[] chars = { 'a', '\u1221', '\uffff' };
+        Bits.encode(chars, 0, bytes, 1, chars.length, ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(chars, Bits.decode(bytes, 1, new char[3], 0, 3, ByteOrder.LITTLE_ENDIAN));
+
+        long[] longs = { Long.MIN_VALUE, 0x1133557799bbddffL, 42L };
+        Bits.encode(longs, 0, bytes, 3, longs.length, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(0x1133557799bbddffL, Bits.getLong(bytes, 11, ByteOrder.LITTLE_ENDIAN));
+        assertArrayEquals(longs, Bits.decode(bytes, 3, new long[3], 0, 3, ByteOrder.LITTLE_ENDIAN));
+
+        float[] floats = { (float) Math.E, Float.NaN, -0.0f };
+        Bits.encode(floats, 0, bytes, 0, floats.length, ByteOrder.BIG_ENDIAN);
+        assertArrayEquals(floats, Bits.decode(bytes, 0, new float[3], 0, 3, ByteOrder.BIG_ENDIAN));
+
+        double[] doubles = { Math.PI, Double.NEGATIVE_INFINITY, Double.MIN_VALUE };
+        Bits.encode(doubles, 0, bytes, 8, doubles.length, ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(Bits.breakDoubleLE(Math.PI), java.util.Arrays.copyOfRange(bytes, 8, 16));
+        assertArrayEquals(doubles, Bits.decode(bytes, 8, new double[3], 0, 3, ByteOrder.LITTLE_ENDIAN));
+    }
+
+    /**
+     * Tests that the bulk conversions check the bounds of both arrays.
+     */
+    @Test
+    public void testEncodeDecodeOutOfBounds() {
+        int[] values = new int[4];
+        byte[] bytes = new byte[15];
+        assertThrows(IllegalArgumentException.class, () -> Bits.encode(values, 0, bytes, 0, 4, ByteOrder.BIG_ENDIAN));
+        assertThrows(IllegalArgumentException.class, () -> Bits.encode(values, 1, bytes, 0, 4, ByteOrder.BIG_ENDIAN));
+        assertThrows(IllegalArgumentException.class, () -> Bits.decode(bytes, 0, values, 2, 3, ByteOrder.BIG_ENDIAN));
+        assertThrows(NullPointerException.class, () -> Bits.decode(null, 0, values, 0, 1, ByteOrder.BIG_ENDIAN));
+    }
+
+    /**
+     * Tests {@link Bits#zigZagEncode(int)} and {@link Bits#zigZagEncode(long)}.
+     */
+    @Test
+    public void testZigZag() {
+        assertEquals(0, Bits.zigZagEncode(0));
+        assertEquals(1, Bits.zigZagEncode(-1));
+        assertEquals(2, Bits.zigZagEncode(1));
+        assertEquals(-1, Bits.zigZagEncode(Integer.MIN_VALUE));
+        assertEquals(-2, Bits.zigZagEncode(Integer.MAX_VALUE));
+        assertEquals(Integer.MIN_VALUE, Bits.zigZagDecode(-1));
+
+        assertEquals(3L, Bits.zigZagEncode(-2L));
+        assertEquals(-1L, Bits.zigZagEncode(Long.MIN_VALUE));
+        assertEquals(Long.MAX_VALUE, Bits.zigZagDecode(-2L));
+    }
+
+    /**
+     * Tests {@link Bits#putVarInt(byte[], int, int)} against known encodings.
+     */
+    @Test
+    public void testPutVarInt() {
+        byte[] bytes = new byte[Bits.MAX_NUM_OCTETS_IN_VARINT];
+
+        assertEquals(1, Bits.putVarInt(bytes, 0, 1));
+        assertEquals(1, bytes[0]);
+
+        assertEquals(2, Bits.putVarInt(bytes, 0, 300));
+        assertEquals((byte) 0xac, bytes[0]);
+        assertEquals((byte) 0x02, bytes[1]);
+
+        assertEquals(5, Bits.putVarInt(bytes, 0, -1));
+        assertArrayEquals(new byte[] { -1, -1, -1, -1, 0x0f }, bytes);
+
+        assertThrows(IllegalArgumentException.class, () -> Bits.putVarInt(bytes, 1, -1));
+    }
+
+    /**
+     * Tests the variable-length integers on both the fast path, with eight
+     * bytes available, and the byte-at-a-time path at the end of the array.
+     */
+    @Test
+    public void testVarIntRoundTrip() {
+        int[] ints = { 0, 1, 127, 128, 16383, 16384, 2097151, 2097152, 268435455, 268435456, -1, Integer.MIN_VALUE };
+        long[] longs = { 0L, 128L, 0x00ffffffffffffffL, 0x0100000000000000L, 0x7fffffffffffffffL, -1L, Long.MIN_VALUE };
+
+        for (int i : ints) {
+            for (int padding : new int[] { 0, 8 }) {
+                int size = Bits.varIntSize(i);
+                byte[] bytes = new byte[1 + size + padding];
+                assertEquals(size, Bits.putVarInt(bytes, 1, i));
+                assertEquals(i, Bits.getVarInt(bytes, 1));
+                assertEquals(size, Bits.varLength(bytes, 1));
+            }
+        }
+
+        for (long l : longs) {
+            for (int padding : new int[] { 0, 8 }) {
+                int size = Bits.varLongSize(l);
+                byte[] bytes = new byte[1 + size + padding];
+                assertEquals(size, Bits.putVarLong(bytes, 1, l));
+                assertEquals(l, Bits.getVarLong(bytes, 1));
+                assertEquals(size, Bits.varLength(bytes, 1));
+            }
+        }
+
+        assertEquals(10, Bits.varLongSize(-1L));
+        assertEquals(9, Bits.varLongSize(Long.MAX_VALUE));
+    }
+
+    /**
+     * Tests that too long variable-length integers are rejected.
+     */
+    @Test
+    public void testMalformedVarInt() {
+        byte[] bytes = new byte[16];
+        java.util.Arrays.fill(bytes, (byte) 0x80);
+
+        assertThrows(IllegalArgumentException.class, () -> Bits.getVarInt(bytes, 0));
+        assertThrows(IllegalArgumentException.class, () -> Bits.getVarInt(bytes, 11));
+        assertThrows(IllegalArgumentException.class, () -> Bits.getVarLong(bytes, 0));
+        assertThrows(IllegalArgumentException.class, () -> Bits.varLength(bytes, 0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> Bits.getVarLong(bytes, 12));
+    }
+
+    /**
+     * Tests the conversions to and from binary16 on known values.
+     */
+    @Test
+    public void testFloat16() {
+        assertEquals((short) 0x3c00, Bits.floatToFloat16(1.0f));
+        assertEquals((short) 0xc000, Bits.floatToFloat16(-2.0f));
+        assertEquals((short) 0x8000, Bits.floatToFloat16(-0.0f));
+        assertEquals((short) 0x7bff, Bits.floatToFloat16(65504.0f));
+        assertEquals((short) 0x7bff, Bits.floatToFloat16(65519.0f));
+        assertEquals((short) 0x7c00, Bits.floatToFloat16(65520.0f));
+        assertEquals((short) 0xfc00, Bits.floatToFloat16(Float.NEGATIVE_INFINITY));
+        assertEquals((short) 0x0400, Bits.floatToFloat16(0x1p-14f));
+        assertEquals((short) 0x0001, Bits.floatToFloat16(0x1p-24f));
+        assertEquals((short) 0x0000, Bits.floatToFloat16(0x1p-25f));
+        assertEquals((short) 0x0001, Bits.floatToFloat16(0x1.8p-25f));
+        assertEquals((short) 0x0002, Bits.floatToFloat16(0x1.4p-23f));
+        assertEquals((short) 0x3c00, Bits.floatToFloat16(1.0f + 0x1p-11f));
+        assertEquals((short) 0x3c02, Bits.floatToFloat16(1.0f + 0x3p-11f));
+        assertEquals((short) 0x7e00, Bits.floatToFloat16(Float.NaN));
+        assertTrue(Float.isNaN(Bits.float16ToFloat(Bits.floatToFloat16(Float.intBitsToFloat(0x7f800001)))));
+
+        assertEquals(1.0f, Bits.float16ToFloat((short) 0x3c00));
+        assertEquals(65504.0f, Bits.float16ToFloat((short) 0x7bff));
+        assertEquals(0x1p-24f, Bits.float16ToFloat((short) 0x0001));
+        assertEquals(-0x1.ff8p-15f, Bits.float16ToFloat((short) 0x83ff));
+        assertEquals(Float.floatToRawIntBits(-0.0f), Float.floatToRawIntBits(Bits.float16ToFloat((short) 0x8000)));
+        assertEquals(Float.POSITIVE_INFINITY, Bits.float16ToFloat((short) 0x7c00));
+        assertTrue(Float.isNaN(Bits.float16ToFloat((short) 0x7c01)));
+    }
+
+    /**
+     * Tests every binary16 value, the round trip and the rounding of the
+     * midpoints between consecutive values.
+     */
+    @Test
+    public void testFloat16Exhaustive() {
+        for (int i = 0; i < 0x7c00; i++) {
+            short h = (short) i;
+            float f = Bits.float16ToFloat(h);
+            assertEquals(h, Bits.floatToFloat16(f));
+            assertEquals((short) (h | 0x8000), Bits.floatToFloat16(-f));
+            if (0x7bff == i) {
+                // the next value is the infinity
+                continue;
+            }
+
+            float next = Bits.float16ToFloat((short) (i + 1));
+            float midpoint = (float) (((double) f + (double) next) / 2.0);
+            short even = (0 == (i & 1)) ? h : (short) (i + 1);
+            assertEquals(even, Bits.floatToFloat16(midpoint), "midpoint after " + Integer.toHexString(i));
+            assertEquals(h, Bits.floatToFloat16(Math.nextDown(midpoint)));
+            assertEquals((short) (i + 1), Bits.floatToFloat16(Math.nextUp(midpoint)));
+        }
+    }
+
+    /**
+     * Tests the conversions to and from bfloat16.
+     */
+    @Test
+    public void testBFloat16() {
+        assertEquals((short) 0x3f80, Bits.floatToBFloat16(1.0f));
+        assertEquals((short) 0x3f80, Bits.floatToBFloat16(1.0f + 0x1p-8f));
+        assertEquals((short) 0x3f82, Bits.floatToBFloat16(1.0f + 0x3p-8f));
+        assertEquals((short) 0x3f81, Bits.floatToBFloat16(1.0f + 0x1.2p-8f));
+        assertEquals((short) 0x7f80, Bits.floatToBFloat16(Float.MAX_VALUE));
+        assertEquals((short) 0x8000, Bits.floatToBFloat16(-0.0f));
+        assertEquals((short) 0x7fc0, Bits.floatToBFloat16(Float.NaN));
+        assertTrue(Float.isNaN(Bits.bfloat16ToFloat(Bits.floatToBFloat16(Float.intBitsToFloat(0x7f800001)))));
+
+        for (int i = 0; i < 0x10000; i++) {
+            short b = (short) i;
+            float f = Bits.bfloat16ToFloat(b);
+            if (false == Float.isNaN(f)) {
+                assertEquals(b, Bits.floatToBFloat16(f));
+            }
+        }
+    }
+
+    /**
+     * Tests that the bulk half-precision conversions match the scalar ones.
+     */
+    @Test
+    public void testHalfPrecisionBulk() {
+        var random = new java.util.Random(16L);
+        float[] floats = new float[1000];
+        for (int i = 0; i < floats.length; i++) {
+            floats[i] = (float) (random.nextGaussian() * 1000.0);
+        }
+
+        short[] halves = Bits.floatToFloat16(floats, 10, new short[990], 0, 990);
+        short[] bhalves = Bits.floatToBFloat16(floats, 10, new short[990], 0, 990);
+        for (int i = 0; i < 990; i++) {
+            assertEquals(Bits.floatToFloat16(floats[i + 10]), halves[i]);
+            assertEquals(Bits.floatToBFloat16(floats[i + 10]), bhalves[i]);
+        }
+
+        float[] back = Bits.float16ToFloat(halves, 0, new float[990], 0, 990);
+        float[] bback = Bits.bfloat16ToFloat(bhalves, 0, new float[990], 0, 990);
+        for (int i = 0; i < 990; i++) {
+            assertEquals(Bits.float16ToFloat(halves[i]), back[i]);
+            assertEquals(Bits.bfloat16ToFloat(bhalves[i]), bback[i]);
+        }
+
+        for (var order : new ByteOrder[] { ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN }) {
+            byte[] bytes = Bits.encodeFloat16(floats, 0, new byte[2000], 0, 1000, order);
+            assertEquals(Bits.floatToFloat16(floats[3]), Bits.getShort(bytes, 6, order));
+            float[] decoded = Bits.decodeFloat16(bytes, 0, new float[1000], 0, 1000, order);
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(Bits.float16ToFloat(Bits.floatToFloat16(floats[i])), decoded[i]);
+            }
+
+            bytes = Bits.encodeBFloat16(floats, 0, new byte[2000], 0, 1000, order);
+            assertEquals(Bits.floatToBFloat16(floats[3]), Bits.getShort(bytes, 6, order));
+            decoded = Bits.decodeBFloat16(bytes, 0, new float[1000], 0, 1000, order);
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(Bits.bfloat16ToFloat(Bits.floatToBFloat16(floats[i])), decoded[i]);
+            }
+        }
+    }
+
+    /**
+     * Tests the in-place byte reversal of the primitive arrays.
+     */
+    @Test
+    public void testReverseBytes() {
+        var random = new java.util.Random(8L);
+        int[] ints = random.ints(100).toArray();
+        long[] longs = random.longs(100).toArray();
+        double[] doubles = random.doubles(100).toArray();
+        float[] floats = new float[100];
+        short[] shorts = new short[100];
+        char[] chars = new char[100];
+        for (int i = 0; i < 100; i++) {
+            floats[i] = random.nextFloat();
+            shorts[i] = (short) random.nextInt();
+            chars[i] = (char) random.nextInt();
+        }
+
+        byte[] bytes = Bits.encode(ints, 0, new byte[400], 0, 100, ByteOrder.LITTLE_ENDIAN);
+        int[] swapped = Bits.reverseBytes(ints.clone(), 0, 100);
+        assertArrayEquals(Bits.decode(bytes, 0, new int[100], 0, 100, ByteOrder.BIG_ENDIAN), swapped);
+
+        bytes = Bits.encode(longs, 0, new byte[800], 0, 100, ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(Bits.decode(bytes, 0, new long[100], 0, 100, ByteOrder.BIG_ENDIAN), Bits.reverseBytes(longs.clone(), 0, 100));
+
+        bytes = Bits.encode(shorts, 0, new byte[200], 0, 100, ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(Bits.decode(bytes, 0, new short[100], 0, 100, ByteOrder.BIG_ENDIAN), Bits.reverseBytes(shorts.clone(), 0, 100));
+
+        bytes = Bits.encode(chars, 0, new byte[200], 0, 100, ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(Bits.decode(bytes, 0, new char[100], 0, 100, ByteOrder.BIG_ENDIAN), Bits.reverseBytes(chars.clone(), 0, 100));
+
+        int[] partial = ints.clone();
+        Bits.reverseBytes(partial, 10, 5);
+        assertEquals(ints[9], partial[9]);
+        assertEquals(Integer.reverseBytes(ints[10]), partial[10]);
+        assertEquals(Integer.reverseBytes(ints[14]), partial[14]);
+        assertEquals(ints[15], partial[15]);
+
+        float[] twice = Bits.reverseBytes(Bits.reverseBytes(floats.clone(), 0, 100), 0, 100);
+        assertArrayEquals(floats, twice);
+        double[] dtwice = Bits.reverseBytes(Bits.reverseBytes(doubles.clone(), 0, 100), 0, 100);
+        assertArrayEquals(doubles, dtwice);
+        assertEquals(Integer.reverseBytes(Float.floatToRawIntBits(floats[3])), Float.floatToRawIntBits(Bits.reverseBytes(floats.clone(), 0, 100)[3]));
+    }
+
+    /**
+     * Tests the byte swapping of raw buffers.
+     */
+    @Test
+    public void testSwap() {
+        byte[] data = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23 };
+
+        assertArrayEquals(new byte[] { 1, 0, 3, 2, 5, 4 }, java.util.Arrays.copyOf(Bits.swap(data.clone(), 0, 24, 2), 6));
+        assertArrayEquals(new byte[] { 3, 2, 1, 0, 7, 6 }, java.util.Arrays.copyOf(Bits.swap(data.clone(), 0, 24, 4), 6));
+        assertArrayEquals(new byte[] { 7, 6, 5, 4, 3, 2, 1, 0, 15 }, java.util.Arrays.copyOf(Bits.swap(data.clone(), 0, 24, 8), 9));
+        assertArrayEquals(new byte[] { 2, 1, 0, 5, 4, 3 }, java.util.Arrays.copyOf(Bits.swap(data.clone(), 0, 24, 3), 6));
+        assertArrayEquals(data, Bits.swap(data.clone(), 0, 24, 1));
+
+        byte[] swapped = Bits.swap(data.clone(), 4, 16, 8);
+        assertArrayEquals(new byte[] { 0, 1, 2, 3, 11, 10, 9, 8, 7, 6, 5, 4, 19 }, java.util.Arrays.copyOf(swapped, 13));
+        assertEquals(20, swapped[20]);
+
+        assertThrows(IllegalArgumentException.class, () -> Bits.swap(data, 0, 6, 4));
+        assertThrows(IllegalArgumentException.class, () -> Bits.swap(data, 0, 6, 0));
+    }
+
 }
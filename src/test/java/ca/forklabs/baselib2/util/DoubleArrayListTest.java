@@ -0,0 +1,120 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code DoubleArrayListTest} tests class {@link DoubleArrayList}.
+ */
+public class DoubleArrayListTest {
+
+    /**
+     * Tests that {@code indexOf()} and {@code contains()} compare the bits of
+     * the values, so that they find {@code NaN} and tell {@code -0.0} from
+     * {@code 0.0}.
+     */
+    @Test
+    public void testIndexOf() {
+        double[] values = { 5.5, -0.0, Double.NaN, 0.0, 1.0 };
+        var list = new DoubleArrayList(values, 0, values.length);
+        assertEquals(2, list.indexOf(Double.NaN));
+        assertEquals(2, list.indexOf(0.0 / 0.0));
+        assertTrue(list.contains(Double.NaN));
+        assertEquals(1, list.indexOf(-0.0));
+        assertEquals(3, list.indexOf(0.0));
+
+        list.removeAt(3);
+        assertTrue(list.contains(-0.0));
+        assertFalse(list.contains(0.0));
+        list.removeAt(2);
+        assertFalse(list.contains(Double.NaN));
+        assertEquals(-1, list.indexOf(Double.NaN));
+    }
+
+    /**
+     * Tests the sort, the searches, the iterator and the stream, with
+     * {@code NaN} and both zeros.
+     */
+    @Test
+    public void testSortAndSearch() {
+        double[] values = { 5.5, Double.NaN, 0.0, 9.25, -0.0, -1.0, 2.5 };
+        var list = new DoubleArrayList(values, 0, values.length);
+
+        list.sort();
+        double[] sorted = values.clone();
+        java.util.Arrays.sort(sorted);
+        assertArrayEquals(sorted, list.toArray());
+        assertEquals(1, list.indexOf(-0.0));
+        assertEquals(2, list.indexOf(0.0));
+        assertEquals(values.length - 1, list.indexOf(Double.NaN));
+        assertEquals(java.util.Arrays.binarySearch(sorted, -0.0), list.binarySearch(-0.0));
+        assertEquals(java.util.Arrays.binarySearch(sorted, Double.NaN), list.binarySearch(Double.NaN));
+        assertTrue(0 > list.binarySearch(-2.0));
+
+        var iterator = list.iterator();
+        for (double value : sorted) {
+            assertTrue(iterator.hasNext());
+            assertEquals(value, iterator.nextDouble());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextDouble);
+
+        assertTrue(Double.isNaN(list.stream().sum()));
+        var copy = new DoubleArrayList();
+        list.forEach(copy::add);
+        assertEquals(list, copy);
+    }
+
+    /**
+     * Tests {@code equals()}, {@code hashCode()} and {@code toString()}, which
+     * take {@code NaN} as equal to itself and {@code -0.0} as different from
+     * {@code 0.0}, like {@link java.util.Arrays#equals(double[], double[])}.
+     */
+    @Test
+    public void testObjectMethods() {
+        double[] values = { 5.5, Double.NaN, -0.0, 1.0 };
+        var list = new DoubleArrayList(values, 0, values.length);
+        var other = new DoubleArrayList(1);
+        other.addAll(values, 0, values.length);
+
+        assertEquals(list, other);
+        assertEquals(java.util.Arrays.hashCode(values), list.hashCode());
+        assertEquals(list.hashCode(), other.hashCode());
+        assertEquals(java.util.Arrays.toString(values), list.toString());
+
+        other.set(2, 0.0);
+        assertNotEquals(list, other);
+        assertNotEquals(list.hashCode(), other.hashCode());
+        other.set(2, -0.0);
+        other.add(-1.0);
+        assertNotEquals(list, other);
+        assertNotEquals(list, "list");
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code FrameOfReferenceTest} tests class {@link FrameOfReference}.
+ */
+public class FrameOfReferenceTest {
+
+    /**
+     * Builds a block of {@code int}s whose differences to the base need exactly
+     * the given number of bits.
+     * @param   base   the smallest value.
+     * @param   width   the bit width.
+     * @param   random   the source of randomness.
+     * @return   the block.
+     */
+    private static int[] intBlock(int base, int width, Random random) {
+        long mask = (0 == width) ? 0L : -1L >>> (64 - width);
+        int[] values = new int[FrameOfReference.BLOCK_SIZE + 1];
+        for (int i = 1; i < values.length; i++) {
+            values[i] = (int) (base + (random.nextLong() & mask));
+        }
+        values[1] = base;
+        values[2] = (int) (base + mask);
+        return values;
+    }
+
+    /**
+     * Builds a block of {@code long}s whose differences to the base need
+     * exactly the given number of bits.
+     * @param   base   the smallest value.
+     * @param   width   the bit width.
+     * @param   random   the source of randomness.
+     * @return   the block.
+     */
+    private static long[] longBlock(long base, int width, Random random) {
+        long mask = (0 == width) ? 0L : -1L >>> (64 - width);
+        long[] values = new long[FrameOfReference.BLOCK_SIZE + 1];
+        for (int i = 1; i < values.length; i++) {
+            values[i] = base + (random.nextLong() & mask);
+        }
+        values[1] = base;
+        values[2] = base + mask;
+        return values;
+    }
+
+    /**
+     * Tests the {@code int} blocks at every bit width, in arrays and buffers.
+     */
+    @Test
+    public void testIntRoundTrip() {
+        var random = new Random(42L);
+        for (int width = 0; width <= 32; width++) {
+            int[] values = intBlock(Integer.MIN_VALUE + width, width, random);
+            assertEquals(width, FrameOfReference.bitWidth(values, 1));
+
+            int size = FrameOfReference.intBlockSize(width);
+            byte[] bytes = new byte[3 + size];
+            assertEquals(size, FrameOfReference.encode(values, 1, bytes, 3));
+
+            int[] decoded = new int[values.length];
+            assertEquals(size, FrameOfReference.decode(bytes, 3, decoded, 1));
+            assertArrayEquals(values, decoded);
+
+            var buffer = ByteBuffer.allocateDirect(size + 1);
+            buffer.position(1);
+            FrameOfReference.encode(values, 1, buffer);
+            assertEquals(size + 1, buffer.position());
+            buffer.position(1);
+
+            decoded = new int[values.length];
+            FrameOfReference.decode(buffer, decoded, 1);
+            assertEquals(size + 1, buffer.position());
+            assertArrayEquals(values, decoded);
+        }
+    }
+
+    /**
+     * Tests the {@code long} blocks at every bit width, in arrays and buffers.
+     */
+    @Test
+    public void testLongRoundTrip() {
+        var random = new Random(1969L);
+        for (int width = 0; width <= 64; width++) {
+            long[] values = longBlock((62 < width) ? Long.MIN_VALUE : 1_600_000_000_000L, width, random);
+            assertEquals(width, FrameOfReference.bitWidth(values, 1));
+
+            int size = FrameOfReference.longBlockSize(width);
+            byte[] bytes = new byte[size];
+            assertEquals(size, FrameOfReference.encode(values, 1, bytes, 0));
+
+            long[] decoded = new long[values.length];
+            assertEquals(size, FrameOfReference.decode(bytes, 0, decoded, 1));
+            assertArrayEquals(values, decoded);
+
+            var buffer = ByteBuffer.allocate(size).order(ByteOrder.BIG_ENDIAN);
+            FrameOfReference.encode(values, 1, buffer);
+            assertEquals(0, buffer.remaining());
+            assertArrayEquals(bytes, buffer.array());
+
+            buffer.flip();
+            decoded = new long[values.length];
+            FrameOfReference.decode(buffer, decoded, 1);
+            assertArrayEquals(values, decoded);
+        }
+    }
+
+    /**
+     * Tests the layout of a small block.
+     */
+    @Test
+    public void testLayout() {
+        int[] values = new int[FrameOfReference.BLOCK_SIZE];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1000 + (i & 1);
+        }
+
+        byte[] bytes = new byte[FrameOfReference.intBlockSize(1)];
+        assertEquals(21, FrameOfReference.encode(values, 0, bytes, 0));
+        assertEquals(1, bytes[0]);
+        assertEquals(1000, Bits.getInt(bytes, 1, ByteOrder.LITTLE_ENDIAN));
+        for (int i = 5; i < bytes.length; i++) {
+            assertEquals((byte) 0xaa, bytes[i]);
+        }
+    }
+
+    /**
+     * Tests the errors.
+     */
+    @Test
+    public void testErrors() {
+        int[] values = new int[FrameOfReference.BLOCK_SIZE];
+        byte[] bytes = new byte[FrameOfReference.intBlockSize(0)];
+
+        assertThrows(IllegalArgumentException.class, () -> FrameOfReference.encode(values, 1, bytes, 0));
+        assertThrows(IllegalArgumentException.class, () -> FrameOfReference.encode(new int[] { 0, 1 }, 0, bytes, 0));
+
+        bytes[0] = 33;
+        assertThrows(IllegalArgumentException.class, () -> FrameOfReference.decode(bytes, 0, values, 0));
+        bytes[0] = 1;
+        assertThrows(IllegalArgumentException.class, () -> FrameOfReference.decode(bytes, 0, values, 0));
+
+        values[7] = Integer.MAX_VALUE;
+        assertThrows(BufferOverflowException.class, () -> FrameOfReference.encode(values, 0, ByteBuffer.allocate(64)));
+        assertThrows(BufferUnderflowException.class, () -> FrameOfReference.decode(ByteBuffer.allocate(0), values, 0));
+        assertThrows(BufferUnderflowException.class, () -> FrameOfReference.decode(ByteBuffer.wrap(bytes), values, 0));
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code IntArrayListTest} tests class {@link IntArrayList}.
+ */
+public class IntArrayListTest {
+
+    /**
+     * Tests the additions, the growth and the accessors.
+     */
+    @Test
+    public void testAdd() {
+        var list = new IntArrayList(0);
+        assertTrue(list.isEmpty());
+        for (int i = 0; i < 1000; i++) {
+            list.add(i * 3);
+        }
+        assertEquals(1000, list.size());
+        assertEquals(21, list.get(7));
+
+        list.add(0, -1);
+        list.add(1001, 42);
+        assertEquals(1002, list.size());
+        assertEquals(-1, list.get(0));
+        assertEquals(42, list.get(1001));
+        assertEquals(21, list.get(8));
+
+        assertEquals(-1, list.set(0, 42));
+        assertEquals(42, list.get(0));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1002));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(1003, -1));
+        assertThrows(IllegalArgumentException.class, () -> new IntArrayList(-1));
+    }
+
+    /**
+     * Tests the bulk additions and the conversions to arrays.
+     */
+    @Test
+    public void testAddAll() {
+        int[] values = { 5, 3, 9, 1, 7, 2 };
+        var list = new IntArrayList(values, 1, 3);
+        assertArrayEquals(java.util.Arrays.copyOfRange(values, 1, 4), list.toArray());
+
+        list.addAll(values, 0, values.length);
+        list.addAll(list);
+        assertEquals(2 * (3 + values.length), list.size());
+        assertEquals(list.get(3), list.get(3 + values.length + 3));
+
+        int[] dst = list.toArray(new int[list.size() + 2], 1);
+        assertEquals(list.get(0), dst[1]);
+        assertEquals(list.get(list.size() - 1), dst[list.size()]);
+
+        assertThrows(IllegalArgumentException.class, () -> list.addAll(values, 2, values.length));
+    }
+
+    /**
+     * Tests the removals.
+     */
+    @Test
+    public void testRemove() {
+        int[] values = { 5, 3, 9, 1, 7, 2 };
+        var list = new IntArrayList(values, 0, values.length);
+
+        assertEquals(values[1], list.removeAt(1));
+        assertEquals(values[2], list.get(1));
+        assertEquals(values.length - 1, list.size());
+
+        list.removeRange(1, 3);
+        assertEquals(values.length - 3, list.size());
+        assertEquals(values[4], list.get(1));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(0));
+    }
+
+    /**
+     * Tests the memset and the resizing.
+     */
+    @Test
+    public void testMemset() {
+        var list = new IntArrayList();
+        list.setSize(100);
+        assertEquals(100, list.size());
+        assertEquals(0, list.get(99));
+
+        list.memset(-1);
+        list.memset(42, 10, 5);
+        assertEquals(-1, list.get(9));
+        assertEquals(42, list.get(10));
+        assertEquals(42, list.get(14));
+        assertEquals(-1, list.get(15));
+
+        list.setSize(20);
+        list.setSize(30);
+        assertEquals(-1, list.get(19));
+        assertEquals(0, list.get(20));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.memset(-1, 25, 10));
+        list.trimToSize();
+        assertEquals(30, list.size());
+    }
+
+    /**
+     * Tests the sort, the searches, the iterator and the stream.
+     */
+    @Test
+    public void testSortAndSearch() {
+        int[] values = { 5, 3, 9, 1, 7, 2 };
+        var list = new IntArrayList(values, 0, values.length);
+        assertEquals(2, list.indexOf(values[2]));
+        assertFalse(list.contains(-1));
+
+        list.sort();
+        int[] sorted = values.clone();
+        java.util.Arrays.sort(sorted);
+        assertArrayEquals(sorted, list.toArray());
+        assertEquals(java.util.Arrays.binarySearch(sorted, values[3]), list.binarySearch(values[3]));
+        assertTrue(0 > list.binarySearch(-1));
+
+        var iterator = list.iterator();
+        for (int value : sorted) {
+            assertTrue(iterator.hasNext());
+            assertEquals(value, iterator.nextInt());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+
+        assertEquals(java.util.Arrays.stream(sorted).sum(), list.stream().sum());
+        var copy = new IntArrayList();
+        list.forEach(copy::add);
+        assertEquals(list, copy);
+    }
+
+    /**
+     * Tests {@code equals()}, {@code hashCode()} and {@code toString()}.
+     */
+    @Test
+    public void testObjectMethods() {
+        int[] values = { 5, 3, 9, 1, 7, 2 };
+        var list = new IntArrayList(values, 0, values.length);
+        var other = new IntArrayList(1);
+        other.addAll(values, 0, values.length);
+
+        assertEquals(list, other);
+        assertEquals(java.util.Arrays.hashCode(values), list.hashCode());
+        assertEquals(list.hashCode(), other.hashCode());
+        assertEquals(java.util.Arrays.toString(values), list.toString());
+
+        other.add(-1);
+        assertNotEquals(list, other);
+        assertNotEquals(list, "list");
+    }
+
+}
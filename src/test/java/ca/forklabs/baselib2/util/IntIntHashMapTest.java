@@ -0,0 +1,131 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code IntIntHashMapTest} tests class {@link IntIntHashMap}.
+ */
+public class IntIntHashMapTest {
+
+    /**
+     * Tests the basic operations, including the zero key.
+     */
+    @Test
+    public void testPutGetRemove() {
+        var map = new IntIntHashMap();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.put(7, 70));
+        assertEquals(70, map.put(7, 71));
+        assertEquals(0, map.put(0, -1));
+        assertEquals(2, map.size());
+        assertEquals(71, map.get(7));
+        assertEquals(-1, map.get(0));
+        assertEquals(0, map.get(8));
+        assertEquals(42, map.getOrDefault(8, 42));
+        assertTrue(map.containsKey(0));
+        assertFalse(map.containsKey(8));
+
+        assertEquals(-1, map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertEquals(0, map.remove(8));
+        assertEquals(1, map.size());
+
+        assertEquals(5, map.addTo(9, 5));
+        assertEquals(8, map.addTo(9, 3));
+        assertEquals(2, map.addTo(0, 2));
+        assertEquals(3, map.size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(7));
+    }
+
+    /**
+     * Tests a long series of random operations against {@link HashMap},
+     * with keys colliding enough to exercise the backward-shift deletion.
+     */
+    @Test
+    public void testChurn() {
+        var random = new Random(31L);
+        var expected = new HashMap<Integer, Integer>();
+        var map = new IntIntHashMap(4, 0.9f);
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(512) - 64;
+            int value = random.nextInt();
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.getOrDefault(key, 0), map.put(key, value));
+                    expected.put(key, value);
+                    break;
+                case 1:
+                    assertEquals(expected.getOrDefault(key, 0), map.remove(key));
+                    expected.remove(key);
+                    break;
+                default:
+                    assertEquals(expected.containsKey(key), map.containsKey(key));
+                    assertEquals(expected.getOrDefault(key, 0), map.get(key));
+                    break;
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        map.forEach((key, value) -> assertEquals(expected.get(key), value));
+
+        int[] keys = map.keys();
+        java.util.Arrays.sort(keys);
+        int[] expectedKeys = expected.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        assertArrayEquals(expectedKeys, keys);
+    }
+
+    /**
+     * Tests the growth of the table.
+     */
+    @Test
+    public void testGrowth() {
+        var map = new IntIntHashMap(0);
+        for (int i = 0; i < 100_000; i++) {
+            map.put(i * 1024, i);
+        }
+        assertEquals(100_000, map.size());
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(i, map.get(i * 1024));
+        }
+    }
+
+    /**
+     * Tests the validation of the load factor.
+     */
+    @Test
+    public void testBadLoadFactor() {
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashMap(16, 0.0f));
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashMap(16, 1.0f));
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashMap(16, Float.NaN));
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code LongHashSetTest} tests class {@link LongHashSet}.
+ */
+public class LongHashSetTest {
+
+    /**
+     * Tests the basic operations, including zero.
+     */
+    @Test
+    public void testAddContainsRemove() {
+        var set = new LongHashSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(3L));
+        assertFalse(set.add(3L));
+        assertTrue(set.add(0L));
+        assertFalse(set.add(0L));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(0L));
+        assertFalse(set.contains(4L));
+
+        assertTrue(set.remove(0L));
+        assertFalse(set.remove(0L));
+        assertFalse(set.remove(4L));
+        assertEquals(1, set.size());
+
+        long[] elements = { 5L, 0L, 5L, -1L };
+        set.addAll(elements, 0, elements.length);
+        long[] array = set.toArray();
+        java.util.Arrays.sort(array);
+        assertArrayEquals(new long[] { -1L, 0L, 3L, 5L }, array);
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(3L));
+    }
+
+    /**
+     * Tests a long series of random operations against {@link HashSet}, with
+     * elements colliding enough to exercise the backward-shift deletion.
+     */
+    @Test
+    public void testChurn() {
+        var random = new Random(41L);
+        var expected = new HashSet<Long>();
+        var set = new LongHashSet(4, 0.9f);
+        for (int i = 0; i < 200_000; i++) {
+            long element = (random.nextInt(512) - 64) * (1L << 40);
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.add(element), set.add(element));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(element), set.remove(element));
+                    break;
+                default:
+                    assertEquals(expected.contains(element), set.contains(element));
+                    break;
+            }
+        }
+        assertEquals(expected.size(), set.size());
+        set.forEach(element -> assertTrue(expected.contains(element)));
+    }
+
+    /**
+     * Tests the validation of the load factor.
+     */
+    @Test
+    public void testBadLoadFactor() {
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(16, 0.0f));
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(16, 1.0f));
+    }
+
+}
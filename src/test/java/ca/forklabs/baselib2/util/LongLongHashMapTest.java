@@ -0,0 +1,131 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code LongLongHashMapTest} tests class {@link LongLongHashMap}.
+ */
+public class LongLongHashMapTest {
+
+    /**
+     * Tests the basic operations, including the zero key.
+     */
+    @Test
+    public void testPutGetRemove() {
+        var map = new LongLongHashMap();
+        assertTrue(map.isEmpty());
+        assertEquals(0L, map.put(7L, 70L));
+        assertEquals(70L, map.put(7L, 71L));
+        assertEquals(0L, map.put(0L, -1L));
+        assertEquals(2, map.size());
+        assertEquals(71L, map.get(7L));
+        assertEquals(-1L, map.get(0L));
+        assertEquals(0L, map.get(8L));
+        assertEquals(42L, map.getOrDefault(8L, 42L));
+        assertTrue(map.containsKey(0L));
+        assertFalse(map.containsKey(8L));
+
+        assertEquals(-1L, map.remove(0L));
+        assertFalse(map.containsKey(0L));
+        assertEquals(0L, map.remove(8L));
+        assertEquals(1, map.size());
+
+        assertEquals(5L, map.addTo(9L, 5L));
+        assertEquals(8L, map.addTo(9L, 3L));
+        assertEquals(2L, map.addTo(0L, 2L));
+        assertEquals(3, map.size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(7L));
+    }
+
+    /**
+     * Tests a long series of random operations against {@link HashMap},
+     * with keys colliding enough to exercise the backward-shift deletion.
+     */
+    @Test
+    public void testChurn() {
+        var random = new Random(31L);
+        var expected = new HashMap<Long, Long>();
+        var map = new LongLongHashMap(4, 0.9f);
+        for (int i = 0; i < 200_000; i++) {
+            long key = (random.nextInt(512) - 64) * (1L << 40);
+            long value = random.nextLong();
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.getOrDefault(key, 0L), map.put(key, value));
+                    expected.put(key, value);
+                    break;
+                case 1:
+                    assertEquals(expected.getOrDefault(key, 0L), map.remove(key));
+                    expected.remove(key);
+                    break;
+                default:
+                    assertEquals(expected.containsKey(key), map.containsKey(key));
+                    assertEquals(expected.getOrDefault(key, 0L), map.get(key));
+                    break;
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        map.forEach((key, value) -> assertEquals(expected.get(key), value));
+
+        long[] keys = map.keys();
+        java.util.Arrays.sort(keys);
+        long[] expectedKeys = expected.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        assertArrayEquals(expectedKeys, keys);
+    }
+
+    /**
+     * Tests the growth of the table.
+     */
+    @Test
+    public void testGrowth() {
+        var map = new LongLongHashMap(0);
+        for (int i = 0; i < 100_000; i++) {
+            map.put(i * (1L << 32), i);
+        }
+        assertEquals(100_000, map.size());
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(i, map.get(i * (1L << 32)));
+        }
+    }
+
+    /**
+     * Tests the validation of the load factor.
+     */
+    @Test
+    public void testBadLoadFactor() {
+        assertThrows(IllegalArgumentException.class, () -> new LongLongHashMap(16, 0.0f));
+        assertThrows(IllegalArgumentException.class, () -> new LongLongHashMap(16, 1.0f));
+        assertThrows(IllegalArgumentException.class, () -> new LongLongHashMap(16, Float.NaN));
+    }
+
+}
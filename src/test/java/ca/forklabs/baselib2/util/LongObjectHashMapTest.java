@@ -0,0 +1,116 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code LongObjectHashMapTest} tests class {@link LongObjectHashMap}.
+ */
+public class LongObjectHashMapTest {
+
+    /**
+     * Tests the basic operations, including the zero key.
+     */
+    @Test
+    public void testPutGetRemove() {
+        var map = new LongObjectHashMap<String>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(7L, "seven"));
+        assertEquals("seven", map.put(7L, "SEVEN"));
+        assertNull(map.put(0L, "zero"));
+        assertEquals(2, map.size());
+        assertEquals("SEVEN", map.get(7L));
+        assertEquals("zero", map.get(0L));
+        assertNull(map.get(8L));
+        assertEquals("none", map.getOrDefault(8L, "none"));
+
+        assertEquals("zero", map.remove(0L));
+        assertFalse(map.containsKey(0L));
+        assertNull(map.remove(8L));
+        assertEquals(1, map.size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(7L));
+    }
+
+    /**
+     * Tests the lazy computation of the values.
+     */
+    @Test
+    public void testComputeIfAbsent() {
+        var map = new LongObjectHashMap<String>();
+        String value = map.computeIfAbsent(12L, Long::toString);
+        assertEquals("12", value);
+        assertSame(value, map.computeIfAbsent(12L, key -> "other"));
+        assertNull(map.computeIfAbsent(13L, key -> null));
+        assertFalse(map.containsKey(13L));
+        assertEquals(1, map.size());
+    }
+
+    /**
+     * Tests a long series of random operations against {@link HashMap},
+     * with keys colliding enough to exercise the backward-shift deletion.
+     */
+    @Test
+    public void testChurn() {
+        var random = new Random(37L);
+        var expected = new HashMap<Long, Integer>();
+        var map = new LongObjectHashMap<Integer>(4, 0.9f);
+        for (int i = 0; i < 200_000; i++) {
+            long key = (random.nextInt(512) - 64) * (1L << 40);
+            Integer value = random.nextInt();
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.put(key, value), map.put(key, value));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                default:
+                    assertEquals(expected.get(key), map.get(key));
+                    break;
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        map.forEach((key, value) -> assertSame(expected.get(key), value));
+        assertEquals(expected.size(), map.keys().length);
+    }
+
+    /**
+     * Tests the validation of the load factor.
+     */
+    @Test
+    public void testBadLoadFactor() {
+        assertThrows(IllegalArgumentException.class, () -> new LongObjectHashMap<Object>(16, -0.5f));
+        assertThrows(IllegalArgumentException.class, () -> new LongObjectHashMap<Object>(16, 1.5f));
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code Murmur3Hash128Test} tests class {@link Murmur3Hash128}.
+ */
+public class Murmur3Hash128Test {
+
+    /**
+     * Hashes the ASCII bytes of the string.
+     * @param   s   the string.
+     * @param   seed   the seed.
+     * @return   the hash.
+     */
+    private static long[] hash(String s, int seed) {
+        byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+        return Murmur3Hash128.hash128(bytes, 0, bytes.length, seed, null);
+    }
+
+    /**
+     * Tests the reference vectors.
+     */
+    @Test
+    public void testReferenceVectors() {
+        assertArrayEquals(new long[] { 0L, 0L }, Murmur3Hash128.hash128(new byte[0], 0, 0, 0, null));
+        assertArrayEquals(new long[] { 0x85555565f6597889L, 0xe6b53a48510e895aL }, hash("a", 0));
+        assertArrayEquals(new long[] { 0xb4963f3f3fad7867L, 0x3ba2744126ca2d52L }, hash("abc", 0));
+        assertArrayEquals(new long[] { 0xe34bbc7bbc071b6cL, 0x7a433ca9c49a9347L }, hash("The quick brown fox jumps over the lazy dog", 0));
+
+        byte[] bytes = "hello".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(hash("hello", 0)[0], Murmur3Hash128.hash64(bytes, 0, bytes.length, 0));
+    }
+
+    /**
+     * Tests that hashing piece by piece gives the same value as hashing at
+     * once.
+     */
+    @Test
+    public void testStreaming() {
+        var random = new Random(11L);
+        byte[] bytes = new byte[1000];
+        random.nextBytes(bytes);
+
+        for (int len : new int[] { 0, 1, 8, 9, 15, 16, 17, 100, 999 }) {
+            long[] expected = Murmur3Hash128.hash128(bytes, 0, len, 123, null);
+
+            var murmur = new Murmur3Hash128(123);
+            for (int off = 0; off < len; ) {
+                int count = Math.min(1 + random.nextInt(20), len - off);
+                murmur.update(bytes, off, count);
+                off += count;
+            }
+            assertArrayEquals(expected, murmur.getValue128(null), "length " + len);
+            assertEquals(expected[0], murmur.getValue(), "length " + len);
+        }
+    }
+
+    /**
+     * Tests the buffers and the reuse of the result array.
+     */
+    @Test
+    public void testByteBuffer() {
+        byte[] bytes = new byte[64];
+        new Random(3L).nextBytes(bytes);
+        long[] expected = Murmur3Hash128.hash128(bytes, 5, 50, 0, null);
+
+        long[] result = new long[2];
+        assertSame(result, Murmur3Hash128.hash128(ByteBuffer.wrap(bytes, 5, 50), 0, result));
+        assertArrayEquals(expected, result);
+
+        var direct = ByteBuffer.allocateDirect(50);
+        direct.put(bytes, 5, 50).flip();
+        assertArrayEquals(expected, Murmur3Hash128.hash128(direct, 0, null));
+        assertEquals(0, direct.position());
+    }
+
+    /**
+     * Tests that primitive arrays and characters are hashed as their
+     * little-endian bytes.
+     */
+    @Test
+    public void testPrimitives() {
+        int[] ints = { 1, -2, Integer.MIN_VALUE, 0x11223344, 5 };
+        byte[] bytes = Bits.encode(ints, 0, new byte[20], 0, 5, ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(Murmur3Hash128.hash128(bytes, 0, 20, 3, null), Murmur3Hash128.hash128(ints, 0, 5, 3, null));
+
+        var s = "Nobody inspects the spammish repetition";
+        bytes = s.getBytes(StandardCharsets.UTF_16LE);
+        assertArrayEquals(Murmur3Hash128.hash128(bytes, 0, bytes.length, 0, null), Murmur3Hash128.hash128(s, 0, null));
+    }
+
+}
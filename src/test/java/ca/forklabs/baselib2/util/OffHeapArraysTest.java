@@ -0,0 +1,168 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code OffHeapArraysTest} tests classes {@link OffHeapByteArray},
+ * {@link OffHeapIntArray}, {@link OffHeapLongArray} and
+ * {@link OffHeapDoubleArray}, with tiny chunks so that ranges cross them.
+ */
+public class OffHeapArraysTest {
+
+    /** The base 2 logarithm of the size of the chunks, 64 bytes. */
+    private static final int CHUNK_SHIFT = 6;
+
+    /**
+     * Tests the single element accessors across the chunks.
+     */
+    @Test
+    public void testGetSet() {
+        try (var ints = new OffHeapIntArray(100L, CHUNK_SHIFT);
+             var longs = new OffHeapLongArray(100L, CHUNK_SHIFT);
+             var doubles = new OffHeapDoubleArray(100L, CHUNK_SHIFT);
+             var bytes = new OffHeapByteArray(100L, CHUNK_SHIFT)) {
+            assertEquals(100L, ints.getLength());
+            for (long i = 0L; i < 100L; i++) {
+                assertEquals(0, ints.get(i));
+                ints.set(i, (int) i * 3);
+                longs.set(i, -i << 40);
+                doubles.set(i, i / 4.0);
+                bytes.set(i, (byte) i);
+            }
+            for (long i = 0L; i < 100L; i++) {
+                assertEquals((int) i * 3, ints.get(i));
+                assertEquals(-i << 40, longs.get(i));
+                assertEquals(i / 4.0, doubles.get(i));
+                assertEquals((byte) i, bytes.get(i));
+            }
+        }
+    }
+
+    /**
+     * Tests the bulk copies to and from heap arrays.
+     */
+    @Test
+    public void testCopy() {
+        int[] src = new java.util.Random(10L).ints(90).toArray();
+        try (var ints = new OffHeapIntArray(100L, CHUNK_SHIFT)) {
+            ints.copyFrom(src, 5, 7L, 80);
+            assertEquals(0, ints.get(6L));
+            assertEquals(src[5], ints.get(7L));
+            assertEquals(src[84], ints.get(86L));
+            assertEquals(0, ints.get(87L));
+
+            int[] dst = ints.copyTo(7L, new int[82], 1, 80);
+            assertArrayEquals(java.util.Arrays.copyOfRange(src, 5, 85), java.util.Arrays.copyOfRange(dst, 1, 81));
+        }
+
+        double[] dsrc = { 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10.0 };
+        try (var doubles = new OffHeapDoubleArray(10L, CHUNK_SHIFT)) {
+            doubles.copyFrom(dsrc, 0, 0L, 10);
+            assertArrayEquals(dsrc, doubles.copyTo(0L, new double[10], 0, 10));
+        }
+    }
+
+    /**
+     * Tests the memset across the chunks, with ranges longer than the pattern.
+     */
+    @Test
+    public void testMemset() {
+        try (var longs = new OffHeapLongArray(10_000L, CHUNK_SHIFT);
+             var bytes = new OffHeapByteArray(10_000L, 12)) {
+            longs.memset(-1L);
+            longs.memset(42L, 3L, 9_990L);
+            assertEquals(-1L, longs.get(2L));
+            assertEquals(42L, longs.get(3L));
+            assertEquals(42L, longs.get(9_992L));
+            assertEquals(-1L, longs.get(9_993L));
+
+            bytes.memset((byte) 7, 1L, 9_999L);
+            assertEquals((byte) 0, bytes.get(0L));
+            assertEquals((byte) 7, bytes.get(4096L));
+            assertEquals((byte) 7, bytes.get(9_999L));
+        }
+    }
+
+    /**
+     * Tests the default chunks and indexes past the first chunk of a large
+     * number of chunks.
+     */
+    @Test
+    public void testManyChunks() {
+        try (var bytes = new OffHeapByteArray(1L << 20)) {
+            bytes.set((1L << 20) - 1L, (byte) 1);
+            assertEquals((byte) 1, bytes.get((1L << 20) - 1L));
+        }
+        try (var longs = new OffHeapLongArray(100_000L, 4)) {
+            long last = longs.getLength() - 1L;
+            longs.set(last, 99L);
+            longs.set(last - 1L, 98L);
+            assertEquals(99L, longs.get(last));
+            assertEquals(98L, longs.get(last - 1L));
+            assertEquals(0L, longs.get(last - 2L));
+        }
+    }
+
+    /**
+     * Tests the bounds checking contract.
+     */
+    @Test
+    public void testErrors() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapIntArray(-1L));
+
+        var ints = new OffHeapIntArray(10L, CHUNK_SHIFT);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> ints.get(10L));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> ints.set(-1L, 0));
+        assertThrows(IllegalArgumentException.class, () -> ints.memset(0, 5L, 6L));
+        assertThrows(IllegalArgumentException.class, () -> ints.memset(0, 5L, -1L));
+        assertThrows(IllegalArgumentException.class, () -> ints.copyTo(0L, new int[5], 0, 6));
+        assertThrows(NullPointerException.class, () -> ints.copyFrom(null, 0, 0L, 1));
+
+        ints.close();
+        ints.close();
+        assertThrows(IllegalStateException.class, () -> ints.get(0L));
+        assertThrows(IllegalStateException.class, () -> ints.set(0L, 1));
+        assertThrows(IllegalStateException.class, () -> ints.memset(0));
+        assertThrows(IllegalStateException.class, () -> ints.copyTo(0L, new int[1], 0, 1));
+        assertThrows(IllegalStateException.class, () -> ints.chunks());
+        assertEquals(10L, ints.getLength());
+
+        var longs = new OffHeapLongArray(4L, CHUNK_SHIFT);
+        var doubles = new OffHeapDoubleArray(4L, CHUNK_SHIFT);
+        var bytes = new OffHeapByteArray(4L, CHUNK_SHIFT);
+        longs.close();
+        doubles.close();
+        bytes.close();
+        assertThrows(IllegalStateException.class, () -> longs.get(3L));
+        assertThrows(IllegalStateException.class, () -> doubles.set(3L, 1.0));
+        assertThrows(IllegalStateException.class, () -> bytes.copyFrom(new byte[0], 0, 0L, 0));
+
+        try (var empty = new OffHeapLongArray(0L)) {
+            empty.memset(1L);
+            empty.copyTo(0L, new long[0], 0, 0);
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code RadixSortTest} tests class {@link RadixSort}.
+ */
+public class RadixSortTest {
+
+    /** The lengths of the arrays to sort. */
+    private static final int[] LENGTHS = { 0, 1, 2, 17, 1_000, 100_000 };
+
+    /**
+     * Tests the sort of {@code int}s against {@link java.util.Arrays#sort(int[])}.
+     */
+    @Test
+    public void testSortInts() {
+        var random = new Random(3L);
+        for (int length : LENGTHS) {
+            int[] keys = random.ints(length).toArray();
+            if (2 < length) {
+                keys[0] = Integer.MIN_VALUE;
+                keys[1] = Integer.MAX_VALUE;
+                keys[2] = -1;
+            }
+            int[] expected = keys.clone();
+            java.util.Arrays.sort(expected);
+            RadixSort.sort(keys);
+            assertArrayEquals(expected, keys);
+        }
+
+        int[] narrow = random.ints(10_000, -3, 3).toArray();
+        int[] expected = narrow.clone();
+        java.util.Arrays.sort(expected, 10, 9_000);
+        RadixSort.sort(narrow, 10, 8_990);
+        assertArrayEquals(expected, narrow);
+    }
+
+    /**
+     * Tests the sort of {@code long}s, sequential and in chunks.
+     */
+    @Test
+    public void testSortLongs() {
+        var random = new Random(5L);
+        for (int length : LENGTHS) {
+            long[] keys = random.longs(length).toArray();
+            if (2 < length) {
+                keys[0] = Long.MIN_VALUE;
+                keys[1] = Long.MAX_VALUE;
+                keys[2] = 0L;
+            }
+            long[] expected = keys.clone();
+            java.util.Arrays.sort(expected);
+            long[] chunked = keys.clone();
+            RadixSort.sort(keys);
+            RadixSort.sort(chunked, 0, chunked.length, new Object[0], 7);
+            assertArrayEquals(expected, keys);
+            assertArrayEquals(expected, chunked);
+        }
+
+        long[] big = random.longs(1_000_000L).toArray();
+        long[] expected = big.clone();
+        java.util.Arrays.sort(expected);
+        RadixSort.parallelSort(big);
+        assertArrayEquals(expected, big);
+    }
+
+    /**
+     * Tests the sort of {@code float}s with the special values.
+     */
+    @Test
+    public void testSortFloats() {
+        var random = new Random(7L);
+        float[] specials = { Float.NaN, Float.NEGATIVE_INFINITY, -0.0f, 0.0f, Float.POSITIVE_INFINITY, Float.MIN_VALUE, -Float.MIN_VALUE, Float.intBitsToFloat(0xffc00001), -Float.MAX_VALUE };
+        float[] keys = new float[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (0 == i % 10) ? specials[random.nextInt(specials.length)] : (float) random.nextGaussian();
+        }
+        float[] expected = keys.clone();
+        java.util.Arrays.sort(expected);
+        RadixSort.sort(keys, 0, keys.length, new Object[0], 3);
+        assertArrayEquals(expected, keys);
+        assertTrue(Float.isNaN(keys[keys.length - 1]));
+        assertEquals(Float.NEGATIVE_INFINITY, keys[0]);
+    }
+
+    /**
+     * Tests the sort of {@code double}s with the special values.
+     */
+    @Test
+    public void testSortDoubles() {
+        var random = new Random(11L);
+        double[] specials = { Double.NaN, Double.NEGATIVE_INFINITY, -0.0, 0.0, Double.POSITIVE_INFINITY, Double.MIN_VALUE, -Double.MIN_VALUE, Double.longBitsToDouble(0xfff0000000000001L) };
+        double[] keys = new double[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (0 == i % 10) ? specials[random.nextInt(specials.length)] : random.nextGaussian() * 1e300;
+        }
+        double[] expected = keys.clone();
+        java.util.Arrays.sort(expected, 5, 9_005);
+        RadixSort.parallelSort(keys, 5, 9_000);
+        assertArrayEquals(expected, keys);
+    }
+
+    /**
+     * Tests that the payloads follow the keys and that the sort is stable.
+     */
+    @Test
+    public void testPayloads() {
+        var random = new Random(13L);
+        for (int chunks : new int[] { 1, 5 }) {
+            long[] keys = random.longs(50_000, 0L, 1_000L).toArray();
+            long[] original = keys.clone();
+            int[] indexes = new int[keys.length];
+            String[] names = new String[keys.length];
+            double[] values = new double[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                indexes[i] = i;
+                names[i] = Long.toString(keys[i]);
+                values[i] = keys[i] / 2.0;
+            }
+
+            RadixSort.sort(keys, 0, keys.length, new Object[] { indexes, names, values }, chunks);
+            for (int i = 0; i < keys.length; i++) {
+                assertEquals(original[indexes[i]], keys[i]);
+                assertEquals(Long.toString(keys[i]), names[i]);
+                assertEquals(keys[i] / 2.0, values[i]);
+                if (0 < i && keys[i - 1] == keys[i]) {
+                    assertTrue(indexes[i - 1] < indexes[i]);
+                }
+            }
+        }
+
+        float[] floats = { 3.0f, -1.0f, Float.NaN, 2.0f };
+        char[] letters = { 'c', 'a', 'z', 'b' };
+        RadixSort.sort(floats, 0, floats.length, letters);
+        assertArrayEquals(new char[] { 'a', 'b', 'c', 'z' }, letters);
+
+        int[] ints = { 9, 8, 7, 6, 5 };
+        byte[] bytes = { 0, 1, 2, 3, 4 };
+        RadixSort.sort(ints, 1, 3, bytes);
+        assertArrayEquals(new int[] { 9, 6, 7, 8, 5 }, ints);
+        assertArrayEquals(new byte[] { 0, 3, 2, 1, 4 }, bytes);
+
+        long[] ids = { 30L, 10L, 20L };
+        String[] labels = { "thirty", "ten", "twenty" };
+        RadixSort.sort(ids, 0, ids.length, labels);
+        assertArrayEquals(new String[] { "ten", "twenty", "thirty" }, labels);
+
+        double[] weights = { 2.5, 0.5, 1.5 };
+        int[][] rows = { { 2 }, { 0, 0 }, { 1 } };
+        int[][] same = rows.clone();
+        Long[] boxed = { 2L, 0L, 1L };
+        RadixSort.parallelSort(weights, 0, weights.length, rows, (Object) boxed);
+        assertArrayEquals(new int[][] { same[1], same[2], same[0] }, rows);
+        assertArrayEquals(new int[] { 0, 0 }, rows[0]);
+        assertArrayEquals(new Long[] { 0L, 1L, 2L }, boxed);
+    }
+
+    /**
+     * Tests the errors, and that the keys are untouched when a payload is bad.
+     */
+    @Test
+    public void testErrors() {
+        int[] keys = { 3, 2, 1 };
+        assertThrows(IllegalArgumentException.class, () -> RadixSort.sort(keys, 0, 3, "not an array"));
+        assertThrows(IllegalArgumentException.class, () -> RadixSort.sort(keys, 0, 3, new int[2]));
+        assertThrows(NullPointerException.class, () -> RadixSort.sort(keys, 0, 3, (Object) null));
+        assertThrows(IllegalArgumentException.class, () -> RadixSort.sort(keys, 1, 3));
+        assertArrayEquals(new int[] { 3, 2, 1 }, keys);
+
+        var empty = new double[0];
+        RadixSort.sort(empty, 0, 0, new String[0]);
+        assertEquals(0, empty.length);
+    }
+
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code ReductionsTest} tests class {@link Reductions}.
+ */
+public class ReductionsTest {
+
+    /** The lengths of the ranges. */
+    private static final int[] LENGTHS = { 0, 1, 2, 3, 5, 17, 1_000, 10_007 };
+
+
+    /**
+     * Puts back the default parallel threshold.
+     */
+    @AfterEach
+    public void tearDown() {
+        Reductions.setParallelThreshold(Reductions.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Tests the reductions of {@code long}s against plain loops, sequential
+     * and in chunks.
+     */
+    @Test
+    public void testLongs() {
+        var random = new Random(11L);
+        for (int threshold : new int[] { Reductions.DEFAULT_PARALLEL_THRESHOLD, 7, 1_000 }) {
+            Reductions.setParallelThreshold(threshold);
+            for (int len : LENGTHS) {
+                long[] a = random.longs(len + 3, -1_000, 1_000).toArray();
+                long[] b = random.longs(len + 5).toArray();
+                long sum = 0L;
+                long dot = 0L;
+                long min = Long.MAX_VALUE;
+                long max = Long.MIN_VALUE;
+                int argmin = -1;
+                int argmax = -1;
+                long[] prefix = a.clone();
+                for (int i = 2; i < len + 2; i++) {
+                    sum += a[i];
+                    dot += a[i] * b[i + 1];
+                    prefix[i] = sum;
+                    if (a[i] < min) {
+                        min = a[i];
+                        argmin = i;
+                    }
+                    if (a[i] > max) {
+                        max = a[i];
+                        argmax = i;
+                    }
+                }
+                assertEquals(sum, Reductions.sum(a, 2, len));
+                assertEquals(sum, Reductions.parallelSum(a, 2, len));
+                assertEquals(dot, Reductions.dot(a, 2, b, 3, len));
+                assertEquals(dot, Reductions.parallelDot(a, 2, b, 3, len));
+                assertEquals(min, Reductions.min(a, 2, len));
+                assertEquals(min, Reductions.parallelMin(a, 2, len));
+                assertEquals(max, Reductions.max(a, 2, len));
+                assertEquals(max, Reductions.parallelMax(a, 2, len));
+                assertEquals(argmin, Reductions.argmin(a, 2, len));
+                assertEquals(argmin, Reductions.parallelArgmin(a, 2, len));
+                assertEquals(argmax, Reductions.argmax(a, 2, len));
+                assertEquals(argmax, Reductions.parallelArgmax(a, 2, len));
+
+                long[] sequential = a.clone();
+                Reductions.prefixSum(sequential, 2, len);
+                assertArrayEquals(prefix, sequential);
+                Reductions.parallelPrefixSum(a, 2, len);
+                assertArrayEquals(prefix, a);
+            }
+        }
+    }
+
+    /**
+     * Tests the reductions of {@code double}s against plain loops and exact
+     * sums, sequential and in chunks.
+     */
+    @Test
+    public void testDoubles() {
+        var random = new Random(13L);
+        for (int threshold : new int[] { Reductions.DEFAULT_PARALLEL_THRESHOLD, 7, 1_000 }) {
+            Reductions.setParallelThreshold(threshold);
+            for (int len : LENGTHS) {
+                double[] a = random.doubles(len + 3).map(d -> (d - 0.5) * Math.pow(10.0, random.nextInt(20))).toArray();
+                double[] b = random.doubles(len + 5).toArray();
+                var sum = BigDecimal.ZERO;
+                var dot = BigDecimal.ZERO;
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                int argmin = -1;
+                int argmax = -1;
+                double[] prefix = a.clone();
+                for (int i = 2; i < len + 2; i++) {
+                    sum = sum.add(new BigDecimal(a[i]));
+                    dot = dot.add(new BigDecimal(a[i]).multiply(new BigDecimal(b[i + 1])));
+                    prefix[i] = sum.doubleValue();
+                    if (a[i] < min) {
+                        min = a[i];
+                        argmin = i;
+                    }
+                    if (a[i] > max) {
+                        max = a[i];
+                        argmax = i;
+                    }
+                }
+                double exactSum = sum.doubleValue();
+                double exactDot = dot.doubleValue();
+                double ulp = Math.ulp(exactSum);
+                assertEquals(exactSum, Reductions.sum(a, 2, len, true), ulp);
+                assertEquals(exactSum, Reductions.parallelSum(a, 2, len, true), ulp);
+                assertEquals(exactSum, Reductions.sum(a, 2, len, false), 1e-9 * len * Math.pow(10.0, 20));
+                assertEquals(exactSum, Reductions.parallelSum(a, 2, len, false), 1e-9 * len * Math.pow(10.0, 20));
+                assertEquals(exactDot, Reductions.dot(a, 2, b, 3, len, true), Math.ulp(exactDot));
+                assertEquals(exactDot, Reductions.parallelDot(a, 2, b, 3, len, true), Math.ulp(exactDot));
+                assertEquals(exactDot, Reductions.dot(a, 2, b, 3, len, false), 1e-9 * len * Math.pow(10.0, 20));
+                assertEquals(exactDot, Reductions.parallelDot(a, 2, b, 3, len, false), 1e-9 * len * Math.pow(10.0, 20));
+                assertEquals(min, Reductions.min(a, 2, len));
+                assertEquals(min, Reductions.parallelMin(a, 2, len));
+                assertEquals(max, Reductions.max(a, 2, len));
+                assertEquals(max, Reductions.parallelMax(a, 2, len));
+                assertEquals(argmin, Reductions.argmin(a, 2, len));
+                assertEquals(argmin, Reductions.parallelArgmin(a, 2, len));
+                assertEquals(argmax, Reductions.argmax(a, 2, len));
+                assertEquals(argmax, Reductions.parallelArgmax(a, 2, len));
+
+                double[] sequential = a.clone();
+                Reductions.prefixSum(sequential, 2, len, true);
+                double[] parallel = a.clone();
+                Reductions.parallelPrefixSum(parallel, 2, len, true);
+                double[] fast = a.clone();
+                Reductions.parallelPrefixSum(fast, 2, len, false);
+                for (int i = 0; i < a.length; i++) {
+                    assertEquals(prefix[i], sequential[i], Math.ulp(prefix[i]));
+                    assertEquals(prefix[i], parallel[i], Math.ulp(prefix[i]));
+                    assertEquals(prefix[i], fast[i], 1e-9 * len * Math.pow(10.0, 20));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that the compensated sums survive cancellations the plain sums do
+     * not.
+     */
+    @Test
+    public void testCompensation() {
+        double[] a = { 1.0, 1e100, 1.0, -1e100 };
+        assertEquals(0.0, Reductions.sum(a, 0, a.length, false));
+        assertEquals(2.0, Reductions.sum(a, 0, a.length, true));
+
+        double[] b = { 1.0, 1.0, 1.0, 1.0 };
+        assertEquals(2.0, Reductions.dot(a, 0, b, 0, a.length, true));
+
+        double[] x = { 1.0 + Math.ulp(1.0), 1.0 };
+        double[] y = { 1.0 - Math.ulp(1.0), -1.0 };
+        assertEquals(-Math.ulp(1.0) * Math.ulp(1.0), Reductions.dot(x, 0, y, 0, 2, true));
+
+        double[] tenths = new double[1_000_000];
+        java.util.Arrays.fill(tenths, 0.1);
+        Reductions.setParallelThreshold(1_000);
+        assertEquals(100_000.0, Reductions.sum(tenths, 0, tenths.length, true));
+        assertEquals(100_000.0, Reductions.parallelSum(tenths, 0, tenths.length, true));
+        Reductions.parallelPrefixSum(tenths, 0, tenths.length, true);
+        assertEquals(100_000.0, tenths[tenths.length - 1]);
+        assertEquals(50_000.0, tenths[499_999]);
+    }
+
+    /**
+     * Tests that the compensated sums give the plain ones once they overflow
+     * or meet infinities, rather than NaN.
+     */
+    @Test
+    public void testInfinities() {
+        double inf = Double.POSITIVE_INFINITY;
+        double[] a = { inf, 1.0, 2.0 };
+        assertEquals(inf, Reductions.sum(a, 0, a.length, false));
+        assertEquals(inf, Reductions.sum(a, 0, a.length, true));
+
+        double[] max = { Double.MAX_VALUE, Double.MAX_VALUE };
+        assertEquals(inf, Reductions.sum(max, 0, max.length, true));
+        double[] negative = { -Double.MAX_VALUE, -Double.MAX_VALUE, 1.0 };
+        assertEquals(-inf, Reductions.sum(negative, 0, negative.length, true));
+
+        double[] x = { 1e308, 1.0 };
+        double[] y = { 10.0, 1.0 };
+        assertEquals(inf, Reductions.dot(x, 0, y, 0, x.length, true));
+
+        double[] prefix = { 1.0, inf, 1.0 };
+        Reductions.prefixSum(prefix, 0, prefix.length, true);
+        assertArrayEquals(new double[] { 1.0, inf, inf }, prefix);
+
+        double[] both = { inf, -inf, 1.0 };
+        assertTrue(Double.isNaN(Reductions.sum(both, 0, both.length, true)));
+
+        double[] many = new double[10_000];
+        java.util.Arrays.fill(many, 1.0);
+        many[5_000] = inf;
+        Reductions.setParallelThreshold(1_000);
+        assertEquals(inf, Reductions.parallelSum(many, 0, many.length, true));
+        assertEquals(inf, Reductions.parallelDot(many, 0, many, 0, many.length, true));
+        Reductions.parallelPrefixSum(many, 0, many.length, true);
+        assertEquals(4_999.0, many[4_998]);
+        assertEquals(inf, many[5_000]);
+        assertEquals(inf, many[many.length - 1]);
+    }
+
+    /**
+     * Tests the extrema with the NaNs and the signed zeros.
+     */
+    @Test
+    public void testSpecials() {
+        double[] zeros = { 1.0, 0.0, -0.0, 0.0, -0.0 };
+        assertEquals(-0.0, Reductions.min(zeros, 0, zeros.length));
+        assertEquals(2, Reductions.argmin(zeros, 0, zeros.length));
+        assertEquals(0.0, Reductions.max(zeros, 1, 4));
+        assertEquals(1, Reductions.argmax(zeros, 1, 4));
+        assertEquals(2, Reductions.argmax(zeros, 2, 1));
+
+        double[] nans = { 1.0, Double.NaN, -1.0, Double.NaN, 2.0 };
+        Reductions.setParallelThreshold(2);
+        assertTrue(Double.isNaN(Reductions.min(nans, 0, nans.length)));
+        assertTrue(Double.isNaN(Reductions.parallelMax(nans, 0, nans.length)));
+        assertEquals(1, Reductions.argmin(nans, 0, nans.length));
+        assertEquals(1, Reductions.parallelArgmax(nans, 0, nans.length));
+        assertEquals(3, Reductions.parallelArgmin(nans, 2, 3));
+        assertEquals(Double.POSITIVE_INFINITY, Reductions.min(nans, 0, 0));
+        assertEquals(-1, Reductions.argmax(nans, 0, 0));
+    }
+
+    /**
+     * Tests the bad arguments.
+     */
+    @Test
+    public void testBadArguments() {
+        assertThrows(IllegalArgumentException.class, () -> Reductions.setParallelThreshold(0));
+        assertEquals(Reductions.DEFAULT_PARALLEL_THRESHOLD, Reductions.getParallelThreshold());
+        assertThrows(IllegalArgumentException.class, () -> Reductions.sum(new long[4], 2, 3));
+        assertThrows(IllegalArgumentException.class, () -> Reductions.dot(new double[4], 0, new double[2], 0, 3, true));
+        assertThrows(NullPointerException.class, () -> Reductions.parallelPrefixSum((double[]) null, 0, 0, false));
+    }
+
+}
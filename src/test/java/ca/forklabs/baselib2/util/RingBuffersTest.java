@@ -0,0 +1,385 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code RingBuffersTest} tests classes {@link SpscRingBuffer},
+ * {@link MpscRingBuffer}, {@link SpscLongRingBuffer} and
+ * {@link MpscLongRingBuffer}.
+ */
+public class RingBuffersTest {
+
+    /** The number of values sent by each producer of the concurrent tests. */
+    private static final int COUNT = 100_000;
+
+    /** The number of producers of the concurrent tests. */
+    private static final int PRODUCERS = 3;
+
+
+    /**
+     * Tests the bad capacities.
+     */
+    @Test
+    public void testBadCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SpscRingBuffer<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(12));
+        assertThrows(IllegalArgumentException.class, () -> new SpscLongRingBuffer(-4));
+        assertThrows(NullPointerException.class, () -> new MpscLongRingBuffer(4, null));
+        assertThrows(NullPointerException.class, () -> new SpscRingBuffer<>(4).offer(null));
+        assertThrows(NullPointerException.class, () -> new MpscRingBuffer<>(4).offer(null));
+    }
+
+    /**
+     * Tests that the count of waits saturates instead of overflowing.
+     */
+    @Test
+    public void testNextAttempt() {
+        assertEquals(1, AbstractRingBuffer.nextAttempt(0));
+        assertEquals(Integer.MAX_VALUE, AbstractRingBuffer.nextAttempt(Integer.MAX_VALUE - 1));
+        assertEquals(Integer.MAX_VALUE, AbstractRingBuffer.nextAttempt(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Tests the object buffers in a single thread, around the end of the
+     * slots.
+     */
+    @Test
+    public void testObjects() {
+        fillAndEmpty(new SpscRingBuffer<Integer>(8, WaitStrategy.SPIN), SpscRingBuffer<Integer>::offer, SpscRingBuffer<Integer>::poll, SpscRingBuffer<Integer>::peek);
+        fillAndEmpty(new MpscRingBuffer<Integer>(8, WaitStrategy.YIELD), MpscRingBuffer<Integer>::offer, MpscRingBuffer<Integer>::poll, MpscRingBuffer<Integer>::peek);
+
+        var spsc = new SpscRingBuffer<Integer>(8);
+        var mpsc = new MpscRingBuffer<Integer>(8);
+        int[] next = { 0 };
+        assertEquals(5, spsc.fill(() -> next[0]++, 5));
+        assertEquals(3, spsc.fill(() -> next[0]++, 5));
+        assertEquals(0, spsc.fill(() -> next[0]++, 5));
+        assertEquals(8, mpsc.fill(() -> next[0]++, 10));
+        var drained = new ArrayList<Integer>();
+        assertEquals(6, spsc.drain(drained::add, 6));
+        assertEquals(2, spsc.drain(drained::add, 6));
+        assertEquals(8, mpsc.drain(drained::add, 100));
+        assertEquals(0, mpsc.drain(drained::add, 100));
+        assertEquals(16, drained.size());
+        for (int i = 0; i < 16; i++) {
+            assertEquals(i, drained.get(i));
+        }
+
+        int[] failing = { 0 };
+        assertThrows(NullPointerException.class, () -> mpsc.fill(() -> (2 > failing[0]) ? failing[0]++ : null, 5));
+        assertTrue(mpsc.offer(7));
+        assertEquals(0, mpsc.poll());
+        assertEquals(1, mpsc.poll());
+        assertEquals(7, mpsc.peek());
+        assertEquals(7, mpsc.poll());
+        assertNull(mpsc.poll());
+        assertTrue(mpsc.isEmpty());
+    }
+
+    /**
+     * Interface {@code Offer} adds to a buffer.
+     * @param   <B>   the type of buffer.
+     */
+    private interface Offer<B> {
+        boolean offer(B buffer, Integer element);
+    }
+
+    /**
+     * Interface {@code Poll} removes from or looks in a buffer.
+     * @param   <B>   the type of buffer.
+     */
+    private interface Poll<B> {
+        Integer poll(B buffer);
+    }
+
+    /**
+     * Fills and empties a buffer of capacity 8 several times.
+     * @param   <B>   the type of buffer.
+     * @param   buffer   the buffer.
+     * @param   offer   how to add.
+     * @param   poll   how to remove.
+     * @param   peek   how to look.
+     */
+    private static <B extends AbstractRingBuffer> void fillAndEmpty(B buffer, Offer<B> offer, Poll<B> poll, Poll<B> peek) {
+        assertEquals(8, buffer.getCapacity());
+        int next = 0;
+        int expected = 0;
+        for (int round = 0; round < 5; round++) {
+            assertTrue(buffer.isEmpty());
+            assertNull(poll.poll(buffer));
+            assertNull(peek.poll(buffer));
+            for (int i = 0; i < 8; i++) {
+                assertTrue(offer.offer(buffer, next++));
+            }
+            assertFalse(offer.offer(buffer, -1));
+            assertEquals(8, buffer.size());
+            for (int i = 0; i < 3 + round; i++) {
+                assertEquals(expected, peek.poll(buffer));
+                assertEquals(expected++, poll.poll(buffer));
+            }
+            while (offer.offer(buffer, next)) {
+                next++;
+            }
+            for (Integer element; null != (element = poll.poll(buffer)); ) {
+                assertEquals(expected++, element);
+            }
+        }
+        assertEquals(next, expected);
+        assertEquals(0, buffer.size());
+    }
+
+    /**
+     * Tests the {@code long} buffers in a single thread.
+     */
+    @Test
+    public void testLongs() {
+        var spsc = new SpscLongRingBuffer(4);
+        var mpsc = new MpscLongRingBuffer(4);
+        for (long round = 0L; round < 5L; round++) {
+            for (long i = 0L; i < 4L; i++) {
+                assertTrue(spsc.offer(10L * round + i));
+                assertTrue(mpsc.offer(10L * round + i));
+            }
+            assertFalse(spsc.offer(99L));
+            assertFalse(mpsc.offer(99L));
+            assertEquals(4, mpsc.size());
+            assertEquals(10L * round, spsc.peek(-1L));
+            assertEquals(10L * round, mpsc.peek(-1L));
+            var drained = new ArrayList<Long>();
+            assertEquals(3, spsc.drain(drained::add, 3));
+            assertEquals(3, mpsc.drain(drained::add, 3));
+            assertEquals(List.of(10L * round, 10L * round + 1L, 10L * round + 2L, 10L * round, 10L * round + 1L, 10L * round + 2L), drained);
+            assertEquals(10L * round + 3L, spsc.poll(-1L));
+            assertEquals(10L * round + 3L, mpsc.poll(-1L));
+            assertEquals(-1L, spsc.poll(-1L));
+            assertEquals(-1L, mpsc.poll(-1L));
+        }
+
+        long[] next = { 100L };
+        assertEquals(4, spsc.fill(() -> next[0]++, 9));
+        assertEquals(2, mpsc.fill(() -> next[0]++, 2));
+        assertThrows(IllegalStateException.class, () -> mpsc.fill(() -> {
+            throw new IllegalStateException();
+        }, 9));
+        assertTrue(mpsc.isEmpty() == false);
+        long[] values = new long[6];
+        int[] count = { 0 };
+        spsc.drain(value -> values[count[0]++] = value, 10);
+        mpsc.drain(value -> values[count[0]++] = value, 10);
+        assertArrayEquals(new long[] { 100L, 101L, 102L, 103L, 104L, 105L }, values);
+        assertTrue(mpsc.offer(7L));
+        assertEquals(7L, mpsc.poll(-1L));
+        assertTrue(mpsc.isEmpty());
+    }
+
+    /**
+     * Tests that the elements given before a supplier fails are added by all
+     * the buffers.
+     */
+    @Test
+    public void testFailedFill() {
+        var spsc = new SpscRingBuffer<Integer>(8);
+        var mpsc = new MpscRingBuffer<Integer>(8);
+        int[] failing = { 0 };
+        Supplier<Integer> supplier = () -> (2 > failing[0]) ? failing[0]++ : null;
+        assertThrows(NullPointerException.class, () -> spsc.fill(supplier, 5));
+        failing[0] = 0;
+        assertThrows(NullPointerException.class, () -> mpsc.fill(supplier, 5));
+        assertEquals(2, spsc.size());
+        assertTrue(spsc.offer(7));
+        assertTrue(mpsc.offer(7));
+        var drained = new ArrayList<Integer>();
+        spsc.drain(drained::add, 10);
+        mpsc.drain(drained::add, 10);
+        assertEquals(List.of(0, 1, 7, 0, 1, 7), drained);
+
+        var spscLongs = new SpscLongRingBuffer(4);
+        var mpscLongs = new MpscLongRingBuffer(4);
+        long[] next = { 100L };
+        LongSupplier throwing = () -> {
+            if (102L == next[0]) {
+                throw new IllegalStateException();
+            }
+            return next[0]++;
+        };
+        assertThrows(IllegalStateException.class, () -> spscLongs.fill(throwing, 4));
+        next[0] = 100L;
+        assertThrows(IllegalStateException.class, () -> mpscLongs.fill(throwing, 4));
+        assertEquals(2, spscLongs.size());
+        assertEquals(100L, spscLongs.poll(-1L));
+        assertEquals(101L, spscLongs.poll(-1L));
+        assertEquals(100L, mpscLongs.poll(-1L));
+        assertEquals(101L, mpscLongs.poll(-1L));
+        assertEquals(-1L, spscLongs.poll(-1L));
+        assertEquals(-1L, mpscLongs.poll(-1L));
+    }
+
+    /**
+     * Tests a producer and a consumer on a small {@link SpscRingBuffer}.
+     * @throws   Exception   if anything goes wrong.
+     */
+    @Test
+    public void testSpscConcurrent() throws Exception {
+        var buffer = new SpscRingBuffer<Long>(16, WaitStrategy.YIELD);
+        var producer = new Thread(() -> {
+            try {
+                for (long i = 0L; i < COUNT; i++) {
+                    buffer.put(i);
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        for (long i = 0L; i < COUNT; ) {
+            if (0 == (i & 1L)) {
+                assertEquals(i++, buffer.take());
+            }
+            else {
+                long[] expected = { i };
+                if (0 == buffer.drain(element -> assertEquals(expected[0]++, element), 7)) {
+                    Thread.yield();
+                }
+                i = expected[0];
+            }
+        }
+        producer.join();
+        assertTrue(buffer.isEmpty());
+    }
+
+    /**
+     * Tests producers and a consumer on a small {@link MpscRingBuffer}, each
+     * producer's elements must come in order.
+     * @throws   Exception   if anything goes wrong.
+     */
+    @Test
+    public void testMpscConcurrent() throws Exception {
+        var buffer = new MpscRingBuffer<Long>(32, WaitStrategy.YIELD);
+        var threads = startProducers(p -> {
+            long[] next = { 0L };
+            for (int sent = 0; sent < COUNT; ) {
+                if (0 == (sent & 1)) {
+                    buffer.put(((long) p << 32) | next[0]++);
+                    sent++;
+                }
+                else {
+                    int limit = Math.min(5, COUNT - sent);
+                    int filled = buffer.fill(() -> ((long) p << 32) | next[0]++, limit);
+                    sent += filled;
+                    if (0 == filled) {
+                        Thread.yield();
+                    }
+                }
+            }
+        });
+        var expected = new long[PRODUCERS];
+        for (int i = 0; i < PRODUCERS * COUNT; i++) {
+            long value = buffer.take();
+            int p = (int) (value >>> 32);
+            assertEquals(expected[p]++, value & 0xffffffffL);
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+        assertNull(buffer.poll());
+    }
+
+    /**
+     * Tests producers and a consumer on a small {@link MpscLongRingBuffer}.
+     * @throws   Exception   if anything goes wrong.
+     */
+    @Test
+    public void testMpscLongConcurrent() throws Exception {
+        var buffer = new MpscLongRingBuffer(32, WaitStrategy.PARK);
+        var sum = new AtomicLong();
+        var threads = startProducers(p -> {
+            for (long i = 0L; i < COUNT; i++) {
+                buffer.put(((long) p << 32) | i);
+                sum.addAndGet(i);
+            }
+        });
+        var expected = new long[PRODUCERS];
+        long total = 0L;
+        for (int received = 0; received < PRODUCERS * COUNT; ) {
+            int drained = buffer.drain(value -> {
+                int p = (int) (value >>> 32);
+                assertEquals(expected[p]++, value & 0xffffffffL);
+            }, 64);
+            if (0 == drained) {
+                Thread.yield();
+            }
+            received += drained;
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+        for (int p = 0; p < PRODUCERS; p++) {
+            total += expected[p] * (expected[p] - 1L) / 2L;
+        }
+        assertEquals(sum.get(), total);
+        assertEquals(-1L, buffer.poll(-1L));
+    }
+
+    /**
+     * Interface {@code Producer} sends values.
+     */
+    private interface Producer {
+        void produce(int p) throws InterruptedException;
+    }
+
+    /**
+     * Starts the producer threads.
+     * @param   producer   what each thread does.
+     * @return   the threads.
+     */
+    private static List<Thread> startProducers(Producer producer) {
+        var threads = new ArrayList<Thread>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            int id = p;
+            var thread = new Thread(() -> {
+                try {
+                    producer.produce(id);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        return threads;
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code SortedIntIndexTest} tests class {@link SortedIntIndex}.
+ */
+public class SortedIntIndexTest {
+
+    /**
+     * Gets the position of the first element of a sorted array that matches,
+     * the slow way.
+     * @param   sorted   the sorted elements.
+     * @param   key   the key.
+     * @param   strict   {@code true} to look for greater elements,
+     *                   {@code false} for greater or equal ones.
+     * @return   the position.
+     */
+    private static int scan(int[] sorted, int key, boolean strict) {
+        int position = 0;
+        while (position < sorted.length && (sorted[position] < key || (strict && sorted[position] == key))) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Tests the searches against a linear scan for every size of a few
+     * complete and incomplete trees, with duplicates.
+     */
+    @Test
+    public void testSearches() {
+        var random = new Random(19L);
+        for (int size = 0; size < 70; size++) {
+            int[] sorted = random.ints(size, -20, 20).toArray();
+            java.util.Arrays.sort(sorted);
+            var index = new SortedIntIndex(sorted);
+            assertEquals(size, index.size());
+            assertArrayEquals(sorted, index.toArray());
+            for (int key = -22; key < 22; key++) {
+                assertEquals(scan(sorted, key, false), index.lowerBound(key));
+                assertEquals(scan(sorted, key, true), index.upperBound(key));
+                assertEquals(0 <= java.util.Arrays.binarySearch(sorted, key), index.contains(key));
+                assertEquals(scan(sorted, key, true) - scan(sorted, key, false), index.count(key));
+                assertEquals(scan(sorted, key + 5, false) - scan(sorted, key, false), index.count(key, key + 5));
+            }
+        }
+    }
+
+    /**
+     * Tests a large index against {@link java.util.Arrays#binarySearch(int[], int)}.
+     */
+    @Test
+    public void testLarge() {
+        var random = new Random(23L);
+        int[] sorted = random.ints(100_000).distinct().sorted().toArray();
+        var index = new SortedIntIndex(sorted);
+        for (int i = 0; i < 10_000; i++) {
+            int key = random.nextInt();
+            int expected = java.util.Arrays.binarySearch(sorted, key);
+            assertEquals((0 <= expected) ? expected : -(expected + 1), index.lowerBound(key));
+            assertEquals(0 <= expected, index.contains(key));
+            assertTrue(index.contains(sorted[i]));
+        }
+        assertEquals(sorted.length, index.count(Integer.MIN_VALUE, Integer.MAX_VALUE) + (index.contains(Integer.MAX_VALUE) ? 1 : 0));
+        assertEquals(0, index.count(Integer.MAX_VALUE, Integer.MIN_VALUE));
+    }
+
+    /**
+     * Tests the range of the constructor and the errors.
+     */
+    @Test
+    public void testConstructor() {
+        int[] elements = { 9, 1, 2, 3, 0 };
+        var index = new SortedIntIndex(elements, 1, 3);
+        assertArrayEquals(new int[] { 1, 2, 3 }, index.toArray());
+        assertFalse(index.contains(9));
+        assertTrue(new SortedIntIndex(new int[0]).isEmpty());
+        assertEquals(0, new SortedIntIndex(new int[0]).lowerBound(42));
+
+        assertThrows(IllegalArgumentException.class, () -> new SortedIntIndex(elements));
+        assertThrows(IllegalArgumentException.class, () -> new SortedIntIndex(elements, 3, 3));
+        assertThrows(NullPointerException.class, () -> new SortedIntIndex(null, 0, 0));
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C)  2026  Forklabs Daniel Léonard
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package ca.forklabs.baselib2.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class {@code XxHash64Test} tests class {@link XxHash64}.
+ */
+public class XxHash64Test {
+
+    /**
+     * Gets the ASCII bytes of the string.
+     * @param   s   the string.
+     * @return   the bytes.
+     */
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Tests the reference vectors.
+     */
+    @Test
+    public void testReferenceVectors() {
+        assertEquals(0xef46db3751d8e999L, XxHash64.hash(new byte[0]));
+        assertEquals(0xd24ec4f1a98c6e5bL, XxHash64.hash(ascii("a")));
+        assertEquals(0x44bc2cf5ad770999L, XxHash64.hash(ascii("abc")));
+        assertEquals(0xfbcea83c8a378bf1L, XxHash64.hash(ascii("Nobody inspects the spammish repetition")));
+        assertEquals(0x0b242d361fda71bcL, XxHash64.hash(ascii("The quick brown fox jumps over the lazy dog")));
+
+        byte[] abc = ascii("abc");
+        assertEquals(0x13c1d910702770e6L, XxHash64.hash(abc, 0, abc.length, 42L));
+    }
+
+    /**
+     * Tests that hashing piece by piece gives the same value as hashing at
+     * once.
+     */
+    @Test
+    public void testStreaming() {
+        var random = new Random(7L);
+        byte[] bytes = new byte[1000];
+        random.nextBytes(bytes);
+
+        for (int len : new int[] { 0, 1, 31, 32, 33, 63, 64, 100, 999 }) {
+            long expected = XxHash64.hash(bytes, 0, len, 9L);
+
+            var xxhash = new XxHash64(9L);
+            for (int off = 0; off < len; ) {
+                int count = Math.min(1 + random.nextInt(40), len - off);
+                xxhash.update(bytes, off, count);
+                off += count;
+            }
+            assertEquals(expected, xxhash.getValue(), "length " + len);
+
+            xxhash.reset();
+            for (int i = 0; i < len; i++) {
+                xxhash.update(bytes[i]);
+            }
+            assertEquals(expected, xxhash.getValue(), "length " + len);
+        }
+    }
+
+    /**
+     * Tests the buffers, heap and direct.
+     */
+    @Test
+    public void testByteBuffer() {
+        byte[] bytes = ascii("Nobody inspects the spammish repetition");
+        long expected = XxHash64.hash(bytes, 7, 20, 0L);
+
+        var heap = ByteBuffer.wrap(bytes, 7, 20);
+        assertEquals(expected, XxHash64.hash(heap, 0L));
+        assertEquals(7, heap.position());
+
+        var direct = ByteBuffer.allocateDirect(20);
+        direct.put(bytes, 7, 20).flip();
+        assertEquals(expected, XxHash64.hash(direct, 0L));
+        assertEquals(0, direct.position());
+
+        var xxhash = new XxHash64();
+        xxhash.update(direct);
+        assertEquals(expected, xxhash.getValue());
+        assertEquals(20, direct.position());
+    }
+
+    /**
+     * Tests that primitive arrays and characters are hashed as their
+     * little-endian bytes.
+     */
+    @Test
+    public void testPrimitives() {
+        long[] longs = { 1L, -2L, Long.MIN_VALUE, 0x1122334455667788L, 5L };
+        byte[] bytes = Bits.encode(longs, 0, new byte[40], 0, 5, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(XxHash64.hash(bytes, 0, 40, 3L), XxHash64.hash(longs, 0, 5, 3L));
+
+        double[] doubles = new double[300];
+        java.util.Arrays.setAll(doubles, i -> i * Math.PI);
+        bytes = Bits.encode(doubles, 0, new byte[2400], 0, 300, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(XxHash64.hash(bytes, 0, 2400, 0L), XxHash64.hash(doubles, 0, 300, 0L));
+
+        var s = "The quick brown fox jumps over the lazy dog";
+        bytes = s.getBytes(StandardCharsets.UTF_16LE);
+        assertEquals(XxHash64.hash(bytes, 0, bytes.length, 0L), XxHash64.hash(s, 0L));
+        assertEquals(XxHash64.hash(s, 0L), XxHash64.hash(s.toCharArray(), 0, s.length(), 0L));
+    }
+
+}